@@ -0,0 +1,70 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmarks;
+
+import com.consol.citrus.config.CitrusSpringConfig;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+/**
+ * Benchmark state holding a fully initialized Citrus Spring application context. Benchmarks obtain validators, function
+ * registry and test context from this state so measured code runs with the same configuration as in a real test run.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+public class CitrusContextState {
+
+    /** Citrus Spring application context */
+    private AnnotationConfigApplicationContext applicationContext;
+
+    /** Test context factory */
+    private TestContextFactory testContextFactory;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        applicationContext = new AnnotationConfigApplicationContext(CitrusSpringConfig.class);
+        testContextFactory = applicationContext.getBean(TestContextFactory.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    /**
+     * Creates new test context.
+     * @return
+     */
+    public TestContext createTestContext() {
+        return testContextFactory.getObject();
+    }
+
+    /**
+     * Gets bean from application context.
+     * @param name
+     * @param type
+     * @param <T>
+     * @return
+     */
+    public <T> T getBean(String name, Class<T> type) {
+        return applicationContext.getBean(name, type);
+    }
+}
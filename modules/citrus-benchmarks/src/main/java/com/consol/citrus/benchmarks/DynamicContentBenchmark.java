@@ -0,0 +1,67 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmarks;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.functions.FunctionUtils;
+import com.consol.citrus.variable.VariableUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks test variable and function resolution in message templates of different size.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DynamicContentBenchmark {
+
+    @Param({"1", "64", "1024"})
+    private int payloadSizeKb;
+
+    private TestContext context;
+
+    private String template;
+    private String functionTemplate;
+
+    @Setup(Level.Trial)
+    public void setup(CitrusContextState citrus) {
+        context = citrus.createTestContext();
+        context.setVariable("orderId", "100001");
+        context.setVariable("customerName", "Citrus Customer");
+
+        template = PayloadFixtures.xmlOrderTemplate(payloadSizeKb);
+        functionTemplate = VariableUtils.replaceVariablesInString(template, context, false);
+    }
+
+    @Benchmark
+    public String replaceDynamicContent() {
+        return context.replaceDynamicContentInString(template);
+    }
+
+    @Benchmark
+    public String replaceFunctions() {
+        return FunctionUtils.replaceFunctionsInString(functionTemplate, context);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmarks;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.json.JsonMessageValidationContext;
+import com.consol.citrus.validation.json.JsonTextMessageValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Json text message validation on order payloads of different size.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonMessageValidatorBenchmark {
+
+    @Param({"1", "64", "1024"})
+    private int payloadSizeKb;
+
+    private JsonTextMessageValidator validator;
+
+    private TestContext context;
+
+    private Message receivedMessage;
+    private Message controlMessage;
+
+    private JsonMessageValidationContext validationContext;
+
+    @Setup(Level.Trial)
+    public void setup(CitrusContextState citrus) {
+        validator = citrus.getBean("defaultJsonMessageValidator", JsonTextMessageValidator.class);
+        context = citrus.createTestContext();
+
+        String payload = PayloadFixtures.jsonOrder(payloadSizeKb);
+        receivedMessage = new DefaultMessage(payload);
+        controlMessage = new DefaultMessage(payload);
+
+        validationContext = new JsonMessageValidationContext();
+        validationContext.setSchemaValidation(false);
+    }
+
+    @Benchmark
+    public void jsonTextValidation() {
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+}
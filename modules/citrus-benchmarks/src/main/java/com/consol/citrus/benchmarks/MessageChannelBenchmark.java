@@ -0,0 +1,90 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmarks;
+
+import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.context.TestContext;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.messaging.Message;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks selective message consumption on a message selecting queue channel that holds a backlog of messages. Each invocation
+ * sends a new message and receives it again with a header matching message selector, so the backlog size stays constant.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageChannelBenchmark {
+
+    /** Header used for message selection */
+    private static final String CORRELATION_HEADER = "correlationKey";
+
+    @Param({"100", "1000", "10000"})
+    private int backlogSize;
+
+    @Param({"false", "true"})
+    private boolean headerIndexing;
+
+    private MessageSelectingQueueChannel channel;
+
+    private TestContext context;
+
+    private String payload;
+
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setup(CitrusContextState citrus) {
+        context = citrus.createTestContext();
+        payload = PayloadFixtures.xmlOrder(1);
+
+        channel = new MessageSelectingQueueChannel();
+        channel.setHeaderIndexing(headerIndexing);
+
+        for (int i = 0; i < backlogSize; i++) {
+            channel.send(createMessage("backlog-" + i));
+        }
+    }
+
+    @Benchmark
+    public Message<?> selectiveReceive() {
+        String key = "message-" + sequence++;
+        channel.send(createMessage(key));
+        return channel.receive(new HeaderMatchingMessageSelector(CORRELATION_HEADER, key, context));
+    }
+
+    /**
+     * Creates new message with given correlation key header.
+     * @param key
+     * @return
+     */
+    private Message<String> createMessage(String key) {
+        return MessageBuilder.withPayload(payload)
+                .setHeader(CORRELATION_HEADER, key)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmarks;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks construction of Citrus messages with payload and headers.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageConstructionBenchmark {
+
+    @Param({"0", "10", "50"})
+    private int headerCount;
+
+    private String payload;
+    private Map<String, Object> headers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        payload = PayloadFixtures.xmlOrder(1);
+
+        headers = new LinkedHashMap<>();
+        for (int i = 0; i < headerCount; i++) {
+            headers.put("header" + i, "value" + i);
+        }
+    }
+
+    @Benchmark
+    public Message createMessage() {
+        return new DefaultMessage(payload, headers);
+    }
+
+    @Benchmark
+    public Message copyMessage() {
+        return new DefaultMessage(new DefaultMessage(payload, headers));
+    }
+}
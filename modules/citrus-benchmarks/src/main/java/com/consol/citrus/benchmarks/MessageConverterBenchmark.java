@@ -0,0 +1,108 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmarks;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.http.client.HttpEndpointConfiguration;
+import com.consol.citrus.http.message.HttpMessageConverter;
+import com.consol.citrus.jms.endpoint.JmsEndpointConfiguration;
+import com.consol.citrus.jms.message.JmsMessageConverter;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.ws.client.WebServiceEndpointConfiguration;
+import com.consol.citrus.ws.message.converter.SoapMessageConverter;
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpEntity;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+import javax.jms.JMSException;
+import javax.xml.soap.MessageFactory;
+import javax.xml.soap.SOAPException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks message converter round trips for Jms, Http and Soap messages. Each round trip converts the internal message to the
+ * transport specific message and back again. Jms text messages are created without a broker session, so the Jms round trip
+ * measures header mapping and inbound payload conversion.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageConverterBenchmark {
+
+    @Param({"1", "64", "1024"})
+    private int payloadSizeKb;
+
+    private TestContext context;
+
+    private Message message;
+    private Message soapMessage;
+
+    private final JmsMessageConverter jmsMessageConverter = new JmsMessageConverter();
+    private final JmsEndpointConfiguration jmsEndpointConfiguration = new JmsEndpointConfiguration();
+
+    private final HttpMessageConverter httpMessageConverter = new HttpMessageConverter();
+    private final HttpEndpointConfiguration httpEndpointConfiguration = new HttpEndpointConfiguration();
+
+    private final SoapMessageConverter soapMessageConverter = new SoapMessageConverter();
+    private final WebServiceEndpointConfiguration soapEndpointConfiguration = new WebServiceEndpointConfiguration();
+
+    @Setup(Level.Trial)
+    public void setup(CitrusContextState citrus) throws SOAPException {
+        context = citrus.createTestContext();
+
+        message = new DefaultMessage(PayloadFixtures.xmlOrder(payloadSizeKb))
+                .setHeader("operation", "placeOrder")
+                .setHeader("customerId", "citrus");
+
+        soapMessage = new DefaultMessage(message.getPayload())
+                .setHeader("{" + PayloadFixtures.ORDER_NAMESPACE + "}" + PayloadFixtures.ORDER_PREFIX + ":operation", "placeOrder")
+                .setHeader("{" + PayloadFixtures.ORDER_NAMESPACE + "}" + PayloadFixtures.ORDER_PREFIX + ":customerId", "citrus");
+
+        SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory(MessageFactory.newInstance());
+        messageFactory.afterPropertiesSet();
+        soapEndpointConfiguration.setMessageFactory(messageFactory);
+    }
+
+    @Benchmark
+    public Message jmsRoundTrip() throws JMSException {
+        ActiveMQTextMessage jmsMessage = new ActiveMQTextMessage();
+        jmsMessage.setText(message.getPayload(String.class));
+        jmsMessageConverter.convertOutbound(jmsMessage, message, jmsEndpointConfiguration, context);
+        return jmsMessageConverter.convertInbound(jmsMessage, jmsEndpointConfiguration, context);
+    }
+
+    @Benchmark
+    public Message httpRoundTrip() {
+        HttpEntity<?> entity = httpMessageConverter.convertOutbound(message, httpEndpointConfiguration, context);
+        return httpMessageConverter.convertInbound(entity, httpEndpointConfiguration, context);
+    }
+
+    @Benchmark
+    public Message soapRoundTrip() {
+        WebServiceMessage webServiceMessage = soapMessageConverter.convertOutbound(soapMessage, soapEndpointConfiguration, context);
+        return soapMessageConverter.convertInbound(webServiceMessage, soapEndpointConfiguration, context);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmarks;
+
+/**
+ * Generates realistic order message payloads of a given size. Payloads hold a header section and a list of order items that is
+ * repeated until the requested size is reached, so the same fixture serves small messages as well as large documents of
+ * several megabytes.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class PayloadFixtures {
+
+    /** Order namespace used in Xml payloads */
+    public static final String ORDER_NAMESPACE = "http://citrus.consol.com/benchmarks/order";
+
+    /** Order namespace prefix */
+    public static final String ORDER_PREFIX = "ord";
+
+    /**
+     * Private constructor prevents instantiation.
+     */
+    private PayloadFixtures() {
+    }
+
+    /**
+     * Creates Xml order payload with approximately given size in kilobytes.
+     * @param sizeKb
+     * @return
+     */
+    public static String xmlOrder(int sizeKb) {
+        int targetSize = sizeKb * 1024;
+
+        StringBuilder payload = new StringBuilder(targetSize + 512);
+        payload.append("<ord:order xmlns:ord=\"").append(ORDER_NAMESPACE).append("\">")
+                .append("<ord:id>100001</ord:id>")
+                .append("<ord:customer><ord:name>Citrus Customer</ord:name><ord:email>customer@citrusframework.org</ord:email></ord:customer>")
+                .append("<ord:items>");
+
+        int count = 0;
+        while (payload.length() < targetSize) {
+            payload.append("<ord:item position=\"").append(count).append("\">")
+                    .append("<ord:sku>SKU-").append(count).append("</ord:sku>")
+                    .append("<ord:description>Benchmark order item number ").append(count).append("</ord:description>")
+                    .append("<ord:quantity>").append(count % 10 + 1).append("</ord:quantity>")
+                    .append("<ord:price>").append(count % 100).append(".99</ord:price>")
+                    .append("</ord:item>");
+            count++;
+        }
+
+        return payload.append("</ord:items></ord:order>").toString();
+    }
+
+    /**
+     * Creates Json order payload with approximately given size in kilobytes.
+     * @param sizeKb
+     * @return
+     */
+    public static String jsonOrder(int sizeKb) {
+        int targetSize = sizeKb * 1024;
+
+        StringBuilder payload = new StringBuilder(targetSize + 512);
+        payload.append("{\"id\":100001,")
+                .append("\"customer\":{\"name\":\"Citrus Customer\",\"email\":\"customer@citrusframework.org\"},")
+                .append("\"items\":[");
+
+        int count = 0;
+        while (payload.length() < targetSize) {
+            if (count > 0) {
+                payload.append(',');
+            }
+
+            payload.append("{\"position\":").append(count)
+                    .append(",\"sku\":\"SKU-").append(count).append('"')
+                    .append(",\"description\":\"Benchmark order item number ").append(count).append('"')
+                    .append(",\"quantity\":").append(count % 10 + 1)
+                    .append(",\"price\":").append(count % 100).append(".99")
+                    .append(",\"available\":").append(count % 2 == 0)
+                    .append('}');
+            count++;
+        }
+
+        return payload.append("]}").toString();
+    }
+
+    /**
+     * Creates Xml order payload holding test variable place holders and function expressions.
+     * @param sizeKb
+     * @return
+     */
+    public static String xmlOrderTemplate(int sizeKb) {
+        return xmlOrder(sizeKb)
+                .replace("<ord:id>100001</ord:id>", "<ord:id>${orderId}</ord:id><ord:created>citrus:currentDate('yyyy-MM-dd')</ord:created>")
+                .replace("Citrus Customer", "${customerName}")
+                .replace("customer@citrusframework.org", "citrus:concat('customer', '@', 'citrusframework.org')");
+    }
+
+    /**
+     * Counts number of order items in given Xml payload.
+     * @param payload
+     * @return
+     */
+    public static int countItems(String payload) {
+        int count = 0;
+        int index = 0;
+        while ((index = payload.indexOf("<ord:item ", index)) != -1) {
+            count++;
+            index++;
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmarks;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.xml.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks Xml message validation with Dom tree comparison and Xpath expression validation on order payloads of different size.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class XmlMessageValidatorBenchmark {
+
+    @Param({"1", "64", "1024"})
+    private int payloadSizeKb;
+
+    private DomXmlMessageValidator domValidator;
+    private XpathMessageValidator xpathValidator;
+
+    private TestContext context;
+
+    private Message receivedMessage;
+    private Message controlMessage;
+
+    private XmlMessageValidationContext domValidationContext;
+    private XpathMessageValidationContext xpathValidationContext;
+
+    @Setup(Level.Trial)
+    public void setup(CitrusContextState citrus) {
+        domValidator = citrus.getBean("defaultXmlMessageValidator", DomXmlMessageValidator.class);
+        xpathValidator = citrus.getBean("defaultXpathMessageValidator", XpathMessageValidator.class);
+        context = citrus.createTestContext();
+
+        String payload = PayloadFixtures.xmlOrder(payloadSizeKb);
+        receivedMessage = new DefaultMessage(payload);
+        controlMessage = new DefaultMessage(payload);
+
+        domValidationContext = new XmlMessageValidationContext();
+        domValidationContext.setSchemaValidation(false);
+
+        xpathValidationContext = new XpathMessageValidationContext();
+        xpathValidationContext.setSchemaValidation(false);
+        xpathValidationContext.getNamespaces().put(PayloadFixtures.ORDER_PREFIX, PayloadFixtures.ORDER_NAMESPACE);
+
+        Map<String, Object> expressions = new HashMap<>();
+        expressions.put("/ord:order/ord:id", "100001");
+        expressions.put("/ord:order/ord:customer/ord:name", "Citrus Customer");
+        expressions.put("//ord:item[last()]/@position", String.valueOf(PayloadFixtures.countItems(payload) - 1));
+        expressions.put("//ord:item[1]/ord:sku", "SKU-0");
+        xpathValidationContext.setXpathExpressions(expressions);
+    }
+
+    @Benchmark
+    public void domXmlValidation() {
+        domValidator.validateMessage(receivedMessage, controlMessage, context, domValidationContext);
+    }
+
+    @Benchmark
+    public void xpathValidation() {
+        xpathValidator.validateMessage(receivedMessage, controlMessage, context, xpathValidationContext);
+    }
+}
@@ -70,6 +70,9 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
     /** The result of this test case */
     private TestResult testResult;
 
+    /** Timing information of this test case */
+    private TestMetrics metrics = new TestMetrics();
+
     /** Marks this test case as test runner instance that grows in size step by step as test actions are executed */
     private boolean testRunner = false;
 
@@ -86,6 +89,10 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
      * Starts the test case.
      */
     public void start(final TestContext context) {
+        // new metrics instance for each run as test result of previous run still references its metrics
+        metrics = new TestMetrics();
+        metrics.start();
+        context.setMetrics(metrics);
         context.getTestListeners().onTestStart(this);
 
         try {
@@ -217,7 +224,7 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
                 testActionListeners.onTestActionStart(this, action);
                 setActiveAction(action);
 
-                action.execute(context);
+                executeTimed(action, context);
                 testActionListeners.onTestActionFinish(this, action);
             } else {
                 testActionListeners.onTestActionSkipped(this, action);
@@ -228,6 +235,20 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
         }
     }
 
+    /**
+     * Executes test action and records its duration in test metrics.
+     * @param action
+     * @param context
+     */
+    private void executeTimed(final TestAction action, final TestContext context) {
+        final long start = System.nanoTime();
+        try {
+            action.execute(context);
+        } finally {
+            metrics.recordAction(action.getName() != null ? action.getName() : action.getClass().getSimpleName(), System.nanoTime() - start);
+        }
+    }
+
     /**
      * Method that will be executed in any case of test case result (success, error)
      * Usually used for clean up tasks.
@@ -248,6 +269,9 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
                 TestUtils.waitForCompletion(this, context, timeout);
             }
 
+            // report pipelined send failures that have not been awaited
+            context.getSendPipeline().removeFailures(context).forEach(context::addException);
+
             context.getTestListeners().onTestFinish(this);
 
             if (!finalActions.isEmpty()) {
@@ -257,7 +281,7 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
                 for (final TestAction action : finalActions) {
                     if (!action.isDisabled(context)) {
                         testActionListeners.onTestActionStart(this, action);
-                        action.execute(context);
+                        executeTimed(action, context);
                         testActionListeners.onTestActionFinish(this, action);
                     } else {
                         testActionListeners.onTestActionSkipped(this, action);
@@ -279,7 +303,11 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
             testResult = TestResult.failed(getName(), testClass.getName(), e);
             throw new TestCaseFailedException(e);
         } finally {
+            metrics.stop();
+
             if (testResult != null) {
+                testResult.setMetrics(metrics);
+
                 if (testResult.isSuccess()) {
                     context.getTestListeners().onTestSuccess(this);
                 } else {
@@ -477,6 +505,22 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
         return testRunner;
     }
 
+    /**
+     * Gets the timing information of this test case.
+     * @return
+     */
+    public TestMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Gets the test result.
+     * @return
+     */
+    public TestResult getTestResult() {
+        return testResult;
+    }
+
     /**
      * Sets the test result from outside.
      * @param testResult
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Timing information of a single test execution. Records the overall test duration, the duration of each test action
+ * executed by the test case and the time spent in message send and receive operations on endpoints. Endpoints using
+ * a connection pool may record pool usage so exhausted pools show up in the test report.
+ *
+ * All times are measured with nanosecond precision using {@link System#nanoTime()}.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TestMetrics {
+
+    /** Test start and end time in nanoseconds */
+    private volatile long startTime;
+    private volatile long endTime;
+
+    /** Test execution state */
+    private volatile boolean started;
+    private volatile boolean stopped;
+
+    /** Test action durations in execution order */
+    private final List<ActionMetric> actionMetrics = Collections.synchronizedList(new ArrayList<>());
+
+    /** Accumulated message send and receive times in nanoseconds */
+    private final AtomicLong sendTime = new AtomicLong();
+    private final AtomicLong sendCount = new AtomicLong();
+    private final AtomicLong receiveTime = new AtomicLong();
+    private final AtomicLong receiveCount = new AtomicLong();
+
+    /** Connection pool usage by pool name */
+    private final Map<String, ConnectionPoolMetric> connectionPoolMetrics = new ConcurrentHashMap<>();
+
+    /**
+     * Marks the start of the test. Clears all metrics recorded in previous runs.
+     */
+    public void start() {
+        actionMetrics.clear();
+        sendTime.set(0L);
+        sendCount.set(0L);
+        receiveTime.set(0L);
+        receiveCount.set(0L);
+        connectionPoolMetrics.clear();
+
+        startTime = System.nanoTime();
+        started = true;
+        stopped = false;
+    }
+
+    /**
+     * Marks the end of the test. Subsequent calls do not change the recorded end time.
+     */
+    public void stop() {
+        if (started && !stopped) {
+            endTime = System.nanoTime();
+            stopped = true;
+        }
+    }
+
+    /**
+     * Records duration of given test action.
+     * @param name
+     * @param nanos
+     */
+    public void recordAction(String name, long nanos) {
+        actionMetrics.add(new ActionMetric(name, nanos));
+    }
+
+    /**
+     * Records time spent in a message send operation.
+     * @param nanos
+     */
+    public void recordSend(long nanos) {
+        sendTime.addAndGet(nanos);
+        sendCount.incrementAndGet();
+    }
+
+    /**
+     * Records time spent waiting for a message in a receive operation.
+     * @param nanos
+     */
+    public void recordReceive(long nanos) {
+        receiveTime.addAndGet(nanos);
+        receiveCount.incrementAndGet();
+    }
+
+    /**
+     * Records current usage of a connection pool. Keeps the peak number of leased connections and of requests waiting
+     * for a connection per pool.
+     * @param name the pool name, usually the endpoint name
+     * @param leased number of connections in use
+     * @param pending number of requests waiting for a connection
+     * @param available number of idle connections
+     * @param max maximum number of connections
+     */
+    public void recordConnectionPool(String name, int leased, int pending, int available, int max) {
+        connectionPoolMetrics.computeIfAbsent(name, ConnectionPoolMetric::new).record(leased, pending, available, max);
+    }
+
+    /**
+     * Gets the test duration. In case test has not finished yet the duration up to now is returned.
+     * @return
+     */
+    public Duration getDuration() {
+        if (!started) {
+            return Duration.ZERO;
+        }
+
+        return Duration.ofNanos((stopped ? endTime : System.nanoTime()) - startTime);
+    }
+
+    /**
+     * Gets the recorded test action durations in execution order.
+     * @return
+     */
+    public List<ActionMetric> getActionMetrics() {
+        synchronized (actionMetrics) {
+            return new ArrayList<>(actionMetrics);
+        }
+    }
+
+    /**
+     * Gets the accumulated time spent in message send operations.
+     * @return
+     */
+    public Duration getSendDuration() {
+        return Duration.ofNanos(sendTime.get());
+    }
+
+    /**
+     * Gets the number of message send operations.
+     * @return
+     */
+    public long getSendCount() {
+        return sendCount.get();
+    }
+
+    /**
+     * Gets the accumulated time spent waiting for messages in receive operations.
+     * @return
+     */
+    public Duration getReceiveDuration() {
+        return Duration.ofNanos(receiveTime.get());
+    }
+
+    /**
+     * Gets the number of message receive operations.
+     * @return
+     */
+    public long getReceiveCount() {
+        return receiveCount.get();
+    }
+
+    /**
+     * Gets the recorded connection pool usage sorted by pool name.
+     * @return
+     */
+    public List<ConnectionPoolMetric> getConnectionPoolMetrics() {
+        List<ConnectionPoolMetric> metrics = new ArrayList<>(connectionPoolMetrics.values());
+        metrics.sort(Comparator.comparing(ConnectionPoolMetric::getName));
+        return metrics;
+    }
+
+    /**
+     * Duration of a single test action.
+     */
+    public static final class ActionMetric {
+        /** Name of the test action */
+        private final String name;
+
+        /** Action duration in nanoseconds */
+        private final long nanos;
+
+        ActionMetric(String name, long nanos) {
+            this.name = name;
+            this.nanos = nanos;
+        }
+
+        /**
+         * Gets the test action name.
+         * @return
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the test action duration.
+         * @return
+         */
+        public Duration getDuration() {
+            return Duration.ofNanos(nanos);
+        }
+    }
+
+    /**
+     * Usage of a connection pool. Holds the peak values and the most recent values recorded during the test.
+     */
+    public static final class ConnectionPoolMetric {
+        /** Name of the connection pool */
+        private final String name;
+
+        private int samples;
+        private int maxLeased;
+        private int maxPending;
+        private int available;
+        private int max;
+
+        ConnectionPoolMetric(String name) {
+            this.name = name;
+        }
+
+        synchronized void record(int leased, int pending, int available, int max) {
+            this.samples++;
+            this.maxLeased = Math.max(this.maxLeased, leased);
+            this.maxPending = Math.max(this.maxPending, pending);
+            this.available = available;
+            this.max = max;
+        }
+
+        /**
+         * Gets the connection pool name.
+         * @return
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * Gets the number of recorded samples.
+         * @return
+         */
+        public synchronized int getSamples() {
+            return samples;
+        }
+
+        /**
+         * Gets the peak number of leased connections.
+         * @return
+         */
+        public synchronized int getMaxLeased() {
+            return maxLeased;
+        }
+
+        /**
+         * Gets the peak number of requests waiting for a connection.
+         * @return
+         */
+        public synchronized int getMaxPending() {
+            return maxPending;
+        }
+
+        /**
+         * Gets the number of idle connections at the last sample.
+         * @return
+         */
+        public synchronized int getAvailable() {
+            return available;
+        }
+
+        /**
+         * Gets the maximum number of connections at the last sample.
+         * @return
+         */
+        public synchronized int getMax() {
+            return max;
+        }
+    }
+}
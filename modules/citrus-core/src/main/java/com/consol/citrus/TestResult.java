@@ -18,6 +18,7 @@ package com.consol.citrus;
 
 import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.*;
 
 
@@ -55,6 +56,9 @@ public final class TestResult {
     /** Failure type information */
     private String failureType;
 
+    /** Timing information of the test execution */
+    private TestMetrics metrics;
+
     /**
      * Create new test result for successful execution.
      * @param name
@@ -361,4 +365,39 @@ public final class TestResult {
         setFailureStack(failureStack);
         return this;
     }
+
+    /**
+     * Gets the test duration. Returns zero duration when no timing information is available.
+     * @return
+     */
+    public Duration getDuration() {
+        return metrics != null ? metrics.getDuration() : Duration.ZERO;
+    }
+
+    /**
+     * Gets the metrics.
+     *
+     * @return
+     */
+    public TestMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the metrics.
+     *
+     * @param metrics
+     */
+    public void setMetrics(TestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Sets timing information in fluent API.
+     * @return
+     */
+    public TestResult withMetrics(TestMetrics metrics) {
+        setMetrics(metrics);
+        return this;
+    }
 }
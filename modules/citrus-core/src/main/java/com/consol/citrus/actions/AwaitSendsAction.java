@@ -0,0 +1,78 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.actions;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+
+/**
+ * Barrier waiting for all pipelined messages of the current test to be sent. Send results are applied to the test
+ * context on the test thread, e.g. message listeners get notified about the sent messages. Action fails with the
+ * first send failure as cause when one or more pipelined messages could not be sent.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class AwaitSendsAction extends AbstractTestAction {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(AwaitSendsAction.class);
+
+    /** Time to wait for pipelined messages in ms */
+    private long timeout = 5000L;
+
+    /**
+     * Default constructor.
+     */
+    public AwaitSendsAction() {
+        setName("await-sends");
+    }
+
+    @Override
+    public void doExecute(TestContext context) {
+        List<CitrusRuntimeException> failures = context.getSendPipeline().awaitAll(timeout, context);
+
+        if (!failures.isEmpty()) {
+            CitrusRuntimeException exception = new CitrusRuntimeException(String.format("Failed to send %s pipelined messages", failures.size()), failures.get(0));
+            failures.stream().skip(1).forEach(exception::addSuppressed);
+            throw exception;
+        }
+
+        log.info("All pipelined messages have been sent");
+    }
+
+    /**
+     * Gets the timeout.
+     * @return
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the timeout.
+     * @param timeout
+     */
+    public AwaitSendsAction setTimeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+}
@@ -28,9 +28,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -40,6 +49,10 @@ import java.util.Map.Entry;
  * The class enables you to query data result sets from a
  * database. Validation will happen on column basis inside the result set.
  *
+ * In streaming mode result rows are read one by one from the database. Control result set validation, variable extraction
+ * and row count checks are performed incrementally and validation scripts get the rows as lazy iterator, so large result sets
+ * are never held in memory as a whole.
+ *
  * @author Christoph Deppisch, Jan Zahalka
  * @since 2008
  */
@@ -57,6 +70,12 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     @Autowired(required = false)
     private SqlResultSetScriptValidator validator;
 
+    /** Read result rows one by one instead of loading the complete result set */
+    private boolean streaming = false;
+
+    /** JDBC fetch size hint for streaming mode, driver default is used when set to zero */
+    private int fetchSize = 0;
+
     /** NULL value representation in SQL */
     private static final String NULL_VALUE = "NULL";
 
@@ -76,6 +95,11 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             statements = createStatementsFromFileResource(context);
         }
 
+        if (streaming) {
+            doExecuteStreaming(context);
+            return;
+        }
+
         try {
             //for control result set validation
             final Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
@@ -115,17 +139,88 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
-    protected void executeStatements(List<Map<String, Object>> allResultRows, Map<String, List<String>> columnValuesMap, TestContext context) {
-        for (String stmt : statements) {
-            validateSqlStatement(stmt);
-            final String toExecute;
+    /**
+     * Executes all statements in streaming mode. Result rows are processed one by one while reading the result set.
+     * @param context the current test context.
+     */
+    private void doExecuteStreaming(TestContext context) {
+        try {
+            StreamingResultSetProcessor processor = new StreamingResultSetProcessor(context);
+
+            if (getTransactionManager() != null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+                }
 
-            if (stmt.trim().endsWith(";")) {
-                toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+                TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+                transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
+                transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+                transactionTemplate.execute(status -> {
+                    streamStatements(processor, context);
+                    return null;
+                });
             } else {
-                toExecute = context.replaceDynamicContentInString(stmt.trim());
+                streamStatements(processor, context);
+            }
+
+            processor.finish();
+        } catch (DataAccessException e) {
+            log.error("Failed to execute SQL statement", e);
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Executes all statements on a single connection and streams the result rows to the result set processor. Script validation
+     * consumes the rows as lazy iterator, remaining rows are read afterwards for control result set validation.
+     * @param processor the result set processor.
+     * @param context the current test context.
+     */
+    private void streamStatements(StreamingResultSetProcessor processor, TestContext context) {
+        List<String> queries = new ArrayList<>();
+        for (String stmt : statements) {
+            queries.add(prepareStatement(stmt, context));
+        }
+
+        getJdbcTemplate().execute((ConnectionCallback<Object>) connection -> {
+            ResultRowIterator rows = new ResultRowIterator(connection, queries, processor);
+
+            try {
+                if (scriptValidationContext != null) {
+                    getScriptValidator().validateSqlResultSet(rows, scriptValidationContext, context);
+                }
+
+                while (rows.hasNext()) {
+                    rows.next();
+                }
+            } finally {
+                rows.close();
             }
 
+            return null;
+        });
+    }
+
+    /**
+     * Validates given statement and resolves dynamic content. Trailing semicolon is removed.
+     * @param stmt the statement.
+     * @param context the current test context.
+     * @return the statement to execute.
+     */
+    private String prepareStatement(String stmt, TestContext context) {
+        validateSqlStatement(stmt);
+
+        if (stmt.trim().endsWith(";")) {
+            return context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+        } else {
+            return context.replaceDynamicContentInString(stmt.trim());
+        }
+    }
+
+    protected void executeStatements(List<Map<String, Object>> allResultRows, Map<String, List<String>> columnValuesMap, TestContext context) {
+        for (String stmt : statements) {
+            final String toExecute = prepareStatement(stmt, context);
+
             if (log.isDebugEnabled()) {
                 log.debug("Executing SQL query: " + toExecute);
             }
@@ -175,17 +270,26 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
                     columnValuesMap.put(columnName, new ArrayList<String>());
                 }
 
-                if (column.getValue() instanceof byte[]) {
-                    columnValue = Base64.encodeBase64String((byte[]) column.getValue());
-                } else {
-                    columnValue = column.getValue() == null ? null : column.getValue().toString();
-                }
+                columnValue = getColumnValue(column.getValue());
 
                 columnValuesMap.get(columnName).add((columnValue));
             }
         }
     }
 
+    /**
+     * Gets string representation of column value. Binary values are Base64 encoded.
+     * @param value the column value.
+     * @return the string value or null.
+     */
+    private static String getColumnValue(Object value) {
+        if (value instanceof byte[]) {
+            return Base64.encodeBase64String((byte[]) value);
+        } else {
+            return value == null ? null : value.toString();
+        }
+    }
+
     /**
      * Gets the script validator implementation either autowired from application context
      * or if not set here a default implementation.
@@ -344,6 +448,235 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return controlValue.equalsIgnoreCase(NULL_VALUE) || controlValue.length() == 0;
     }
 
+    /**
+     * Processes streamed result rows one by one. Keeps only row counts, first column values for legacy variables and values
+     * of columns that get extracted to test variables.
+     */
+    private class StreamingResultSetProcessor {
+        /** Current test context */
+        private final TestContext context;
+
+        /** Number of values per result column */
+        private final Map<String, Integer> columnRowCounts = new HashMap<>();
+
+        /** First value of each result column */
+        private final Map<String, String> firstValues = new HashMap<>();
+
+        /** All values of result columns that get extracted to test variables */
+        private final Map<String, List<String>> extractedValues = new HashMap<>();
+
+        /** Resolved result column names by control result set column */
+        private final Map<String, String> controlColumns = new HashMap<>();
+
+        /** Control values by resolved result column */
+        private final Map<String, List<String>> controlValues = new HashMap<>();
+
+        StreamingResultSetProcessor(TestContext context) {
+            this.context = context;
+        }
+
+        /**
+         * Processes next result row. Validates column values against control result set and collects values to extract.
+         * @param row the result row.
+         */
+        void processRow(Map<String, Object> row) {
+            for (String columnName : row.keySet()) {
+                if (columnRowCounts.putIfAbsent(columnName, 0) == null) {
+                    addColumn(columnName);
+                }
+            }
+
+            for (Entry<String, Object> column : row.entrySet()) {
+                String columnName = column.getKey();
+                String columnValue = getColumnValue(column.getValue());
+
+                int rowIndex = columnRowCounts.get(columnName);
+                columnRowCounts.put(columnName, rowIndex + 1);
+
+                if (rowIndex == 0) {
+                    firstValues.put(columnName, columnValue);
+                }
+
+                if (extractedValues.containsKey(columnName)) {
+                    extractedValues.get(columnName).add(columnValue);
+                }
+
+                List<String> controlColumnValues = controlValues.get(columnName);
+                if (controlColumnValues != null && rowIndex < controlColumnValues.size()) {
+                    validateSingleValue(columnName, context.replaceDynamicContentInString(controlColumnValues.get(rowIndex)), columnValue, context);
+                }
+            }
+        }
+
+        /**
+         * Registers new result column. Resolves control result set columns and columns to extract with the same
+         * lower case, upper case or exact name matching as done for complete result sets.
+         * @param columnName the new result column name.
+         */
+        private void addColumn(String columnName) {
+            for (String extractColumn : extractVariables.keySet()) {
+                if (extractColumn.equalsIgnoreCase(columnName)) {
+                    extractedValues.put(columnName, new ArrayList<>());
+                }
+            }
+
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                String controlColumn = controlEntry.getKey();
+                if (controlColumns.containsKey(controlColumn)) {
+                    continue;
+                }
+
+                String resultColumn = null;
+                if (columnRowCounts.containsKey(controlColumn.toLowerCase())) {
+                    resultColumn = controlColumn.toLowerCase();
+                } else if (columnRowCounts.containsKey(controlColumn.toUpperCase())) {
+                    resultColumn = controlColumn.toUpperCase();
+                } else if (columnRowCounts.containsKey(controlColumn)) {
+                    resultColumn = controlColumn;
+                }
+
+                if (resultColumn != null) {
+                    controlColumns.put(controlColumn, resultColumn);
+                    controlValues.put(resultColumn, controlEntry.getValue());
+                }
+            }
+        }
+
+        /**
+         * Completes result set processing with row count validation and test variable creation.
+         */
+        void finish() {
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                String columnName = controlColumns.get(controlEntry.getKey());
+                if (columnName == null) {
+                    throw new CitrusRuntimeException("Could not find column '" + controlEntry.getKey() + "' in SQL result set");
+                }
+
+                int rowCount = columnRowCounts.get(columnName);
+                if (rowCount != controlEntry.getValue().size()) {
+                    throw new CitrusRuntimeException("Validation failed for column: '" +  columnName + "' " +
+                            "expected rows count: " + controlEntry.getValue().size() + " but was " + rowCount);
+                }
+            }
+
+            if (!CollectionUtils.isEmpty(controlResultSet)) {
+                log.info("SQL query validation successful: All values OK");
+            }
+
+            fillContextVariables(extractedValues, context);
+
+            // legacy: save all columns as variables TODO: remove in major version upgrade
+            for (Entry<String, String> column : firstValues.entrySet()) {
+                context.setVariable(column.getKey().toUpperCase(), column.getValue() == null ? NULL_VALUE : column.getValue());
+            }
+        }
+    }
+
+    /**
+     * Lazy iterator on result rows of several queries executed one after another on the same connection. Each row
+     * is passed to the result set processor when it is consumed.
+     */
+    private class ResultRowIterator implements Iterator<Map<String, Object>> {
+        /** Database connection */
+        private final Connection connection;
+
+        /** Queries to execute */
+        private final Iterator<String> queries;
+
+        /** Processor receiving all consumed rows */
+        private final StreamingResultSetProcessor processor;
+
+        /** Maps result set rows to column maps */
+        private final ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+
+        /** Translates SQL exceptions to data access exceptions */
+        private final SQLExceptionTranslator exceptionTranslator = getExceptionTranslator();
+
+        /** Current query with its statement and result set */
+        private String query;
+        private Statement statement;
+        private ResultSet resultSet;
+        private int rowNum;
+
+        /** Next row if already read */
+        private Map<String, Object> nextRow;
+
+        ResultRowIterator(Connection connection, List<String> queries, StreamingResultSetProcessor processor) {
+            this.connection = connection;
+            this.queries = queries.iterator();
+            this.processor = processor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (nextRow == null) {
+                nextRow = readNextRow();
+            }
+
+            return nextRow != null;
+        }
+
+        @Override
+        public Map<String, Object> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            Map<String, Object> row = nextRow;
+            nextRow = null;
+            processor.processRow(row);
+            return row;
+        }
+
+        /**
+         * Reads next row from current result set. Executes next query when current result set is exhausted.
+         * @return the next row or null when all result sets are exhausted.
+         */
+        private Map<String, Object> readNextRow() {
+            try {
+                while (true) {
+                    if (resultSet != null && resultSet.next()) {
+                        return rowMapper.mapRow(resultSet, rowNum++);
+                    }
+
+                    close();
+
+                    if (!queries.hasNext()) {
+                        return null;
+                    }
+
+                    query = queries.next();
+                    if (log.isDebugEnabled()) {
+                        log.debug("Executing SQL query: " + query);
+                    }
+
+                    statement = connection.createStatement();
+                    if (fetchSize != 0) {
+                        statement.setFetchSize(fetchSize);
+                    }
+
+                    resultSet = statement.executeQuery(query);
+                    rowNum = 0;
+
+                    log.info("SQL query execution successful");
+                }
+            } catch (SQLException e) {
+                DataAccessException dataAccessException = exceptionTranslator.translate("ExecuteSQLQueryAction", query, e);
+                throw dataAccessException != null ? dataAccessException : new UncategorizedSQLException("ExecuteSQLQueryAction", query, e);
+            }
+        }
+
+        /**
+         * Closes current result set and statement.
+         */
+        void close() {
+            JdbcUtils.closeResultSet(resultSet);
+            JdbcUtils.closeStatement(statement);
+            resultSet = null;
+            statement = null;
+        }
+    }
+
     /**
      * Set expected control result set. Keys represent the column names, values
      * the expected values.
@@ -393,6 +726,40 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return this;
     }
 
+    /**
+     * Enables/disables streaming mode.
+     * @param streaming
+     */
+    public ExecuteSQLQueryAction setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    /**
+     * Gets the streaming mode.
+     * @return
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the JDBC fetch size used in streaming mode.
+     * @param fetchSize
+     */
+    public ExecuteSQLQueryAction setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Gets the JDBC fetch size used in streaming mode.
+     * @return
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     /**
      * Gets the controlResultSet.
      * @return the controlResultSet
@@ -23,7 +23,9 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageSelectorBuilder;
 import com.consol.citrus.messaging.Consumer;
+import com.consol.citrus.messaging.MessagePurger;
 import com.consol.citrus.messaging.SelectiveConsumer;
+import com.consol.citrus.variable.GlobalVariables;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
@@ -62,6 +64,18 @@ public class PurgeEndpointAction extends AbstractTestAction implements BeanFacto
     /** Wait some time between message consumption in ms */
     private long sleepTime = 350;
 
+    /** Number of messages consumed before sleeping */
+    private int batchSize = 1;
+
+    /** Number of consumers per endpoint receiving messages concurrently */
+    private int concurrentConsumers = 1;
+
+    /** Number of subsequent receive timeouts before endpoint is considered to be drained */
+    private int maxEmptyReceives = 1;
+
+    /** Maximum time to drain an endpoint in ms, negative value disables the limit */
+    private long purgeTimeout = -1L;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(PurgeEndpointAction.class);
 
@@ -101,41 +115,102 @@ public class PurgeEndpointAction extends AbstractTestAction implements BeanFacto
             log.debug("Try to purge message endpoint " + endpoint.getName());
         }
 
-        int messagesPurged = 0;
-        Consumer messageConsumer = endpoint.createConsumer();
-        Message message;
-        do {
-            try {
-                String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
-                if (StringUtils.hasText(selector) && messageConsumer instanceof SelectiveConsumer) {
-                    message = (receiveTimeout >= 0) ? ((SelectiveConsumer) messageConsumer).receive(selector, context, receiveTimeout) : ((SelectiveConsumer) messageConsumer).receive(selector, context);
-                } else {
-                    message = (receiveTimeout >= 0) ? messageConsumer.receive(context, receiveTimeout) : messageConsumer.receive(context);
-                }
-            } catch (ActionTimeoutException e) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Stop purging due to timeout - " + e.getMessage());
-                }
-                break;
-            }
+        if (concurrentConsumers > 1 && endpoint.createConsumer() == endpoint.createConsumer()) {
+            throw new CitrusRuntimeException(String.format("Unable to purge endpoint %s with %s concurrent consumers - " +
+                    "endpoint shares a single consumer instance", endpoint.getName(), concurrentConsumers));
+        }
 
-            if (message != null) {
-                log.debug("Removed message from endpoint " + endpoint.getName());
-                messagesPurged++;
+        String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
+        int messagesPurged = createMessagePurger().purge(new MessagePurger.PurgeDestination() {
+            @Override
+            public String getName() {
+                return endpoint.getName();
+            }
 
-                try {
-                    Thread.sleep(sleepTime);
-                } catch (InterruptedException e) {
-                    log.warn("Interrupted during wait", e);
-                }
+            @Override
+            public MessagePurger.PurgeConsumer createConsumer() {
+                Consumer messageConsumer = endpoint.createConsumer();
+                TestContext consumerContext = concurrentConsumers > 1 ? createConsumerContext(context) : context;
+                return timeout -> receive(messageConsumer, selector, timeout, consumerContext, endpoint);
             }
-        } while (message != null);
+        });
 
         if (log.isDebugEnabled()) {
             log.debug("Purged " + messagesPurged + " messages from endpoint");
         }
     }
 
+    /**
+     * Creates dedicated test context for a concurrent consumer so consumers do not share state such as
+     * correlation keys and reply destinations.
+     * @param context
+     * @return
+     */
+    private TestContext createConsumerContext(TestContext context) {
+        TestContext consumerContext = new TestContext();
+        consumerContext.setFunctionRegistry(context.getFunctionRegistry());
+
+        GlobalVariables globalVariables = new GlobalVariables();
+        globalVariables.getVariables().putAll(context.getGlobalVariables());
+        consumerContext.setGlobalVariables(globalVariables);
+        consumerContext.getVariables().putAll(context.getVariables());
+        consumerContext.setMessageValidatorRegistry(context.getMessageValidatorRegistry());
+        consumerContext.setValidationMatcherRegistry(context.getValidationMatcherRegistry());
+        consumerContext.setTestListeners(context.getTestListeners());
+        consumerContext.setMessageListeners(context.getMessageListeners());
+        consumerContext.setGlobalMessageConstructionInterceptors(context.getGlobalMessageConstructionInterceptors());
+        consumerContext.setEndpointFactory(context.getEndpointFactory());
+        consumerContext.setNamespaceContextBuilder(context.getNamespaceContextBuilder());
+        consumerContext.setApplicationContext(context.getApplicationContext());
+        return consumerContext;
+    }
+
+    /**
+     * Receives next message from endpoint consumer.
+     * @param messageConsumer
+     * @param selector
+     * @param timeout
+     * @param context
+     * @param endpoint
+     * @return true if message has been received
+     */
+    private boolean receive(Consumer messageConsumer, String selector, long timeout, TestContext context, Endpoint endpoint) {
+        Message message;
+        try {
+            if (StringUtils.hasText(selector) && messageConsumer instanceof SelectiveConsumer) {
+                message = (timeout >= 0) ? ((SelectiveConsumer) messageConsumer).receive(selector, context, timeout) : ((SelectiveConsumer) messageConsumer).receive(selector, context);
+            } else {
+                message = (timeout >= 0) ? messageConsumer.receive(context, timeout) : messageConsumer.receive(context);
+            }
+        } catch (ActionTimeoutException e) {
+            if (log.isDebugEnabled()) {
+                log.debug("Stop purging due to timeout - " + e.getMessage());
+            }
+            return false;
+        }
+
+        if (message != null) {
+            log.debug("Removed message from endpoint " + endpoint.getName());
+        }
+
+        return message != null;
+    }
+
+    /**
+     * Creates message purger with purge settings of this action.
+     * @return
+     */
+    private MessagePurger createMessagePurger() {
+        MessagePurger messagePurger = new MessagePurger();
+        messagePurger.setReceiveTimeout(receiveTimeout);
+        messagePurger.setSleepTime(sleepTime);
+        messagePurger.setBatchSize(batchSize);
+        messagePurger.setConcurrentConsumers(concurrentConsumers);
+        messagePurger.setMaxEmptyReceives(maxEmptyReceives);
+        messagePurger.setTimeout(purgeTimeout);
+        return messagePurger;
+    }
+
     /**
      * Resolve the endpoint by name.
      * @param endpointName the name to resolve
@@ -262,4 +337,73 @@ public class PurgeEndpointAction extends AbstractTestAction implements BeanFacto
     public long getSleepTime() {
         return sleepTime;
     }
+
+    /**
+     * Gets the batchSize.
+     * @return
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets number of messages consumed before sleeping.
+     * @param batchSize
+     */
+    public PurgeEndpointAction setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Gets the concurrentConsumers.
+     * @return
+     */
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    /**
+     * Sets number of consumers per endpoint receiving messages concurrently. Concurrent consumers require an endpoint that
+     * creates a new consumer instance on each call, purging an endpoint that shares a single consumer instance fails.
+     * @param concurrentConsumers
+     */
+    public PurgeEndpointAction setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+        return this;
+    }
+
+    /**
+     * Gets the maxEmptyReceives.
+     * @return
+     */
+    public int getMaxEmptyReceives() {
+        return maxEmptyReceives;
+    }
+
+    /**
+     * Sets number of subsequent receive timeouts before endpoint is considered to be drained.
+     * @param maxEmptyReceives
+     */
+    public PurgeEndpointAction setMaxEmptyReceives(int maxEmptyReceives) {
+        this.maxEmptyReceives = maxEmptyReceives;
+        return this;
+    }
+
+    /**
+     * Gets the purgeTimeout.
+     * @return
+     */
+    public long getPurgeTimeout() {
+        return purgeTimeout;
+    }
+
+    /**
+     * Sets maximum time to drain an endpoint in ms, negative value disables the limit.
+     * @param purgeTimeout
+     */
+    public PurgeEndpointAction setPurgeTimeout(long purgeTimeout) {
+        this.purgeTimeout = purgeTimeout;
+        return this;
+    }
 }
@@ -114,10 +114,15 @@ public class ReceiveMessageAction extends AbstractTestAction {
             String selector = MessageSelectorBuilder.build(messageSelector, messageSelectorMap, context);
 
             //receive message either selected or plain with message receiver
-            if (StringUtils.hasText(selector)) {
-                receivedMessage = receiveSelected(context, selector);
-            } else {
-                receivedMessage = receive(context);
+            long start = System.nanoTime();
+            try {
+                if (StringUtils.hasText(selector)) {
+                    receivedMessage = receiveSelected(context, selector);
+                } else {
+                    receivedMessage = receive(context);
+                }
+            } finally {
+                context.getMetrics().recordReceive(System.nanoTime() - start);
             }
 
             if (receivedMessage == null) {
@@ -23,6 +23,9 @@ import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageDirection;
+import com.consol.citrus.messaging.AsyncProducer;
+import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.messaging.SendPipeline;
 import com.consol.citrus.validation.builder.MessageContentBuilder;
 import com.consol.citrus.validation.builder.PayloadTemplateMessageBuilder;
 import com.consol.citrus.variable.VariableExtractor;
@@ -61,6 +64,15 @@ public class SendMessageAction extends AbstractTestAction implements Completable
      * message sender is waiting for the synchronous response */
     private boolean forkMode = false;
 
+    /** Dispatches the message with non-blocking producer so subsequent actions take place while message is in flight */
+    private boolean pipelined = false;
+
+    /** Maximum number of pipelined messages in flight before dispatch blocks, zero or negative value disables the window */
+    private int maxInFlight = DEFAULT_MAX_IN_FLIGHT;
+
+    /** Default in flight window for pipelined messages */
+    public static final int DEFAULT_MAX_IN_FLIGHT = 100;
+
     /** Finished indicator either called when forked send action is finished or immediately when this action has finished */
     private CompletableFuture<Void> finished;
 
@@ -103,13 +115,15 @@ public class SendMessageAction extends AbstractTestAction implements Completable
             context.getMessageStore().storeMessage(context.getMessageStore().constructMessageName(this, messageEndpoint), message);
         }
 
-        if (forkMode) {
+        if (pipelined) {
+            dispatch(messageEndpoint, message, context);
+        } else if (forkMode) {
             log.debug("Forking message sending action ...");
 
             SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
             taskExecutor.execute(() -> {
                 try {
-                    messageEndpoint.createProducer().send(message, context);
+                    send(messageEndpoint, message, context);
                 } catch (Exception e) {
                     if (e instanceof CitrusRuntimeException) {
                         context.addException((CitrusRuntimeException) e);
@@ -122,12 +136,68 @@ public class SendMessageAction extends AbstractTestAction implements Completable
             });
         } else {
             try {
-                messageEndpoint.createProducer().send(message, context);
+                send(messageEndpoint, message, context);
             } finally {
                 finished.complete(null);
             }
         }
     }
+
+    /**
+     * Dispatches message with non-blocking producer of given endpoint. Blocks as long as the in flight window of
+     * the test's send pipeline is exhausted. Send results and failures are collected in the send pipeline and get
+     * applied to the test context on the test thread. Endpoints without non-blocking producer send the message synchronously.
+     * @param messageEndpoint
+     * @param message
+     * @param context
+     */
+    private void dispatch(Endpoint messageEndpoint, Message message, TestContext context) {
+        SendPipeline pipeline = context.getSendPipeline();
+        pipeline.applyCompleted(context);
+        pipeline.awaitCapacity(maxInFlight, messageEndpoint.getEndpointConfiguration().getTimeout());
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Dispatching pipelined message - %s messages in flight", pipeline.getInFlight()));
+        }
+
+        long start = System.nanoTime();
+        CompletableFuture<AsyncProducer.SendResult> send;
+        Producer producer = messageEndpoint.createProducer();
+        if (producer instanceof AsyncProducer) {
+            try {
+                send = ((AsyncProducer) producer).sendAsync(message, context);
+            } catch (RuntimeException e) {
+                finished.complete(null);
+                throw e;
+            }
+        } else {
+            send = new CompletableFuture<>();
+            try {
+                producer.send(message, context);
+                send.complete(AsyncProducer.SendResult.NONE);
+            } catch (RuntimeException e) {
+                send.completeExceptionally(e);
+            }
+        }
+
+        pipeline.register(getName(), start, send)
+                .whenComplete((result, error) -> finished.complete(null));
+    }
+
+    /**
+     * Sends message with producer of given endpoint and records send duration in test metrics.
+     * @param messageEndpoint
+     * @param message
+     * @param context
+     */
+    private void send(Endpoint messageEndpoint, Message message, TestContext context) {
+        long start = System.nanoTime();
+        try {
+            messageEndpoint.createProducer().send(message, context);
+        } finally {
+            context.getMetrics().recordSend(System.nanoTime() - start);
+        }
+    }
     
     /**
      * {@inheritDoc}
@@ -144,6 +214,11 @@ public class SendMessageAction extends AbstractTestAction implements Completable
 
     @Override
     public boolean isDone(TestContext context) {
+        if (pipelined && context.getSendPipeline().getInFlight() > 0) {
+            // action may have been executed several times e.g. in iterating containers so check all messages in flight
+            return isDisabled(context);
+        }
+
         return Optional.ofNullable(finished)
                 .map(future -> future.isDone() || isDisabled(context))
                 .orElse(isDisabled(context));
@@ -245,6 +320,40 @@ public class SendMessageAction extends AbstractTestAction implements Completable
         return forkMode;
     }
 
+    /**
+     * Enables pipelined mode for this message sender.
+     * @param pipelined
+     */
+    public SendMessageAction setPipelined(boolean pipelined) {
+        this.pipelined = pipelined;
+        return this;
+    }
+
+    /**
+     * Gets the pipelined mode.
+     * @return
+     */
+    public boolean isPipelined() {
+        return pipelined;
+    }
+
+    /**
+     * Sets the maximum number of pipelined messages in flight.
+     * @param maxInFlight
+     */
+    public SendMessageAction setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+        return this;
+    }
+
+    /**
+     * Gets the maximum number of pipelined messages in flight.
+     * @return
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
     /**
      * Sets the expected message type for this receive action.
      * @param messageType the messageType to set
@@ -15,6 +15,9 @@
  */
 package com.consol.citrus.channel;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.Message;
@@ -22,11 +25,18 @@ import org.springframework.integration.channel.QueueChannel;
 import org.springframework.integration.core.MessageSelector;
 import org.springframework.util.Assert;
 
+import java.util.*;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Added selective consumption of messages according to a message selector implementation.
+ *
+ * Consumers waiting for a selected message are woken up as soon as a new message arrives on the channel. Optional
+ * header indexing serves header equality selectors from an index of queued messages by header value instead of
+ * scanning the whole queue.
  * 
  * @author Christoph Deppisch
  */
@@ -40,6 +50,15 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500;
 
+    /** Enables index of queued messages by header values for header matching selectors */
+    private boolean headerIndexing = false;
+
+    /** Queued messages indexed by header name and header value - lazily created per header name */
+    private final Map<String, Map<String, Set<Message<?>>>> headerIndex = new HashMap<>();
+
+    /** Counts messages sent to this channel, also used as monitor for waiting consumers */
+    private final AtomicLong arrivals = new AtomicLong();
+
     /**
      * Create a channel with the specified queue.
      */
@@ -66,7 +85,58 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     public MessageSelectingQueueChannel() {
         this(new LinkedBlockingQueue<Message<?>>());
     }
-    
+
+    @Override
+    protected boolean doSend(Message<?> message, long timeout) {
+        boolean sent = super.doSend(message, timeout);
+
+        if (sent) {
+            if (headerIndexing) {
+                synchronized (headerIndex) {
+                    for (Map.Entry<String, Map<String, Set<Message<?>>>> entry : headerIndex.entrySet()) {
+                        addToIndex(entry.getKey(), entry.getValue(), message);
+                    }
+                }
+            }
+
+            arrivals.incrementAndGet();
+            synchronized (arrivals) {
+                arrivals.notifyAll();
+            }
+        }
+
+        return sent;
+    }
+
+    @Override
+    protected Message<?> doReceive(long timeout) {
+        Message<?> message = super.doReceive(timeout);
+
+        if (message != null) {
+            removeFromIndex(message);
+        }
+
+        return message;
+    }
+
+    @Override
+    public List<Message<?>> clear() {
+        List<Message<?>> cleared = super.clear();
+
+        synchronized (headerIndex) {
+            headerIndex.values().forEach(Map::clear);
+        }
+
+        return cleared;
+    }
+
+    @Override
+    public List<Message<?>> purge(MessageSelector selector) {
+        List<Message<?>> purged = super.purge(selector);
+        purged.forEach(this::removeFromIndex);
+        return purged;
+    }
+
     /**
      * Supports selective consumption of messages on the channel. The first message 
      * to be accepted by given message selector is returned as result.
@@ -75,10 +145,16 @@ public class MessageSelectingQueueChannel extends QueueChannel {
      * @return
      */
     public Message<?> receive(MessageSelector selector) {
+        Map.Entry<String, String> indexedHeader = headerIndexing ? getIndexedHeader(selector) : null;
+        if (indexedHeader != null) {
+            return receiveIndexed(selector, indexedHeader.getKey(), indexedHeader.getValue());
+        }
+
         Object[] array = this.queue.toArray();
         for (Object o : array) {
             Message<?> message = (Message<?>) o;
             if (selector.accept(message) && this.queue.remove(message)) {
+                removeFromIndex(message);
                 return message;
             }
         }
@@ -88,35 +164,141 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     
     /**
      * Consume messages on the channel via message selector. Timeout forces several retries
-     * with polling interval setting.
+     * with polling interval setting. Waiting consumers are woken up as soon as new messages arrive on the channel
+     * so polling interval is only the maximum time to wait before next retry.
      * 
      * @param selector
      * @param timeout
      * @return
      */
     public Message<?> receive(MessageSelector selector, long timeout) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
         long timeLeft = timeout;
-        Message<?> message = receive(selector);
 
-        while (message == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-            
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("No message received with message selector - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
-            }
-            
-            try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
-            } catch (InterruptedException e) {
-                RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
-            }
-            
+        Message<?> message;
+        boolean waited;
+        do {
+            waited = false;
+            long arrived = arrivals.get();
             message = receive(selector);
-        }
+
+            if (message == null && timeLeft > 0) {
+                long waitTime = Math.min(pollingInterval, timeLeft);
+                if (RETRY_LOG.isDebugEnabled()) {
+                    RETRY_LOG.debug("No message received with message selector - retrying in " + waitTime + "ms");
+                }
+
+                try {
+                    synchronized (arrivals) {
+                        if (arrivals.get() == arrived) {
+                            arrivals.wait(waitTime);
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+                }
+
+                waited = true;
+            }
+
+            timeLeft = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        } while (message == null && (timeLeft > 0 || waited));
         
         return message;
     }
 
+    /**
+     * Selective receive using the header index. Only messages indexed with given header value are
+     * evaluated with the message selector.
+     * @param selector
+     * @param headerName
+     * @param headerValue
+     * @return
+     */
+    private Message<?> receiveIndexed(MessageSelector selector, String headerName, String headerValue) {
+        List<Message<?>> candidates;
+        synchronized (headerIndex) {
+            Map<String, Set<Message<?>>> index = headerIndex.get(headerName);
+            if (index == null) {
+                index = new HashMap<>();
+                for (Object queued : queue.toArray()) {
+                    addToIndex(headerName, index, (Message<?>) queued);
+                }
+                headerIndex.put(headerName, index);
+            }
+
+            candidates = new ArrayList<>(index.getOrDefault(headerValue, Collections.emptySet()));
+        }
+
+        for (Message<?> candidate : candidates) {
+            if (selector.accept(candidate)) {
+                boolean removed = queue.remove(candidate);
+                removeFromIndex(candidate);
+
+                if (removed) {
+                    return candidate;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Gets the header name and value to use for indexed receive with given selector. Only header equality conditions
+     * qualify for the index.
+     * @param selector
+     * @return the header condition or null if selector does not support index usage
+     */
+    private Map.Entry<String, String> getIndexedHeader(MessageSelector selector) {
+        if (selector instanceof DispatchingMessageSelector) {
+            Map<String, String> conditions = ((DispatchingMessageSelector) selector).getHeaderMatchingConditions();
+            return conditions.isEmpty() ? null : conditions.entrySet().iterator().next();
+        } else if (selector.getClass().equals(HeaderMatchingMessageSelector.class)) {
+            HeaderMatchingMessageSelector headerSelector = (HeaderMatchingMessageSelector) selector;
+            if (!ValidationMatcherUtils.isValidationMatcherExpression(headerSelector.getMatchingValue())) {
+                return new AbstractMap.SimpleEntry<>(headerSelector.getSelectKey(), headerSelector.getMatchingValue());
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Adds message to header value index. Caller must hold lock on header index.
+     * @param headerName
+     * @param index
+     * @param message
+     */
+    private void addToIndex(String headerName, Map<String, Set<Message<?>>> index, Message<?> message) {
+        Object headerValue = HeaderMatchingMessageSelector.getHeaderValue(message, headerName);
+        if (headerValue != null) {
+            index.computeIfAbsent(headerValue.toString(), key -> new LinkedHashSet<>()).add(message);
+        }
+    }
+
+    /**
+     * Removes message from all header value indices.
+     * @param message
+     */
+    private void removeFromIndex(Message<?> message) {
+        if (!headerIndexing) {
+            return;
+        }
+
+        synchronized (headerIndex) {
+            for (Map.Entry<String, Map<String, Set<Message<?>>>> entry : headerIndex.entrySet()) {
+                Object headerValue = HeaderMatchingMessageSelector.getHeaderValue(message, entry.getKey());
+                if (headerValue != null) {
+                    Set<Message<?>> indexed = entry.getValue().get(headerValue.toString());
+                    if (indexed != null && indexed.remove(message) && indexed.isEmpty()) {
+                        entry.getValue().remove(headerValue.toString());
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Gets the pollingInterval.
      * @return the pollingInterval the pollingInterval to get.
@@ -132,4 +314,20 @@ public class MessageSelectingQueueChannel extends QueueChannel {
     public void setPollingInterval(long pollingInterval) {
         this.pollingInterval = pollingInterval;
     }
+
+    /**
+     * Gets the headerIndexing.
+     * @return
+     */
+    public boolean isHeaderIndexing() {
+        return headerIndexing;
+    }
+
+    /**
+     * Sets the headerIndexing.
+     * @param headerIndexing
+     */
+    public void setHeaderIndexing(boolean headerIndexing) {
+        this.headerIndexing = headerIndexing;
+    }
 }
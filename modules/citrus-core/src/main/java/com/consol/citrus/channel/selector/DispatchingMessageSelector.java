@@ -18,6 +18,7 @@ package com.consol.citrus.channel.selector;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.message.MessageSelectorBuilder;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.context.ApplicationContext;
@@ -89,6 +90,30 @@ public class DispatchingMessageSelector implements MessageSelector {
                                                      .accept(message));
     }
 
+    /**
+     * Gets all header names and values that are evaluated with plain header value equality by this selector. Selector
+     * keys handled by other selector factories and validation matcher expressions are not included.
+     * @return
+     */
+    public Map<String, String> getHeaderMatchingConditions() {
+        Map<String, String> conditions = new LinkedHashMap<>();
+
+        for (Map.Entry<String, String> entry : matchingHeaders.entrySet()) {
+            if (factories.stream().anyMatch(factory -> factory.supports(entry.getKey())) ||
+                    ValidationMatcherUtils.isValidationMatcherExpression(entry.getValue())) {
+                continue;
+            }
+
+            if (entry.getKey().startsWith(HeaderMatchingMessageSelector.SELECTOR_PREFIX)) {
+                conditions.put(entry.getKey().substring(HeaderMatchingMessageSelector.SELECTOR_PREFIX.length()), entry.getValue());
+            } else {
+                conditions.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        return conditions;
+    }
+
     /**
      * Add message selector factory to list of delegates.
      * @param factory
@@ -42,6 +42,20 @@ public class HeaderMatchingMessageSelector extends AbstractMessageSelector {
     
     @Override
     public boolean accept(Message<?> message) {
+        return Optional.ofNullable(getHeaderValue(message, selectKey))
+                .map(Object::toString)
+                .map(this::evaluate)
+                .orElse(false);
+    }
+
+    /**
+     * Reads header value from given message. Headers of nested Citrus message representation take precedence over
+     * the headers of the message object itself.
+     * @param message
+     * @param headerName
+     * @return the header value or null if not present
+     */
+    public static Object getHeaderValue(Message<?> message, String headerName) {
         MessageHeaders messageHeaders = message.getHeaders();
 
         Map<String, Object> nestedMessageHeaders = new HashMap<>();
@@ -49,22 +63,13 @@ public class HeaderMatchingMessageSelector extends AbstractMessageSelector {
             nestedMessageHeaders = ((com.consol.citrus.message.Message) message.getPayload()).getHeaders();
         }
 
-        if (nestedMessageHeaders.containsKey(selectKey)) {
-            return matchHeader(nestedMessageHeaders);
-        } else if (messageHeaders.containsKey(selectKey)) {
-            return matchHeader(messageHeaders);
+        if (nestedMessageHeaders.containsKey(headerName)) {
+            return nestedMessageHeaders.get(headerName);
         } else {
-            return false;
+            return messageHeaders.get(headerName);
         }
     }
 
-    private boolean matchHeader(Map<String, Object> messageHeaders) {
-        return Optional.ofNullable(messageHeaders.get(selectKey))
-                .map(Object::toString)
-                .map(this::evaluate)
-                .orElse(false);
-    }
-
     /**
      * Message selector factory for this implementation.
      */
@@ -85,6 +85,7 @@ public class HttpCondition extends AbstractCondition {
         try {
             httpURLConnection = openConnection(url);
             httpURLConnection.setConnectTimeout(getTimeout(context));
+            httpURLConnection.setReadTimeout(getTimeout(context));
             httpURLConnection.setRequestMethod(context.resolveDynamicValue(method));
 
             responseCode = httpURLConnection.getResponseCode();
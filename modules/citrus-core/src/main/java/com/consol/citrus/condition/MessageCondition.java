@@ -17,13 +17,15 @@
 package com.consol.citrus.condition;
 
 import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.DefaultMessageStore;
 
 /**
  * Condition checks whether a message is present in test context message store. Messages are automatically
  * stored in that store when sending and receiving messages with respective test actions. So this condition
  * can be used to wait for a message to arrive or being sent out.
  *
- * Message to check is identified by its name in the message store.
+ * Message to check is identified by its name in the message store. When the message store supports notifications the condition
+ * is able to complete as soon as the message is stored instead of polling the store in fixed intervals.
  *
  * @author Christoph Deppisch
  * @since 2.6.2
@@ -38,6 +40,26 @@ public class MessageCondition extends AbstractCondition {
         return context.getMessageStore().getMessage(context.replaceDynamicContentInString(messageName)) != null;
     }
 
+    /**
+     * Waits for the message to arrive in the message store. Blocks until the message is stored or the given timeout
+     * is exceeded. In case the message store does not support notifications the condition is checked only once.
+     * @param context
+     * @param timeout
+     * @return
+     */
+    public boolean waitForMessage(TestContext context, long timeout) {
+        if (context.getMessageStore() instanceof DefaultMessageStore) {
+            try {
+                return ((DefaultMessageStore) context.getMessageStore()).waitForMessage(context.replaceDynamicContentInString(messageName), timeout) != null;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return isSatisfied(context);
+    }
+
     @Override
     public String getSuccessMessage(TestContext context) {
         return String.format("Message condition success - found message '%s' in message store", context.replaceDynamicContentInString(messageName));
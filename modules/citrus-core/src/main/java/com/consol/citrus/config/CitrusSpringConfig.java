@@ -75,6 +75,11 @@ public class CitrusSpringConfig {
         return new JUnitReporter();
     }
 
+    @Bean
+    public MetricsReporter metricsReporter() {
+        return new MetricsReporter();
+    }
+
     @Bean
     public TestListeners testListeners() {
         return new TestListeners();
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.config.xml;
+
+import com.consol.citrus.actions.AwaitSendsAction;
+import com.consol.citrus.config.util.BeanDefinitionParserUtils;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.beans.factory.xml.BeanDefinitionParser;
+import org.springframework.beans.factory.xml.ParserContext;
+import org.w3c.dom.Element;
+
+/**
+ * Bean definition parser for await sends action in test case.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class AwaitSendsActionParser implements BeanDefinitionParser {
+
+    @Override
+    public BeanDefinition parse(Element element, ParserContext parserContext) {
+        BeanDefinitionBuilder beanDefinition = BeanDefinitionBuilder.rootBeanDefinition(AwaitSendsAction.class);
+
+        DescriptionElementParser.doParse(element, beanDefinition);
+
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("timeout"), "timeout");
+
+        return beanDefinition.getBeanDefinition();
+    }
+}
@@ -44,6 +44,8 @@ public class MessageSelectingQueueChannelParser implements BeanDefinitionParser
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("logging"), "loggingEnabled");
 
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("polling-interval"), "pollingInterval");
+
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("header-indexing"), "headerIndexing");
         
         parserContext.getRegistry().registerBeanDefinition(element.getAttribute("id"), builder.getBeanDefinition());
         
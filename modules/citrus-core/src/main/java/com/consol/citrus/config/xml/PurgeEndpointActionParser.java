@@ -44,6 +44,11 @@ public class PurgeEndpointActionParser implements BeanDefinitionParser {
         MessageSelectorParser.doParse(element, beanDefinition);
 
         BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("receive-timeout"), "receiveTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("sleep-time"), "sleepTime");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("batch-size"), "batchSize");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("concurrent-consumers"), "concurrentConsumers");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("max-empty-receives"), "maxEmptyReceives");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("purge-timeout"), "purgeTimeout");
 
         List<String> endpointNames = new ArrayList<>();
         ManagedList<BeanDefinition> endpointRefs = new ManagedList<>();
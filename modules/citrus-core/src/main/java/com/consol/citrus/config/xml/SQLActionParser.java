@@ -150,6 +150,9 @@ public class SQLActionParser implements BeanDefinitionParser {
         }
         
         beanDefinition.addPropertyValue("extractVariables", extractVariables);
+
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("streaming"), "streaming");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("fetch-size"), "fetchSize");
         
         return beanDefinition;
     }
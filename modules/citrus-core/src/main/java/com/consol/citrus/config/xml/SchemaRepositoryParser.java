@@ -68,6 +68,7 @@ public class SchemaRepositoryParser implements BeanDefinitionParser {
      */
     private void registerJsonSchemaRepository(Element element, ParserContext parserContext) {
         BeanDefinitionBuilder builder = BeanDefinitionBuilder.genericBeanDefinition(JsonSchemaRepository.class);
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("discriminator"), "discriminator");
         addLocationsToBuilder(element, builder);
         parseSchemasElement(element, builder, parserContext);
         parserContext.getRegistry().registerBeanDefinition(element.getAttribute(ID), builder.getBeanDefinition());
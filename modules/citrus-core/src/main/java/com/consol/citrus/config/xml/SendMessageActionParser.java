@@ -60,6 +60,8 @@ public class SendMessageActionParser extends AbstractMessageActionParser {
         DescriptionElementParser.doParse(element, builder);
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("actor"), "actor");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("fork"), "forkMode");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("pipelined"), "pipelined");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("max-in-flight"), "maxInFlight");
         
         Element messageElement = DomUtils.getChildElementByTagName(element, "message");
         if (messageElement != null) {
@@ -22,23 +22,41 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ParallelContainerException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.util.ReflectionUtils;
 
+import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
- * Test action will execute nested actions in parallel. Each action is executed in a
- * separate thread. Container joins all threads and waiting for them to end successfully.
+ * Test action will execute nested actions in parallel. Each action is executed as separate task on an executor service.
+ * Container waits for all tasks to end successfully.
+ *
+ * By default a new cached thread pool is created for each execution. Users can provide a shared executor service instead (e.g. a
+ * bounded thread pool that is reused by all parallel containers) or choose virtual threads on runtimes that support them. The
+ * number of nested actions running at the same time can be limited with max concurrency. In fail fast mode the container cancels
+ * all sibling actions as soon as the first nested action fails.
+ *
+ * Please note that nested parallel containers using the same bounded executor service may block each other when the pool
+ * is exhausted.
  * 
  * @author Christoph Deppisch
  */
 public class Parallel extends AbstractActionContainer {
 
-    /** Store created threads in stack */
-    private Stack<Thread> threads = new Stack<Thread>();
+    /** Optional executor service shared among executions, not shut down by this container */
+    private ExecutorService executorService;
+
+    /** Use virtual thread per nested action when supported by the runtime */
+    private boolean virtualThreads = false;
+
+    /** Maximum number of nested actions running at the same time, zero or negative means unbounded */
+    private int maxConcurrency = 0;
+
+    /** Cancel sibling actions as soon as one nested action fails */
+    private boolean failFast = false;
 
-    /** Collect exceptions in list */
-    private List<CitrusRuntimeException> exceptions = new ArrayList<CitrusRuntimeException>();
-    
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(Parallel.class);
 
@@ -51,37 +69,136 @@ public class Parallel extends AbstractActionContainer {
 
     @Override
     public void doExecute(TestContext context) {
-        for (final TestAction action : actions) {
-            Thread t = new Thread(new ActionRunner(action, context) {
-                @Override
-                public void exceptionCallback(CitrusRuntimeException e) {
-                    if (exceptions.isEmpty()) {
-                        setActiveAction(action);
+        final List<CitrusRuntimeException> exceptions = Collections.synchronizedList(new ArrayList<>());
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        final Semaphore permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency) : null;
+        final List<Future<?>> futures = new ArrayList<>();
+
+        ExecutorService executor = executorService != null ? executorService : createExecutorService();
+
+        try {
+            for (final TestAction action : actions) {
+                if (failFast && failed.get()) {
+                    break;
+                }
+
+                if (permits != null) {
+                    try {
+                        permits.acquire();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new CitrusRuntimeException("Interrupted while waiting for a free permit to start parallel action", e);
+                    }
+
+                    if (failFast && failed.get()) {
+                        permits.release();
+                        break;
                     }
-                    
-                    exceptions.add(e);
                 }
-            });
 
-            threads.push(t);
-            t.start();
-        }
+                FutureTask<Object> task = new FutureTask<Object>(new ActionRunner(action, context) {
+                    @Override
+                    public void exceptionCallback(CitrusRuntimeException e) {
+                        if (failFast && failed.get()) {
+                            log.debug("Ignore error of cancelled parallel test action", e);
+                            return;
+                        }
 
-        while (!threads.isEmpty()) {
-            try {
-                threads.pop().join();
-            } catch (InterruptedException e) {
-                log.error("Unable to join thread", e);
+                        if (failed.compareAndSet(false, true)) {
+                            setActiveAction(action);
+                        }
+
+                        exceptions.add(e);
+
+                        if (failFast) {
+                            cancel(futures);
+                        }
+                    }
+                }, null) {
+                    @Override
+                    protected void done() {
+                        if (permits != null) {
+                            permits.release();
+                        }
+                    }
+                };
+
+                synchronized (futures) {
+                    futures.add(task);
+                }
+
+                try {
+                    executor.execute(task);
+                } catch (RejectedExecutionException e) {
+                    task.cancel(false);
+                    throw new CitrusRuntimeException("Failed to execute parallel test action", e);
+                }
+            }
+
+            if (failFast && failed.get()) {
+                cancel(futures);
+            }
+
+            for (Future<?> future : new ArrayList<>(futures)) {
+                try {
+                    future.get();
+                } catch (CancellationException e) {
+                    log.debug("Parallel test action has been cancelled");
+                } catch (InterruptedException e) {
+                    log.error("Unable to join parallel test action", e);
+                    Thread.currentThread().interrupt();
+                } catch (ExecutionException e) {
+                    log.error("Unable to join parallel test action", e);
+                }
+            }
+        } finally {
+            if (executor != executorService) {
+                executor.shutdownNow();
             }
         }
-        
+
         if (!exceptions.isEmpty()) {
             if (exceptions.size() == 1) {
                 throw exceptions.get(0);
             } else {
-                throw new ParallelContainerException(exceptions);
+                throw new ParallelContainerException(new ArrayList<>(exceptions));
+            }
+        }
+    }
+
+    /**
+     * Cancels all given futures interrupting running tasks.
+     * @param futures
+     */
+    private void cancel(List<Future<?>> futures) {
+        synchronized (futures) {
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void setActiveAction(TestAction action) {
+        super.setActiveAction(action);
+    }
+
+    /**
+     * Creates new executor service for a single execution of this container. Uses virtual threads when enabled
+     * and supported by the runtime, otherwise uses a cached thread pool.
+     * @return
+     */
+    private ExecutorService createExecutorService() {
+        if (virtualThreads) {
+            Method factoryMethod = ReflectionUtils.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+            if (factoryMethod != null) {
+                return (ExecutorService) ReflectionUtils.invokeMethod(factoryMethod, null);
             }
+
+            log.warn("Virtual threads are not supported by this Java runtime - using platform threads for parallel actions");
         }
+
+        return Executors.newCachedThreadPool();
     }
 
     /**
@@ -126,4 +243,68 @@ public class Parallel extends AbstractActionContainer {
          */
         public abstract void exceptionCallback(CitrusRuntimeException exception);
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the executor service.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service. Executor service is shared and not shut down after execution.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Gets the virtual threads.
+     * @return
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Sets the virtual threads.
+     * @param virtualThreads
+     */
+    public void setVirtualThreads(boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    /**
+     * Gets the max concurrency.
+     * @return
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Sets the max concurrency.
+     * @param maxConcurrency
+     */
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    /**
+     * Gets the fail fast.
+     * @return
+     */
+    public boolean isFailFast() {
+        return failFast;
+    }
+
+    /**
+     * Sets the fail fast.
+     * @param failFast
+     */
+    public void setFailFast(boolean failFast) {
+        this.failFast = failFast;
+    }
+}
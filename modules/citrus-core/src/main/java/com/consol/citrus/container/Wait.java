@@ -19,8 +19,10 @@ package com.consol.citrus.container;
 import com.consol.citrus.TestAction;
 import com.consol.citrus.condition.Condition;
 import com.consol.citrus.condition.ActionCondition;
+import com.consol.citrus.condition.MessageCondition;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.DaemonThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
@@ -32,6 +34,10 @@ import java.util.concurrent.*;
 /**
  * Pause the test execution until the condition is met or the wait time has been exceeded.
  *
+ * Condition checks run on a shared executor service with daemon threads that are reused among all wait containers. Checks
+ * that exceed the interval time are cancelled. Message conditions are not polled but complete as soon as the message is
+ * stored in the message store.
+ *
  * @author Martin Maher
  * @since 2.4
  */
@@ -40,6 +46,12 @@ public class Wait extends AbstractActionContainer {
     /** Logger */
     private static final Logger log = LoggerFactory.getLogger(Wait.class);
 
+    /** Shared executor service running condition checks */
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory("citrus-wait-"));
+
+    /** Optional executor service running condition checks */
+    private ExecutorService executorService;
+
     /** Nested test action */
     private TestAction action;
 
@@ -77,6 +89,7 @@ public class Wait extends AbstractActionContainer {
         }
 
         Callable<Boolean> callable = () -> condition.isSatisfied(context);
+        ExecutorService executor = Optional.ofNullable(executorService).orElse(DEFAULT_EXECUTOR);
 
         while (timeLeft > 0) {
             timeLeft -= intervalMs;
@@ -85,15 +98,19 @@ public class Wait extends AbstractActionContainer {
                 log.debug(String.format("Waiting for condition %s", condition.getName()));
             }
 
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            Future<Boolean> future = executor.submit(callable);
             long checkStartTime = System.currentTimeMillis();
-            try {
-                conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
-            } catch (InterruptedException | TimeoutException | ExecutionException e) {
-                log.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
+            if (condition instanceof MessageCondition) {
+                conditionSatisfied = ((MessageCondition) condition).waitForMessage(context, intervalMs);
+            } else {
+                Future<Boolean> future = executor.submit(callable);
+                try {
+                    conditionSatisfied = future.get(intervalMs, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException | TimeoutException | ExecutionException e) {
+                    log.warn(String.format("Condition check interrupted with '%s'", e.getClass().getSimpleName()));
+                } finally {
+                    future.cancel(true);
+                }
             }
-            executor.shutdown();
 
             if (Boolean.TRUE.equals(conditionSatisfied)) {
                 log.info(condition.getSuccessMessage(context));
@@ -210,4 +227,19 @@ public class Wait extends AbstractActionContainer {
         return action;
     }
 
+    /**
+     * Gets the executor service.
+     * @return
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Sets the executor service running the condition checks. Executor service is not shut down by this container.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
 }
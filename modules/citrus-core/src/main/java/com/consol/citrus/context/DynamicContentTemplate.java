@@ -0,0 +1,310 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.exceptions.NoSuchVariableException;
+import com.consol.citrus.functions.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiled representation of a string with dynamic content such as variable place holders and function expressions.
+ * Source string is tokenized only once and compiled templates are cached by source string, so repeated resolution of the same
+ * string (e.g. message templates in iterating containers) does not parse the string again.
+ *
+ * Resolution keeps the semantics of variable and function replacement: variable place holders are replaced first and function
+ * expressions are evaluated afterwards on the resulting string. Templates without any variable place holders also cache the
+ * position of function expressions.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class DynamicContentTemplate {
+
+    /** Maximum number of cached templates, cache is cleared when limit is reached */
+    private static final int CACHE_SIZE = 1000;
+
+    /** Source strings exceeding this length are compiled but not cached */
+    private static final int MAX_CACHED_LENGTH = 4096;
+
+    /** Compiled templates by source string */
+    private static final Map<String, DynamicContentTemplate> CACHE = new ConcurrentHashMap<>();
+
+    /** Original source string */
+    private final String source;
+
+    /** Literal text segments, size is always number of variables plus one */
+    private final String[] literals;
+
+    /** Variable names between literal segments */
+    private final String[] variables;
+
+    /** Cached function tokens for templates without variables */
+    private volatile FunctionTokens functionTokens;
+
+    /**
+     * Private constructor using tokenized source.
+     * @param source
+     * @param literals
+     * @param variables
+     */
+    private DynamicContentTemplate(String source, String[] literals, String[] variables) {
+        this.source = source;
+        this.literals = literals;
+        this.variables = variables;
+    }
+
+    /**
+     * Gets compiled template for given source string. Uses cached template if present.
+     * @param source
+     * @return
+     */
+    public static DynamicContentTemplate compile(String source) {
+        if (source.length() > MAX_CACHED_LENGTH) {
+            return tokenize(source);
+        }
+
+        DynamicContentTemplate template = CACHE.get(source);
+        if (template == null) {
+            template = tokenize(source);
+
+            if (CACHE.size() >= CACHE_SIZE) {
+                CACHE.clear();
+            }
+            CACHE.put(source, template);
+        }
+
+        return template;
+    }
+
+    /**
+     * Resolves variable place holders and function expressions in this template.
+     * @param context
+     * @param enableQuoting adds single quotes around variable values and function results.
+     * @return
+     */
+    public String resolve(TestContext context, boolean enableQuoting) {
+        if (variables.length > 0) {
+            return FunctionUtils.replaceFunctionsInString(resolveVariables(context, enableQuoting), context, enableQuoting);
+        }
+
+        if (!FunctionUtils.hasFunctionCandidate(source)) {
+            return source;
+        }
+
+        return getFunctionTokens(context.getFunctionRegistry()).resolve(context, enableQuoting);
+    }
+
+    /**
+     * Resolves variable place holders in this template.
+     * @param context
+     * @param enableQuoting adds single quotes around variable values.
+     * @return
+     */
+    public String resolveVariables(TestContext context, boolean enableQuoting) {
+        if (variables.length == 0) {
+            return source;
+        }
+
+        StringBuilder result = new StringBuilder(source.length() + 16 * variables.length);
+        for (int i = 0; i < variables.length; i++) {
+            result.append(literals[i]);
+
+            String value = context.getVariable(variables[i]);
+            if (value == null) {
+                throw new NoSuchVariableException("Variable: " + variables[i] + " could not be found");
+            }
+
+            if (enableQuoting) {
+                result.append('\'').append(value).append('\'');
+            } else {
+                result.append(value);
+            }
+        }
+
+        return result.append(literals[variables.length]).toString();
+    }
+
+    /**
+     * Gets the function tokens for given function registry. Tokenizes the source on first access.
+     * @param functionRegistry
+     * @return
+     */
+    private FunctionTokens getFunctionTokens(FunctionRegistry functionRegistry) {
+        FunctionTokens tokens = functionTokens;
+        if (tokens == null || tokens.functionRegistry != functionRegistry
+                || tokens.functionLibraries != functionRegistry.getFunctionLibraries()) {
+            tokens = new FunctionTokens(source, functionRegistry);
+            functionTokens = tokens;
+        }
+
+        return tokens;
+    }
+
+    /**
+     * Tokenizes source string into literal segments and variable names.
+     * @param source
+     * @return
+     */
+    private static DynamicContentTemplate tokenize(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = source.indexOf(Citrus.VARIABLE_PREFIX, startIndex)) != -1) {
+            int control = 0;
+            boolean isVarComplete = false;
+            int curIndex = searchIndex + Citrus.VARIABLE_PREFIX.length();
+            StringBuilder variableName = new StringBuilder();
+
+            while (curIndex < source.length() && !isVarComplete) {
+                if (source.startsWith(Citrus.VARIABLE_PREFIX, curIndex)) {
+                    control++;
+                }
+
+                char current = source.charAt(curIndex);
+                if ((!Character.isJavaIdentifierPart(current) && (current == Citrus.VARIABLE_SUFFIX.charAt(0))) || (curIndex + 1 == source.length())) {
+                    if (control == 0) {
+                        isVarComplete = true;
+                    } else {
+                        control--;
+                    }
+                }
+
+                if (!isVarComplete) {
+                    variableName.append(current);
+                }
+                ++curIndex;
+            }
+
+            literals.add(source.substring(startIndex, searchIndex));
+            variables.add(variableName.toString());
+            startIndex = curIndex;
+        }
+
+        literals.add(source.substring(startIndex));
+
+        return new DynamicContentTemplate(source, literals.toArray(new String[literals.size()]), variables.toArray(new String[variables.size()]));
+    }
+
+    /**
+     * Gets the source string.
+     * @return
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * Checks whether this template holds variable place holders.
+     * @return
+     */
+    public boolean hasVariables() {
+        return variables.length > 0;
+    }
+
+    /**
+     * Positions of function expressions of the first function library used in source string. Function libraries are
+     * processed in registry order, so remaining libraries get applied to the result string afterwards.
+     */
+    private static final class FunctionTokens {
+        /** Function registry these tokens have been created for */
+        private final FunctionRegistry functionRegistry;
+
+        /** Function libraries of the registry at creation time */
+        private final List<FunctionLibrary> functionLibraries;
+
+        /** Literal text segments, size is always number of functions plus one */
+        private final String[] literals;
+
+        /** Function expressions between literal segments */
+        private final String[] functions;
+
+        /** Function libraries that have to be applied to the result */
+        private final List<FunctionLibrary> remainingLibraries;
+
+        FunctionTokens(String source, FunctionRegistry functionRegistry) {
+            this.functionRegistry = functionRegistry;
+            this.functionLibraries = functionRegistry.getFunctionLibraries();
+
+            List<FunctionLibrary> libraries = functionLibraries;
+            int libraryIndex = 0;
+            while (libraryIndex < libraries.size() && !source.contains(libraries.get(libraryIndex).getPrefix())) {
+                libraryIndex++;
+            }
+
+            List<String> literals = new ArrayList<>();
+            List<String> functions = new ArrayList<>();
+            if (libraryIndex < libraries.size()) {
+                String prefix = libraries.get(libraryIndex).getPrefix();
+
+                int startIndex = 0;
+                int searchIndex;
+                while ((searchIndex = source.indexOf(prefix, startIndex)) != -1) {
+                    int endIndex = FunctionUtils.findFunctionEnd(source, searchIndex);
+                    literals.add(source.substring(startIndex, searchIndex));
+                    functions.add(source.substring(searchIndex, endIndex));
+                    startIndex = endIndex;
+                }
+
+                literals.add(source.substring(startIndex));
+                remainingLibraries = libraries.subList(libraryIndex + 1, libraries.size());
+            } else {
+                literals.add(source);
+                remainingLibraries = Collections.emptyList();
+            }
+
+            this.literals = literals.toArray(new String[literals.size()]);
+            this.functions = functions.toArray(new String[functions.size()]);
+        }
+
+        /**
+         * Resolves function expressions.
+         * @param context
+         * @param enableQuoting
+         * @return
+         */
+        String resolve(TestContext context, boolean enableQuoting) {
+            String result;
+            if (functions.length == 0) {
+                result = literals[0];
+            } else {
+                StringBuilder builder = new StringBuilder();
+                for (int i = 0; i < functions.length; i++) {
+                    builder.append(literals[i]);
+
+                    String value = FunctionUtils.resolveFunction(functions[i], context);
+                    if (enableQuoting) {
+                        builder.append('\'').append(value).append('\'');
+                    } else {
+                        builder.append(value);
+                    }
+                }
+                result = builder.append(literals[functions.length]).toString();
+            }
+
+            for (FunctionLibrary library : remainingLibraries) {
+                result = FunctionUtils.replaceFunctionsInString(result, library, context, enableQuoting);
+            }
+
+            return result;
+        }
+    }
+}
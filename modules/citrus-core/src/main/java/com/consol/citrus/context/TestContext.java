@@ -24,6 +24,7 @@ import com.consol.citrus.exceptions.VariableNullValueException;
 import com.consol.citrus.functions.FunctionRegistry;
 import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.message.*;
+import com.consol.citrus.messaging.SendPipeline;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.util.TypeConversionUtils;
@@ -100,6 +101,12 @@ public class TestContext {
     /** List of exceptions that actions raised during execution of forked operations */
     private List<CitrusRuntimeException> exceptions = new ArrayList<>();
 
+    /** Timing information of the current test */
+    private TestMetrics metrics = new TestMetrics();
+
+    /** Pipelined send operations of the current test that have not been awaited yet */
+    private SendPipeline sendPipeline = new SendPipeline();
+
     /**
      * Default constructor
      */
@@ -342,8 +349,7 @@ public class TestContext {
         String result = null;
 
         if (str != null) {
-            result = VariableUtils.replaceVariablesInString(str, this, enableQuoting);
-            result = FunctionUtils.replaceFunctionsInString(result, this, enableQuoting);
+            result = DynamicContentTemplate.compile(str).resolve(this, enableQuoting);
         }
 
         return result;
@@ -603,6 +609,38 @@ public class TestContext {
         this.applicationContext = applicationContext;
     }
 
+    /**
+     * Gets the timing information of the current test.
+     * @return
+     */
+    public TestMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the timing information of the current test.
+     * @param metrics
+     */
+    public void setMetrics(TestMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Gets the pipelined send operations of the current test.
+     * @return
+     */
+    public SendPipeline getSendPipeline() {
+        return sendPipeline;
+    }
+
+    /**
+     * Sets the pipelined send operations of the current test.
+     * @param sendPipeline
+     */
+    public void setSendPipeline(SendPipeline sendPipeline) {
+        this.sendPipeline = sendPipeline;
+    }
+
     /**
      * Informs message listeners if present that inbound message was received.
      * @param receivedMessage
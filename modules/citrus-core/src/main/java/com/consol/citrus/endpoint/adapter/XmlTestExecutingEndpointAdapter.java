@@ -29,20 +29,29 @@ import com.consol.citrus.server.AbstractServer;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.*;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Special request dispatching endpoint adapter invokes XML test case for each incoming message. Incoming message is
  * passed to test case via normal message channel connection as usual.
  *
+ * Optionally the Spring application context of each test case is created only once and cached for subsequent requests. Each request
+ * then gets a new prototype test case instance from the cached context, so Xml test definitions are not parsed again for
+ * each incoming message. Test executions can be limited to a bounded pool of threads by setting maximum concurrent tests.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, BeanNameAware, ApplicationContextAware {
+public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointAdapter implements InitializingBean, DisposableBean, BeanNameAware, ApplicationContextAware {
     /** Executor start action sequence logic in separate thread task */
     private TaskExecutor taskExecutor = new SimpleAsyncTaskExecutor();
 
@@ -61,6 +70,18 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
     /** Default package to search for Xml test case files */
     private String packageName = "com.consol.citrus.tests";
 
+    /** Should reuse test case application contexts for subsequent requests */
+    private boolean cacheTestContexts = false;
+
+    /** Maximum number of concurrently executed tests, unbounded when not greater than zero */
+    private int maxConcurrentTests = 0;
+
+    /** Thread pool created by this adapter for bounded test execution */
+    private ThreadPoolTaskExecutor testExecutorPool;
+
+    /** Cached test case application contexts by package and test name */
+    private final Map<String, ClassPathXmlApplicationContext> testContexts = new ConcurrentHashMap<>();
+
     @Override
     public Message dispatchMessage(final Message request, String mappingName) {
         final TestCase test;
@@ -91,7 +112,12 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      * @return the new test case.
      */
     protected TestCase getTestCase(TestContext context, String testName) {
-        ClassPathXmlApplicationContext ctx = createApplicationContext(context, packageName, testName);
+        ClassPathXmlApplicationContext ctx;
+        if (cacheTestContexts) {
+            ctx = testContexts.computeIfAbsent(packageName + "." + testName, key -> createCachedApplicationContext(context, packageName, testName));
+        } else {
+            ctx = createApplicationContext(context, packageName, testName);
+        }
 
         try {
             TestCase testCase = ctx.getBean(testName, TestCase.class);
@@ -109,16 +135,46 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
      */
     protected ClassPathXmlApplicationContext createApplicationContext(TestContext context, String packageName, String testName) {
         try {
-            return new ClassPathXmlApplicationContext(
-                    new String[] {
-                            packageName.replace('.', '/') + "/" + testName + ".xml",
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
-                    true, applicationContext);
+            return new ClassPathXmlApplicationContext(getConfigLocations(packageName, testName), true, applicationContext);
         } catch (Exception e) {
             throw context.handleError(getClass().getSimpleName(), getClass().getPackage().getName(), "Failed to load test case", e);
         }
     }
 
+    /**
+     * Creates the Spring application context for caching. Test case bean definition is switched to prototype scope so
+     * each request gets a new test case instance with new test actions from the cached context.
+     * @return
+     */
+    protected ClassPathXmlApplicationContext createCachedApplicationContext(TestContext context, String packageName, String testName) {
+        try {
+            ClassPathXmlApplicationContext ctx = new ClassPathXmlApplicationContext(getConfigLocations(packageName, testName), false, applicationContext);
+
+            ctx.addBeanFactoryPostProcessor(beanFactory -> {
+                if (beanFactory.containsBeanDefinition(testName)) {
+                    beanFactory.getBeanDefinition(testName).setScope(BeanDefinition.SCOPE_PROTOTYPE);
+                }
+            });
+            ctx.refresh();
+
+            return ctx;
+        } catch (Exception e) {
+            throw context.handleError(getClass().getSimpleName(), getClass().getPackage().getName(), "Failed to load test case", e);
+        }
+    }
+
+    /**
+     * Gets the Spring configuration locations of the test case application context.
+     * @param packageName
+     * @param testName
+     * @return
+     */
+    private String[] getConfigLocations(String packageName, String testName) {
+        return new String[] {
+                packageName.replace('.', '/') + "/" + testName + ".xml",
+                "com/consol/citrus/spring/annotation-config-ctx.xml"};
+    }
+
     /**
      * Prepares the test builder instance before execution. Subclasses may add custom properties to teest builder
      * here.
@@ -148,6 +204,27 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
             mappingStrategy.setApplicationContext(applicationContext);
             setMappingStrategy(mappingStrategy);
         }
+
+        if (maxConcurrentTests > 0 && taskExecutor instanceof SimpleAsyncTaskExecutor) {
+            ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+            threadPoolTaskExecutor.setCorePoolSize(maxConcurrentTests);
+            threadPoolTaskExecutor.setMaxPoolSize(maxConcurrentTests);
+            threadPoolTaskExecutor.setThreadNamePrefix(name + "-");
+            threadPoolTaskExecutor.setDaemon(true);
+            threadPoolTaskExecutor.initialize();
+            taskExecutor = threadPoolTaskExecutor;
+            testExecutorPool = threadPoolTaskExecutor;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        testContexts.values().forEach(ClassPathXmlApplicationContext::close);
+        testContexts.clear();
+
+        if (testExecutorPool != null) {
+            testExecutorPool.shutdown();
+        }
     }
 
     /**
@@ -174,6 +251,39 @@ public class XmlTestExecutingEndpointAdapter extends RequestDispatchingEndpointA
         this.packageName = packageName;
     }
 
+    /**
+     * Gets the cache test contexts property.
+     * @return
+     */
+    public boolean isCacheTestContexts() {
+        return cacheTestContexts;
+    }
+
+    /**
+     * Enables/disables caching of test case application contexts.
+     * @param cacheTestContexts
+     */
+    public void setCacheTestContexts(boolean cacheTestContexts) {
+        this.cacheTestContexts = cacheTestContexts;
+    }
+
+    /**
+     * Gets the maximum number of concurrently executed tests.
+     * @return
+     */
+    public int getMaxConcurrentTests() {
+        return maxConcurrentTests;
+    }
+
+    /**
+     * Sets the maximum number of concurrently executed tests. When set the default task executor is replaced
+     * by a thread pool of this size.
+     * @param maxConcurrentTests
+     */
+    public void setMaxConcurrentTests(int maxConcurrentTests) {
+        this.maxConcurrentTests = maxConcurrentTests;
+    }
+
     /**
      * Gets the task executor.
      * @return
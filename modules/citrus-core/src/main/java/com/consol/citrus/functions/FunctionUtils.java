@@ -50,72 +50,95 @@ public final class FunctionUtils {
      */
     public static String replaceFunctionsInString(final String stringValue, TestContext context, boolean enableQuoting) {
         // make sure given string expression meets requirements for having a function
-        if (!StringUtils.hasText(stringValue) ||
-                (stringValue.indexOf(':') < 0) || (stringValue.indexOf('(') < 0) || (stringValue.indexOf(')') < 0) ) {
-
+        if (!hasFunctionCandidate(stringValue)) {
             // it is not a function, as it is defined as 'prefix:methodName(arguments)'
             return stringValue;
         }
         
         String newString = stringValue;
-        StringBuffer strBuffer = new StringBuffer();
+        for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
+            newString = replaceFunctionsInString(newString, library, context, enableQuoting);
+        }
 
-        boolean isVarComplete = false;
-        StringBuffer variableNameBuf = new StringBuffer();
+        return newString;
+    }
 
-        int startIndex = 0;
-        int curIndex;
-        int searchIndex;
+    /**
+     * Search for functions of given library in string and replace with respective function result.
+     * @param stringValue to parse.
+     * @param library the function library.
+     * @param enableQuoting enables quoting of function results.
+     * @return parsed string result.
+     */
+    public static String replaceFunctionsInString(final String stringValue, FunctionLibrary library, TestContext context, boolean enableQuoting) {
+        int searchIndex = stringValue.indexOf(library.getPrefix());
+        if (searchIndex < 0) {
+            return stringValue;
+        }
 
-        for (FunctionLibrary library: context.getFunctionRegistry().getFunctionLibraries()) {
-            startIndex = 0;
+        StringBuilder strBuffer = new StringBuilder(stringValue.length());
+        int startIndex = 0;
 
-            while ((searchIndex = newString.indexOf(library.getPrefix(), startIndex)) != -1) {
-                int control = -1;
-                isVarComplete = false;
+        do {
+            int curIndex = findFunctionEnd(stringValue, searchIndex);
+            final String value = resolveFunction(stringValue.substring(searchIndex, curIndex), context);
 
-                curIndex = searchIndex;
+            strBuffer.append(stringValue, startIndex, searchIndex);
 
-                while (curIndex < newString.length() && !isVarComplete) {
-                    if (newString.indexOf('(', curIndex) == curIndex) {
-                        control++;
-                    }
+            if (enableQuoting) {
+                strBuffer.append('\'').append(value).append('\'');
+            } else {
+                strBuffer.append(value);
+            }
 
-                    if (newString.charAt(curIndex) == ')' || curIndex == newString.length() - 1) {
-                        if (control == 0) {
-                            isVarComplete = true;
-                        } else {
-                            control--;
-                        }
-                    }
+            startIndex = curIndex;
+        } while ((searchIndex = stringValue.indexOf(library.getPrefix(), startIndex)) != -1);
 
-                    variableNameBuf.append(newString.charAt(curIndex));
-                    curIndex++;
-                }
+        strBuffer.append(stringValue, startIndex, stringValue.length());
+        return strBuffer.toString();
+    }
 
-                final String value = resolveFunction(variableNameBuf.toString(), context);
+    /**
+     * Checks whether given string is a candidate for having function expressions. Functions
+     * are defined as 'prefix:methodName(arguments)'.
+     * @param stringValue
+     * @return
+     */
+    public static boolean hasFunctionCandidate(String stringValue) {
+        return StringUtils.hasText(stringValue) &&
+                (stringValue.indexOf(':') >= 0) && (stringValue.indexOf('(') >= 0) && (stringValue.indexOf(')') >= 0);
+    }
 
-                strBuffer.append(newString.substring(startIndex, searchIndex));
+    /**
+     * Finds the end index of a function expression starting at given index. The end index is the position after the
+     * closing parenthesis that matches the first opening parenthesis or the end of the string.
+     * @param stringValue
+     * @param startIndex
+     * @return
+     */
+    public static int findFunctionEnd(String stringValue, int startIndex) {
+        int control = -1;
+        boolean isComplete = false;
+        int curIndex = startIndex;
+
+        while (curIndex < stringValue.length() && !isComplete) {
+            char current = stringValue.charAt(curIndex);
+            if (current == '(') {
+                control++;
+            }
 
-                if (enableQuoting) {
-                    strBuffer.append("'" + value + "'");
+            if (current == ')' || curIndex == stringValue.length() - 1) {
+                if (control == 0) {
+                    isComplete = true;
                 } else {
-                    strBuffer.append(value);
+                    control--;
                 }
-
-                startIndex = curIndex;
-
-                variableNameBuf = new StringBuffer();
-                isVarComplete = false;
             }
 
-            strBuffer.append(newString.substring(startIndex));
-            newString = strBuffer.toString();
-
-            strBuffer = new StringBuffer();
+            curIndex++;
         }
 
-        return newString;
+        return curIndex;
     }
 
     /**
@@ -42,6 +42,9 @@ public class JsonSchemaRepository  implements BeanNameAware, InitializingBean {
     /** List of location patterns that will be translated to schema resources */
     private List<String> locations = new ArrayList<>();
 
+    /** JsonPath expression selecting the schema identifier in Json messages */
+    private String discriminator;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JsonSchemaRepository.class);
 
@@ -103,6 +106,23 @@ public class JsonSchemaRepository  implements BeanNameAware, InitializingBean {
         JsonSchemaRepository.log = log;
     }
 
+    /**
+     * Gets the JsonPath expression that selects the schema identifier in Json messages.
+     * @return
+     */
+    public String getDiscriminator() {
+        return discriminator;
+    }
+
+    /**
+     * Sets the JsonPath expression that selects the schema identifier in Json messages. Schema validation uses the identifier
+     * to pick the matching schemas instead of validating messages against all schemas of the repository.
+     * @param discriminator
+     */
+    public void setDiscriminator(String discriminator) {
+        this.discriminator = discriminator;
+    }
+
     public List<String> getLocations() {
         return locations;
     }
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.json.schema;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.main.JsonSchema;
 import com.github.fge.jsonschema.main.JsonSchemaFactory;
@@ -40,6 +41,9 @@ public class SimpleJsonSchema implements InitializingBean {
     /** The parsed json schema ready for validation */
     private JsonSchema schema;
 
+    /** Schema identifier given by $id or id property in schema */
+    private String id;
+
     public SimpleJsonSchema(Resource resource) {
         json = resource;
     }
@@ -50,7 +54,14 @@ public class SimpleJsonSchema implements InitializingBean {
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        schema = jsonSchemaFactory.getJsonSchema(JsonLoader.fromFile(json.getFile()));
+        JsonNode schemaJson = JsonLoader.fromFile(json.getFile());
+        schema = jsonSchemaFactory.getJsonSchema(schemaJson);
+
+        if (schemaJson.hasNonNull("$id")) {
+            id = schemaJson.get("$id").asText();
+        } else if (schemaJson.path("id").isTextual()) {
+            id = schemaJson.get("id").asText();
+        }
     }
 
     public Resource getJson() {
@@ -61,6 +72,18 @@ public class SimpleJsonSchema implements InitializingBean {
         this.json = json;
     }
 
+    /**
+     * Gets the schema identifier given by $id or id property in schema. Returns null if schema does not declare an identifier.
+     * @return
+     */
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
     public JsonSchema getSchema() {
         return schema;
     }
@@ -35,6 +35,34 @@ public class DefaultMessageStore extends ConcurrentHashMap<String, Message> impl
     @Override
     public void storeMessage(String id, Message message) {
         super.put(id, message);
+
+        synchronized (this) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Waits for message with given id to be stored. Returns immediately in case message is already present. Otherwise
+     * blocks until the message is stored or the timeout is exceeded.
+     * @param id
+     * @param timeout
+     * @return the message or null if timeout has been exceeded
+     * @throws InterruptedException
+     */
+    public Message waitForMessage(String id, long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+
+        synchronized (this) {
+            Message message = super.get(id);
+            long timeLeft = timeout;
+            while (message == null && timeLeft > 0) {
+                wait(timeLeft);
+                message = super.get(id);
+                timeLeft = deadline - System.currentTimeMillis();
+            }
+
+            return message;
+        }
     }
 
     @Override
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.util.XMLUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.w3c.dom.Document;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache holds parsed representations of message payloads so validators, variable extractors and other components
+ * working on the same received message share a single parse operation. Parsed representations are attached to the message
+ * instance and are discarded as soon as the message payload is changed or the message is garbage collected.
+ *
+ * Cached representations are shared among all clients. Clients that modify the parsed representation (e.g. removing
+ * whitespace nodes in a DOM tree) must work on a copy.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class MessagePayloadCache {
+
+    /** Parsed payload representations by message instance */
+    private static final Map<Message, CacheEntry> CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /** Object mapper reading Json trees */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /**
+     * Private constructor prevents instantiation.
+     */
+    private MessagePayloadCache() {
+    }
+
+    /**
+     * Gets the DOM document representation of the message payload. Parses the payload only on first access.
+     * @param message
+     * @return
+     */
+    public static Document getXmlDocument(Message message) {
+        CacheEntry entry = getCacheEntry(message);
+        Document document = (Document) entry.parsed.get(Document.class);
+
+        if (document == null) {
+            document = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            entry.parsed.put(Document.class, document);
+        }
+
+        return document;
+    }
+
+    /**
+     * Gets the Json object representation of the message payload parsed in simple Json mode. Parses the
+     * payload only on first access.
+     * @param message
+     * @return
+     * @throws ParseException
+     */
+    public static Object getJson(Message message) throws ParseException {
+        CacheEntry entry = getCacheEntry(message);
+        Object json = entry.parsed.get(JSONParser.class);
+
+        if (json == null) {
+            json = new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(message.getPayload(String.class));
+            entry.parsed.put(JSONParser.class, json);
+        }
+
+        return json;
+    }
+
+    /**
+     * Gets the Jackson Json tree representation of the message payload. Parses the payload only on first access.
+     * @param message
+     * @return
+     * @throws IOException
+     */
+    public static JsonNode getJsonNode(Message message) throws IOException {
+        CacheEntry entry = getCacheEntry(message);
+        JsonNode jsonNode = (JsonNode) entry.parsed.get(JsonNode.class);
+
+        if (jsonNode == null) {
+            jsonNode = OBJECT_MAPPER.readTree(message.getPayload(String.class));
+            entry.parsed.put(JsonNode.class, jsonNode);
+        }
+
+        return jsonNode;
+    }
+
+    /**
+     * Gets the JsonPath read context for the message payload. Parses the payload only on first access.
+     * @param message
+     * @return
+     * @throws ParseException
+     */
+    public static ReadContext getJsonReadContext(Message message) throws ParseException {
+        CacheEntry entry = getCacheEntry(message);
+        ReadContext readContext = (ReadContext) entry.parsed.get(ReadContext.class);
+
+        if (readContext == null) {
+            readContext = JsonPath.parse(getJson(message));
+            entry.parsed.put(ReadContext.class, readContext);
+        }
+
+        return readContext;
+    }
+
+    /**
+     * Removes all parsed representations of given message.
+     * @param message
+     */
+    public static void evict(Message message) {
+        CACHE.remove(message);
+    }
+
+    /**
+     * Gets cache entry for given message. Creates new entry if message was not cached yet or
+     * message payload has changed since last access.
+     * @param message
+     * @return
+     */
+    private static CacheEntry getCacheEntry(Message message) {
+        Object payload = message.getPayload();
+
+        synchronized (CACHE) {
+            CacheEntry entry = CACHE.get(message);
+            if (entry == null || entry.payload != payload) {
+                entry = new CacheEntry(payload);
+                CACHE.put(message, entry);
+            }
+
+            return entry;
+        }
+    }
+
+    /**
+     * Parsed representations of a message payload object.
+     */
+    private static class CacheEntry {
+        /** Payload object that has been parsed */
+        private final Object payload;
+
+        /** Parsed representations by type */
+        private final Map<Class<?>, Object> parsed = new ConcurrentHashMap<>();
+
+        CacheEntry(Object payload) {
+            this.payload = payload;
+        }
+    }
+}
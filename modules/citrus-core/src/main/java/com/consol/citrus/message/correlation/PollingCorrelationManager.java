@@ -22,11 +22,18 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Extension of default correlation manager adds polling mechanism for find operation on object store.
  * In case object is not found in store retry is automatically performed. Polling interval and overall retry timeout
  * is usually defined in endpoint configuration.
  *
+ * Waiting clients are signalled as soon as an object is stored with their correlation key so they do not have to
+ * wait for the next polling interval. The polling interval is only used as upper bound for a single wait in order
+ * to also support custom object stores that get populated outside of this correlation manager.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
@@ -36,6 +43,9 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
 
     private final PollableEndpointConfiguration endpointConfiguration;
 
+    /** Monitors of clients currently waiting for a correlation key */
+    private final Map<String, Object> waiting = new ConcurrentHashMap<>();
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(PollingCorrelationManager.class);
 
@@ -61,6 +71,12 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return find(correlationKey, endpointConfiguration.getTimeout());
     }
 
+    @Override
+    public void saveCorrelationKey(String correlationKeyName, String correlationKey, TestContext context) {
+        super.saveCorrelationKey(correlationKeyName, correlationKey, context);
+        signal(correlationKeyName);
+    }
+
     @Override
     public String getCorrelationKey(String correlationKeyName, TestContext context) {
         if (log.isDebugEnabled()) {
@@ -72,24 +88,32 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
             correlationKey = context.getVariable(correlationKeyName);
         }
 
-        long timeLeft = 1000L;
+        long deadline = System.currentTimeMillis() + 1000L;
         long pollingInterval = 300L;
+        long timeLeft = deadline - System.currentTimeMillis();
         while (correlationKey == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-
             if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug("Correlation key not available yet - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
+                RETRY_LOG.debug("Correlation key not available yet - retrying in " + Math.min(pollingInterval, timeLeft) + "ms");
             }
 
+            Object monitor = waiting.computeIfAbsent(correlationKeyName, key -> new Object());
             try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
+                synchronized (monitor) {
+                    if (!context.getVariables().containsKey(correlationKeyName)) {
+                        monitor.wait(Math.min(pollingInterval, timeLeft));
+                    }
+                }
             } catch (InterruptedException e) {
                 RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            } finally {
+                waiting.remove(correlationKeyName, monitor);
             }
 
             if (context.getVariables().containsKey(correlationKeyName)) {
                 correlationKey = context.getVariable(correlationKeyName);
             }
+
+            timeLeft = deadline - System.currentTimeMillis();
         }
 
         if (correlationKey == null) {
@@ -99,32 +123,61 @@ public class PollingCorrelationManager<T> extends DefaultCorrelationManager<T> {
         return correlationKey;
     }
 
+    @Override
+    public void store(String correlationKey, T object) {
+        super.store(correlationKey, object);
+        signal(correlationKey);
+    }
+
     @Override
     public T find(String correlationKey, long timeout) {
-        long timeLeft = timeout;
+        long deadline = System.currentTimeMillis() + timeout;
         long pollingInterval = endpointConfiguration.getPollingInterval();
+        long timeLeft = timeout;
 
-        T stored = super.find(correlationKey, timeLeft);
-
-        while (stored == null && timeLeft > 0) {
-            timeLeft -= pollingInterval;
-
-            if (RETRY_LOG.isDebugEnabled()) {
-                RETRY_LOG.debug(retryLogMessage + " - retrying in " + (timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft) + "ms");
-            }
-
+        T stored = null;
+        boolean waited;
+        do {
+            waited = false;
+            Object monitor = waiting.computeIfAbsent(correlationKey, key -> new Object());
             try {
-                Thread.sleep(timeLeft > 0 ? pollingInterval : pollingInterval + timeLeft);
+                synchronized (monitor) {
+                    stored = super.find(correlationKey, timeLeft);
+
+                    if (stored == null && timeLeft > 0) {
+                        if (RETRY_LOG.isDebugEnabled()) {
+                            RETRY_LOG.debug(retryLogMessage + " - retrying in " + Math.min(pollingInterval, timeLeft) + "ms");
+                        }
+
+                        monitor.wait(Math.min(pollingInterval, timeLeft));
+                        waited = true;
+                    }
+                }
             } catch (InterruptedException e) {
                 RETRY_LOG.warn("Thread interrupted while waiting for retry", e);
+            } finally {
+                waiting.remove(correlationKey, monitor);
             }
 
-            stored = super.find(correlationKey, timeLeft);
-        }
+            timeLeft = deadline - System.currentTimeMillis();
+        } while (stored == null && (timeLeft > 0 || waited));
 
         return stored;
     }
 
+    /**
+     * Wakes up all clients waiting for given correlation key.
+     * @param correlationKey
+     */
+    private void signal(String correlationKey) {
+        Object monitor = waiting.get(correlationKey);
+        if (monitor != null) {
+            synchronized (monitor) {
+                monitor.notifyAll();
+            }
+        }
+    }
+
     /**
      * Gets the retry log message
      * @return
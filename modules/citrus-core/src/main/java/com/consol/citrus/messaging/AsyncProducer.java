@@ -0,0 +1,59 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.messaging;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.Message;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Producer able to send messages without blocking the caller. Send operations complete on transport threads, so
+ * implementations must not access the test context once the message has been dispatched. Instead the returned future
+ * completes with a send result that is applied to the test context on the test thread, e.g. when pipelined messages
+ * are awaited.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public interface AsyncProducer extends Producer {
+
+    /**
+     * Sends the message without blocking the caller. Returned future completes as soon as the message transport
+     * has acknowledged the message or completes exceptionally when sending failed.
+     * @param message the message object to send.
+     * @param context
+     * @return future completing with the send result to apply on the test context.
+     */
+    CompletableFuture<SendResult> sendAsync(Message message, TestContext context);
+
+    /**
+     * Result of asynchronous send operation that is applied to the test context on the test thread.
+     */
+    @FunctionalInterface
+    interface SendResult {
+
+        /** Send result without changes on the test context */
+        SendResult NONE = context -> {};
+
+        /**
+         * Applies this send result to the test context, e.g. notifies message listeners about the outbound message.
+         * @param context
+         */
+        void apply(TestContext context);
+    }
+}
@@ -0,0 +1,347 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.messaging;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Purges all messages from a destination. Destination is asked to purge its messages with native means first (e.g. broker
+ * purge operation). When not supported messages are consumed with one or more concurrent consumers.
+ *
+ * Each consumer receives messages in batches and optionally sleeps between batches. Consumer stops as soon as the
+ * configured number of subsequent receive attempts did not return a message. When destination is able to count its messages
+ * the count is used to confirm that the destination has been drained. When a purge timeout is set purging fails in case the
+ * destination has not been drained in time, e.g. because some producer keeps on sending messages.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class MessagePurger {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(MessagePurger.class);
+
+    /** Time to wait for next message in ms, negative value waits forever */
+    private long receiveTimeout = 100;
+
+    /** Wait some time between message batches in ms */
+    private long sleepTime = 0L;
+
+    /** Number of messages received before consumer sleeps */
+    private int batchSize = 1;
+
+    /** Number of consumers receiving messages concurrently */
+    private int concurrentConsumers = 1;
+
+    /** Number of subsequent receive attempts without message before consumer stops */
+    private int maxEmptyReceives = 1;
+
+    /** Maximum time to drain the destination in ms, negative value disables the limit (default) */
+    private long timeout = -1L;
+
+    /**
+     * Purges all messages from given destination.
+     * @param destination
+     * @return number of purged messages or -1 when destination was purged natively without reporting a count
+     */
+    public int purge(PurgeDestination destination) {
+        try {
+            int purged = destination.purgeNative();
+            if (purged != PurgeDestination.NOT_SUPPORTED) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Purged destination %s with native purge operation", destination.getName()));
+                }
+                return purged;
+            }
+
+            if (destination.getMessageCount() == 0) {
+                if (log.isDebugEnabled()) {
+                    log.debug(String.format("Destination %s is empty - nothing to purge", destination.getName()));
+                }
+                return 0;
+            }
+        } catch (Exception e) {
+            throw new CitrusRuntimeException(String.format("Failed to purge destination %s", destination.getName()), e);
+        }
+
+        AtomicInteger messagesPurged = new AtomicInteger();
+        long deadline = timeout < 0 ? Long.MAX_VALUE : System.currentTimeMillis() + timeout;
+        if (concurrentConsumers <= 1) {
+            consume(destination, messagesPurged, deadline);
+        } else {
+            ExecutorService executor = Executors.newFixedThreadPool(concurrentConsumers);
+            try {
+                List<Future<?>> consumers = new ArrayList<>();
+                for (int i = 0; i < concurrentConsumers; i++) {
+                    consumers.add(executor.submit(() -> consume(destination, messagesPurged, deadline)));
+                }
+
+                for (Future<?> consumer : consumers) {
+                    consumer.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException(String.format("Interrupted while purging destination %s", destination.getName()), e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof CitrusRuntimeException) {
+                    throw (CitrusRuntimeException) e.getCause();
+                }
+                throw new CitrusRuntimeException(String.format("Failed to purge destination %s", destination.getName()), e.getCause());
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Purged %s messages from destination %s", messagesPurged.get(), destination.getName()));
+        }
+
+        return messagesPurged.get();
+    }
+
+    /**
+     * Consumes messages from destination until destination is drained or the deadline is reached.
+     * @param destination
+     * @param messagesPurged
+     * @param deadline
+     */
+    private void consume(PurgeDestination destination, AtomicInteger messagesPurged, long deadline) {
+        PurgeConsumer consumer = null;
+        try {
+            consumer = destination.createConsumer();
+
+            int batch = 0;
+            int emptyReceives = 0;
+            int lastMessageCount = PurgeDestination.NOT_SUPPORTED;
+            while (true) {
+                if (System.currentTimeMillis() > deadline) {
+                    throw new ActionTimeoutException(String.format("Failed to purge destination %s - " +
+                            "destination not drained after %s ms (%s messages purged)", destination.getName(), timeout, messagesPurged.get()));
+                }
+
+                if (consumer.receive(receiveTimeout)) {
+                    messagesPurged.incrementAndGet();
+                    emptyReceives = 0;
+
+                    if (++batch >= batchSize) {
+                        batch = 0;
+                        sleep();
+                    }
+                } else if (++emptyReceives >= maxEmptyReceives) {
+                    int messageCount = destination.getMessageCount();
+                    if (messageCount <= 0 || messageCount == lastMessageCount) {
+                        break;
+                    }
+
+                    if (log.isDebugEnabled()) {
+                        log.debug(String.format("Destination %s still holds %s messages - continue purging", destination.getName(), messageCount));
+                    }
+
+                    lastMessageCount = messageCount;
+                    emptyReceives = 0;
+                }
+            }
+        } catch (CitrusRuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CitrusRuntimeException(String.format("Failed to purge destination %s", destination.getName()), e);
+        } finally {
+            if (consumer != null) {
+                consumer.close();
+            }
+        }
+    }
+
+    /**
+     * Sleep between message batches if configured.
+     */
+    private void sleep() {
+        if (sleepTime > 0) {
+            try {
+                Thread.sleep(sleepTime);
+            } catch (InterruptedException e) {
+                log.warn("Interrupted during wait", e);
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Destination to purge messages from.
+     */
+    public interface PurgeDestination {
+
+        /** Marks native purge or message count as not supported */
+        int NOT_SUPPORTED = -1;
+
+        /**
+         * Gets the destination name used in log messages.
+         * @return
+         */
+        String getName();
+
+        /**
+         * Creates new consumer. Each concurrent consumer is created with this method and only used in one single thread.
+         * @return
+         * @throws Exception
+         */
+        PurgeConsumer createConsumer() throws Exception;
+
+        /**
+         * Purges all messages with native means e.g. broker purge operation.
+         * @return number of purged messages or {@link #NOT_SUPPORTED} when native purge is not available.
+         * @throws Exception
+         */
+        default int purgeNative() throws Exception {
+            return NOT_SUPPORTED;
+        }
+
+        /**
+         * Counts messages left on the destination.
+         * @return number of messages or {@link #NOT_SUPPORTED} when destination is not able to count messages.
+         * @throws Exception
+         */
+        default int getMessageCount() throws Exception {
+            return NOT_SUPPORTED;
+        }
+    }
+
+    /**
+     * Consumer removing messages from a destination.
+     */
+    @FunctionalInterface
+    public interface PurgeConsumer {
+
+        /**
+         * Receives and removes next message from destination.
+         * @param timeout time to wait for next message in ms, negative value waits forever
+         * @return true if message has been received, false if no message was available within timeout
+         * @throws Exception
+         */
+        boolean receive(long timeout) throws Exception;
+
+        /**
+         * Close consumer and release resources.
+         */
+        default void close() {
+        }
+    }
+
+    /**
+     * Gets the receiveTimeout.
+     * @return
+     */
+    public long getReceiveTimeout() {
+        return receiveTimeout;
+    }
+
+    /**
+     * Sets the receiveTimeout.
+     * @param receiveTimeout
+     */
+    public void setReceiveTimeout(long receiveTimeout) {
+        this.receiveTimeout = receiveTimeout;
+    }
+
+    /**
+     * Gets the sleepTime.
+     * @return
+     */
+    public long getSleepTime() {
+        return sleepTime;
+    }
+
+    /**
+     * Sets the sleepTime.
+     * @param sleepTime
+     */
+    public void setSleepTime(long sleepTime) {
+        this.sleepTime = sleepTime;
+    }
+
+    /**
+     * Gets the batchSize.
+     * @return
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets the batchSize.
+     * @param batchSize
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the concurrentConsumers.
+     * @return
+     */
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    /**
+     * Sets the concurrentConsumers.
+     * @param concurrentConsumers
+     */
+    public void setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+    }
+
+    /**
+     * Gets the maxEmptyReceives.
+     * @return
+     */
+    public int getMaxEmptyReceives() {
+        return maxEmptyReceives;
+    }
+
+    /**
+     * Sets the maxEmptyReceives.
+     * @param maxEmptyReceives
+     */
+    public void setMaxEmptyReceives(int maxEmptyReceives) {
+        this.maxEmptyReceives = maxEmptyReceives;
+    }
+
+    /**
+     * Gets the timeout.
+     * @return
+     */
+    public long getTimeout() {
+        return timeout;
+    }
+
+    /**
+     * Sets the timeout.
+     * @param timeout
+     */
+    public void setTimeout(long timeout) {
+        this.timeout = timeout;
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.messaging;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+
+/**
+ * Keeps track of pipelined send operations that have been dispatched with a non-blocking producer and have not
+ * completed yet. Send actions wait for free capacity before dispatching the next message so the number of messages in
+ * flight is limited to a window. A barrier waits for all pending send operations and reports the failures.
+ *
+ * Send operations complete on transport threads which only mark the operation as completed. Send results, send durations
+ * and failures are applied to the test context on the test thread when completed operations are collected.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SendPipeline {
+
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(SendPipeline.class);
+
+    /** Send operations that have not been applied to the test context yet */
+    private final List<CompletableFuture<CompletedSend>> pending = new ArrayList<>();
+
+    /** Failures of completed send operations that have not been reported yet */
+    private final List<CitrusRuntimeException> failures = new ArrayList<>();
+
+    /** Number of send operations that have not completed yet */
+    private int inFlight = 0;
+
+    /**
+     * Blocks until the number of messages in flight is below given window.
+     * @param maxInFlight maximum number of messages in flight, zero or negative value disables the window
+     * @param timeout time to wait for free capacity in ms
+     */
+    public synchronized void awaitCapacity(int maxInFlight, long timeout) {
+        if (maxInFlight <= 0) {
+            return;
+        }
+
+        long deadline = System.currentTimeMillis() + timeout;
+        while (inFlight >= maxInFlight) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new ActionTimeoutException(String.format("Failed to dispatch pipelined message - " +
+                        "%s messages still in flight after %s ms", inFlight, timeout));
+            }
+
+            try {
+                wait(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CitrusRuntimeException("Interrupted while waiting for pipelined messages in flight", e);
+            }
+        }
+    }
+
+    /**
+     * Adds send operation to this pipeline. The send result is applied to the test context when completed send
+     * operations are collected on the test thread.
+     * @param name the send operation name used in error messages
+     * @param start the time in nanoseconds the send operation has been started
+     * @param send the send operation
+     * @return future completing after the operation has been marked as completed
+     */
+    public CompletableFuture<?> register(String name, long start, CompletableFuture<? extends AsyncProducer.SendResult> send) {
+        synchronized (this) {
+            inFlight++;
+        }
+
+        CompletableFuture<CompletedSend> result = send.handle((value, error) -> {
+            CompletedSend completed;
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                if (cause instanceof CitrusRuntimeException) {
+                    completed = new CompletedSend(null, (CitrusRuntimeException) cause, System.nanoTime() - start);
+                } else {
+                    completed = new CompletedSend(null, new CitrusRuntimeException(String.format("Failed to send pipelined message '%s'", name), cause), System.nanoTime() - start);
+                }
+            } else {
+                completed = new CompletedSend(value, null, System.nanoTime() - start);
+            }
+
+            synchronized (this) {
+                inFlight--;
+                notifyAll();
+            }
+
+            return completed;
+        });
+
+        synchronized (this) {
+            pending.add(result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies completed send operations to the test context. Records the send durations in the test metrics and applies
+     * the send results. Failures are kept until they get reported. Must be called on the test thread.
+     * @param context
+     */
+    public void applyCompleted(TestContext context) {
+        List<CompletedSend> completed = new ArrayList<>();
+        synchronized (this) {
+            Iterator<CompletableFuture<CompletedSend>> it = pending.iterator();
+            while (it.hasNext()) {
+                CompletableFuture<CompletedSend> send = it.next();
+                if (send.isDone()) {
+                    completed.add(send.join());
+                    it.remove();
+                }
+            }
+        }
+
+        for (CompletedSend send : completed) {
+            context.getMetrics().recordSend(send.duration);
+
+            if (send.failure != null) {
+                failures.add(send.failure);
+            } else if (send.result != null) {
+                send.result.apply(context);
+            }
+        }
+    }
+
+    /**
+     * Applies completed send operations to the test context and removes all failures that have not been reported yet.
+     * Must be called on the test thread.
+     * @param context
+     * @return failures of completed send operations, empty when all messages have been sent successfully
+     */
+    public List<CitrusRuntimeException> removeFailures(TestContext context) {
+        applyCompleted(context);
+
+        List<CitrusRuntimeException> removed = new ArrayList<>(failures);
+        failures.clear();
+        return removed;
+    }
+
+    /**
+     * Waits for all pending send operations to complete and applies them to the test context. Must be called on the test thread.
+     * @param timeout time to wait for pending send operations in ms
+     * @param context
+     * @return failures of pending send operations, empty when all messages have been sent successfully
+     */
+    public List<CitrusRuntimeException> awaitAll(long timeout, TestContext context) {
+        List<CompletableFuture<CompletedSend>> awaiting;
+        synchronized (this) {
+            awaiting = new ArrayList<>(pending);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Waiting for %s pipelined messages to be sent", awaiting.size()));
+        }
+
+        try {
+            CompletableFuture.allOf(awaiting.toArray(new CompletableFuture[awaiting.size()])).get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for pipelined messages", e);
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to wait for pipelined messages", e.getCause());
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException(String.format("Failed to wait for pipelined messages - " +
+                    "%s messages still in flight after %s ms", getInFlight(), timeout), e);
+        }
+
+        return removeFailures(context);
+    }
+
+    /**
+     * Gets the number of messages in flight.
+     * @return
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Completed send operation holding either the send result or the failure.
+     */
+    private static final class CompletedSend {
+        private final AsyncProducer.SendResult result;
+        private final CitrusRuntimeException failure;
+        private final long duration;
+
+        private CompletedSend(AsyncProducer.SendResult result, CitrusRuntimeException failure, long duration) {
+            this.result = result;
+            this.failure = failure;
+            this.duration = duration;
+        }
+    }
+}
@@ -106,17 +106,17 @@ public abstract class AbstractTestReporter extends AbstractTestListener implemen
 
     @Override
     public void onTestSuccess(TestCase test) {
-        testResults.addResult(TestResult.success(test.getName(), test.getTestClass().getName()));
+        testResults.addResult(TestResult.success(test.getName(), test.getTestClass().getName()).withMetrics(test.getMetrics()));
     }
 
     @Override
     public void onTestFailure(TestCase test, Throwable cause) {
-        testResults.addResult(TestResult.failed(test.getName(), test.getTestClass().getName(), cause));
+        testResults.addResult(TestResult.failed(test.getName(), test.getTestClass().getName(), cause).withMetrics(test.getMetrics()));
     }
 
     @Override
     public void onTestSkipped(TestCase test) {
-        testResults.addResult(TestResult.skipped(test.getName(), test.getTestClass().getName()));
+        testResults.addResult(TestResult.skipped(test.getName(), test.getTestClass().getName()).withMetrics(test.getMetrics()));
     }
 
     /**
@@ -94,6 +94,7 @@ public class HtmlReporter extends AbstractOutputFileReporter {
                 detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
                 detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
                 detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
+                detailProps.put("test.duration", String.valueOf(result.getDuration().toMillis()));
                 detailProps.put("test.result", result.getResult());
 
                 reportDetails.append(PropertyUtils.replacePropertiesInString(testDetails, detailProps));
@@ -111,6 +112,7 @@ public class HtmlReporter extends AbstractOutputFileReporter {
             reportProps.put("failed.test.pct", getTestResults().getFailedPercentage());
             reportProps.put("success.test.cnt", Integer.toString(getTestResults().getSuccess()));
             reportProps.put("success.test.pct", getTestResults().getSuccessPercentage());
+            reportProps.put("test.duration", String.valueOf(getTestResults().getTotalDuration().toMillis()));
             reportProps.put("test.results", reportDetails.toString());
             reportProps.put("logo.data", getLogoImageData());
             return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
@@ -239,7 +241,7 @@ public class HtmlReporter extends AbstractOutputFileReporter {
             stackTraceBuilder.append(cause.getStackTrace()[i]);
         }
         
-        return "<tr><td colspan=\"2\">" +
+        return "<tr><td colspan=\"3\">" +
         		"<div class=\"error-detail\"><pre>" + stackTraceBuilder.toString() + 
         		"</pre>" + getCodeSnippetHtml(cause) + "</div></td></tr>";
     }
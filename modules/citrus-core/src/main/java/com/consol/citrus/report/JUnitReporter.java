@@ -32,6 +32,8 @@ import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -120,7 +122,7 @@ public class JUnitReporter extends AbstractTestReporter {
             Properties detailProps = new Properties();
             detailProps.put("test.class", result.getClassName());
             detailProps.put("test.name", StringEscapeUtils.escapeXml(result.getTestName()));
-            detailProps.put("test.duration", "0.0");
+            detailProps.put("test.duration", formatDuration(result.getDuration()));
 
             if (result.isFailed()) {
                 detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElse(result.getFailureType()));
@@ -143,11 +145,25 @@ public class JUnitReporter extends AbstractTestReporter {
         reportProps.put("test.failed.cnt", Long.toString(results.stream().filter(TestResult::isFailed).count()));
         reportProps.put("test.success.cnt", Long.toString(results.stream().filter(TestResult::isSuccess).count()));
         reportProps.put("test.error.cnt", "0");
-        reportProps.put("test.duration", "0.0");
+        reportProps.put("test.duration", formatDuration(results.stream().map(TestResult::getDuration).reduce(Duration.ZERO, Duration::plus)));
         reportProps.put("tests", reportDetails.toString());
         return PropertyUtils.replacePropertiesInString(templates.getReportTemplate(), reportProps);
     }
 
+    /**
+     * Formats duration as seconds with millisecond precision. Trailing zeros are removed except for the first decimal place.
+     * @param duration
+     * @return
+     */
+    private static String formatDuration(Duration duration) {
+        BigDecimal seconds = BigDecimal.valueOf(duration.toMillis(), 3).stripTrailingZeros();
+        if (seconds.scale() < 1) {
+            seconds = seconds.setScale(1);
+        }
+
+        return seconds.toPlainString();
+    }
+
     /**
      * Creates the JUnit report file
      * @param reportFileName The report file to write
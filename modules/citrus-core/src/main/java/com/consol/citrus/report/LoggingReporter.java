@@ -50,7 +50,7 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
         newLine();
 
         getTestResults().doWithResults(testResult -> {
-            info(testResult.toString());
+            info(testResult.toString() + " (" + testResult.getDuration().toMillis() + " ms)");
 
             if (testResult.isFailed()) {
                 info(Optional.ofNullable(testResult.getCause())
@@ -68,6 +68,7 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
 
         info("FAILED:\t" + getTestResults().getFailed() + " (" + getTestResults().getFailedPercentage() + "%)");
         info("SUCCESS:\t" + getTestResults().getSuccess() + " (" + getTestResults().getSuccessPercentage() + "%)");
+        info("DURATION:\t" + getTestResults().getTotalDuration().toMillis() + " ms");
         newLine();
 
         separator();
@@ -111,7 +112,7 @@ public class LoggingReporter extends AbstractTestReporter implements MessageList
         super.onTestSuccess(test);
 
         newLine();
-        info("TEST SUCCESS " + test.getName() + " (" + test.getPackageName() + ")");
+        info("TEST SUCCESS " + test.getName() + " (" + test.getPackageName() + ") in " + test.getMetrics().getDuration().toMillis() + " ms");
         separator();
         newLine();
     }
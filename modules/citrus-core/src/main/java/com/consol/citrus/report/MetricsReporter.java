@@ -0,0 +1,151 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.TestMetrics;
+import com.consol.citrus.TestResult;
+import net.minidev.json.JSONStyle;
+import net.minidev.json.JSONValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Reporter writes timing information of all tests to a Json file. Report holds the duration of each test, the duration of
+ * each test action and the accumulated time spent in message send and receive operations. Connection pool usage recorded
+ * by endpoints is added per test. All durations are given in milliseconds with microsecond precision.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class MetricsReporter extends AbstractOutputFileReporter {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(MetricsReporter.class);
+
+    /** Resulting metrics report file name */
+    @Value("${citrus.metrics.report.file:citrus-metrics.json}")
+    private String reportFileName = "citrus-metrics.json";
+
+    /** Enables/disables report generation */
+    @Value("${citrus.metrics.report.enabled:true}")
+    private String enabled = Boolean.TRUE.toString();
+
+    @Override
+    protected String getReportContent() {
+        log.debug("Generating test metrics report");
+
+        List<Object> tests = new ArrayList<>();
+        getTestResults().doWithResults(result -> tests.add(toJson(result)));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("tests", tests.size());
+        report.put("failed", getTestResults().getFailed());
+        report.put("skipped", getTestResults().getSkipped());
+        report.put("duration", toMillis(getTestResults().getTotalDuration()));
+        report.put("results", tests);
+
+        return JSONValue.toJSONString(report, JSONStyle.NO_COMPRESS);
+    }
+
+    /**
+     * Converts test result with its metrics to Json object representation.
+     * @param result
+     * @return
+     */
+    private Map<String, Object> toJson(TestResult result) {
+        Map<String, Object> test = new LinkedHashMap<>();
+        test.put("name", result.getTestName());
+        test.put("className", result.getClassName());
+        test.put("result", result.getResult());
+        test.put("duration", toMillis(result.getDuration()));
+
+        TestMetrics metrics = result.getMetrics();
+        if (metrics != null) {
+            test.put("sendCount", metrics.getSendCount());
+            test.put("sendDuration", toMillis(metrics.getSendDuration()));
+            test.put("receiveCount", metrics.getReceiveCount());
+            test.put("receiveDuration", toMillis(metrics.getReceiveDuration()));
+
+            List<Object> actions = new ArrayList<>();
+            for (TestMetrics.ActionMetric actionMetric : metrics.getActionMetrics()) {
+                Map<String, Object> action = new LinkedHashMap<>();
+                action.put("name", actionMetric.getName());
+                action.put("duration", toMillis(actionMetric.getDuration()));
+                actions.add(action);
+            }
+            test.put("actions", actions);
+
+            if (!metrics.getConnectionPoolMetrics().isEmpty()) {
+                List<Object> connectionPools = new ArrayList<>();
+                for (TestMetrics.ConnectionPoolMetric poolMetric : metrics.getConnectionPoolMetrics()) {
+                    Map<String, Object> pool = new LinkedHashMap<>();
+                    pool.put("name", poolMetric.getName());
+                    pool.put("samples", poolMetric.getSamples());
+                    pool.put("maxLeased", poolMetric.getMaxLeased());
+                    pool.put("maxPending", poolMetric.getMaxPending());
+                    pool.put("available", poolMetric.getAvailable());
+                    pool.put("max", poolMetric.getMax());
+                    connectionPools.add(pool);
+                }
+                test.put("connectionPools", connectionPools);
+            }
+        }
+
+        return test;
+    }
+
+    /**
+     * Converts duration to milliseconds with microsecond precision.
+     * @param duration
+     * @return
+     */
+    private static double toMillis(Duration duration) {
+        return (duration.toNanos() / 1000L) / 1000.0D;
+    }
+
+    @Override
+    protected String getReportFileName() {
+        return reportFileName;
+    }
+
+    /**
+     * Sets the reportFileName property.
+     *
+     * @param reportFileName
+     */
+    public void setReportFileName(String reportFileName) {
+        this.reportFileName = reportFileName;
+    }
+
+    /**
+     * Sets the enabled property.
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = String.valueOf(enabled);
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return StringUtils.hasText(enabled) && enabled.equalsIgnoreCase(Boolean.TRUE.toString());
+    }
+}
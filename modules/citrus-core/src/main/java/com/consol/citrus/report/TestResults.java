@@ -20,6 +20,7 @@ import com.consol.citrus.TestResult;
 
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
+import java.time.Duration;
 import java.util.*;
 
 /**
@@ -75,6 +76,22 @@ public class TestResults {
         }
     }
 
+    /**
+     * Gets the accumulated duration of all tests.
+     * @return
+     */
+    public Duration getTotalDuration() {
+        Duration total = Duration.ZERO;
+
+        synchronized (results) {
+            for (TestResult testResult : results) {
+                total = total.plus(testResult.getDuration());
+            }
+        }
+
+        return total;
+    }
+
     /**
      * Get number of tests in success.
      * @return
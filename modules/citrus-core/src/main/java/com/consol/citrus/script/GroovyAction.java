@@ -16,8 +16,8 @@
 
 package com.consol.citrus.script;
 
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
+import org.codehaus.groovy.control.CompilationFailedException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -29,9 +29,6 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.script.TemplateBasedScriptBuilder;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-
 /**
  * Action executes groovy scripts either specified inline or from external file resource.
  * 
@@ -73,22 +70,30 @@ public class GroovyAction extends AbstractTestAction {
     @Override
     public void doExecute(TestContext context) {
         try {
-            GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                public GroovyClassLoader run() {
-                    ClassLoader parent = getClass().getClassLoader();
-                    return new GroovyClassLoader(parent);
-                }
-            });
+            ClassLoader parent = getClass().getClassLoader();
 
             assertScriptProvided();
 
             String rawCode = StringUtils.hasText(script) ? script.trim() : FileUtils.readToString(FileUtils.getFileResource(scriptResourcePath, context));
-            String code = context.replaceDynamicContentInString(rawCode.trim());
 
-            // load groovy code
-            Class<?> groovyClass = loader.parseClass(code);
-            // Instantiate an object from groovy code
-            GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
+            // resolve dynamic content in string literals at run time so compiled script is cached by raw code
+            String code = GroovyScriptContext.bindDynamicContent(rawCode.trim());
+            Class<?> scriptClass = null;
+            if (code != null) {
+                try {
+                    scriptClass = GroovyScriptCache.getScriptClass(code, parent);
+                } catch (CompilationFailedException e) {
+                    log.debug("Failed to compile Groovy script with dynamic content bound at run time", e);
+                }
+            }
+
+            if (scriptClass == null) {
+                code = context.replaceDynamicContentInString(rawCode.trim());
+                scriptClass = GroovyScriptCache.getScriptClass(code, parent);
+            }
+
+            // instantiate an object from compiled class
+            GroovyObject groovyObject = (GroovyObject) scriptClass.newInstance();
 
             // only apply default script template in case we have feature enabled and code is not a class, too
             if (useScriptTemplate && groovyObject.getClass().getSimpleName().startsWith("script")) {
@@ -104,8 +109,7 @@ public class GroovyAction extends AbstractTestAction {
                             .build();
                 }
 
-                groovyClass = loader.parseClass(code);
-                groovyObject = (GroovyObject) groovyClass.newInstance();
+                groovyObject = GroovyScriptCache.newInstance(code, parent);
             }
 
             if (log.isDebugEnabled()) {
@@ -113,10 +117,15 @@ public class GroovyAction extends AbstractTestAction {
             }
 
             // execute the Groovy script
-            if (groovyObject instanceof ScriptExecutor) {
-                ((ScriptExecutor) groovyObject).execute(context);
-            } else {
-                groovyObject.invokeMethod("run", new Object[] {});
+            TestContext previous = GroovyScriptContext.bind(context);
+            try {
+                if (groovyObject instanceof ScriptExecutor) {
+                    ((ScriptExecutor) groovyObject).execute(context);
+                } else {
+                    groovyObject.invokeMethod("run", new Object[] {});
+                }
+            } finally {
+                GroovyScriptContext.restore(previous);
             }
 
             log.info("Groovy script execution successful");
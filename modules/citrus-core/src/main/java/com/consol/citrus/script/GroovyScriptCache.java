@@ -0,0 +1,237 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import groovy.lang.GroovyClassLoader;
+import org.codehaus.groovy.control.CompilationFailedException;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.*;
+
+/**
+ * Cache for compiled Groovy script classes. Scripts are compiled only once per script source and parent class loader, so the same
+ * script executed repeatedly (e.g. validation scripts in iterating containers) does not get compiled again and again.
+ *
+ * All scripts of a parent class loader share a single Groovy class loader. The shared class loader does not keep references to
+ * the compiled classes, so classes evicted from this bounded cache can be garbage collected.
+ *
+ * Cached classes are shared by all executions of a script. Script fields annotated with {@link groovy.transform.Field} are
+ * instance fields, so each execution gets its own values. Static fields on the other hand would keep their values across
+ * executions and tests. Scripts declaring static fields with mutable state are therefore not cached but compiled on each call.
+ * Static final fields holding primitive, string or enum constants do not count as state.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class GroovyScriptCache {
+
+    /** Maximum number of cached script classes */
+    private static final int CACHE_SIZE = 500;
+
+    /** Compiled script classes by parent class loader and script source */
+    private static final Map<ScriptKey, Class<?>> CACHE = Collections.synchronizedMap(new LinkedHashMap<ScriptKey, Class<?>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<ScriptKey, Class<?>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
+
+    /** Classes defined by the current compilation in this thread */
+    private static final ThreadLocal<List<Class<?>>> COMPILED_CLASSES = new ThreadLocal<>();
+
+    /** Shared Groovy class loaders by parent class loader, weakly referenced as each Groovy class loader references its parent */
+    private static final Map<ClassLoader, WeakReference<GroovyClassLoader>> CLASS_LOADERS = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * Private constructor prevents instantiation.
+     */
+    private GroovyScriptCache() {
+    }
+
+    /**
+     * Gets compiled class for given Groovy script code using the class loader of this class as parent.
+     * @param code
+     * @return
+     */
+    public static Class<?> getScriptClass(String code) {
+        return getScriptClass(code, GroovyScriptCache.class.getClassLoader());
+    }
+
+    /**
+     * Gets compiled class for given Groovy script code. Compiles the script on first access.
+     * @param code
+     * @param parent
+     * @return
+     */
+    public static Class<?> getScriptClass(String code, ClassLoader parent) {
+        ScriptKey key = new ScriptKey(parent, code);
+
+        Class<?> scriptClass = CACHE.get(key);
+        if (scriptClass == null) {
+            List<Class<?>> compiledClasses = new ArrayList<>();
+            COMPILED_CLASSES.set(compiledClasses);
+            try {
+                scriptClass = getClassLoader(parent).parseClass(code);
+            } finally {
+                COMPILED_CLASSES.remove();
+            }
+
+            if (scriptClass == null) {
+                throw new CitrusRuntimeException("Failed to load groovy script");
+            }
+
+            if (compiledClasses.stream().noneMatch(GroovyScriptCache::hasStaticState)) {
+                CACHE.put(key, scriptClass);
+            }
+        }
+
+        return scriptClass;
+    }
+
+    /**
+     * Checks if given class declares static fields that keep mutable state across script executions. Fields generated by
+     * the Groovy compiler are ignored.
+     * @param compiledClass
+     * @return
+     */
+    private static boolean hasStaticState(Class<?> compiledClass) {
+        for (Field field : compiledClass.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) || field.isSynthetic() || field.getName().startsWith("$") || field.getName().startsWith("__")) {
+                continue;
+            }
+
+            Class<?> type = field.getType();
+            if (Modifier.isFinal(modifiers) && (type.isPrimitive() || type.equals(String.class) || type.isEnum())) {
+                continue;
+            }
+
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Creates new instance of compiled class for given Groovy script code.
+     * @param code
+     * @param parent
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T newInstance(String code, ClassLoader parent) {
+        try {
+            return (T) getScriptClass(code, parent).newInstance();
+        } catch (CompilationFailedException | InstantiationException | IllegalAccessException e) {
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Removes all compiled script classes from cache.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * Gets the number of currently cached script classes.
+     * @return
+     */
+    public static int size() {
+        return CACHE.size();
+    }
+
+    /**
+     * Gets shared Groovy class loader for given parent class loader. Creates new class loader on first access. The class loader
+     * is kept as long as cached script classes compiled with it are in use, afterwards it is garbage collected together with its parent.
+     * @param parent
+     * @return
+     */
+    private static GroovyClassLoader getClassLoader(ClassLoader parent) {
+        synchronized (CLASS_LOADERS) {
+            GroovyClassLoader loader = Optional.ofNullable(CLASS_LOADERS.get(parent))
+                    .map(WeakReference::get)
+                    .orElse(null);
+            if (loader == null) {
+                loader = AccessController.doPrivileged((PrivilegedAction<GroovyClassLoader>) () -> new NonCachingGroovyClassLoader(parent));
+                CLASS_LOADERS.put(parent, new WeakReference<>(loader));
+            }
+
+            return loader;
+        }
+    }
+
+    /**
+     * Groovy class loader does not hold compiled script classes in its internal class cache. Each compilation defines its classes
+     * in a separate inner class loader, so compiled classes are only referenced by the script cache. Classes of the current
+     * compilation are collected for the static state check.
+     */
+    private static class NonCachingGroovyClassLoader extends GroovyClassLoader {
+        NonCachingGroovyClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected void setClassCacheEntry(Class cls) {
+            List<Class<?>> compiledClasses = COMPILED_CLASSES.get();
+            if (compiledClasses != null) {
+                compiledClasses.add(cls);
+            }
+        }
+    }
+
+    /**
+     * Cache key combining parent class loader and script source.
+     */
+    private static final class ScriptKey {
+        private final ClassLoader parent;
+        private final String code;
+        private final int hash;
+
+        ScriptKey(ClassLoader parent, String code) {
+            this.parent = parent;
+            this.code = code;
+            this.hash = 31 * System.identityHashCode(parent) + code.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (!(o instanceof ScriptKey)) {
+                return false;
+            }
+
+            ScriptKey other = (ScriptKey) o;
+            return parent == other.parent && code.equals(other.code);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+import java.util.regex.Pattern;
+
+/**
+ * Binds test variables and functions used in Groovy scripts at run time. Dynamic content such as ${variable} or citrus:function()
+ * in string literals of the script is compiled to a call of {@link #resolve(String)}, so the compiled script class does not depend
+ * on the actual variable values and can be cached. The call resolves the literal with the test context bound to the current thread.
+ *
+ * Dynamic content outside of string literals is part of the Groovy code itself and has to be replaced before compilation.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class GroovyScriptContext {
+
+    /** Variable expressions and function calls in script code */
+    private static final Pattern DYNAMIC_CONTENT = Pattern.compile("\\$\\{|\\w+:\\w+\\(");
+
+    /** Test context bound to the thread executing a script */
+    private static final ThreadLocal<TestContext> CONTEXT = new ThreadLocal<>();
+
+    /**
+     * Private constructor prevents instantiation.
+     */
+    private GroovyScriptContext() {
+    }
+
+    /**
+     * Resolves dynamic content in given text with the test context bound to the current thread. Called by compiled scripts.
+     * @param text
+     * @return
+     */
+    public static String resolve(String text) {
+        TestContext context = CONTEXT.get();
+        if (context == null) {
+            throw new CitrusRuntimeException("Unable to resolve dynamic content in Groovy script - no test context bound to current thread");
+        }
+
+        return context.replaceDynamicContentInString(text);
+    }
+
+    /**
+     * Binds test context to the current thread.
+     * @param context
+     * @return the previously bound test context or null.
+     */
+    static TestContext bind(TestContext context) {
+        TestContext previous = CONTEXT.get();
+        CONTEXT.set(context);
+        return previous;
+    }
+
+    /**
+     * Restores test context that was bound to the current thread before.
+     * @param previous
+     */
+    static void restore(TestContext previous) {
+        if (previous == null) {
+            CONTEXT.remove();
+        } else {
+            CONTEXT.set(previous);
+        }
+    }
+
+    /**
+     * Rewrites string literals holding dynamic content in given Groovy code to calls resolving the literal at run time.
+     * Returns null when dynamic content is used outside of string literals or in string literals using Groovy interpolation.
+     * @param code
+     * @return the rewritten code or null when dynamic content can not be bound at run time.
+     */
+    static String bindDynamicContent(String code) {
+        StringBuilder result = new StringBuilder(code.length());
+        StringBuilder codeOnly = new StringBuilder();
+
+        int pos = 0;
+        while (pos < code.length()) {
+            if (code.startsWith("//", pos)) {
+                int end = code.indexOf('\n', pos);
+                end = end < 0 ? code.length() : end;
+                result.append(code, pos, end);
+                pos = end;
+            } else if (code.startsWith("/*", pos)) {
+                int end = code.indexOf("*/", pos + 2);
+                end = end < 0 ? code.length() : end + 2;
+                result.append(code, pos, end);
+                pos = end;
+            } else if (code.startsWith("'''", pos) || code.startsWith("\"\"\"", pos)
+                    || code.charAt(pos) == '\'' || code.charAt(pos) == '"') {
+                String quote = code.startsWith("'''", pos) || code.startsWith("\"\"\"", pos) ? code.substring(pos, pos + 3) : code.substring(pos, pos + 1);
+                int end = findLiteralEnd(code, pos + quote.length(), quote);
+                if (end < 0 || !appendLiteral(result, quote, code.substring(pos + quote.length(), end))) {
+                    return null;
+                }
+
+                codeOnly.append(' ');
+                pos = end + quote.length();
+            } else {
+                result.append(code.charAt(pos));
+                codeOnly.append(code.charAt(pos));
+                pos++;
+            }
+        }
+
+        if (DYNAMIC_CONTENT.matcher(codeOnly).find()) {
+            return null;
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * Finds the closing quote of a string literal. Variable expressions in double quoted literals are skipped as a whole.
+     * @param code
+     * @param start
+     * @param quote
+     * @return position of closing quote or -1 when literal is not closed.
+     */
+    private static int findLiteralEnd(String code, int start, String quote) {
+        int pos = start;
+        while (pos < code.length()) {
+            if (code.charAt(pos) == '\\') {
+                pos += 2;
+            } else if (quote.charAt(0) == '"' && code.startsWith("${", pos)) {
+                int end = code.indexOf('}', pos);
+                if (end < 0) {
+                    return -1;
+                }
+                pos = end + 1;
+            } else if (code.startsWith(quote, pos)) {
+                return pos;
+            } else {
+                pos++;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Appends string literal to given code. Literals holding dynamic content are resolved at run time.
+     * @param result
+     * @param quote
+     * @param content
+     * @return false when literal uses Groovy interpolation besides dynamic content.
+     */
+    private static boolean appendLiteral(StringBuilder result, String quote, String content) {
+        if (!DYNAMIC_CONTENT.matcher(content).find()) {
+            result.append(quote).append(content).append(quote);
+            return true;
+        }
+
+        String literal = content;
+        if (quote.charAt(0) == '"') {
+            if (content.contains("\\$") || content.replace("${", "").indexOf('$') >= 0) {
+                return false;
+            }
+
+            // keep Groovy from interpolating variable expressions
+            literal = content.replace("${", "\\${");
+        }
+
+        result.append(GroovyScriptContext.class.getName()).append(".resolve(")
+                .append(quote).append(literal).append(quote)
+                .append(")");
+        return true;
+    }
+}
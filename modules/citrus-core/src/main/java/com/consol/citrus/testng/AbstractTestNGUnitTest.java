@@ -22,6 +22,7 @@ import com.consol.citrus.context.TestContextFactory;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.report.HtmlReporter;
 import com.consol.citrus.report.JUnitReporter;
+import com.consol.citrus.report.MetricsReporter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.testng.annotations.BeforeMethod;
 
@@ -45,6 +46,9 @@ public abstract class AbstractTestNGUnitTest extends AbstractTestNGCitrusTest {
     @Autowired
     private JUnitReporter jUnitReporter;
 
+    @Autowired
+    private MetricsReporter metricsReporter;
+
     static {
         System.setProperty(Citrus.DEFAULT_APPLICATION_CONTEXT_PROPERTY, "classpath:com/consol/citrus/context/citrus-unit-context.xml");
     }
@@ -56,6 +60,7 @@ public abstract class AbstractTestNGUnitTest extends AbstractTestNGCitrusTest {
     public void prepareTest() {
         htmlReporter.setEnabled(false);
         jUnitReporter.setEnabled(false);
+        metricsReporter.setEnabled(false);
         context = createTestContext();
     }
 
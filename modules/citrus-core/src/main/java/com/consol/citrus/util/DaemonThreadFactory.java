@@ -0,0 +1,52 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factory creating named daemon threads. Threads are named with the given prefix and a sequence number. Daemon threads
+ * do not prevent JVM shutdown, so pending background work such as condition checks or message delivery does not block the
+ * test run from finishing.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+
+    /** Thread name prefix */
+    private final String namePrefix;
+
+    /** Sequence number of the next thread */
+    private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+    /**
+     * Constructor using thread name prefix.
+     * @param namePrefix
+     */
+    public DaemonThreadFactory(String namePrefix) {
+        this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation;
+
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.context.ValidationContext;
+
+/**
+ * Base message validator for payload formats that can be validated in a streaming manner. Received message payloads exceeding
+ * the streaming threshold are read as they go instead of being parsed into a complete object tree first. Subclasses decide
+ * which validation steps support streaming.
+ *
+ * Logs and error messages describe streaming payloads by their size instead of printing the complete payload.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public abstract class AbstractStreamingMessageValidator<T extends ValidationContext> extends AbstractMessageValidator<T> {
+
+    /** Default payload size in characters above which streaming validation is used */
+    public static final int DEFAULT_STREAMING_THRESHOLD = 10 * 1024 * 1024;
+
+    /** Received payload size in characters above which streaming validation is used, negative value disables streaming */
+    private int streamingThreshold = DEFAULT_STREAMING_THRESHOLD;
+
+    /**
+     * Checks whether received message payload exceeds the streaming threshold.
+     * @param receivedMessage
+     * @return
+     */
+    public boolean isStreamingPayload(Message receivedMessage) {
+        return streamingThreshold >= 0 && receivedMessage.getPayload() instanceof String
+                && receivedMessage.getPayload(String.class).length() > streamingThreshold;
+    }
+
+    /**
+     * Describes the received message payload for logs and error messages. Streaming payloads are described by their size.
+     * @param receivedMessage
+     * @return
+     */
+    protected String describePayload(Message receivedMessage) {
+        if (isStreamingPayload(receivedMessage)) {
+            return "received message payload of " + receivedMessage.getPayload(String.class).length() + " characters";
+        }
+
+        return receivedMessage.getPayload(String.class);
+    }
+
+    /**
+     * Gets the streaming threshold.
+     * @return
+     */
+    public int getStreamingThreshold() {
+        return streamingThreshold;
+    }
+
+    /**
+     * Sets the received payload size in characters above which streaming validation is used. Negative value disables
+     * streaming validation.
+     * @param streamingThreshold
+     */
+    public void setStreamingThreshold(int streamingThreshold) {
+        this.streamingThreshold = streamingThreshold;
+    }
+}
@@ -21,11 +21,10 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessagePayloadCache;
 import com.consol.citrus.validation.AbstractMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,9 +54,7 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
 
         String jsonPathExpression;
         try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(receivedMessage.getPayload(String.class));
-            ReadContext readerContext = JsonPath.parse(receivedJson);
+            ReadContext readerContext = MessagePayloadCache.getJsonReadContext(receivedMessage);
 
             for (Map.Entry<String, Object> entry : validationContext.getJsonPathExpressions().entrySet()) {
                 Object expectedValue = entry.getValue();
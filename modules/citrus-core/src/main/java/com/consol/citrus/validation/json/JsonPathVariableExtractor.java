@@ -20,12 +20,11 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.json.JsonPathUtils;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessagePayloadCache;
 import com.consol.citrus.variable.VariableExtractor;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
-import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,9 +57,7 @@ public class JsonPathVariableExtractor implements VariableExtractor {
 
         String jsonPathExpression;
         try {
-            JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
-            Object receivedJson = parser.parse(message.getPayload(String.class));
-            ReadContext readerContext = JsonPath.parse(receivedJson);
+            ReadContext readerContext = MessagePayloadCache.getJsonReadContext(message);
 
             for (Map.Entry<String, String> entry : jsonPathExpressions.entrySet()) {
                 jsonPathExpression = context.replaceDynamicContentInString(entry.getKey());
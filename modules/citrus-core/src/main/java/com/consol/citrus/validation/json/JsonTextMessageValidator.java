@@ -22,13 +22,13 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessagePayloadCache;
 import com.consol.citrus.message.MessageType;
-import com.consol.citrus.validation.AbstractMessageValidator;
+import com.consol.citrus.validation.AbstractStreamingMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.json.schema.JsonSchemaValidation;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
-import com.jayway.jsonpath.JsonPath;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -56,10 +56,14 @@ import java.util.Set;
  * Validator offers two different modes to operate. By default strict mode is set and the validator will also check the exact amount of
  * control object fields to match. No additional fields in received JSON data structure will be accepted. In soft mode validator
  * allows additional fields in received JSON data structure so the control JSON object can be a partial subset.
+ *
+ * For streaming payloads the received Json text is read as token stream and compared entry by entry with the control Json
+ * object (see {@link StreamingJsonTreeValidator}), so the received Json object is never built. Json schema validation needs the
+ * complete Json tree, for streaming payloads the tree is parsed for schema validation only and not kept in the message payload cache.
  * 
  * @author Christoph Deppisch
  */
-public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessageValidationContext> implements ApplicationContextAware {
+public class JsonTextMessageValidator extends AbstractStreamingMessageValidator<JsonMessageValidationContext> implements ApplicationContextAware {
 
     /** Should also check exact amount of object fields */
     @Value("${citrus.json.message.validation.strict:true}")
@@ -107,9 +111,21 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
             }
             
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
+
+            if (isStreamingPayload(receivedMessage)) {
+                if (StreamingJsonTreeValidator.supportsIgnoreExpressions(validationContext.getIgnoreExpressions())) {
+                    log.debug("Start streaming JSON tree validation ...");
+                    new StreamingJsonTreeValidator(strict, validationContext.getIgnoreExpressions(), context)
+                            .validate(receivedJsonText, parser.parse(controlJsonText));
+                    log.info("JSON message validation successful: All values OK");
+                    return;
+                }
+
+                log.warn("Ignore expressions not supported in streaming mode - using Json object validation for large message payload");
+            }
         
-            Object receivedJson = parser.parse(receivedJsonText);
-            ReadContext readContext = JsonPath.parse(receivedJson);
+            Object receivedJson = MessagePayloadCache.getJson(receivedMessage);
+            ReadContext readContext = MessagePayloadCache.getJsonReadContext(receivedMessage);
             Object controlJson = parser.parse(controlJsonText);
             if (receivedJson instanceof JSONObject) {
                 validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, readContext);
@@ -124,7 +140,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                 throw new CitrusRuntimeException("Unsupported json type " + receivedJson.getClass());
             }
         } catch (IllegalArgumentException e) {
-            throw new ValidationException(String.format("Failed to validate JSON text:%n%s", receivedJsonText), e);
+            throw new ValidationException(String.format("Failed to validate JSON text:%n%s", describePayload(receivedMessage)), e);
         } catch (ParseException e) {
             throw new CitrusRuntimeException("Failed to parse JSON text", e);
         }
@@ -143,9 +159,10 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         ProcessingReport report = jsonSchemaValidation.validate(receivedMessage,
                                                                 schemaRepositories,
                                                                 validationContext,
-                                                                applicationContext);
+                                                                applicationContext,
+                                                                !isStreamingPayload(receivedMessage));
         if (!report.isSuccess()) {
-            log.error("Failed to validate Json schema for message:\n" + receivedMessage.getPayload(String.class));
+            log.error("Failed to validate Json schema for message:\n" + describePayload(receivedMessage));
 
             throw new ValidationException(constructErrorMessage(report));
         }
@@ -317,6 +334,16 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         return true;
     }
 
+    /**
+     * Sets the streaming threshold from property citrus.json.validation.streaming.threshold.
+     * @param streamingThreshold
+     */
+    @Override
+    @Value("${citrus.json.validation.streaming.threshold:" + DEFAULT_STREAMING_THRESHOLD + "}")
+    public void setStreamingThreshold(int streamingThreshold) {
+        super.setStreamingThreshold(streamingThreshold);
+    }
+
     /**
      * Set the validator strict mode.
      * @param strict
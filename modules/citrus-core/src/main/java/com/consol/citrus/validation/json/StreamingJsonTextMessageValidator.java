@@ -0,0 +1,34 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import com.consol.citrus.message.Message;
+
+/**
+ * Json text message validator that always reads the received Json text as token stream regardless of the received payload size.
+ * Validation falls back to Json object validation only for ignore expressions that can not be evaluated in streaming mode.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StreamingJsonTextMessageValidator extends JsonTextMessageValidator {
+
+    @Override
+    public boolean isStreamingPayload(Message receivedMessage) {
+        return receivedMessage.getPayload() instanceof String;
+    }
+}
@@ -0,0 +1,755 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.fasterxml.jackson.core.*;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.jayway.jsonpath.*;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares a received JSON text with a control JSON object by reading the received text as a stream of Json tokens. The received
+ * document is never held in memory as a whole. Only single values are materialized when they are compared with the control value
+ * or passed to a validation matcher.
+ *
+ * Validation semantics and error messages are the same as in {@link JsonTextMessageValidator}. Control JSON objects are given as
+ * parsed Json objects because Json entry order is not significant and control entries are looked up by name while the received
+ * text is read.
+ *
+ * Ignore expressions are evaluated on the current Json path while reading the received text. JsonPath location paths using names,
+ * array indices, wildcards and deep scan (e.g. $.items[*].id, $..timestamp) are matched directly. Expressions using filters, slices
+ * or functions (e.g. $.items[?(@.type == 'internal')]) are split into their leading location path and the rest of the expression.
+ * Only the subtree selected by the location path is buffered and the rest of the expression is evaluated on that subtree with JsonPath.
+ * Expressions that apply filters on the root element need the complete Json object and are not supported
+ * (see {@link #supportsIgnoreExpressions(Set)}).
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StreamingJsonTreeValidator {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(StreamingJsonTreeValidator.class);
+
+    /** Json factory creating token stream parsers, accepts trailing commas like Json simple parser mode */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory()
+            .enable(JsonParser.Feature.ALLOW_TRAILING_COMMA);
+
+    /** Object mapper reading buffered subtrees */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper(JSON_FACTORY);
+
+    /** Json path configuration listing the paths selected on buffered subtrees */
+    private static final Configuration SUBTREE_PATH_CONFIGURATION = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider())
+            .options(Option.AS_PATH_LIST, Option.SUPPRESS_EXCEPTIONS)
+            .build();
+
+    /** Single step in normalized Json paths such as $['items'][0] */
+    private static final Pattern NORMALIZED_PATH_STEP = Pattern.compile("\\['((?:[^'\\\\]|\\\\.)*)'\\]|\\[(\\d+)\\]");
+
+    /** Should also check exact amount of object fields and array entries */
+    private final boolean strict;
+
+    /** Test context resolving validation matchers */
+    private final TestContext context;
+
+    /** Ignore expressions as parsed Json paths */
+    private final List<IgnorePath> ignorePaths = new ArrayList<>();
+
+    /** Ignore expressions evaluated on buffered subtrees */
+    private final List<SubtreeIgnorePath> subtreeIgnorePaths = new ArrayList<>();
+
+    /** Current Json path of received text holding field names and array indices */
+    private final List<Object> path = new ArrayList<>();
+
+    /** Parser converting received values to the same Json types as in control objects */
+    private final JSONParser valueParser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
+
+    /**
+     * Default constructor using strict mode, ignore expressions and test context.
+     * @param strict
+     * @param ignoreExpressions
+     * @param context
+     */
+    public StreamingJsonTreeValidator(boolean strict, Set<String> ignoreExpressions, TestContext context) {
+        this.strict = strict;
+        this.context = context;
+
+        if (!CollectionUtils.isEmpty(ignoreExpressions)) {
+            for (String expression : ignoreExpressions) {
+                IgnorePath ignorePath = IgnorePath.parse(expression);
+                if (ignorePath != null) {
+                    ignorePaths.add(ignorePath);
+                    continue;
+                }
+
+                SubtreeIgnorePath subtreeIgnorePath = SubtreeIgnorePath.parse(expression);
+                if (subtreeIgnorePath == null) {
+                    throw new CitrusRuntimeException("Unsupported ignore expression in streaming Json validation: '" + expression + "'");
+                }
+                subtreeIgnorePaths.add(subtreeIgnorePath);
+            }
+        }
+    }
+
+    /**
+     * Checks if all given ignore expressions can be evaluated while streaming the received Json text.
+     * @param ignoreExpressions
+     * @return
+     */
+    public static boolean supportsIgnoreExpressions(Set<String> ignoreExpressions) {
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return true;
+        }
+
+        return ignoreExpressions.stream().allMatch(expression -> IgnorePath.parse(expression) != null
+                || SubtreeIgnorePath.parse(expression) != null);
+    }
+
+    /**
+     * Validates received Json text with control Json object or array.
+     * @param receivedJsonText
+     * @param controlJson
+     */
+    public void validate(String receivedJsonText, Object controlJson) {
+        try (JsonParser parser = JSON_FACTORY.createParser(receivedJsonText)) {
+            JsonToken token = parser.nextToken();
+
+            if (token == JsonToken.START_OBJECT) {
+                Assert.isTrue(controlJson instanceof JSONObject,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '$.'",
+                                getTypeName(controlJson), JSONObject.class.getSimpleName()));
+
+                if (!isIgnored("$.", null)) {
+                    validateObject("$.", parser, (JSONObject) controlJson);
+                }
+            } else if (token == JsonToken.START_ARRAY) {
+                Assert.isTrue(controlJson instanceof JSONArray,
+                        ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry 'array'",
+                                getTypeName(controlJson), JSONArray.class.getSimpleName()));
+
+                if (isIgnored("array", controlJson)) {
+                    skipValue(parser);
+                } else {
+                    validateArray("array", parser, (JSONArray) controlJson);
+                }
+            } else {
+                throw new CitrusRuntimeException("Unsupported json type " + token);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+
+        for (IgnorePath ignorePath : ignorePaths) {
+            ignorePath.verify();
+        }
+    }
+
+    /**
+     * Validates Json object entries. Parser is positioned on the object start token.
+     * @param elementName
+     * @param parser
+     * @param controlJson
+     * @throws IOException
+     */
+    private void validateObject(String elementName, JsonParser parser, JSONObject controlJson) throws IOException {
+        int receivedSize = 0;
+        Set<String> receivedKeys = new HashSet<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            receivedSize++;
+
+            path.add(key);
+            if (controlJson.containsKey(key)) {
+                receivedKeys.add(key);
+                validateEntry(key, parser, controlJson.get(key));
+            } else {
+                skipValue(parser);
+            }
+            path.remove(path.size() - 1);
+        }
+
+        if (strict) {
+            Assert.isTrue(controlJson.size() == receivedSize,
+                    ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedSize));
+        }
+
+        for (String controlKey : controlJson.keySet()) {
+            Assert.isTrue(receivedKeys.contains(controlKey),
+                    "Missing JSON entry: + '" + controlKey + "'");
+        }
+    }
+
+    /**
+     * Validates Json array entries. Parser is positioned on the array start token.
+     * @param controlKey
+     * @param parser
+     * @param controlJson
+     * @throws IOException
+     */
+    private void validateArray(String controlKey, JsonParser parser, JSONArray controlJson) throws IOException {
+        if (log.isDebugEnabled()) {
+            log.debug("Validating JSONArray containing " + controlJson.size() + " entries");
+        }
+
+        int index = 0;
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            path.add(index);
+            if (index >= controlJson.size() || isIgnored(controlKey, null)) {
+                skipValue(parser);
+            } else if (controlJson.get(index) instanceof JSONObject) {
+                if (parser.currentToken() != JsonToken.START_OBJECT) {
+                    throw new IllegalArgumentException(ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + controlJson.get(index) + "'",
+                            JSONObject.class.getName(), getClassName(readValue(parser))));
+                }
+
+                int ignorePathCount = ignorePaths.size();
+                try {
+                    validateObject(controlKey, enterSubtree(parser), (JSONObject) controlJson.get(index));
+                } finally {
+                    leaveSubtree(ignorePathCount);
+                }
+            } else {
+                Object receivedValue = readValue(parser);
+                Assert.isTrue(ObjectUtils.nullSafeEquals(controlJson.get(index), receivedValue),
+                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlJson.get(index) + "'",
+                                controlJson.get(index), receivedValue));
+            }
+            path.remove(path.size() - 1);
+            index++;
+        }
+
+        if (strict || index < controlJson.size()) {
+            Assert.isTrue(controlJson.size() == index,
+                    ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + controlKey + "'",
+                            controlJson.size(), index));
+        }
+    }
+
+    /**
+     * Validates single Json entry value. Parser is positioned on the first token of the received value.
+     * @param controlKey
+     * @param parser
+     * @param controlValue
+     * @throws IOException
+     */
+    private void validateEntry(String controlKey, JsonParser parser, Object controlValue) throws IOException {
+        int ignorePathCount = ignorePaths.size();
+        try {
+            validateValue(controlKey, enterSubtree(parser), controlValue);
+        } finally {
+            leaveSubtree(ignorePathCount);
+        }
+    }
+
+    /**
+     * Validates single Json value. Parser is positioned on the first token of the received value.
+     * @param controlKey
+     * @param parser
+     * @param controlValue
+     * @throws IOException
+     */
+    private void validateValue(String controlKey, JsonParser parser, Object controlValue) throws IOException {
+        if (isIgnored(controlKey, controlValue)) {
+            skipValue(parser);
+            return;
+        }
+
+        JsonToken token = parser.currentToken();
+        if (controlValue == null) {
+            Object receivedValue = readValue(parser);
+            Assert.isTrue(receivedValue == null,
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                            null, receivedValue));
+        } else if (token == JsonToken.VALUE_NULL) {
+            if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
+                ValidationMatcherUtils.resolveValidationMatcher(controlKey,
+                        null,
+                        controlValue.toString(), context);
+            } else {
+                Assert.isTrue(!StringUtils.hasText(controlValue.toString()),
+                        ValidationUtils.buildValueMismatchErrorMessage(
+                                "Values not equal for entry '" + controlKey + "'", controlValue.toString(), null));
+            }
+        } else if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
+            ValidationMatcherUtils.resolveValidationMatcher(controlKey,
+                    readValue(parser).toString(),
+                    controlValue.toString(), context);
+        } else if (controlValue instanceof JSONObject) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException(ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                        JSONObject.class.getSimpleName(), readValue(parser).getClass().getSimpleName()));
+            }
+
+            validateObject(controlKey, parser, (JSONObject) controlValue);
+        } else if (controlValue instanceof JSONArray) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
+                        JSONArray.class.getSimpleName(), readValue(parser).getClass().getSimpleName()));
+            }
+
+            validateArray(controlKey, parser, (JSONArray) controlValue);
+        } else {
+            Object receivedValue = readValue(parser);
+            Assert.isTrue(controlValue.equals(receivedValue),
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
+                            controlValue, receivedValue));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validation successful for JSON entry '" + controlKey + "' (" + controlValue + ")");
+        }
+    }
+
+    /**
+     * Buffers the current received value in case a subtree ignore expression selects the current Json path. The rest of the
+     * ignore expression is evaluated on the buffered value and each selected entry is added as ignore path. Returns a parser
+     * reading the buffered value or the given parser when no subtree ignore expression applies.
+     * @param parser
+     * @return
+     * @throws IOException
+     */
+    private JsonParser enterSubtree(JsonParser parser) throws IOException {
+        List<SubtreeIgnorePath> matching = new ArrayList<>();
+        for (SubtreeIgnorePath subtreeIgnorePath : subtreeIgnorePaths) {
+            if (subtreeIgnorePath.location.matches(path)) {
+                matching.add(subtreeIgnorePath);
+            }
+        }
+
+        if (matching.isEmpty()) {
+            return parser;
+        }
+
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+
+        JsonNode subtree = OBJECT_MAPPER.readTree(buffer.asParser());
+        for (SubtreeIgnorePath subtreeIgnorePath : matching) {
+            JsonNode selectedPaths = JsonPath.using(SUBTREE_PATH_CONFIGURATION).parse(subtree).read(subtreeIgnorePath.expression);
+            for (JsonNode selectedPath : selectedPaths) {
+                ignorePaths.add(IgnorePath.of(subtreeIgnorePath.originalExpression, path, selectedPath.asText()));
+            }
+        }
+
+        JsonParser bufferedParser = buffer.asParser();
+        bufferedParser.nextToken();
+        return bufferedParser;
+    }
+
+    /**
+     * Removes ignore paths added for a buffered subtree.
+     * @param ignorePathCount number of ignore paths before the subtree was entered
+     */
+    private void leaveSubtree(int ignorePathCount) {
+        ignorePaths.subList(ignorePathCount, ignorePaths.size()).clear();
+    }
+
+    /**
+     * Checks if current Json entry is either ignored by placeholder in control value or matches an ignore expression.
+     * @param controlKey
+     * @param controlValue
+     * @return
+     */
+    private boolean isIgnored(String controlKey, Object controlValue) {
+        if (controlValue != null && controlValue.toString().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + controlKey + "' is ignored by placeholder '" +
+                        Citrus.IGNORE_PLACEHOLDER + "'");
+            }
+            return true;
+        }
+
+        boolean ignored = false;
+        for (IgnorePath ignorePath : ignorePaths) {
+            ignored |= ignorePath.matches(path);
+        }
+
+        if (ignored && log.isDebugEnabled()) {
+            log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
+        }
+
+        return ignored;
+    }
+
+    /**
+     * Skips current received value. In case ignore expressions are still waiting for a result the skipped value is read
+     * in order to evaluate the expressions on nested entries.
+     * @param parser
+     * @throws IOException
+     */
+    private void skipValue(JsonParser parser) throws IOException {
+        if (ignorePaths.stream().noneMatch(IgnorePath::isPending)) {
+            parser.skipChildren();
+            return;
+        }
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                path.add(parser.getCurrentName());
+                parser.nextToken();
+                visit(parser);
+                path.remove(path.size() - 1);
+            }
+        } else if (parser.currentToken() == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                path.add(index++);
+                visit(parser);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Evaluates ignore expressions on skipped value and its nested entries.
+     * @param parser
+     * @throws IOException
+     */
+    private void visit(JsonParser parser) throws IOException {
+        for (IgnorePath ignorePath : ignorePaths) {
+            ignorePath.matches(path);
+        }
+
+        skipValue(parser);
+    }
+
+    /**
+     * Reads current received value to Json simple object representation. Nested objects and arrays are read completely.
+     * @param parser
+     * @return
+     * @throws IOException
+     */
+    private Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case VALUE_NULL:
+                return null;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            default:
+                StringWriter writer = new StringWriter();
+                try (JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+                    generator.copyCurrentStructure(parser);
+                }
+
+                try {
+                    return valueParser.parse(writer.toString());
+                } catch (ParseException e) {
+                    throw new CitrusRuntimeException("Failed to parse JSON text", e);
+                }
+        }
+    }
+
+    private static String getTypeName(Object json) {
+        return json != null ? json.getClass().getSimpleName() : null;
+    }
+
+    private static String getClassName(Object json) {
+        return json != null ? json.getClass().getName() : null;
+    }
+
+    /**
+     * Ignore expression as sequence of JsonPath steps matching the current Json path of the received text.
+     */
+    static final class IgnorePath {
+        /** Original expression */
+        private final String expression;
+
+        /** Path steps */
+        private final List<Step> steps;
+
+        /** Definite paths must select an entry in received text */
+        private final boolean definite;
+
+        /** Marks that the expression has selected an entry */
+        private boolean matched;
+
+        private IgnorePath(String expression, List<Step> steps) {
+            this.expression = expression;
+            this.steps = steps;
+            this.definite = steps.stream().noneMatch(step -> step.deepScan || step.wildcard);
+        }
+
+        /**
+         * Parses JsonPath expression. Returns null in case expression is not a supported location path.
+         * @param expression
+         * @return
+         */
+        static IgnorePath parse(String expression) {
+            String path = expression.trim();
+            List<Step> steps = new ArrayList<>();
+            if (parseSteps(path, steps) != path.length()) {
+                return null;
+            }
+
+            return new IgnorePath(expression, steps);
+        }
+
+        /**
+         * Creates definite path selecting a single entry in a buffered subtree. The entry is given as normalized Json path
+         * relative to the subtree location.
+         * @param expression
+         * @param location
+         * @param normalizedPath
+         * @return
+         */
+        static IgnorePath of(String expression, List<Object> location, String normalizedPath) {
+            List<Step> steps = new ArrayList<>();
+            for (Object segment : location) {
+                steps.add(segment instanceof Integer ? new Step(null, (Integer) segment, false, false) : new Step((String) segment, -1, false, false));
+            }
+
+            Matcher matcher = NORMALIZED_PATH_STEP.matcher(normalizedPath);
+            while (matcher.find()) {
+                steps.add(matcher.group(1) != null ? new Step(matcher.group(1).replaceAll("\\\\(.)", "$1"), -1, false, false) :
+                        new Step(null, Integer.parseInt(matcher.group(2)), false, false));
+            }
+
+            IgnorePath ignorePath = new IgnorePath(expression, steps);
+            ignorePath.matched = true;
+            return ignorePath;
+        }
+
+        /**
+         * Parses location steps of given JsonPath expression. Stops at the first step that is not a supported location step.
+         * @param path
+         * @param steps
+         * @return position of the first unsupported step or -1 in case expression does not start with root element
+         */
+        static int parseSteps(String path, List<Step> steps) {
+            if (!path.startsWith("$")) {
+                return -1;
+            }
+
+            int pos = 1;
+            while (pos < path.length()) {
+                int start = pos;
+                boolean deepScan = false;
+                if (path.startsWith("..", pos)) {
+                    deepScan = true;
+                    pos += 2;
+                } else if (path.charAt(pos) == '.') {
+                    pos++;
+                } else if (path.charAt(pos) != '[') {
+                    return start;
+                }
+
+                if (pos >= path.length()) {
+                    return start;
+                }
+
+                Step step;
+                if (path.charAt(pos) == '[') {
+                    int end = path.indexOf(']', pos);
+                    if (end < 0) {
+                        return start;
+                    }
+
+                    step = Step.ofSelector(path.substring(pos + 1, end).trim(), deepScan);
+                    pos = end + 1;
+                } else {
+                    int end = pos;
+                    while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                        end++;
+                    }
+
+                    step = Step.ofName(path.substring(pos, end), deepScan);
+                    pos = end;
+                }
+
+                if (step == null) {
+                    return start;
+                }
+                steps.add(step);
+            }
+
+            return pos;
+        }
+
+        /**
+         * Checks if expression selects the given Json path.
+         * @param path
+         * @return
+         */
+        boolean matches(List<Object> path) {
+            if (matches(0, path, 0)) {
+                matched = true;
+                return true;
+            }
+
+            return false;
+        }
+
+        private boolean matches(int stepIndex, List<Object> path, int pathIndex) {
+            if (stepIndex == steps.size()) {
+                return pathIndex == path.size();
+            }
+
+            Step step = steps.get(stepIndex);
+            if (step.deepScan) {
+                for (int i = pathIndex; i < path.size(); i++) {
+                    if (step.matches(path.get(i)) && matches(stepIndex + 1, path, i + 1)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            return pathIndex < path.size() && step.matches(path.get(pathIndex)) && matches(stepIndex + 1, path, pathIndex + 1);
+        }
+
+        /**
+         * Definite paths that have not selected an entry yet.
+         * @return
+         */
+        boolean isPending() {
+            return definite && !matched;
+        }
+
+        /**
+         * Verifies that definite paths have selected an entry.
+         */
+        void verify() {
+            if (isPending()) {
+                throw new PathNotFoundException("No results for path: " + expression);
+            }
+        }
+    }
+
+    /**
+     * Ignore expression that is evaluated with JsonPath on the subtree selected by its leading location path.
+     */
+    static final class SubtreeIgnorePath {
+        /** Original expression */
+        private final String originalExpression;
+
+        /** Location path selecting subtrees */
+        private final IgnorePath location;
+
+        /** Rest of the expression relative to the subtree */
+        private final String expression;
+
+        private SubtreeIgnorePath(String originalExpression, IgnorePath location, String expression) {
+            this.originalExpression = originalExpression;
+            this.location = location;
+            this.expression = expression;
+        }
+
+        /**
+         * Parses JsonPath expression. Returns null in case expression does not start with at least one location step.
+         * @param expression
+         * @return
+         */
+        static SubtreeIgnorePath parse(String expression) {
+            String path = expression.trim();
+            List<Step> steps = new ArrayList<>();
+            int pos = IgnorePath.parseSteps(path, steps);
+            if (steps.isEmpty() || pos == path.length()) {
+                return null;
+            }
+
+            return new SubtreeIgnorePath(expression, new IgnorePath(expression, steps), "$" + path.substring(pos));
+        }
+    }
+
+    /**
+     * Single JsonPath step selecting field names, array indices or any entry.
+     */
+    private static final class Step {
+        private final String name;
+        private final int index;
+        private final boolean wildcard;
+        private final boolean deepScan;
+
+        private Step(String name, int index, boolean wildcard, boolean deepScan) {
+            this.name = name;
+            this.index = index;
+            this.wildcard = wildcard;
+            this.deepScan = deepScan;
+        }
+
+        static Step ofName(String name, boolean deepScan) {
+            if (name.equals("*")) {
+                return new Step(null, -1, true, deepScan);
+            }
+
+            if (!StringUtils.hasText(name) || name.matches(".*[()@?'\",:\\s\\]].*")) {
+                return null;
+            }
+
+            return new Step(name, -1, false, deepScan);
+        }
+
+        static Step ofSelector(String selector, boolean deepScan) {
+            if (selector.equals("*")) {
+                return new Step(null, -1, true, deepScan);
+            }
+
+            if (selector.matches("\\d+")) {
+                return new Step(null, Integer.parseInt(selector), false, deepScan);
+            }
+
+            if (selector.matches("'[^',]+'|\"[^\",]+\"")) {
+                return new Step(selector.substring(1, selector.length() - 1), -1, false, deepScan);
+            }
+
+            return null;
+        }
+
+        boolean matches(Object segment) {
+            if (wildcard) {
+                return true;
+            }
+
+            if (name != null) {
+                return name.equals(segment);
+            }
+
+            return segment instanceof Integer && (Integer) segment == index;
+        }
+    }
+}
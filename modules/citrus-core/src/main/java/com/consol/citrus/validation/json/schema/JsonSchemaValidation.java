@@ -20,28 +20,57 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.json.JsonSchemaRepository;
 import com.consol.citrus.json.schema.SimpleJsonSchema;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessagePayloadCache;
 import com.consol.citrus.validation.json.JsonMessageValidationContext;
 import com.consol.citrus.validation.json.report.GraciousProcessingReport;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
+import com.jayway.jsonpath.spi.json.JacksonJsonNodeJsonProvider;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationContext;
+import org.springframework.util.StringUtils;
 
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * This class is responsible for the validation of json messages against json schemas / json schema repositories.
+ *
+ * The message payload is parsed only once for all schemas. When the message declares a schema identifier (either with
+ * $schema or $id property or with the JsonPath discriminator configured on the schema repository) only schemas matching
+ * this identifier are used for validation. Schemas match by their $id or by their file name. Validation results are cached
+ * per schema for identical message payloads.
  * @since 2.7.3
  */
 public class JsonSchemaValidation {
 
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(JsonSchemaValidation.class);
+
+    /** Default number of message payloads with cached validation results */
+    public static final int DEFAULT_CACHE_SIZE = 100;
+
+    /** Object mapper reading Json trees that are not cached */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    /** Json path configuration working on Jackson Json trees */
+    private static final Configuration JSON_PATH_CONFIGURATION = Configuration.builder()
+            .jsonProvider(new JacksonJsonNodeJsonProvider())
+            .build();
+
     private final JsonSchemaFilter jsonSchemaFilter;
 
-    /** Object Mapper to convert the message for validation*/
-    private ObjectMapper objectMapper = new ObjectMapper();
+    /** Validation reports per schema by message payload digest */
+    private final Map<String, Map<SimpleJsonSchema, ProcessingReport>> reportCache;
 
     /**
      * Default constructor using default filter.
@@ -55,7 +84,22 @@ public class JsonSchemaValidation {
      * @param jsonSchemaFilter
      */
     public JsonSchemaValidation(JsonSchemaFilter jsonSchemaFilter) {
+        this(jsonSchemaFilter, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Constructor using filter implementation and maximum number of message payloads with cached validation results.
+     * @param jsonSchemaFilter
+     * @param cacheSize
+     */
+    public JsonSchemaValidation(JsonSchemaFilter jsonSchemaFilter, int cacheSize) {
         this.jsonSchemaFilter = jsonSchemaFilter;
+        this.reportCache = Collections.synchronizedMap(new LinkedHashMap<String, Map<SimpleJsonSchema, ProcessingReport>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Map<SimpleJsonSchema, ProcessingReport>> eldest) {
+                return size() > cacheSize;
+            }
+        });
     }
 
     /**
@@ -70,38 +114,154 @@ public class JsonSchemaValidation {
                                      List<JsonSchemaRepository> schemaRepositories,
                                      JsonMessageValidationContext validationContext,
                                      ApplicationContext applicationContext) {
-        return validate(message, jsonSchemaFilter.filter(schemaRepositories, validationContext, applicationContext));
+        return validate(message, schemaRepositories, validationContext, applicationContext, true);
     }
 
     /**
-     * Validates a message against all schemas contained in the given json schema repository
+     * Validates the given message against a list of JsonSchemaRepositories under consideration of the actual context. Large
+     * message payloads should not keep the parsed Json tree in the message payload cache once schema validation is done.
      * @param message The message to be validated
-     * @param jsonSchemas The list of json schemas to iterate over
+     * @param schemaRepositories The schema repositories to be used for validation
+     * @param validationContext The context of the validation to be used for the validation
+     * @param applicationContext The application context to be used for the validation
+     * @param cacheJsonTree Keep the parsed Json tree in the message payload cache for other validators
+     * @return A report holding the results of the validation
      */
-    private GraciousProcessingReport validate(Message message, List<SimpleJsonSchema> jsonSchemas) {
+    public ProcessingReport validate(Message message,
+                                     List<JsonSchemaRepository> schemaRepositories,
+                                     JsonMessageValidationContext validationContext,
+                                     ApplicationContext applicationContext,
+                                     boolean cacheJsonTree) {
+        List<SimpleJsonSchema> jsonSchemas = jsonSchemaFilter.filter(schemaRepositories, validationContext, applicationContext);
         if (jsonSchemas.isEmpty()) {
             return new GraciousProcessingReport(true);
-        } else {
-            List<ProcessingReport> processingReports = new LinkedList<>();
-            for (SimpleJsonSchema simpleJsonSchema : jsonSchemas) {
-                processingReports.add(validate(message, simpleJsonSchema));
-            }
-            return new GraciousProcessingReport(processingReports);
+        }
+
+        try {
+            JsonNode receivedJson = cacheJsonTree ? MessagePayloadCache.getJsonNode(message) : OBJECT_MAPPER.readTree(message.getPayload(String.class));
+            return validate(message, receivedJson, routeSchemas(receivedJson, jsonSchemas, schemaRepositories));
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to validate Json schema", e);
         }
     }
 
     /**
-     * Validates a given message against a given json schema
+     * Validates a message against all given schemas. Uses cached validation results for identical message payloads.
      * @param message The message to be validated
+     * @param receivedJson The parsed message payload
+     * @param jsonSchemas The list of json schemas to iterate over
+     */
+    private GraciousProcessingReport validate(Message message, JsonNode receivedJson, List<SimpleJsonSchema> jsonSchemas) {
+        String digest = DigestUtils.sha256Hex(message.getPayload(String.class));
+
+        Map<SimpleJsonSchema, ProcessingReport> reports;
+        synchronized (reportCache) {
+            reports = reportCache.computeIfAbsent(digest, key -> new ConcurrentHashMap<>());
+        }
+
+        List<ProcessingReport> processingReports = new LinkedList<>();
+        for (SimpleJsonSchema simpleJsonSchema : jsonSchemas) {
+            processingReports.add(reports.computeIfAbsent(simpleJsonSchema, schema -> validate(receivedJson, schema)));
+        }
+
+        return new GraciousProcessingReport(processingReports);
+    }
+
+    /**
+     * Validates a given Json tree against a given json schema
+     * @param receivedJson The Json tree to be validated
      * @param simpleJsonSchema The json schema to validate against
      * @return returns the report holding the result of the validation
      */
-    private ProcessingReport validate(Message message, SimpleJsonSchema simpleJsonSchema) {
+    private ProcessingReport validate(JsonNode receivedJson, SimpleJsonSchema simpleJsonSchema) {
         try {
-            JsonNode receivedJson = objectMapper.readTree(message.getPayload(String.class));
             return simpleJsonSchema.getSchema().validate(receivedJson);
-        } catch (IOException | ProcessingException e) {
+        } catch (ProcessingException e) {
             throw new CitrusRuntimeException("Failed to validate Json schema", e);
         }
     }
+
+    /**
+     * Selects the schemas matching the schema identifiers declared in the message. Returns all given schemas when the message does not
+     * declare a schema identifier or none of the schemas matches.
+     * @param receivedJson The parsed message payload
+     * @param jsonSchemas The candidate schemas
+     * @param schemaRepositories The schema repositories possibly defining a discriminator expression
+     * @return
+     */
+    private List<SimpleJsonSchema> routeSchemas(JsonNode receivedJson, List<SimpleJsonSchema> jsonSchemas, List<JsonSchemaRepository> schemaRepositories) {
+        if (jsonSchemas.size() < 2 || !receivedJson.isObject()) {
+            return jsonSchemas;
+        }
+
+        Set<String> schemaIds = new HashSet<>();
+        addSchemaId(schemaIds, receivedJson.get("$schema"));
+        addSchemaId(schemaIds, receivedJson.get("$id"));
+
+        for (JsonSchemaRepository schemaRepository : schemaRepositories) {
+            if (StringUtils.hasText(schemaRepository.getDiscriminator())) {
+                try {
+                    addSchemaId(schemaIds, JsonPath.using(JSON_PATH_CONFIGURATION).parse(receivedJson).read(schemaRepository.getDiscriminator()));
+                } catch (PathNotFoundException e) {
+                    log.debug("Schema discriminator '" + schemaRepository.getDiscriminator() + "' not found in message");
+                }
+            }
+        }
+
+        if (schemaIds.isEmpty()) {
+            return jsonSchemas;
+        }
+
+        List<SimpleJsonSchema> matching = jsonSchemas.stream()
+                .filter(schema -> matches(schema, schemaIds))
+                .collect(Collectors.toList());
+
+        if (matching.isEmpty()) {
+            return jsonSchemas;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Using %s of %s json schemas matching schema identifier %s", matching.size(), jsonSchemas.size(), schemaIds));
+        }
+
+        return matching;
+    }
+
+    /**
+     * Checks if schema matches one of the given schema identifiers either by its id or by its file name.
+     * @param jsonSchema
+     * @param schemaIds
+     * @return
+     */
+    private boolean matches(SimpleJsonSchema jsonSchema, Set<String> schemaIds) {
+        if (jsonSchema.getId() != null && schemaIds.contains(normalize(jsonSchema.getId()))) {
+            return true;
+        }
+
+        if (jsonSchema.getJson() != null && jsonSchema.getJson().getFilename() != null) {
+            String fileName = jsonSchema.getJson().getFilename();
+            return schemaIds.contains(fileName) || schemaIds.contains(StringUtils.stripFilenameExtension(fileName));
+        }
+
+        return false;
+    }
+
+    private void addSchemaId(Set<String> schemaIds, Object value) {
+        if (value instanceof JsonNode) {
+            if (((JsonNode) value).isValueNode()) {
+                schemaIds.add(normalize(((JsonNode) value).asText()));
+            }
+        } else if (value != null) {
+            schemaIds.add(normalize(value.toString()));
+        }
+    }
+
+    /**
+     * Removes empty fragment from schema identifier.
+     * @param schemaId
+     * @return
+     */
+    private static String normalize(String schemaId) {
+        return schemaId.endsWith("#") ? schemaId.substring(0, schemaId.length() - 1) : schemaId;
+    }
 }
@@ -19,11 +19,10 @@ package com.consol.citrus.validation.script;
 import com.consol.citrus.Citrus;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.script.GroovyScriptCache;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.validation.builder.AbstractMessageContentBuilder;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import org.codehaus.groovy.control.CompilationFailedException;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 
@@ -76,27 +75,10 @@ public class GroovyScriptMessageBuilder extends AbstractMessageContentBuilder {
      * @return
      */
     private String buildMarkupBuilderScript(String scriptData) {
-        try {
-            ClassLoader parent = GroovyScriptMessageBuilder.class.getClassLoader(); 
-            GroovyClassLoader loader = new GroovyClassLoader(parent);
-            
-            Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
-                                                            .withCode(scriptData)
-                                                            .build());
-            
-            if (groovyClass == null) {
-                throw new CitrusRuntimeException("Could not load groovy script!");    
-            }
-            
-            GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
-            return (String) groovyObject.invokeMethod("run", new Object[] {});
-        } catch (CompilationFailedException e) {
-            throw new CitrusRuntimeException(e);
-        } catch (InstantiationException e) {
-            throw new CitrusRuntimeException(e);
-        } catch (IllegalAccessException e) {
-            throw new CitrusRuntimeException(e);
-        }
+        GroovyObject groovyObject = GroovyScriptCache.newInstance(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                                                        .withCode(scriptData)
+                                                        .build(), GroovyScriptMessageBuilder.class.getClassLoader());
+        return (String) groovyObject.invokeMethod("run", new Object[] {});
     }
 
     /**
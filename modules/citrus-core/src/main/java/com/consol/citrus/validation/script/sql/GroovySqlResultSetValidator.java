@@ -17,23 +17,19 @@
 package com.consol.citrus.validation.script.sql;
 
 import com.consol.citrus.context.TestContext;
-import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.script.GroovyScriptCache;
 import com.consol.citrus.script.ScriptTypes;
 import com.consol.citrus.validation.script.*;
-import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
-import org.codehaus.groovy.control.CompilationFailedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.util.StringUtils;
 
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * Groovy script validator capable of validating SQL result sets.
@@ -49,6 +45,9 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
     
     /** Static code snippet for groovy script validation */
     private Resource scriptTemplateResource;
+
+    /** Static code snippet for groovy script validation on streamed result rows */
+    private Resource streamingScriptTemplateResource = new ClassPathResource("com/consol/citrus/validation/sql/sql-streaming-validation-template.groovy");
     
     /**
      * Default constructor using a default script template. 
@@ -65,9 +64,40 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
         this.scriptTemplateResource = scriptTemplateResource;
     }
 
+    /**
+     * Constructor with script templates for result set lists and streamed result rows.
+     * @param scriptTemplateResource
+     * @param streamingScriptTemplateResource
+     */
+    public GroovySqlResultSetValidator(Resource scriptTemplateResource, Resource streamingScriptTemplateResource) {
+        this.scriptTemplateResource = scriptTemplateResource;
+        this.streamingScriptTemplateResource = streamingScriptTemplateResource;
+    }
+
     public void validateSqlResultSet(List<Map<String, Object>> resultSet,
             ScriptValidationContext validationContext, TestContext context)
             throws ValidationException {
+        validate(scriptTemplateResource, validationContext, context,
+                groovyObject -> ((SqlResultSetScriptExecutor) groovyObject).validate(resultSet, context));
+    }
+
+    @Override
+    public void validateSqlResultSet(Iterator<Map<String, Object>> rows,
+            ScriptValidationContext validationContext, TestContext context)
+            throws ValidationException {
+        validate(streamingScriptTemplateResource, validationContext, context,
+                groovyObject -> ((SqlResultSetStreamingScriptExecutor) groovyObject).validate(rows, context));
+    }
+
+    /**
+     * Builds validation script from given template and executes the script.
+     * @param templateResource
+     * @param validationContext
+     * @param context
+     * @param execution
+     */
+    private void validate(Resource templateResource, ScriptValidationContext validationContext, TestContext context,
+                          Consumer<GroovyObject> execution) throws ValidationException {
         // only validate if groovy script type is set
         if (validationContext.getScriptType().equals(ScriptTypes.GROOVY)) {
             try {
@@ -76,31 +106,13 @@ public class GroovySqlResultSetValidator implements SqlResultSetScriptValidator
                 if (StringUtils.hasText(validationScript)) {
                     log.debug("Start groovy SQL result set validation");
 
-                    GroovyClassLoader loader = AccessController.doPrivileged(new PrivilegedAction<GroovyClassLoader>() {
-                        public GroovyClassLoader run() {
-                            return new GroovyClassLoader(GroovyScriptMessageValidator.class.getClassLoader());
-                        }
-                    });
-
-                    Class<?> groovyClass = loader.parseClass(TemplateBasedScriptBuilder.fromTemplateResource(scriptTemplateResource)
+                    GroovyObject groovyObject = GroovyScriptCache.newInstance(TemplateBasedScriptBuilder.fromTemplateResource(templateResource)
                                                                 .withCode(validationScript)
-                                                                .build());
-                    
-                    if (groovyClass == null) {
-                        throw new CitrusRuntimeException("Failed to load groovy validation script resource");
-                    }
-                    
-                    GroovyObject groovyObject = (GroovyObject) groovyClass.newInstance();
-                    ((SqlResultSetScriptExecutor) groovyObject).validate(resultSet, context);
+                                                                .build(), GroovyScriptMessageValidator.class.getClassLoader());
+                    execution.accept(groovyObject);
                     
                     log.info("Groovy SQL result set validation successful: All values OK");
                 }
-            } catch (CompilationFailedException e) {
-                throw new CitrusRuntimeException(e);
-            } catch (InstantiationException e) {
-                throw new CitrusRuntimeException(e);
-            } catch (IllegalAccessException e) {
-                throw new CitrusRuntimeException(e);
             } catch (AssertionError e) {
                 throw new ValidationException("Groovy SQL result set validation failed with assertion error:\n" + e.getMessage(), e);
             }
@@ -16,8 +16,7 @@
 
 package com.consol.citrus.validation.script.sql;
 
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
@@ -39,4 +38,18 @@ public interface SqlResultSetScriptValidator {
      */
     void validateSqlResultSet(List<Map<String, Object>> resultSet, 
             ScriptValidationContext validationContext, TestContext context) throws ValidationException;
+
+    /**
+     * Validates the SQL result set rows given as lazy iterator. Rows are read from the database while iterating. Default
+     * implementation collects all rows and performs the list based validation.
+     * @param rows the SQL result set rows.
+     * @param validationContext the current validation context.
+     * @param context the current test context.
+     */
+    default void validateSqlResultSet(Iterator<Map<String, Object>> rows,
+            ScriptValidationContext validationContext, TestContext context) throws ValidationException {
+        List<Map<String, Object>> resultSet = new ArrayList<>();
+        rows.forEachRemaining(resultSet::add);
+        validateSqlResultSet(resultSet, validationContext, context);
+    }
 }
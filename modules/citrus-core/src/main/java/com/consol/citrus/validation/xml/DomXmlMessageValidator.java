@@ -22,17 +22,19 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.message.*;
 import com.consol.citrus.util.XMLUtils;
-import com.consol.citrus.validation.AbstractMessageValidator;
+import com.consol.citrus.validation.AbstractStreamingMessageValidator;
 import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.consol.citrus.xml.XsdSchemaRepository;
 import com.consol.citrus.xml.namespace.NamespaceContextBuilder;
+import com.consol.citrus.xml.schema.CompiledSchemaValidator;
 import com.consol.citrus.xml.schema.WsdlXsdSchema;
 import com.consol.citrus.xml.schema.XsdSchemaCollection;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.core.io.ByteArrayResource;
@@ -40,7 +42,6 @@ import org.springframework.core.io.Resource;
 import org.springframework.util.*;
 import org.springframework.util.xml.DomUtils;
 import org.springframework.xml.validation.XmlValidator;
-import org.springframework.xml.validation.XmlValidatorFactory;
 import org.springframework.xml.xsd.XsdSchema;
 import org.w3c.dom.*;
 import org.w3c.dom.ls.LSException;
@@ -49,23 +50,31 @@ import org.xml.sax.SAXParseException;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
+import javax.xml.transform.Source;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
+import javax.xml.transform.stream.StreamSource;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.Map.Entry;
 
 /**
  * Default message validator implementation. Working on XML messages
  * providing message payload, header and namespace validation.
  *
+ * Streaming payloads skip the DOM tree: schema validation reads the payload from a stream source and looks up the schema with a
+ * document holding the root element only, namespace and message content validation read the payload with StAX
+ * (see {@link StaxXmlTreeValidator}). XPath ignore expressions that can not be evaluated on the StAX event stream still need
+ * the DOM tree.
+ *
  * @author Christoph Deppisch
  * @since 2007
  */
-public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageValidationContext> implements ApplicationContextAware {
+public class DomXmlMessageValidator extends AbstractStreamingMessageValidator<XmlMessageValidationContext> implements ApplicationContextAware {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(DomXmlMessageValidator.class);
     
@@ -81,6 +90,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
     /** Transformer factory */
     private TransformerFactory transformerFactory = TransformerFactory.newInstance();
 
+    /** Xml validators with compiled schemas by list of schemas they validate */
+    private final Map<List<XsdSchema>, XmlValidator> schemaValidators = new ConcurrentHashMap<>();
+
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage,
                                 TestContext context, XmlMessageValidationContext validationContext) throws ValidationException {
@@ -111,14 +123,28 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         } catch (ClassCastException | DOMException | LSException e) {
             throw new CitrusRuntimeException(e);
         } catch (IllegalArgumentException e) {
-            log.error("Failed to validate:\n" + XMLUtils.prettyPrint(receivedMessage.getPayload(String.class)));
+            logValidationFailure("Failed to validate:", receivedMessage);
             throw new ValidationException("Validation failed:", e);
         } catch (ValidationException ex) {
-            log.error("Failed to validate:\n" + XMLUtils.prettyPrint(receivedMessage.getPayload(String.class)));
+            logValidationFailure("Failed to validate:", receivedMessage);
             throw ex;
         }
     }
 
+    /**
+     * Logs validation failure with received message payload. Streaming payloads are not pretty printed as this would need
+     * the whole DOM tree.
+     * @param message
+     * @param receivedMessage
+     */
+    private void logValidationFailure(String message, Message receivedMessage) {
+        if (isStreamingPayload(receivedMessage)) {
+            log.error(message + " " + describePayload(receivedMessage));
+        } else {
+            log.error(message + "\n" + XMLUtils.prettyPrint(receivedMessage.getPayload(String.class)));
+        }
+    }
+
     /**
      * Validate message with a DTD.
      *
@@ -141,7 +167,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         try {
-            Document doc = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+            boolean streaming = isStreamingPayload(receivedMessage);
+            Document doc = streaming ? StaxXmlTreeValidator.createRootElementDocument(receivedMessage.getPayload(String.class)) : MessagePayloadCache.getXmlDocument(receivedMessage);
 
             if (!StringUtils.hasText(doc.getFirstChild().getNamespaceURI())) {
                 return;
@@ -152,7 +179,8 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             XmlValidator validator = null;
             XsdSchemaRepository schemaRepository = null;
             if (validationContext.getSchema() != null) {
-                validator = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class).createValidator();
+                XsdSchema xsdSchema = applicationContext.getBean(validationContext.getSchema(), XsdSchema.class);
+                validator = schemaValidators.computeIfAbsent(Collections.singletonList(xsdSchema), key -> xsdSchema.createValidator());
             } else if (validationContext.getSchemaRepository() != null) {
                 schemaRepository = applicationContext.getBean(validationContext.getSchemaRepository(), XsdSchemaRepository.class);
             } else if (schemaRepositories.size() == 1) {
@@ -181,38 +209,15 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                             schemaRepository.getName()));
                 }
 
-                List<Resource> schemas = new ArrayList<>();
-                for (XsdSchema xsdSchema : schemaRepository.getSchemas()) {
-                    if (xsdSchema instanceof XsdSchemaCollection) {
-                        for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }                            
-                    } else if (xsdSchema instanceof WsdlXsdSchema) {
-                        for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
-                            schemas.add(resource);
-                        }
-                    } else {
-                        synchronized (transformerFactory) {
-                            ByteArrayOutputStream bos = new ByteArrayOutputStream();
-                            try {
-                                transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
-                            } catch (TransformerException e) {
-                                throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
-                            }
-                            schemas.add(new ByteArrayResource(bos.toByteArray()));
-                        }
-                    }
-                }
-                
-                validator = XmlValidatorFactory.createValidator(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+                validator = schemaValidators.computeIfAbsent(new ArrayList<>(schemaRepository.getSchemas()), this::createSchemaValidator);
             }
             
-            SAXParseException[] results = validator.validate(new DOMSource(doc));
+            Source source = streaming ? new StreamSource(StaxXmlTreeValidator.createReader(receivedMessage.getPayload(String.class))) : new DOMSource(doc);
+            SAXParseException[] results = validator.validate(source);
             if (results.length == 0) {
                 log.info("XML schema validation successful: All values OK");
             } else {
-                log.error("XML schema validation failed for message:\n" +
-                        XMLUtils.prettyPrint(receivedMessage.getPayload(String.class)));
+                logValidationFailure("XML schema validation failed for message:", receivedMessage);
                 
                 // Report all parsing errors
                 log.debug("Found " + results.length + " schema validation errors");
@@ -230,6 +235,40 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
     }
 
+    /**
+     * Creates new Xml validator for given list of schemas. All schemas are compiled into a single schema instance that is
+     * reused for all validations with this validator.
+     *
+     * @param xsdSchemas
+     * @return
+     */
+    private XmlValidator createSchemaValidator(List<XsdSchema> xsdSchemas) {
+        List<Resource> schemas = new ArrayList<>();
+        for (XsdSchema xsdSchema : xsdSchemas) {
+            if (xsdSchema instanceof XsdSchemaCollection) {
+                for (Resource resource : ((XsdSchemaCollection) xsdSchema).getSchemaResources()) {
+                    schemas.add(resource);
+                }                            
+            } else if (xsdSchema instanceof WsdlXsdSchema) {
+                for (Resource resource : ((WsdlXsdSchema) xsdSchema).getSchemaResources()) {
+                    schemas.add(resource);
+                }
+            } else {
+                synchronized (transformerFactory) {
+                    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                    try {
+                        transformerFactory.newTransformer().transform(xsdSchema.getSource(), new StreamResult(bos));
+                    } catch (TransformerException e) {
+                        throw new CitrusRuntimeException("Failed to read schema " + xsdSchema.getTargetNamespace(), e);
+                    }
+                    schemas.add(new ByteArrayResource(bos.toByteArray()));
+                }
+            }
+        }
+
+        return CompiledSchemaValidator.fromResources(schemas.toArray(new Resource[schemas.size()]), WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+    }
+
     /**
      * Validate namespaces in message. The method compares namespace declarations in the root
      * element of the received message to expected namespaces. Prefixes are important too, so
@@ -247,13 +286,20 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         log.debug("Start XML namespace validation");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
-
-        Map<String, String> foundNamespaces = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
+        Map<String, String> foundNamespaces;
+        String rootNodePath;
+        if (isStreamingPayload(receivedMessage)) {
+            foundNamespaces = StaxXmlTreeValidator.lookupNamespaces(receivedMessage.getPayload(String.class));
+            rootNodePath = StaxXmlTreeValidator.getRootElement(receivedMessage.getPayload(String.class)).getLocalPart();
+        } else {
+            Document received = MessagePayloadCache.getXmlDocument(receivedMessage);
+            foundNamespaces = XMLUtils.lookupNamespaces(receivedMessage.getPayload(String.class));
+            rootNodePath = XMLUtils.getNodesPathName(received.getFirstChild());
+        }
 
         if (foundNamespaces.size() != expectedNamespaces.size()) {
             throw new ValidationException("Number of namespace declarations not equal for node " +
-                    XMLUtils.getNodesPathName(received.getFirstChild()) + " found " +
+                    rootNodePath + " found " +
                     foundNamespaces.size() + " expected " + expectedNamespaces.size());
         }
 
@@ -265,16 +311,14 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                 if (!foundNamespaces.get(namespace).equals(url)) {
                     throw new ValidationException("Namespace '" + namespace +
                             "' values not equal: found '" + foundNamespaces.get(namespace) +
-                            "' expected '" + url + "' in reference node " +
-                            XMLUtils.getNodesPathName(received.getFirstChild()));
+                            "' expected '" + url + "' in reference node " + rootNodePath);
                 } else {
                     if (log.isDebugEnabled()) {
                         log.debug("Validating namespace " + namespace + " value as expected " + url + " - value OK");
                     }
                 }
             } else {
-                throw new ValidationException("Missing namespace " + namespace + "(" + url + ") in node " +
-                        XMLUtils.getNodesPathName(received.getFirstChild()));
+                throw new ValidationException("Missing namespace " + namespace + "(" + url + ") in node " + rootNodePath);
             }
         }
 
@@ -342,9 +386,22 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             return;
         }
 
+        if (isStreamingPayload(receivedMessage)) {
+            if (StaxXmlTreeValidator.supportsIgnoreExpressions(validationContext.getIgnoreExpressions())) {
+                log.debug("Start streaming XML tree validation ...");
+
+                new StaxXmlTreeValidator(validationContext.getIgnoreExpressions(),
+                        () -> namespaceContextBuilder.buildContext(receivedMessage, validationContext.getNamespaces()), context)
+                        .validate(receivedMessage.getPayload(String.class), controlMessagePayload);
+                return;
+            }
+
+            log.warn("Ignore expressions not supported in streaming mode - using DOM tree validation for large message payload");
+        }
+
         log.debug("Start XML tree validation ...");
 
-        Document received = XMLUtils.parseMessagePayload(receivedMessage.getPayload(String.class));
+        Document received = (Document) MessagePayloadCache.getXmlDocument(receivedMessage).cloneNode(true);
         Document source = XMLUtils.parseMessagePayload(controlMessagePayload);
 
         XMLUtils.stripWhitespaceNodes(received);
@@ -750,6 +807,16 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         schemaRepositories.add(schemaRepository);
     }
 
+    /**
+     * Sets the streaming threshold from property citrus.xml.validation.streaming.threshold.
+     * @param streamingThreshold
+     */
+    @Override
+    @Value("${citrus.xml.validation.streaming.threshold:" + DEFAULT_STREAMING_THRESHOLD + "}")
+    public void setStreamingThreshold(int streamingThreshold) {
+        super.setStreamingThreshold(streamingThreshold);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.message.Message;
+
+/**
+ * XML message validator that always uses streaming validation with StAX regardless of the received payload size. Received
+ * and control payloads are compared in a single pass without building DOM trees. Validation falls back to DOM tree validation
+ * only for ignore expressions that can not be evaluated in streaming mode.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StaxXmlMessageValidator extends DomXmlMessageValidator {
+
+    @Override
+    public boolean isStreamingPayload(Message receivedMessage) {
+        return receivedMessage.getPayload() instanceof String;
+    }
+}
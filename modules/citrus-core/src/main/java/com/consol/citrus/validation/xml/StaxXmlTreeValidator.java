@@ -0,0 +1,1296 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.consol.citrus.xml.xpath.XPathUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+import org.w3c.dom.Document;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.*;
+import javax.xml.stream.events.*;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compares received and control XML payloads in a single streaming pass using StAX event readers. Neither payload is
+ * materialized as DOM tree, so memory consumption does not depend on the payload size.
+ *
+ * Validation follows the rules of the DOM tree validation in {@link DomXmlMessageValidator}: element names and namespaces,
+ * attributes, element text values, number of child elements, ignore placeholders, validation matchers and namespace qualified
+ * attribute values. Ignore expressions are supported as node path expressions (e.g. Numbers.NumberItem.AreaCode) and as XPath
+ * location paths with child and descendant steps, name tests, wildcards, positional predicates and a trailing attribute step
+ * (e.g. //ns:NumberItem[2]/ns:AreaCode or /ns:Numbers/@id). Other XPath expressions need the DOM tree, check
+ * {@link #supportsIgnoreExpressions(Set)} before using this validator.
+ *
+ * As both documents are compared while reading, the first mismatch found in document order is reported. This may differ from the
+ * DOM tree validation that checks all attributes, text and number of child elements of an element before its children.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StaxXmlTreeValidator {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(StaxXmlTreeValidator.class);
+
+    /** Shared input factory, readers are created in synchronized block */
+    private static final XMLInputFactory INPUT_FACTORY = createInputFactory();
+
+    /** Supported XPath location path step */
+    private static final Pattern XPATH_STEP = Pattern.compile("(@)?(\\*|[A-Za-z_][\\w.\\-]*:\\*|(?:[A-Za-z_][\\w.\\-]*:)?[A-Za-z_][\\w.\\-]*)(?:\\[(\\d+)])?");
+
+    /** Root element name in document type declaration */
+    private static final Pattern DOCTYPE_NAME = Pattern.compile("<!DOCTYPE\\s+([^\\s\\[>]+)");
+
+    /** Public and system id in document type declaration */
+    private static final Pattern DOCTYPE_IDS = Pattern.compile("<!DOCTYPE\\s+\\S+\\s+(?:PUBLIC\\s+([\"'])(.*?)\\1\\s+([\"'])(.*?)\\3|SYSTEM\\s+([\"'])(.*?)\\5)");
+
+    /** Ignore expressions compiled to streaming path matchers */
+    private final List<IgnorePath> ignorePaths;
+
+    /** Test context for validation matchers */
+    private final TestContext context;
+
+    /** Path of currently validated element in received document */
+    private final List<PathElement> path = new ArrayList<>();
+
+    /** Document level holding the received root element position */
+    private PathElement document;
+
+    /**
+     * Constructor using ignore expressions, namespace context supplier for XPath ignore expressions and test context.
+     * @param ignoreExpressions
+     * @param namespaceContext supplier is called only when XPath ignore expressions are present.
+     * @param context
+     */
+    public StaxXmlTreeValidator(Set<String> ignoreExpressions, Supplier<NamespaceContext> namespaceContext, TestContext context) {
+        this.context = context;
+        this.ignorePaths = compileIgnorePaths(ignoreExpressions, namespaceContext);
+    }
+
+    /**
+     * Checks whether all given ignore expressions can be evaluated while streaming.
+     * @param ignoreExpressions
+     * @return
+     */
+    public static boolean supportsIgnoreExpressions(Set<String> ignoreExpressions) {
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return true;
+        }
+
+        for (String expression : ignoreExpressions) {
+            if (XPathUtils.isXPathExpression(expression) && XPathLocationPath.parse(expression) == null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Validates received payload with control payload.
+     * @param receivedPayload
+     * @param controlPayload
+     */
+    public void validate(String receivedPayload, String controlPayload) {
+        XMLEventReader received = null;
+        XMLEventReader control = null;
+
+        try {
+            received = createEventReader(receivedPayload);
+            control = createEventReader(controlPayload);
+
+            path.clear();
+            document = new PathElement(null);
+            ignorePaths.forEach(IgnorePath::reset);
+
+            validateDocument(received, control);
+            ignorePaths.forEach(IgnorePath::verify);
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML payload", e);
+        } finally {
+            close(received);
+            close(control);
+        }
+    }
+
+    /**
+     * Reads the root element name of given XML payload.
+     * @param payload
+     * @return
+     */
+    public static QName getRootElement(String payload) {
+        XMLEventReader reader = null;
+        try {
+            reader = createEventReader(payload);
+            while (reader.hasNext()) {
+                XMLEvent event = reader.nextEvent();
+                if (event.isStartElement()) {
+                    return event.asStartElement().getName();
+                }
+            }
+
+            throw new CitrusRuntimeException("Missing root element in XML payload");
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML payload", e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    /**
+     * Creates DOM document holding only the document type definition and the root element of given XML payload. Content of
+     * the root element is not read.
+     * @param payload
+     * @return
+     */
+    public static Document createRootElementDocument(String payload) {
+        XMLEventReader reader = null;
+        try {
+            reader = createEventReader(payload);
+
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            Document doc = factory.newDocumentBuilder().newDocument();
+
+            while (reader.hasNext()) {
+                XMLEvent event = reader.nextEvent();
+                if (event.getEventType() == XMLStreamConstants.DTD) {
+                    Matcher name = DOCTYPE_NAME.matcher(((DTD) event).getDocumentTypeDeclaration());
+                    if (name.find()) {
+                        String[] ids = getDocumentTypeIds((DTD) event);
+                        doc.appendChild(doc.getImplementation().createDocumentType(name.group(1), ids[0], ids[1]));
+                    }
+                } else if (event.isStartElement()) {
+                    QName root = event.asStartElement().getName();
+                    doc.appendChild(doc.createElementNS(StringUtils.hasLength(root.getNamespaceURI()) ? root.getNamespaceURI() : null,
+                            StringUtils.hasLength(root.getPrefix()) ? root.getPrefix() + ":" + root.getLocalPart() : root.getLocalPart()));
+                    return doc;
+                }
+            }
+
+            throw new CitrusRuntimeException("Missing root element in XML payload");
+        } catch (XMLStreamException | ParserConfigurationException e) {
+            throw new CitrusRuntimeException("Failed to read XML payload", e);
+        } finally {
+            close(reader);
+        }
+    }
+
+    /**
+     * Collects all namespace declarations in given XML payload. Declarations of the same prefix on different elements are
+     * overwritten in document order.
+     * @param payload
+     * @return
+     */
+    public static Map<String, String> lookupNamespaces(String payload) {
+        Map<String, String> namespaces = new HashMap<>();
+
+        XMLEventReader reader = null;
+        try {
+            reader = createEventReader(payload);
+            while (reader.hasNext()) {
+                XMLEvent event = reader.nextEvent();
+                if (event.isStartElement()) {
+                    Iterator<?> declarations = event.asStartElement().getNamespaces();
+                    while (declarations.hasNext()) {
+                        Namespace namespace = (Namespace) declarations.next();
+                        namespaces.put(namespace.getPrefix(), namespace.getNamespaceURI());
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new CitrusRuntimeException("Failed to read XML payload", e);
+        } finally {
+            close(reader);
+        }
+
+        return namespaces;
+    }
+
+    /**
+     * Creates reader for given payload skipping leading whitespace characters.
+     * @param payload
+     * @return
+     */
+    public static Reader createReader(String payload) {
+        int start = 0;
+        while (start < payload.length() && Character.isWhitespace(payload.charAt(start))) {
+            start++;
+        }
+
+        StringReader reader = new StringReader(payload);
+        try {
+            reader.skip(start);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read XML payload", e);
+        }
+
+        return reader;
+    }
+
+    /**
+     * Validates document level nodes and the root element.
+     * @param received
+     * @param control
+     * @throws XMLStreamException
+     */
+    private void validateDocument(XMLEventReader received, XMLEventReader control) throws XMLStreamException {
+        XMLEvent receivedEvent = nextDocumentNode(received);
+        XMLEvent controlEvent = nextDocumentNode(control);
+
+        if (receivedEvent != null && receivedEvent.getEventType() == XMLStreamConstants.DTD) {
+            Assert.isTrue(controlEvent != null && controlEvent.getEventType() == XMLStreamConstants.DTD,
+                    "Missing document type definition in expected xml fragment");
+            validateDocumentType((DTD) receivedEvent, (DTD) controlEvent);
+
+            receivedEvent = nextDocumentNode(received);
+            controlEvent = nextDocumentNode(control);
+        } else if (controlEvent != null && controlEvent.getEventType() == XMLStreamConstants.DTD) {
+            controlEvent = nextDocumentNode(control);
+        }
+
+        if (receivedEvent == null || controlEvent == null) {
+            return;
+        }
+
+        validateElement(receivedEvent.asStartElement(), received, controlEvent.asStartElement(), control);
+    }
+
+    /**
+     * Handle document type definition with validation of publicId and systemId.
+     * @param received
+     * @param control
+     */
+    private void validateDocumentType(DTD received, DTD control) {
+        String[] receivedIds = getDocumentTypeIds(received);
+        String[] controlIds = getDocumentTypeIds(control);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validating document type definition: " + receivedIds[0] + " (" + receivedIds[1] + ")");
+        }
+
+        validateDocumentTypeId("Document type public id not equal", receivedIds[0], controlIds[0]);
+        validateDocumentTypeId("Document type system id not equal", receivedIds[1], controlIds[1]);
+    }
+
+    /**
+     * Validates public or system id of document type definition.
+     * @param message
+     * @param received
+     * @param control
+     */
+    private void validateDocumentTypeId(String message, String received, String control) {
+        if (!StringUtils.hasText(control)) {
+            Assert.isNull(received, ValidationUtils.buildValueMismatchErrorMessage(message, control, received));
+        } else if (control.trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            if (log.isDebugEnabled()) {
+                log.debug(message.substring(0, message.indexOf(" not equal")) + ": '" + received +
+                        "' is ignored by placeholder '" + Citrus.IGNORE_PLACEHOLDER + "'");
+            }
+        } else {
+            Assert.isTrue(StringUtils.hasText(received) && received.equals(control),
+                    ValidationUtils.buildValueMismatchErrorMessage(message, control, received));
+        }
+    }
+
+    /**
+     * Validates element with its attributes, text value and child elements. Both start element events have already been consumed,
+     * after validation both readers are positioned after the respective end element event.
+     * @param receivedElement
+     * @param received
+     * @param controlElement
+     * @param control
+     * @throws XMLStreamException
+     */
+    private void validateElement(StartElement receivedElement, XMLEventReader received,
+                                 StartElement controlElement, XMLEventReader control) throws XMLStreamException {
+        QName receivedName = receivedElement.getName();
+        QName controlName = controlElement.getName();
+        String localName = receivedName.getLocalPart();
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validating element: " + localName + " (" + receivedName.getNamespaceURI() + ")");
+        }
+
+        Assert.isTrue(localName.equals(controlName.getLocalPart()),
+                ValidationUtils.buildValueMismatchErrorMessage("Element names not equal", controlName.getLocalPart(), localName));
+
+        validateElementNamespace(receivedName, controlName);
+
+        pushPath(receivedName);
+
+        if (isElementIgnored()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Element: '" + localName + "' is on ignore list - skipped validation");
+            }
+
+            visitIgnoredElement(receivedElement);
+            skipElement(received, true);
+            skipElement(control, false);
+            popPath();
+            return;
+        }
+
+        String controlFirstChild = peekFirstChildValue(control);
+        if (StringUtils.hasText(controlFirstChild) && controlFirstChild.trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Element: '" + localName + "' is ignored by placeholder '" + Citrus.IGNORE_PLACEHOLDER + "'");
+            }
+
+            visitIgnoredElement(receivedElement);
+            skipElement(received, true);
+            skipElement(control, false);
+            popPath();
+            return;
+        }
+
+        validateAttributes(receivedElement, controlElement);
+
+        if (StringUtils.hasText(controlFirstChild) && ValidationMatcherUtils.isValidationMatcherExpression(controlFirstChild.trim())) {
+            String receivedFirstChild = peekFirstChildValue(received);
+            ValidationMatcherUtils.resolveValidationMatcher(controlName.getPrefix().length() > 0 ? controlName.getPrefix() + ":" + controlName.getLocalPart() : controlName.getLocalPart(),
+                    receivedFirstChild != null ? receivedFirstChild.trim() : "",
+                    controlFirstChild.trim(),
+                    context);
+
+            skipElement(received, true);
+            skipElement(control, false);
+            popPath();
+            return;
+        }
+
+        StringBuilder receivedText = new StringBuilder();
+        StringBuilder controlText = new StringBuilder();
+
+        int childCount = 0;
+        while (true) {
+            XMLEvent receivedChild = nextStructuralEvent(received, receivedText);
+            XMLEvent controlChild = nextStructuralEvent(control, controlText);
+
+            if (receivedChild.isStartElement() && controlChild.isStartElement()) {
+                validateElement(receivedChild.asStartElement(), received, controlChild.asStartElement(), control);
+                childCount++;
+            } else if (receivedChild.isEndElement() && controlChild.isEndElement()) {
+                break;
+            } else {
+                int receivedCount = childCount + (receivedChild.isStartElement() ? countRemainingElements(received) : 0);
+                int controlCount = childCount + (controlChild.isStartElement() ? countRemainingElements(control) : 0);
+
+                throw new IllegalArgumentException(ValidationUtils.buildValueMismatchErrorMessage("Number of child elements not equal for element '"
+                        + localName + "'", controlCount, receivedCount));
+            }
+        }
+
+        validateText(localName, receivedText.toString().trim(), controlText.toString().trim());
+
+        popPath();
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validation successful for element: " + localName + " (" + receivedName.getNamespaceURI() + ")");
+        }
+    }
+
+    /**
+     * Validates element namespace.
+     * @param receivedName
+     * @param controlName
+     */
+    private void validateElementNamespace(QName receivedName, QName controlName) {
+        String receivedNamespace = StringUtils.hasLength(receivedName.getNamespaceURI()) ? receivedName.getNamespaceURI() : null;
+        String controlNamespace = StringUtils.hasLength(controlName.getNamespaceURI()) ? controlName.getNamespaceURI() : null;
+
+        if (receivedNamespace != null) {
+            Assert.isTrue(controlNamespace != null,
+                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                            receivedName.getLocalPart() + "'", null, receivedNamespace));
+
+            Assert.isTrue(receivedNamespace.equals(controlNamespace),
+                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                            receivedName.getLocalPart() + "'", controlNamespace, receivedNamespace));
+        } else {
+            Assert.isTrue(controlNamespace == null,
+                    ValidationUtils.buildValueMismatchErrorMessage("Element namespace not equal for element '" +
+                            receivedName.getLocalPart() + "'", controlNamespace, null));
+        }
+    }
+
+    /**
+     * Validates attributes of received element with control element.
+     * @param receivedElement
+     * @param controlElement
+     */
+    private void validateAttributes(StartElement receivedElement, StartElement controlElement) {
+        String localName = receivedElement.getName().getLocalPart();
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validating attributes for element: " + localName);
+        }
+
+        List<Attribute> receivedAttributes = getAttributes(receivedElement);
+        List<Attribute> controlAttributes = getAttributes(controlElement);
+
+        Assert.isTrue(receivedAttributes.size() == controlAttributes.size(),
+                ValidationUtils.buildValueMismatchErrorMessage("Number of attributes not equal for element '"
+                        + localName + "'", controlAttributes.size(), receivedAttributes.size()));
+
+        for (Attribute receivedAttribute : receivedAttributes) {
+            QName attributeName = receivedAttribute.getName();
+
+            if (log.isDebugEnabled()) {
+                log.debug("Validating attribute: " + attributeName.getLocalPart() + " (" + attributeName.getNamespaceURI() + ")");
+            }
+
+            Attribute controlAttribute = controlElement.getAttributeByName(attributeName);
+            Assert.isTrue(controlAttribute != null,
+                    "Attribute validation failed for element '"
+                            + localName + "', unknown attribute "
+                            + attributeName.getLocalPart() + " (" + (StringUtils.hasLength(attributeName.getNamespaceURI()) ? attributeName.getNamespaceURI() : null) + ")");
+
+            if (isAttributeIgnored(attributeName)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Attribute '" + attributeName.getLocalPart() + "' is on ignore list - skipped value validation");
+                }
+                continue;
+            }
+
+            String receivedValue = receivedAttribute.getValue();
+            String controlValue = controlAttribute.getValue();
+
+            if (StringUtils.hasText(controlValue) && controlValue.trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Attribute: '" + attributeName.getLocalPart() + "' is ignored by placeholder '" +
+                            Citrus.IGNORE_PLACEHOLDER + "'");
+                }
+                continue;
+            }
+
+            if (StringUtils.hasText(controlValue) && ValidationMatcherUtils.isValidationMatcherExpression(controlValue.trim())) {
+                QName controlName = controlAttribute.getName();
+                ValidationMatcherUtils.resolveValidationMatcher(controlName.getPrefix().length() > 0 ? controlName.getPrefix() + ":" + controlName.getLocalPart() : controlName.getLocalPart(),
+                        receivedValue.trim(), controlValue.trim(), context);
+            } else if (receivedValue.contains(":") && controlValue.contains(":")) {
+                validateNamespaceQualifiedAttribute(attributeName, receivedValue, receivedElement.getNamespaceContext(),
+                        controlValue, controlElement.getNamespaceContext());
+            } else {
+                Assert.isTrue(receivedValue.equals(controlValue),
+                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                                + attributeName.getLocalPart() + "'", controlValue, receivedValue));
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug("Attribute '" + attributeName.getLocalPart() + "'='" + receivedValue + "': OK");
+            }
+        }
+    }
+
+    /**
+     * Perform validation on namespace qualified attribute values. This includes the validation of namespace presence
+     * and equality.
+     * @param attributeName
+     * @param receivedValue
+     * @param receivedNamespaces
+     * @param controlValue
+     * @param controlNamespaces
+     */
+    private void validateNamespaceQualifiedAttribute(QName attributeName, String receivedValue, NamespaceContext receivedNamespaces,
+                                                     String controlValue, NamespaceContext controlNamespaces) {
+        String receivedPrefix = receivedValue.substring(0, receivedValue.indexOf(':'));
+        String controlPrefix = controlValue.substring(0, controlValue.indexOf(':'));
+
+        String receivedNamespace = receivedNamespaces.getNamespaceURI(receivedPrefix);
+        if (StringUtils.hasLength(receivedNamespace)) {
+            String controlNamespace = controlNamespaces.getNamespaceURI(controlPrefix);
+
+            if (StringUtils.hasLength(controlNamespace)) {
+                Assert.isTrue(controlNamespace.equals(receivedNamespace),
+                        ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute value namespace '"
+                                + receivedValue + "'", controlNamespace, receivedNamespace));
+
+                // remove namespace prefixes as they must not form equality
+                receivedValue = receivedValue.substring((receivedPrefix + ":").length());
+                controlValue = controlValue.substring((controlPrefix + ":").length());
+            } else {
+                throw new ValidationException("Received attribute value '" + attributeName.getLocalPart() + "' describes namespace qualified attribute value," +
+                        " control value '" + controlValue + "' does not");
+            }
+        }
+
+        Assert.isTrue(receivedValue.equals(controlValue),
+                ValidationUtils.buildValueMismatchErrorMessage("Values not equal for attribute '"
+                        + attributeName.getLocalPart() + "'", controlValue, receivedValue));
+    }
+
+    /**
+     * Validates text value of element.
+     * @param localName
+     * @param receivedText
+     * @param controlText
+     */
+    private void validateText(String localName, String receivedText, String controlText) {
+        if (log.isDebugEnabled()) {
+            log.debug("Validating node value for element: " + localName);
+        }
+
+        Assert.isTrue(receivedText.equals(controlText),
+                ValidationUtils.buildValueMismatchErrorMessage("Node value not equal for element '"
+                        + localName + "'", controlText, receivedText));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Node value '" + receivedText + "': OK");
+        }
+    }
+
+    /**
+     * Gets all attributes of given element. Namespace declarations are not part of the attributes.
+     * @param element
+     * @return
+     */
+    private List<Attribute> getAttributes(StartElement element) {
+        List<Attribute> attributes = new ArrayList<>();
+
+        Iterator<?> iterator = element.getAttributes();
+        while (iterator.hasNext()) {
+            attributes.add((Attribute) iterator.next());
+        }
+
+        return attributes;
+    }
+
+    /**
+     * Gets value of first child node without consuming it. Whitespace only text is skipped. Returns null in case first
+     * child is not a text or comment node.
+     * @param reader
+     * @return
+     * @throws XMLStreamException
+     */
+    private String peekFirstChildValue(XMLEventReader reader) throws XMLStreamException {
+        XMLEvent event = reader.peek();
+        while (event != null && event.isCharacters() && event.asCharacters().isWhiteSpace()) {
+            reader.nextEvent();
+            event = reader.peek();
+        }
+
+        if (event == null) {
+            return null;
+        }
+
+        if (event.isCharacters()) {
+            return event.asCharacters().getData();
+        } else if (event.getEventType() == XMLStreamConstants.COMMENT) {
+            return ((Comment) event).getText();
+        }
+
+        return null;
+    }
+
+    /**
+     * Consumes events up to the next start or end element. Text content on the way is added to given text buffer.
+     * @param reader
+     * @param text
+     * @return
+     * @throws XMLStreamException
+     */
+    private XMLEvent nextStructuralEvent(XMLEventReader reader, StringBuilder text) throws XMLStreamException {
+        while (reader.hasNext()) {
+            XMLEvent event = reader.nextEvent();
+            if (event.isStartElement() || event.isEndElement()) {
+                return event;
+            }
+
+            if (event.isCharacters() && !event.asCharacters().isWhiteSpace()) {
+                text.append(event.asCharacters().getData());
+            }
+        }
+
+        throw new CitrusRuntimeException("Unexpected end of XML payload");
+    }
+
+    /**
+     * Consumes events up to the next document level start element or document type definition.
+     * @param reader
+     * @return the event or null when end of document is reached.
+     * @throws XMLStreamException
+     */
+    private XMLEvent nextDocumentNode(XMLEventReader reader) throws XMLStreamException {
+        while (reader.hasNext()) {
+            XMLEvent event = reader.nextEvent();
+            if (event.isStartElement() || event.getEventType() == XMLStreamConstants.DTD) {
+                return event;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Counts the element that has just been started and all of its following siblings. Reader is positioned after the parent's
+     * end element afterwards.
+     * @param reader
+     * @return
+     * @throws XMLStreamException
+     */
+    private int countRemainingElements(XMLEventReader reader) throws XMLStreamException {
+        int count = 1;
+        int depth = 1;
+
+        while (reader.hasNext()) {
+            XMLEvent event = reader.nextEvent();
+            if (event.isStartElement()) {
+                if (depth == 0) {
+                    count++;
+                }
+                depth++;
+            } else if (event.isEndElement()) {
+                if (depth == 0) {
+                    break;
+                }
+                depth--;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Skips the remaining content of the current element including its end element. Elements in the skipped content of
+     * the received document are still visited by ignore expressions, as node path expressions select the first matching element in
+     * the whole document and XPath expressions must match at least one node in the document.
+     * @param reader
+     * @param trackPath
+     * @throws XMLStreamException
+     */
+    private void skipElement(XMLEventReader reader, boolean trackPath) throws XMLStreamException {
+        trackPath = trackPath && hasPendingIgnorePaths();
+
+        int depth = 0;
+        while (reader.hasNext()) {
+            XMLEvent event = reader.nextEvent();
+            if (event.isStartElement()) {
+                depth++;
+
+                if (trackPath) {
+                    pushPath(event.asStartElement().getName());
+                    for (IgnorePath ignorePath : ignorePaths) {
+                        ignorePath.visit(path, event.asStartElement());
+                    }
+                }
+            } else if (event.isEndElement()) {
+                if (depth == 0) {
+                    return;
+                }
+                depth--;
+
+                if (trackPath) {
+                    popPath();
+                }
+            }
+        }
+    }
+
+    /**
+     * Visits attributes of ignored element with pending ignore expressions.
+     * @param element
+     */
+    private void visitIgnoredElement(StartElement element) {
+        for (IgnorePath ignorePath : ignorePaths) {
+            if (ignorePath.isPending()) {
+                ignorePath.visit(path, element);
+            }
+        }
+    }
+
+    /**
+     * Adds element to the path of the received document and calculates its position among its siblings.
+     * @param name
+     */
+    private void pushPath(QName name) {
+        PathElement parent = path.isEmpty() ? document : path.get(path.size() - 1);
+        path.add(parent.addChild(name));
+    }
+
+    /**
+     * Removes current element from path.
+     */
+    private void popPath() {
+        path.remove(path.size() - 1);
+    }
+
+    /**
+     * Checks whether current element is ignored by ignore expressions.
+     * @return
+     */
+    private boolean isElementIgnored() {
+        boolean ignored = false;
+        for (IgnorePath ignorePath : ignorePaths) {
+            ignored |= ignorePath.matchesElement(path);
+        }
+
+        return ignored;
+    }
+
+    /**
+     * Checks whether attribute of current element is ignored by ignore expressions.
+     * @param attributeName
+     * @return
+     */
+    private boolean isAttributeIgnored(QName attributeName) {
+        for (IgnorePath ignorePath : ignorePaths) {
+            if (ignorePath.matchesAttribute(path, attributeName)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks whether ignore expressions are still waiting for their first matching node.
+     * @return
+     */
+    private boolean hasPendingIgnorePaths() {
+        for (IgnorePath ignorePath : ignorePaths) {
+            if (ignorePath.isPending()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Compiles ignore expressions to streaming path matchers.
+     * @param ignoreExpressions
+     * @param namespaceContext
+     * @return
+     */
+    private static List<IgnorePath> compileIgnorePaths(Set<String> ignoreExpressions, Supplier<NamespaceContext> namespaceContext) {
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return Collections.emptyList();
+        }
+
+        List<IgnorePath> ignorePaths = new ArrayList<>();
+        NamespaceContext namespaces = null;
+        for (String expression : ignoreExpressions) {
+            if (XPathUtils.isXPathExpression(expression)) {
+                XPathLocationPath locationPath = XPathLocationPath.parse(expression);
+                if (locationPath == null) {
+                    throw new CitrusRuntimeException(String.format("Unsupported ignore expression '%s' for streaming XML validation", expression));
+                }
+
+                if (namespaces == null) {
+                    namespaces = namespaceContext.get();
+                }
+
+                ignorePaths.add(locationPath.resolve(namespaces));
+            } else {
+                ignorePaths.add(new NodePath(expression));
+            }
+        }
+
+        return ignorePaths;
+    }
+
+    /**
+     * Gets public and system id of document type definition.
+     * @param dtd
+     * @return
+     */
+    private static String[] getDocumentTypeIds(DTD dtd) {
+        Matcher matcher = DOCTYPE_IDS.matcher(dtd.getDocumentTypeDeclaration());
+        if (!matcher.find()) {
+            return new String[] { null, null };
+        }
+
+        if (matcher.group(2) != null) {
+            return new String[] { matcher.group(2), matcher.group(4) };
+        }
+
+        return new String[] { null, matcher.group(6) };
+    }
+
+    /**
+     * Creates new event reader for given payload.
+     * @param payload
+     * @return
+     * @throws XMLStreamException
+     */
+    private static XMLEventReader createEventReader(String payload) throws XMLStreamException {
+        Reader reader = createReader(payload);
+        synchronized (INPUT_FACTORY) {
+            return INPUT_FACTORY.createXMLEventReader(reader);
+        }
+    }
+
+    /**
+     * Creates namespace aware input factory that does not load external entities or document type definitions.
+     * @return
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Closes reader and ignores errors.
+     * @param reader
+     */
+    private static void close(XMLEventReader reader) {
+        if (reader != null) {
+            try {
+                reader.close();
+            } catch (XMLStreamException e) {
+                log.warn("Failed to close XML reader", e);
+            }
+        }
+    }
+
+    /**
+     * Element in received document path with its position among its siblings.
+     */
+    private static final class PathElement {
+        /** Element name */
+        private final QName name;
+
+        /** Position among all sibling elements and among siblings with same name, starting with 1 */
+        private int index;
+        private int position;
+
+        /** Number of child elements in total and by name */
+        private int childCount;
+        private Map<QName, Integer> childCounts;
+
+        PathElement(QName name) {
+            this.name = name;
+        }
+
+        /**
+         * Adds child element and calculates its position.
+         * @param childName
+         * @return
+         */
+        PathElement addChild(QName childName) {
+            if (childCounts == null) {
+                childCounts = new HashMap<>();
+            }
+
+            PathElement child = new PathElement(childName);
+            child.index = ++childCount;
+            child.position = childCounts.merge(childName, 1, Integer::sum);
+            return child;
+        }
+    }
+
+    /**
+     * Ignore expression evaluated on the path of the received document.
+     */
+    private interface IgnorePath {
+        /**
+         * Checks whether element at the end of given path is ignored.
+         * @param path
+         * @return
+         */
+        boolean matchesElement(List<PathElement> path);
+
+        /**
+         * Checks whether attribute of element at the end of given path is ignored.
+         * @param path
+         * @param attributeName
+         * @return
+         */
+        boolean matchesAttribute(List<PathElement> path, QName attributeName);
+
+        /**
+         * Visits element in skipped document content.
+         * @param path
+         * @param element
+         */
+        void visit(List<PathElement> path, StartElement element);
+
+        /**
+         * Checks whether this path is still waiting for its first matching node.
+         * @return
+         */
+        boolean isPending();
+
+        /**
+         * Resets state before validating next document.
+         */
+        void reset();
+
+        /**
+         * Verifies state after document has been validated.
+         */
+        default void verify() {
+        }
+    }
+
+    /**
+     * Node path expression like Numbers.NumberItem.AreaCode. Full node paths match all elements on that path, shortened paths
+     * only match the first element in document order.
+     */
+    private static final class NodePath implements IgnorePath {
+        private final String expression;
+        private final String[] names;
+
+        /** First matching element and attribute have already been visited */
+        private boolean elementVisited;
+        private boolean attributeVisited;
+
+        NodePath(String expression) {
+            this.expression = expression;
+            this.names = StringUtils.tokenizeToStringArray(expression, ".");
+        }
+
+        @Override
+        public boolean matchesElement(List<PathElement> path) {
+            if (!elementVisited && endsWith(path, path.size(), names.length)) {
+                elementVisited = true;
+                return true;
+            }
+
+            return names.length == path.size() && endsWith(path, path.size(), names.length);
+        }
+
+        @Override
+        public boolean matchesAttribute(List<PathElement> path, QName attributeName) {
+            if (!names[names.length - 1].equals(attributeName.getLocalPart())) {
+                return false;
+            }
+
+            if (names.length == path.size() + 1 && endsWith(path, path.size(), names.length - 1)) {
+                return true;
+            }
+
+            if (!attributeVisited && !elementVisited && endsWith(path, path.size(), names.length - 1)) {
+                attributeVisited = true;
+                return true;
+            }
+
+            return false;
+        }
+
+        @Override
+        public void visit(List<PathElement> path, StartElement element) {
+            if (!elementVisited && endsWith(path, path.size(), names.length)) {
+                elementVisited = true;
+            }
+        }
+
+        @Override
+        public boolean isPending() {
+            return !elementVisited;
+        }
+
+        @Override
+        public void reset() {
+            elementVisited = false;
+            attributeVisited = false;
+        }
+
+        /**
+         * Checks whether path up to given length ends with given number of names in this expression.
+         * @param path
+         * @param length
+         * @param count
+         * @return
+         */
+        private boolean endsWith(List<PathElement> path, int length, int count) {
+            if (count > length) {
+                return false;
+            }
+
+            for (int i = 0; i < count; i++) {
+                if (!names[count - 1 - i].equals(path.get(length - 1 - i).name.getLocalPart())) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+    }
+
+    /**
+     * XPath location path with child and descendant steps. Expression must match at least one node in the document.
+     */
+    private static final class XPathLocationPath implements IgnorePath {
+        private final String expression;
+        private final List<Step> steps;
+        private final Step attributeStep;
+
+        /** Expression has matched a node in the document */
+        private boolean matched;
+
+        XPathLocationPath(String expression, List<Step> steps, Step attributeStep) {
+            this.expression = expression;
+            this.steps = steps;
+            this.attributeStep = attributeStep;
+        }
+
+        /**
+         * Parses location path expression. Returns null in case expression is not supported.
+         * @param expression
+         * @return
+         */
+        static XPathLocationPath parse(String expression) {
+            String path = expression.trim();
+            List<Step> steps = new ArrayList<>();
+            Step attributeStep = null;
+
+            int index = 0;
+            boolean descendant = false;
+            if (path.startsWith("//")) {
+                descendant = true;
+                index = 2;
+            } else if (path.startsWith("/")) {
+                index = 1;
+            }
+
+            while (index < path.length()) {
+                int end = path.indexOf('/', index);
+                if (end < 0) {
+                    end = path.length();
+                }
+
+                Matcher matcher = XPATH_STEP.matcher(path.substring(index, end));
+                if (attributeStep != null || !matcher.matches()) {
+                    return null;
+                }
+
+                boolean attribute = matcher.group(1) != null;
+                String nameTest = matcher.group(2);
+                int position = matcher.group(3) != null ? Integer.parseInt(matcher.group(3)) : 0;
+
+                if (attribute && (descendant && !steps.isEmpty() || position > 0)) {
+                    return null;
+                }
+
+                if (position > 0 && nameTest.endsWith(":*")) {
+                    return null;
+                }
+
+                Step step = new Step(nameTest, position, descendant);
+                if (attribute) {
+                    attributeStep = step;
+                } else {
+                    steps.add(step);
+                }
+
+                if (end == path.length()) {
+                    break;
+                }
+
+                if (path.startsWith("//", end)) {
+                    descendant = true;
+                    index = end + 2;
+                } else {
+                    descendant = false;
+                    index = end + 1;
+                }
+
+                if (index >= path.length()) {
+                    return null;
+                }
+            }
+
+            if (steps.isEmpty() && attributeStep == null) {
+                return null;
+            }
+
+            return new XPathLocationPath(expression, steps, attributeStep);
+        }
+
+        /**
+         * Resolves namespace prefixes in name tests.
+         * @param namespaceContext
+         * @return
+         */
+        XPathLocationPath resolve(NamespaceContext namespaceContext) {
+            steps.forEach(step -> step.resolve(namespaceContext, expression));
+            if (attributeStep != null) {
+                attributeStep.resolve(namespaceContext, expression);
+            }
+
+            return this;
+        }
+
+        @Override
+        public boolean matchesElement(List<PathElement> path) {
+            boolean matches = attributeStep == null && matches(path, 0, 0);
+            matched |= matches;
+            return matches;
+        }
+
+        @Override
+        public boolean matchesAttribute(List<PathElement> path, QName attributeName) {
+            if (attributeStep == null || !attributeStep.matches(attributeName)) {
+                return false;
+            }
+
+            boolean matches = steps.isEmpty() ? attributeStep.descendant : matches(path, 0, 0);
+            matched |= matches;
+            return matches;
+        }
+
+        @Override
+        public void visit(List<PathElement> path, StartElement element) {
+            if (attributeStep == null) {
+                matchesElement(path);
+            } else {
+                Iterator<?> attributes = element.getAttributes();
+                while (!matched && attributes.hasNext()) {
+                    matchesAttribute(path, ((Attribute) attributes.next()).getName());
+                }
+            }
+        }
+
+        @Override
+        public boolean isPending() {
+            return !matched;
+        }
+
+        @Override
+        public void reset() {
+            matched = false;
+        }
+
+        @Override
+        public void verify() {
+            if (!matched) {
+                throw new CitrusRuntimeException("No result for XPath expression: '" + expression + "'");
+            }
+        }
+
+        /**
+         * Matches steps starting with given step index on path starting with given path index.
+         * @param path
+         * @param stepIndex
+         * @param pathIndex
+         * @return
+         */
+        private boolean matches(List<PathElement> path, int stepIndex, int pathIndex) {
+            if (stepIndex == steps.size()) {
+                return pathIndex == path.size();
+            }
+
+            Step step = steps.get(stepIndex);
+            if (step.descendant) {
+                for (int i = pathIndex; i < path.size(); i++) {
+                    if (step.matches(path.get(i)) && matches(path, stepIndex + 1, i + 1)) {
+                        return true;
+                    }
+                }
+
+                return false;
+            }
+
+            return pathIndex < path.size() && step.matches(path.get(pathIndex)) && matches(path, stepIndex + 1, pathIndex + 1);
+        }
+
+        @Override
+        public String toString() {
+            return expression;
+        }
+    }
+
+    /**
+     * Location path step with name test and optional position predicate.
+     */
+    private static final class Step {
+        private final String prefix;
+        private final String localName;
+        private final int position;
+        private final boolean descendant;
+
+        /** Resolved namespace uri, null matches any namespace */
+        private String namespaceUri;
+
+        Step(String nameTest, int position, boolean descendant) {
+            int separator = nameTest.indexOf(':');
+            this.prefix = separator > 0 ? nameTest.substring(0, separator) : null;
+            this.localName = separator > 0 ? nameTest.substring(separator + 1) : nameTest;
+            this.position = position;
+            this.descendant = descendant;
+        }
+
+        /**
+         * Resolves namespace prefix of name test.
+         * @param namespaceContext
+         * @param expression
+         */
+        void resolve(NamespaceContext namespaceContext, String expression) {
+            if (prefix == null) {
+                namespaceUri = "*".equals(localName) ? null : XMLConstants.NULL_NS_URI;
+                return;
+            }
+
+            namespaceUri = namespaceContext.getNamespaceURI(prefix);
+            if (!StringUtils.hasLength(namespaceUri)) {
+                throw new CitrusRuntimeException(String.format("Failed to resolve namespace prefix '%s' in ignore expression '%s'", prefix, expression));
+            }
+        }
+
+        boolean matches(PathElement element) {
+            if (!matches(element.name)) {
+                return false;
+            }
+
+            if (position == 0) {
+                return true;
+            }
+
+            return position == ("*".equals(localName) ? element.index : element.position);
+        }
+
+        boolean matches(QName name) {
+            if (!"*".equals(localName) && !localName.equals(name.getLocalPart())) {
+                return false;
+            }
+
+            return namespaceUri == null || namespaceUri.equals(name.getNamespaceURI());
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.UnknownElementException;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.message.MessagePayloadCache;
 import com.consol.citrus.util.XMLUtils;
 import com.consol.citrus.variable.VariableExtractor;
 import com.consol.citrus.xml.xpath.XPathExpressionResult;
@@ -72,7 +73,7 @@ public class XpathPayloadVariableExtractor implements VariableExtractor {
                 log.debug("Evaluating XPath expression: " + pathExpression);
             }
             
-            Document doc = XMLUtils.parseMessagePayload(message.getPayload(String.class));
+            Document doc = MessagePayloadCache.getXmlDocument(message);
             
             if (XPathUtils.isXPathExpression(pathExpression)) {
                 XPathExpressionResult resultType = XPathExpressionResult.fromString(pathExpression, XPathExpressionResult.STRING);
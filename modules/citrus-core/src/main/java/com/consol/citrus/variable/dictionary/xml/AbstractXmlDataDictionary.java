@@ -54,7 +54,7 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
 
         LSSerializer serializer = XMLUtils.createLSSerializer();
 
-        serializer.setFilter(new TranslateFilter(context));
+        serializer.setFilter(new TranslateFilter(createNodeTranslator(doc, context)));
 
         LSOutput output = XMLUtils.createLSOutput();
         String charset = XMLUtils.getTargetCharset(doc).displayName();
@@ -69,14 +69,34 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
         return message;
     }
 
+    /**
+     * Creates node translator for given message document. Translator is used for all elements and attributes while the document is
+     * serialized. By default each node is translated with this data dictionary. Subclasses may evaluate dictionary mappings once
+     * for the whole document before serialization.
+     * @param doc the message document.
+     * @param context the current test context.
+     * @return
+     */
+    protected NodeTranslator createNodeTranslator(Document doc, TestContext context) {
+        return (node, value) -> translate(node, value, context);
+    }
+
+    /**
+     * Translates single element or attribute value.
+     */
+    @FunctionalInterface
+    protected interface NodeTranslator {
+        String translate(Node node, String value);
+    }
+
     /**
      * Serializer filter uses data dictionary translation on elements and attributes.
      */
-    private class TranslateFilter implements LSSerializerFilter {
-        private TestContext context;
+    private static class TranslateFilter implements LSSerializerFilter {
+        private final NodeTranslator translator;
 
-        public TranslateFilter(TestContext context) {
-            this.context = context;
+        public TranslateFilter(NodeTranslator translator) {
+            this.translator = translator;
         }
 
         @Override
@@ -90,9 +110,9 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
                 Element element = (Element) node;
 
                 if (StringUtils.hasText(DomUtils.getTextValue(element))) {
-                    element.setTextContent(translate(element, DomUtils.getTextValue(element), context));
+                    element.setTextContent(translator.translate(element, DomUtils.getTextValue(element)));
                 } else if (!element.hasChildNodes()) {
-                    String translated = translate(element, "", context);
+                    String translated = translator.translate(element, "");
                     if (StringUtils.hasText(translated)) {
                         element.appendChild(element.getOwnerDocument().createTextNode(translated));
                     }
@@ -101,7 +121,7 @@ public abstract class AbstractXmlDataDictionary extends AbstractDataDictionary<N
                 NamedNodeMap attributes = element.getAttributes();
                 for (int i = 0; i < attributes.getLength(); i++) {
                     Attr attribute = (Attr) attributes.item(i);
-                    attribute.setValue(translate(attribute, attribute.getNodeValue(), context));
+                    attribute.setValue(translator.translate(attribute, attribute.getNodeValue()));
                 }
             }
 
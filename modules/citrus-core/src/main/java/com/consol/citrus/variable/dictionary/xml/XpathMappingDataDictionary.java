@@ -25,11 +25,13 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.xml.namespace.SimpleNamespaceContext;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.xpath.XPathConstants;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 /**
@@ -37,6 +39,10 @@ import java.util.Map;
  * in dictionary value is overwritten accordingly. Namespace context is either evaluated on the fly or by global namespace
  * context builder.
  *
+ * By default each mapping expression is evaluated only once per message before the message document is serialized. The resulting
+ * nodes are translated while serializing the document. With single pass translation disabled all mapping expressions are evaluated
+ * on the whole document for each element and attribute instead.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
@@ -48,12 +54,58 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(XpathMappingDataDictionary.class);
 
+    /** Evaluate mapping expressions once per message document */
+    private boolean singlePass = true;
+
+    @Override
+    protected NodeTranslator createNodeTranslator(Document doc, TestContext context) {
+        if (!singlePass) {
+            return super.createNodeTranslator(doc, context);
+        }
+
+        Map<Node, Map<String, String>> translations = evaluateMappings(doc);
+        return (node, value) -> {
+            Map<String, String> mapping = translations.get(node);
+            if (mapping == null) {
+                return value;
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Data dictionary setting element '%s' value: %s", XMLUtils.getNodesPathName(node), mapping));
+            }
+            return convertIfNecessary(context.replaceDynamicContentInString(mapping.get("value")), value);
+        };
+    }
+
+    /**
+     * Evaluates all mapping expressions on given document. Result maps each found node to its mapping. When several expressions
+     * find the same node the first mapping wins.
+     * @param doc
+     * @return
+     */
+    private Map<Node, Map<String, String>> evaluateMappings(Document doc) {
+        Map<Node, Map<String, String>> translations = new IdentityHashMap<>();
+        NamespaceContext namespaceContext = buildNamespaceContext(doc);
+
+        for (Map.Entry<String, Map<String, String>> expressionEntry : mappings.entrySet()) {
+            NodeList findings = (NodeList) XPathUtils.evaluateExpression(doc, expressionEntry.getKey(), namespaceContext, XPathConstants.NODESET);
+
+            if (findings != null) {
+                for (int i = 0; i < findings.getLength(); i++) {
+                    translations.putIfAbsent(findings.item(i), expressionEntry.getValue());
+                }
+            }
+        }
+
+        return translations;
+    }
+
     @Override
     public <T> T translate(Node node, T value, TestContext context) {
         for (Map.Entry<String, Map<String, String>> expressionEntry : mappings.entrySet()) {
             String expression = expressionEntry.getKey();
 
-            NodeList findings = (NodeList) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression, buildNamespaceContext(node), XPathConstants.NODESET);
+            NodeList findings = (NodeList) XPathUtils.evaluateExpression(node.getOwnerDocument(), expression, buildNamespaceContext(node.getOwnerDocument()), XPathConstants.NODESET);
 
             if (findings != null && containsNode(findings, node)) {
                 if (log.isDebugEnabled()) {
@@ -83,14 +135,14 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     }
 
     /**
-     * Builds namespace context with dynamic lookup on received node document and global namespace mappings from
+     * Builds namespace context with dynamic lookup on received message document and global namespace mappings from
      * namespace context builder.
-     * @param node the element node from message
+     * @param doc the message document
      * @return
      */
-    private NamespaceContext buildNamespaceContext(Node node) {
+    private NamespaceContext buildNamespaceContext(Document doc) {
         SimpleNamespaceContext simpleNamespaceContext = new SimpleNamespaceContext();
-        Map<String, String> namespaces = XMLUtils.lookupNamespaces(node.getOwnerDocument());
+        Map<String, String> namespaces = XMLUtils.lookupNamespaces(doc);
 
         // add default namespace mappings
         namespaces.putAll(namespaceContextBuilder.getNamespaceMappings());
@@ -124,4 +176,20 @@ public class XpathMappingDataDictionary extends AbstractXmlDataDictionary implem
     public void setNamespaceContextBuilder(NamespaceContextBuilder namespaceContextBuilder) {
         this.namespaceContextBuilder = namespaceContextBuilder;
     }
+
+    /**
+     * Gets the singlePass.
+     * @return
+     */
+    public boolean isSinglePass() {
+        return singlePass;
+    }
+
+    /**
+     * Enables or disables single pass translation where mapping expressions are evaluated once per message document.
+     * @param singlePass
+     */
+    public void setSinglePass(boolean singlePass) {
+        this.singlePass = singlePass;
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml.schema;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.core.io.Resource;
+import org.springframework.xml.validation.*;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+import javax.xml.transform.Source;
+import javax.xml.validation.Schema;
+import javax.xml.validation.Validator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Xml validator works on a schema that is compiled only once. Compiled schema is thread safe and
+ * is shared among all threads while each thread reuses its own {@link Validator} instance.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class CompiledSchemaValidator implements XmlValidator {
+
+    /** Compiled schema */
+    private final Schema schema;
+
+    /** Validator instances per thread */
+    private final ThreadLocal<Validator> validators;
+
+    /**
+     * Default constructor using compiled schema.
+     * @param schema
+     */
+    public CompiledSchemaValidator(Schema schema) {
+        this.schema = schema;
+        this.validators = ThreadLocal.withInitial(schema::newValidator);
+    }
+
+    /**
+     * Compiles schema from given resources and creates new validator.
+     * @param schemaResources
+     * @param schemaLanguage
+     * @return
+     */
+    public static CompiledSchemaValidator fromResources(Resource[] schemaResources, String schemaLanguage) {
+        try {
+            return new CompiledSchemaValidator(SchemaLoaderUtils.loadSchema(schemaResources, schemaLanguage));
+        } catch (IOException | SAXException e) {
+            throw new CitrusRuntimeException("Failed to compile XML schema", e);
+        }
+    }
+
+    @Override
+    public SAXParseException[] validate(Source source) throws IOException {
+        return validate(source, null);
+    }
+
+    @Override
+    public SAXParseException[] validate(Source source, ValidationErrorHandler errorHandler) throws IOException {
+        if (errorHandler == null) {
+            errorHandler = new CollectingErrorHandler();
+        }
+
+        Validator validator = validators.get();
+        validator.reset();
+        validator.setErrorHandler(errorHandler);
+
+        try {
+            validator.validate(source);
+            return errorHandler.getErrors();
+        } catch (SAXException e) {
+            throw new XmlValidationException("Could not validate source: " + e.getMessage(), e);
+        } finally {
+            validator.setErrorHandler(null);
+        }
+    }
+
+    /**
+     * Gets the compiled schema.
+     * @return
+     */
+    public Schema getSchema() {
+        return schema;
+    }
+
+    /**
+     * Error handler collects all errors and fatal errors. Warnings are ignored.
+     */
+    private static class CollectingErrorHandler implements ValidationErrorHandler {
+        private final List<SAXParseException> errors = new ArrayList<>();
+
+        @Override
+        public SAXParseException[] getErrors() {
+            return errors.toArray(new SAXParseException[errors.size()]);
+        }
+
+        @Override
+        public void warning(SAXParseException exception) {
+        }
+
+        @Override
+        public void error(SAXParseException exception) {
+            errors.add(exception);
+        }
+
+        @Override
+        public void fatalError(SAXParseException exception) {
+            errors.add(exception);
+        }
+    }
+}
@@ -20,6 +20,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
+import org.springframework.util.xml.SimpleNamespaceContext;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 
@@ -49,6 +50,21 @@ public abstract class XPathUtils {
     /** Dynamic namespace prefix */
     private static final String DYNAMIC_NS_PREFIX = "dns";
 
+    /** Maximum number of compiled expressions cached per thread */
+    private static final int EXPRESSION_CACHE_SIZE = 500;
+
+    /** XPath factory per thread as factories are not thread safe */
+    private static final ThreadLocal<XPathFactory> XPATH_FACTORY = ThreadLocal.withInitial(XPathUtils::createXPathFactory);
+
+    /** Compiled expressions per thread as compiled expressions are not thread safe */
+    private static final ThreadLocal<Map<ExpressionKey, XPathExpression>> EXPRESSION_CACHE = ThreadLocal.withInitial(() ->
+            new LinkedHashMap<ExpressionKey, XPathExpression>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<ExpressionKey, XPathExpression> eldest) {
+                    return size() > EXPRESSION_CACHE_SIZE;
+                }
+            });
+
     /**
      * Prevent instantiation.
      */
@@ -261,6 +277,9 @@ public abstract class XPathUtils {
      * Construct a xPath expression instance with given expression string and namespace context.
      * If namespace context is not specified a default context is built from the XML node
      * that is evaluated against.
+     *
+     * Compiled expressions are cached per thread by expression string and namespace bindings. Expressions with custom namespace
+     * context implementations other than {@link SimpleNamespaceContext} are compiled on each call as their namespace bindings are not known.
      * @param xPathExpression
      * @param nsContext
      * @return
@@ -268,7 +287,32 @@ public abstract class XPathUtils {
      */
     private static XPathExpression buildExpression(String xPathExpression, NamespaceContext nsContext)
             throws XPathExpressionException {
-        XPath xpath = createXPathFactory().newXPath();
+        if (nsContext != null && !(nsContext instanceof SimpleNamespaceContext)) {
+            return compileExpression(xPathExpression, nsContext);
+        }
+
+        ExpressionKey key = new ExpressionKey(xPathExpression, (SimpleNamespaceContext) nsContext);
+        Map<ExpressionKey, XPathExpression> expressionCache = EXPRESSION_CACHE.get();
+
+        XPathExpression expression = expressionCache.get(key);
+        if (expression == null) {
+            expression = compileExpression(xPathExpression, nsContext);
+            expressionCache.put(key, expression);
+        }
+
+        return expression;
+    }
+
+    /**
+     * Compiles expression string with given namespace context.
+     * @param xPathExpression
+     * @param nsContext
+     * @return
+     * @throws XPathExpressionException
+     */
+    private static XPathExpression compileExpression(String xPathExpression, NamespaceContext nsContext)
+            throws XPathExpressionException {
+        XPath xpath = XPATH_FACTORY.get().newXPath();
         
         if (nsContext != null) {
             xpath.setNamespaceContext(nsContext);
@@ -304,10 +348,11 @@ public abstract class XPathUtils {
     }
 
     /**
-     * Creates new xpath factory which is not thread safe per definition.
+     * Creates new xpath factory which is not thread safe per definition. Factory is created once per thread
+     * so system property settings are read on first XPath usage in each thread.
      * @return
      */
-    private synchronized static XPathFactory createXPathFactory() {
+    private static XPathFactory createXPathFactory() {
         XPathFactory factory = null;
 
         // read system property and see if there is a factory set
@@ -336,4 +381,45 @@ public abstract class XPathUtils {
         return factory;
     }
 
+    /**
+     * Cache key for compiled expressions combines expression string and namespace bindings.
+     */
+    private static final class ExpressionKey {
+        private final String expression;
+        private final Map<String, String> namespaces;
+
+        ExpressionKey(String expression, SimpleNamespaceContext nsContext) {
+            this.expression = expression;
+
+            if (nsContext == null) {
+                this.namespaces = Collections.emptyMap();
+            } else {
+                this.namespaces = new HashMap<>();
+                Iterator<String> prefixes = nsContext.getBoundPrefixes();
+                while (prefixes.hasNext()) {
+                    String prefix = prefixes.next();
+                    namespaces.put(prefix, nsContext.getNamespaceURI(prefix));
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+
+            ExpressionKey that = (ExpressionKey) o;
+            return expression.equals(that.expression) && namespaces.equals(that.namespaces);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(expression, namespaces);
+        }
+    }
 }
@@ -0,0 +1,13 @@
+import com.consol.citrus.*
+import com.consol.citrus.variable.*
+import com.consol.citrus.context.TestContext
+import com.consol.citrus.validation.script.sql.SqlResultSetStreamingScriptExecutor
+
+import java.util.Iterator;
+import java.util.Map;
+
+public class ValidationScript implements SqlResultSetStreamingScriptExecutor{
+    public void validate(Iterator<Map<String, Object>> rows, TestContext context){
+        @SCRIPTBODY@
+    }
+}
\ No newline at end of file
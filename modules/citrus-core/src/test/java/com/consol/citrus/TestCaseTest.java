@@ -22,12 +22,14 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.TestCaseFailedException;
 import com.consol.citrus.functions.core.CurrentDateFunction;
+import com.consol.citrus.messaging.AsyncProducer;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.util.TestUtils;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public class TestCaseTest extends AbstractTestNGUnitTest {
     
@@ -180,6 +182,23 @@ public class TestCaseTest extends AbstractTestNGUnitTest {
 
         testcase.execute(context);
     }
+
+    @Test(expectedExceptions = {TestCaseFailedException.class}, expectedExceptionsMessageRegExp = "Failed to send pipelined message")
+    public void testPipelinedSendFailureInFinish() {
+        final TestCase testcase = new TestCase();
+        testcase.setName("MyTestCase");
+
+        testcase.addTestAction(new AbstractTestAction() {
+            @Override
+            public void doExecute(final TestContext context) {
+                CompletableFuture<AsyncProducer.SendResult> send = new CompletableFuture<>();
+                send.completeExceptionally(new CitrusRuntimeException("Failed to send pipelined message"));
+                context.getSendPipeline().register("send", System.nanoTime(), send);
+            }
+        });
+
+        testcase.execute(context);
+    }
     
     @Test
     public void testFinalActions() {
@@ -192,6 +211,70 @@ public class TestCaseTest extends AbstractTestNGUnitTest {
         testcase.execute(context);
     }
 
+    @Test
+    public void testMetrics() {
+        final TestCase testcase = new TestCase();
+        testcase.setName("MyTestCase");
+
+        SleepAction sleep = new SleepAction();
+        sleep.setMilliseconds("100");
+
+        testcase.addTestAction(new EchoAction());
+        testcase.addTestAction(sleep);
+        testcase.addFinalAction(new EchoAction());
+
+        testcase.execute(context);
+
+        TestMetrics metrics = testcase.getMetrics();
+        Assert.assertSame(context.getMetrics(), metrics);
+        Assert.assertSame(testcase.getTestResult().getMetrics(), metrics);
+        Assert.assertTrue(metrics.getDuration().toMillis() >= 100L);
+        Assert.assertEquals(testcase.getTestResult().getDuration(), metrics.getDuration());
+
+        List<TestMetrics.ActionMetric> actionMetrics = metrics.getActionMetrics();
+        Assert.assertEquals(actionMetrics.size(), 3L);
+        Assert.assertEquals(actionMetrics.get(0).getName(), "echo");
+        Assert.assertEquals(actionMetrics.get(1).getName(), "sleep");
+        Assert.assertTrue(actionMetrics.get(1).getDuration().toMillis() >= 100L);
+        Assert.assertEquals(actionMetrics.get(2).getName(), "echo");
+    }
+
+    @Test
+    public void testMetricsOnRepeatedExecution() {
+        final TestCase testcase = new TestCase();
+        testcase.setName("MyTestCase");
+        testcase.addTestAction(new EchoAction());
+        testcase.addTestAction(new AbstractTestAction() {
+            @Override
+            public void doExecute(TestContext context) {
+                context.getMetrics().recordSend(1000L);
+                context.getMetrics().recordReceive(1000L);
+            }
+        });
+
+        testcase.execute(context);
+        TestMetrics firstRun = testcase.getTestResult().getMetrics();
+
+        testcase.execute(context);
+        TestMetrics secondRun = testcase.getMetrics();
+
+        Assert.assertEquals(secondRun.getActionMetrics().size(), 2L);
+        Assert.assertEquals(secondRun.getSendCount(), 1L);
+        Assert.assertEquals(secondRun.getSendDuration().toNanos(), 1000L);
+        Assert.assertEquals(secondRun.getReceiveCount(), 1L);
+        Assert.assertEquals(secondRun.getReceiveDuration().toNanos(), 1000L);
+
+        Assert.assertEquals(firstRun.getActionMetrics().size(), 2L);
+        Assert.assertEquals(firstRun.getSendCount(), 1L);
+
+        secondRun.start();
+        Assert.assertTrue(secondRun.getActionMetrics().isEmpty());
+        Assert.assertEquals(secondRun.getSendCount(), 0L);
+        Assert.assertEquals(secondRun.getSendDuration().toNanos(), 0L);
+        Assert.assertEquals(secondRun.getReceiveCount(), 0L);
+        Assert.assertEquals(secondRun.getReceiveDuration().toNanos(), 0L);
+    }
+
     @Test
     public void testThreadLeak() {
 
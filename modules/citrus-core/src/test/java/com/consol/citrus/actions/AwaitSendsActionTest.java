@@ -0,0 +1,218 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.actions;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.endpoint.EndpointConfiguration;
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.AsyncProducer;
+import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.consol.citrus.validation.builder.PayloadTemplateMessageBuilder;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class AwaitSendsActionTest extends AbstractTestNGUnitTest {
+
+    private Endpoint endpoint = Mockito.mock(Endpoint.class);
+    private EndpointConfiguration endpointConfiguration = Mockito.mock(EndpointConfiguration.class);
+
+    private ManualAsyncProducer producer;
+
+    @BeforeMethod
+    public void setupProducer() {
+        producer = new ManualAsyncProducer();
+
+        reset(endpoint, endpointConfiguration);
+        when(endpoint.createProducer()).thenReturn(producer);
+        when(endpoint.getEndpointConfiguration()).thenReturn(endpointConfiguration);
+        when(endpointConfiguration.getTimeout()).thenReturn(100L);
+    }
+
+    @Test
+    public void testPipelinedSend() {
+        SendMessageAction first = pipelinedSend();
+        SendMessageAction second = pipelinedSend();
+
+        first.execute(context);
+        second.execute(context);
+
+        Assert.assertEquals(producer.sends.size(), 2);
+        Assert.assertEquals(context.getSendPipeline().getInFlight(), 2);
+        Assert.assertFalse(first.isDone(context));
+        Assert.assertFalse(second.isDone(context));
+
+        producer.sends.forEach(send -> send.complete(AsyncProducer.SendResult.NONE));
+
+        Assert.assertEquals(context.getSendPipeline().getInFlight(), 0);
+        Assert.assertTrue(first.isDone(context));
+        Assert.assertTrue(second.isDone(context));
+
+        new AwaitSendsAction().execute(context);
+        Assert.assertFalse(context.hasExceptions());
+        Assert.assertEquals(context.getMetrics().getSendCount(), 2L);
+    }
+
+    @Test
+    public void testInFlightWindow() {
+        pipelinedSend().setMaxInFlight(1).execute(context);
+
+        try {
+            pipelinedSend().setMaxInFlight(1).execute(context);
+            Assert.fail("Missing exception due to exhausted in flight window");
+        } catch (ActionTimeoutException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to dispatch pipelined message - 1 messages still in flight after 100 ms");
+        }
+
+        Assert.assertEquals(producer.sends.size(), 1);
+
+        producer.sends.get(0).complete(AsyncProducer.SendResult.NONE);
+        pipelinedSend().setMaxInFlight(1).execute(context);
+        Assert.assertEquals(producer.sends.size(), 2);
+    }
+
+    @Test
+    public void testAwaitSendsReportsFailures() {
+        for (int i = 0; i < 3; i++) {
+            pipelinedSend().execute(context);
+        }
+
+        producer.sends.get(0).completeExceptionally(new IllegalStateException("Broker unavailable"));
+        producer.sends.get(1).complete(AsyncProducer.SendResult.NONE);
+        producer.sends.get(2).completeExceptionally(new CitrusRuntimeException("Connection refused"));
+        Assert.assertFalse(context.hasExceptions());
+
+        try {
+            new AwaitSendsAction().execute(context);
+            Assert.fail("Missing exception due to failed pipelined sends");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to send 2 pipelined messages");
+            Assert.assertEquals(e.getCause().getCause().getMessage(), "Broker unavailable");
+            Assert.assertEquals(e.getSuppressed().length, 1);
+            Assert.assertEquals(e.getSuppressed()[0].getMessage(), "Connection refused");
+        }
+
+        Assert.assertFalse(context.hasExceptions());
+    }
+
+    @Test
+    public void testAwaitSendsTimeout() {
+        pipelinedSend().execute(context);
+
+        try {
+            new AwaitSendsAction().setTimeout(100L).execute(context);
+            Assert.fail("Missing exception due to pending pipelined send");
+        } catch (ActionTimeoutException e) {
+            Assert.assertEquals(e.getMessage(), "Failed to wait for pipelined messages - 1 messages still in flight after 100 ms");
+        }
+    }
+
+    @Test
+    public void testSynchronousProducerFallback() {
+        Producer syncProducer = new Producer() {
+            @Override
+            public void send(Message message, TestContext context) {
+                throw new CitrusRuntimeException("Failed to send");
+            }
+
+            @Override
+            public String getName() {
+                return "syncProducer";
+            }
+        };
+        when(endpoint.createProducer()).thenReturn(syncProducer);
+
+        SendMessageAction sendAction = pipelinedSend();
+        sendAction.execute(context);
+
+        Assert.assertTrue(sendAction.isDone(context));
+        Assert.assertEquals(context.getSendPipeline().getInFlight(), 0);
+        Assert.assertFalse(context.hasExceptions());
+
+        List<CitrusRuntimeException> failures = context.getSendPipeline().removeFailures(context);
+        Assert.assertEquals(failures.size(), 1);
+        Assert.assertEquals(failures.get(0).getMessage(), "Failed to send");
+        Assert.assertEquals(context.getMetrics().getSendCount(), 1L);
+    }
+
+    @Test
+    public void testSendResultsAppliedOnTestThread() throws InterruptedException {
+        pipelinedSend().execute(context);
+
+        List<Thread> applied = new CopyOnWriteArrayList<>();
+        Thread transport = new Thread(() -> producer.sends.get(0).complete(testContext -> applied.add(Thread.currentThread())));
+        transport.start();
+        transport.join();
+
+        Assert.assertEquals(context.getSendPipeline().getInFlight(), 0);
+        Assert.assertTrue(applied.isEmpty());
+        Assert.assertEquals(context.getMetrics().getSendCount(), 0L);
+
+        new AwaitSendsAction().execute(context);
+        Assert.assertEquals(applied, Collections.singletonList(Thread.currentThread()));
+        Assert.assertEquals(context.getMetrics().getSendCount(), 1L);
+    }
+
+    private SendMessageAction pipelinedSend() {
+        PayloadTemplateMessageBuilder messageBuilder = new PayloadTemplateMessageBuilder();
+        messageBuilder.setPayloadData("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        return new SendMessageAction()
+                .setEndpoint(endpoint)
+                .setMessageBuilder(messageBuilder)
+                .setPipelined(true);
+    }
+
+    /**
+     * Producer completing send operations manually.
+     */
+    private static class ManualAsyncProducer implements AsyncProducer {
+        final List<CompletableFuture<SendResult>> sends = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(Message message, TestContext context) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<SendResult> sendAsync(Message message, TestContext context) {
+            CompletableFuture<SendResult> send = new CompletableFuture<>();
+            sends.add(send);
+            return send;
+        }
+
+        @Override
+        public String getName() {
+            return "asyncProducer";
+        }
+    }
+}
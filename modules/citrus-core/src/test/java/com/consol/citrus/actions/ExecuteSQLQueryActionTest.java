@@ -24,7 +24,9 @@ import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.validation.script.ScriptValidationContext;
 import org.apache.commons.codec.binary.Base64;
 import org.mockito.Mockito;
+import org.hsqldb.jdbc.JDBCDriver;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -890,4 +892,87 @@ public class ExecuteSQLQueryActionTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(context.getVariable("${binaryData}"), Base64.encodeBase64String("some_binary_data".getBytes()));
         Assert.assertEquals(new String(Base64.decodeBase64(context.getVariable("${binaryData}"))), "some_binary_data");
     }
+
+    @Test
+    public void testStreamingControlResultSetAndExtractVariables() {
+        executeSQLQueryAction.setJdbcTemplate(createStreamingJdbcTemplate());
+        executeSQLQueryAction.setStreaming(true);
+        executeSQLQueryAction.setFetchSize(2);
+        executeSQLQueryAction.setStatements(Arrays.asList("select ORDERTYPE, STATUS from streaming_orders order by ID",
+                "select NAME from streaming_customers"));
+
+        Map<String, List<String>> controlResultSet = new HashMap<String, List<String>>();
+        controlResultSet.put("ORDERTYPE", Arrays.asList("small", "@ignore@", "large"));
+        controlResultSet.put("status", Arrays.asList("in_progress", "NULL", "done"));
+        controlResultSet.put("NAME", Collections.singletonList("Christoph"));
+        executeSQLQueryAction.setControlResultSet(controlResultSet);
+
+        Map<String, String> extractVariables = new HashMap<String, String>();
+        extractVariables.put("STATUS", "orderStatus");
+        executeSQLQueryAction.setExtractVariables(extractVariables);
+
+        ScriptValidationContext scriptValidationContext = new ScriptValidationContext(ScriptTypes.GROOVY);
+        scriptValidationContext.setValidationScript("int count = 0\n" +
+                "rows.each { count++ }\n" +
+                "assert count == 4");
+        executeSQLQueryAction.setScriptValidationContext(scriptValidationContext);
+
+        executeSQLQueryAction.execute(context);
+
+        Assert.assertEquals(context.getVariable("orderStatus"), "in_progress;NULL;done");
+        Assert.assertEquals(context.getVariable("ORDERTYPE"), "small");
+        Assert.assertEquals(context.getVariable("NAME"), "Christoph");
+    }
+
+    @Test
+    public void testStreamingRowCountMismatch() {
+        executeSQLQueryAction.setJdbcTemplate(createStreamingJdbcTemplate());
+        executeSQLQueryAction.setStreaming(true);
+        executeSQLQueryAction.setStatements(Collections.singletonList("select ORDERTYPE from streaming_orders order by ID"));
+        executeSQLQueryAction.setControlResultSet(Collections.singletonMap("ORDERTYPE", Arrays.asList("small", "medium")));
+
+        try {
+            executeSQLQueryAction.execute(context);
+            Assert.fail("Missing exception due to row count mismatch");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Validation failed for column: 'ORDERTYPE' expected rows count: 2 but was 3");
+        }
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testStreamingValueMismatch() {
+        executeSQLQueryAction.setJdbcTemplate(createStreamingJdbcTemplate());
+        executeSQLQueryAction.setStreaming(true);
+        executeSQLQueryAction.setStatements(Collections.singletonList("select ORDERTYPE from streaming_orders order by ID"));
+        executeSQLQueryAction.setControlResultSet(Collections.singletonMap("ORDERTYPE", Arrays.asList("small", "small", "large")));
+
+        executeSQLQueryAction.execute(context);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Could not find column 'UNKNOWN' in SQL result set")
+    public void testStreamingUnknownColumn() {
+        executeSQLQueryAction.setJdbcTemplate(createStreamingJdbcTemplate());
+        executeSQLQueryAction.setStreaming(true);
+        executeSQLQueryAction.setStatements(Collections.singletonList("select ORDERTYPE from streaming_orders"));
+        executeSQLQueryAction.setControlResultSet(Collections.singletonMap("UNKNOWN", Collections.singletonList("small")));
+
+        executeSQLQueryAction.execute(context);
+    }
+
+    /**
+     * Creates Jdbc template on in memory database with some test data.
+     * @return
+     */
+    private JdbcTemplate createStreamingJdbcTemplate() {
+        JdbcTemplate template = new JdbcTemplate(new SimpleDriverDataSource(new JDBCDriver(), "jdbc:hsqldb:mem:sqlQueryStreaming", "sa", ""));
+        template.execute("DROP TABLE streaming_orders IF EXISTS");
+        template.execute("DROP TABLE streaming_customers IF EXISTS");
+        template.execute("CREATE TABLE streaming_orders (ID INTEGER, ORDERTYPE VARCHAR(20), STATUS VARCHAR(20))");
+        template.execute("CREATE TABLE streaming_customers (NAME VARCHAR(20))");
+        template.update("INSERT INTO streaming_orders VALUES (1, 'small', 'in_progress')");
+        template.update("INSERT INTO streaming_orders VALUES (2, 'medium', NULL)");
+        template.update("INSERT INTO streaming_orders VALUES (3, 'large', 'done')");
+        template.update("INSERT INTO streaming_customers VALUES ('Christoph')");
+        return template;
+    }
 }
@@ -16,8 +16,10 @@
 
 package com.consol.citrus.actions;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.Endpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.messaging.Consumer;
 import com.consol.citrus.messaging.SelectiveConsumer;
@@ -25,9 +27,11 @@ import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static org.mockito.Mockito.*;
 
@@ -132,4 +136,44 @@ public class PurgeEndpointActionTest extends AbstractTestNGUnitTest {
         purgeEndpointAction.execute(context);
     }
 	
+    @Test(expectedExceptions = CitrusRuntimeException.class,
+            expectedExceptionsMessageRegExp = "Unable to purge endpoint mockEndpoint with 2 concurrent consumers - endpoint shares a single consumer instance")
+    public void testPurgeConcurrentConsumersWithSharedConsumer() {
+        PurgeEndpointAction purgeEndpointAction = new PurgeEndpointAction();
+        purgeEndpointAction.setEndpoints(Collections.singletonList(mockEndpoint));
+        purgeEndpointAction.setConcurrentConsumers(2);
+
+        reset(mockEndpoint, consumer);
+
+        when(mockEndpoint.getName()).thenReturn("mockEndpoint");
+        when(mockEndpoint.createConsumer()).thenReturn(consumer);
+
+        purgeEndpointAction.execute(context);
+    }
+
+    @Test
+    public void testPurgeConcurrentConsumers() {
+        PurgeEndpointAction purgeEndpointAction = new PurgeEndpointAction();
+        purgeEndpointAction.setEndpoints(Collections.singletonList(emptyEndpoint));
+        purgeEndpointAction.setConcurrentConsumers(2);
+
+        List<TestContext> consumerContexts = new CopyOnWriteArrayList<>();
+        reset(emptyEndpoint);
+
+        when(emptyEndpoint.getName()).thenReturn("emptyEndpoint");
+        when(emptyEndpoint.createConsumer()).thenAnswer(invocation -> {
+            Consumer workerConsumer = Mockito.mock(Consumer.class);
+            when(workerConsumer.receive(any(TestContext.class), eq(100L))).thenAnswer(receive -> {
+                consumerContexts.add(receive.getArgument(0));
+                throw new ActionTimeoutException();
+            });
+            return workerConsumer;
+        });
+
+        purgeEndpointAction.execute(context);
+
+        Assert.assertEquals(consumerContexts.size(), 2L);
+        Assert.assertNotSame(consumerContexts.get(0), consumerContexts.get(1));
+        Assert.assertFalse(consumerContexts.contains(context));
+    }
 }
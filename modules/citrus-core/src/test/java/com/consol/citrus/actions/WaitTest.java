@@ -17,9 +17,12 @@
 package com.consol.citrus.actions;
 
 import com.consol.citrus.condition.Condition;
+import com.consol.citrus.condition.MessageCondition;
 import com.consol.citrus.container.Wait;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.DefaultMessageStore;
 import org.mockito.Mockito;
 import org.springframework.util.StringUtils;
 import org.testng.annotations.Test;
@@ -145,6 +148,70 @@ public class WaitTest {
         assertConditionExecutedWithinSeconds(seconds);
     }
 
+    @Test
+    public void shouldSatisfyMessageConditionOnArrival() throws Exception {
+        String seconds = "10";
+        String interval = "5000";
+        String messageName = "request";
+
+        MessageCondition condition = new MessageCondition();
+        condition.setMessageName(messageName);
+
+        Wait testling = getWaitAction(seconds, interval);
+        testling.setCondition(condition);
+
+        DefaultMessageStore messageStore = new DefaultMessageStore();
+
+        reset(contextMock);
+        prepareContextMock(seconds, interval);
+        when(contextMock.replaceDynamicContentInString(messageName)).thenReturn(messageName);
+        when(contextMock.getMessageStore()).thenReturn(messageStore);
+
+        Thread sender = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            messageStore.storeMessage(messageName, new DefaultMessage("Hello"));
+        });
+
+        startTimer();
+        sender.start();
+        testling.execute(contextMock);
+        stopTimer();
+
+        assertConditionExecutedWithinSeconds("1");
+    }
+
+    @Test
+    public void shouldCancelConditionCheckExceedingInterval() throws Exception {
+        String seconds = "1";
+        String interval = "500";
+
+        Wait testling = getWaitAction(seconds, interval);
+
+        reset(contextMock, conditionMock);
+        prepareContextMock(seconds, interval);
+        when(conditionMock.getName()).thenReturn("check");
+        when(conditionMock.isSatisfied(contextMock)).thenAnswer(invocation -> {
+            Thread.sleep(10000L);
+            return Boolean.TRUE;
+        });
+        when(conditionMock.getErrorMessage(contextMock)).thenReturn("Condition failed!");
+        startTimer();
+        try {
+            testling.execute(contextMock);
+            fail("Was expecting CitrusRuntimeException to be thrown");
+        } catch (CitrusRuntimeException e) {
+            // expected
+        }
+        stopTimer();
+
+        assertConditionExecutedWithinSeconds(seconds);
+    }
+
     private void prepareContextMock(String waitTime, String interval) {
         when(contextMock.replaceDynamicContentInString(waitTime)).thenReturn(waitTime);
         when(contextMock.replaceDynamicContentInString(interval)).thenReturn(interval);
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.channel;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.springframework.integration.core.MessageSelector;
@@ -111,4 +112,58 @@ public class MessageSelectingQueueChannelTest extends AbstractTestNGUnitTest {
         Assert.assertNull(receivedMessage);
         Assert.assertEquals(retries.get(), 4L);
     }
+
+    @Test
+    public void testReceiveWakesUpOnArrival() throws InterruptedException {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setPollingInterval(5000L);
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            channel.send(MessageBuilder.withPayload("FooMessage").setHeader("foo", "bar").build());
+        });
+
+        long start = System.currentTimeMillis();
+        producer.start();
+
+        Message<?> receivedMessage = channel.receive(new HeaderMatchingMessageSelector("foo", "bar", context), 10000L);
+
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+
+        producer.join();
+    }
+
+    @Test
+    public void testReceiveSelectedWithHeaderIndex() {
+        MessageSelectingQueueChannel channel = new MessageSelectingQueueChannel();
+        channel.setHeaderIndexing(true);
+
+        channel.send(MessageBuilder.withPayload("FooMessage").setHeader("operation", "foo").setHeader("sequence", "1").build());
+        channel.send(MessageBuilder.withPayload("BarMessage").setHeader("operation", "bar").setHeader("sequence", "2").build());
+
+        Message<?> receivedMessage = channel.receive(new HeaderMatchingMessageSelector("operation", "bar", context));
+        Assert.assertEquals(receivedMessage.getPayload(), "BarMessage");
+
+        channel.send(MessageBuilder.withPayload("OtherBarMessage").setHeader("operation", "bar").setHeader("sequence", "3").build());
+        channel.send(MessageBuilder.withPayload("OtherFooMessage").setHeader("operation", "foo").setHeader("sequence", "4").build());
+
+        receivedMessage = channel.receive(new DispatchingMessageSelector("operation = 'foo' AND sequence = '4'", applicationContext, context));
+        Assert.assertEquals(receivedMessage.getPayload(), "OtherFooMessage");
+
+        Assert.assertNull(channel.receive(new HeaderMatchingMessageSelector("operation", "unknown", context)));
+
+        receivedMessage = channel.receive(0L);
+        Assert.assertEquals(receivedMessage.getPayload(), "FooMessage");
+        Assert.assertNull(channel.receive(new HeaderMatchingMessageSelector("sequence", "1", context)));
+
+        receivedMessage = channel.receive(new HeaderMatchingMessageSelector("operation", "bar", context), 1000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "OtherBarMessage");
+        Assert.assertEquals(channel.getQueueSize(), 0);
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.config.xml;
+
+import com.consol.citrus.actions.AwaitSendsAction;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.testng.AbstractActionParserTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class AwaitSendsActionParserTest extends AbstractActionParserTest<AwaitSendsAction> {
+
+    @Test
+    public void testAwaitSendsActionParser() {
+        assertActionCount(3);
+        assertActionClassAndName(AwaitSendsAction.class, "await-sends");
+
+        AwaitSendsAction action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getTimeout(), 5000L);
+
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getTimeout(), 10000L);
+
+        SendMessageAction sendAction = (SendMessageAction) getTestCase().getActions().get(2);
+        Assert.assertTrue(sendAction.isPipelined());
+        Assert.assertEquals(sendAction.getMaxInFlight(), 10);
+        Assert.assertFalse(sendAction.isForkMode());
+    }
+}
@@ -51,6 +51,8 @@ public class ExecuteSQLQueryActionParserTest extends AbstractActionParserTest<Ex
         Assert.assertNull(action.getTransactionManager());
         Assert.assertEquals(action.getTransactionTimeout(), "-1");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_DEFAULT");
+        Assert.assertFalse(action.isStreaming());
+        Assert.assertEquals(action.getFetchSize(), 0);
         Assert.assertNull(action.getScriptValidationContext());
         Assert.assertEquals(action.getExtractVariables().size(), 0);
         
@@ -66,6 +68,8 @@ public class ExecuteSQLQueryActionParserTest extends AbstractActionParserTest<Ex
         Assert.assertEquals(action.getTransactionManager(), beanDefinitionContext.getBean("testTransactionManager", PlatformTransactionManager.class));
         Assert.assertEquals(action.getTransactionTimeout(), "5000");
         Assert.assertEquals(action.getTransactionIsolationLevel(), "ISOLATION_READ_COMMITTED");
+        Assert.assertTrue(action.isStreaming());
+        Assert.assertEquals(action.getFetchSize(), 500);
         Assert.assertNull(action.getScriptValidationContext());
         Assert.assertEquals(action.getExtractVariables().size(), 0);
         
@@ -32,7 +32,7 @@ public class MessageSelectingQueueChannelParserTest extends AbstractBeanDefiniti
     public void testMessageSelectingQueueChannelParser() {
         Map<String, MessageSelectingQueueChannel> channels = beanDefinitionContext.getBeansOfType(MessageSelectingQueueChannel.class);
         
-        Assert.assertEquals(channels.size(), 6);
+        Assert.assertEquals(channels.size(), 7);
         
         // 1st channel
         Assert.assertTrue(channels.containsKey("channel1"));
@@ -55,5 +55,10 @@ public class MessageSelectingQueueChannelParserTest extends AbstractBeanDefiniti
         // 6th chanel with polling interval
         channel = channels.get("channel6");
         Assert.assertEquals(channel.getPollingInterval(), 550);
+        Assert.assertFalse(channel.isHeaderIndexing());
+
+        // 7th chanel with header indexing
+        channel = channels.get("channel7");
+        Assert.assertTrue(channel.isHeaderIndexing());
     }
 }
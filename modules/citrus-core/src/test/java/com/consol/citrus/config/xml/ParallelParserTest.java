@@ -30,7 +30,7 @@ public class ParallelParserTest extends AbstractActionParserTest<Parallel> {
 
     @Test
     public void testActionParser() {
-        assertActionCount(2);
+        assertActionCount(4);
         assertActionClassAndName(Parallel.class, "parallel");
         
         Parallel action = getNextTestActionFromTest();
@@ -44,5 +44,20 @@ public class ParallelParserTest extends AbstractActionParserTest<Parallel> {
         Assert.assertEquals(((Parallel)action.getActions().get(0)).getActionCount(), 2);
         Assert.assertEquals(action.getActions().get(1).getClass(), EchoAction.class);
         Assert.assertEquals(action.getActions().get(2).getClass(), EchoAction.class);
+        Assert.assertNull(action.getExecutorService());
+        Assert.assertEquals(action.getMaxConcurrency(), 0);
+        Assert.assertFalse(action.isFailFast());
+        Assert.assertFalse(action.isVirtualThreads());
+
+        action = getNextTestActionFromTest();
+        Assert.assertEquals(action.getActionCount(), 1);
+        Assert.assertEquals(action.getExecutorService(), beanDefinitionContext.getBean("parallelExecutor"));
+        Assert.assertEquals(action.getMaxConcurrency(), 10);
+        Assert.assertTrue(action.isFailFast());
+        Assert.assertFalse(action.isVirtualThreads());
+
+        action = getNextTestActionFromTest();
+        Assert.assertNull(action.getExecutorService());
+        Assert.assertTrue(action.isVirtualThreads());
     }
 }
@@ -41,6 +41,11 @@ public class PurgeEndpointActionParserTest extends AbstractActionParserTest<Purg
         Assert.assertEquals(action.getEndpointNames().get(0), "testEndpoint1");
         Assert.assertEquals(action.getEndpointNames().get(1), "testEndpoint2");
         Assert.assertEquals(action.getEndpointNames().get(2), "testEndpoint3");
+        Assert.assertEquals(action.getSleepTime(), 350L);
+        Assert.assertEquals(action.getBatchSize(), 1);
+        Assert.assertEquals(action.getConcurrentConsumers(), 1);
+        Assert.assertEquals(action.getMaxEmptyReceives(), 1);
+        Assert.assertEquals(action.getPurgeTimeout(), -1L);
 
         action = getNextTestActionFromTest();
         Assert.assertNull(action.getMessageSelector());
@@ -51,6 +56,11 @@ public class PurgeEndpointActionParserTest extends AbstractActionParserTest<Purg
         Assert.assertEquals(action.getEndpointNames().get(0), "testEndpoint1");
         Assert.assertEquals(action.getEndpointNames().get(1), "testEndpoint2");
         Assert.assertEquals(action.getEndpointNames().get(2), "testEndpoint3");
+        Assert.assertEquals(action.getSleepTime(), 0L);
+        Assert.assertEquals(action.getBatchSize(), 100);
+        Assert.assertEquals(action.getConcurrentConsumers(), 4);
+        Assert.assertEquals(action.getMaxEmptyReceives(), 2);
+        Assert.assertEquals(action.getPurgeTimeout(), 30000L);
         
         action = getNextTestActionFromTest();
         Assert.assertEquals(action.getMessageSelector(), "operation = 'sayHello'");
@@ -105,9 +105,11 @@ public class SchemaRepositoryParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(schemaRepository.getSchemas().get(1).getClass(), SimpleJsonSchema.class);
         Assert.assertNotNull(schemaRepository.getLocations());
         Assert.assertEquals(schemaRepository.getLocations().size(), 0);
+        Assert.assertNull(schemaRepository.getDiscriminator());
 
         // 2nd schema repository
         schemaRepository = schemaRepositories.get("jsonSchemaRepository2");
+        Assert.assertEquals(schemaRepository.getDiscriminator(), "$.type");
         Assert.assertNotNull(schemaRepository.getSchemas());
         Assert.assertEquals(schemaRepository.getSchemas().size(), 2);
         Assert.assertNotNull(schemaRepository.getLocations());
@@ -18,13 +18,18 @@ package com.consol.citrus.container;
 
 import com.consol.citrus.TestAction;
 import com.consol.citrus.actions.*;
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ParallelContainerException;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.*;
 
@@ -146,4 +151,134 @@ public class ParallelTest extends AbstractTestNGUnitTest {
 
         verify(action).execute(context);
     }
+
+    @Test
+    public void testMaxConcurrency() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setMaxConcurrency(2);
+
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        for (int i = 0; i < 10; i++) {
+            actionList.add(new AbstractTestAction() {
+                @Override
+                public void doExecute(TestContext context) {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(20L);
+                    } catch (InterruptedException e) {
+                        throw new CitrusRuntimeException(e);
+                    } finally {
+                        running.decrementAndGet();
+                    }
+                }
+            });
+        }
+
+        parallelAction.setActions(actionList);
+        parallelAction.execute(context);
+
+        Assert.assertTrue(maxRunning.get() <= 2);
+    }
+
+    @Test
+    public void testSharedExecutorService() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        try {
+            Parallel parallelAction = new Parallel();
+            parallelAction.setExecutorService(executorService);
+
+            reset(action);
+
+            List<TestAction> actionList = new ArrayList<TestAction>();
+            actionList.add(new EchoAction());
+            actionList.add(action);
+            actionList.add(new EchoAction());
+
+            parallelAction.setActions(actionList);
+
+            parallelAction.execute(context);
+            parallelAction.execute(context);
+
+            verify(action, times(2)).execute(context);
+            Assert.assertFalse(executorService.isShutdown());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testVirtualThreads() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setVirtualThreads(true);
+
+        reset(action);
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(action);
+        actionList.add(new EchoAction());
+
+        parallelAction.setActions(actionList);
+
+        parallelAction.execute(context);
+
+        verify(action).execute(context);
+    }
+
+    @Test
+    public void testFailFast() {
+        Parallel parallelAction = new Parallel();
+        parallelAction.setFailFast(true);
+        parallelAction.setMaxConcurrency(2);
+
+        SleepAction sleep = new SleepAction();
+        sleep.setMilliseconds("5000");
+
+        reset(action);
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(sleep);
+        actionList.add(new FailAction());
+        actionList.add(action);
+
+        parallelAction.setActions(actionList);
+
+        long start = System.currentTimeMillis();
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception for failing parallel action");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertFalse(e instanceof ParallelContainerException);
+        }
+
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+        Assert.assertTrue(parallelAction.getActiveAction() instanceof FailAction);
+        verify(action, never()).execute(context);
+    }
+
+    @Test
+    public void testReuseAfterFailure() {
+        Parallel parallelAction = new Parallel();
+
+        List<TestAction> actionList = new ArrayList<TestAction>();
+        actionList.add(new FailAction());
+
+        parallelAction.setActions(actionList);
+
+        try {
+            parallelAction.execute(context);
+            Assert.fail("Missing exception for failing parallel action");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertFalse(e instanceof ParallelContainerException);
+        }
+
+        actionList = new ArrayList<TestAction>();
+        actionList.add(new EchoAction());
+
+        parallelAction.setActions(actionList);
+        parallelAction.execute(context);
+    }
 }
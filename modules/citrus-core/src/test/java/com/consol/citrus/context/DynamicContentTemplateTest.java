@@ -0,0 +1,79 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DynamicContentTemplateTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testCompileCached() {
+        DynamicContentTemplate template = DynamicContentTemplate.compile("Hello ${user}!");
+        Assert.assertTrue(template.hasVariables());
+        Assert.assertSame(DynamicContentTemplate.compile("Hello ${user}!"), template);
+        Assert.assertFalse(DynamicContentTemplate.compile("Hello World!").hasVariables());
+    }
+
+    @Test
+    public void testLargeSourceNotCached() {
+        StringBuilder source = new StringBuilder("Hello ${user}!");
+        while (source.length() <= 4096) {
+            source.append(" Hello World!");
+        }
+
+        DynamicContentTemplate template = DynamicContentTemplate.compile(source.toString());
+        Assert.assertTrue(template.hasVariables());
+        Assert.assertNotSame(DynamicContentTemplate.compile(source.toString()), template);
+    }
+
+    @Test
+    public void testResolve() {
+        context.setVariable("user", "Citrus");
+        context.setVariable("greeting", "citrus:concat('Hello ', 'World')");
+
+        Assert.assertEquals(DynamicContentTemplate.compile("Hello World!").resolve(context, false), "Hello World!");
+        Assert.assertEquals(DynamicContentTemplate.compile("Hello ${user}!").resolve(context, false), "Hello Citrus!");
+        Assert.assertEquals(DynamicContentTemplate.compile("Hello ${user}!").resolve(context, true), "Hello 'Citrus'!");
+        Assert.assertEquals(DynamicContentTemplate.compile("${user}${user}").resolve(context, false), "CitrusCitrus");
+        Assert.assertEquals(DynamicContentTemplate.compile("citrus:upperCase('${user}')").resolve(context, false), "CITRUS");
+        Assert.assertEquals(DynamicContentTemplate.compile("<a>citrus:upperCase('foo')</a><b>citrus:lowerCase('BAR')</b>").resolve(context, false), "<a>FOO</a><b>bar</b>");
+        Assert.assertEquals(DynamicContentTemplate.compile("citrus:upperCase('foo')").resolve(context, true), "'FOO'");
+        Assert.assertEquals(DynamicContentTemplate.compile("${greeting}").resolve(context, false), "Hello World");
+        Assert.assertEquals(DynamicContentTemplate.compile("citrus:concat('a', citrus:upperCase('b'))").resolve(context, false), "aB");
+    }
+
+    @Test
+    public void testResolveRepeatedly() {
+        DynamicContentTemplate template = DynamicContentTemplate.compile("<index>${i}</index><text>citrus:upperCase('foo')</text>");
+
+        for (int i = 0; i < 3; i++) {
+            context.setVariable("i", i);
+            Assert.assertEquals(template.resolve(context, false), "<index>" + i + "</index><text>FOO</text>");
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownVariable() {
+        DynamicContentTemplate.compile("Hello ${unknown}!").resolve(context, false);
+    }
+}
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.endpoint.adapter;
 
+import com.consol.citrus.TestCase;
 import com.consol.citrus.endpoint.adapter.mapping.XPathPayloadMappingKeyExtractor;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
@@ -110,4 +111,33 @@ public class XmlTestExecutingEndpointAdapterTest extends AbstractTestNGUnitTest
             Assert.assertEquals(e.getMessage(), "Failed to load test case");
         }
     }
+
+    /**
+     * Test for cached test case application contexts providing new test case instances for each request.
+     */
+    @Test
+    public void testRouteMessageWithCachedTestContexts() throws Exception {
+        XPathPayloadMappingKeyExtractor mappingNameExtractor = new XPathPayloadMappingKeyExtractor();
+        mappingNameExtractor.setXpathExpression("//Test/@name");
+        endpointAdapter.setMappingKeyExtractor(mappingNameExtractor);
+        endpointAdapter.setCacheTestContexts(true);
+
+        try {
+            for (int i = 0; i < 3; i++) {
+                Message response = endpointAdapter.handleMessage(
+                        new DefaultMessage("<Test name=\"FooTest\"></Test>"));
+
+                Assert.assertEquals(response.getPayload(String.class).trim(), "<Test name=\"FooTest\">OK</Test>");
+            }
+
+            TestCase first = endpointAdapter.getTestCase(context, "BarTest");
+            TestCase second = endpointAdapter.getTestCase(context, "BarTest");
+            Assert.assertNotSame(first, second);
+            Assert.assertEquals(first.getActionCount(), second.getActionCount());
+            Assert.assertNotSame(first.getActions().get(0), second.getActions().get(0));
+        } finally {
+            endpointAdapter.destroy();
+            endpointAdapter.setCacheTestContexts(false);
+        }
+    }
 }
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.message;
+
+import com.jayway.jsonpath.ReadContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class MessagePayloadCacheTest {
+
+    @Test
+    public void testXmlDocumentCache() {
+        Message message = new DefaultMessage("<TestMessage><Text>Hello</Text></TestMessage>");
+
+        Document document = MessagePayloadCache.getXmlDocument(message);
+        Assert.assertEquals(document.getDocumentElement().getLocalName(), "TestMessage");
+        Assert.assertSame(MessagePayloadCache.getXmlDocument(message), document);
+
+        message.setPayload("<OtherMessage/>");
+        Document changed = MessagePayloadCache.getXmlDocument(message);
+        Assert.assertNotSame(changed, document);
+        Assert.assertEquals(changed.getDocumentElement().getLocalName(), "OtherMessage");
+
+        MessagePayloadCache.evict(message);
+        Assert.assertNotSame(MessagePayloadCache.getXmlDocument(message), changed);
+    }
+
+    @Test
+    public void testJsonCache() throws Exception {
+        Message message = new DefaultMessage("{ \"text\": \"Hello\", \"index\": 5 }");
+
+        Object json = MessagePayloadCache.getJson(message);
+        Assert.assertSame(MessagePayloadCache.getJson(message), json);
+
+        ReadContext readContext = MessagePayloadCache.getJsonReadContext(message);
+        Assert.assertSame(MessagePayloadCache.getJsonReadContext(message), readContext);
+        Assert.assertSame(readContext.json(), json);
+        Assert.assertEquals(readContext.read("$.text"), "Hello");
+
+        Assert.assertNotSame(MessagePayloadCache.getJson(new DefaultMessage(message)), json);
+    }
+}
@@ -83,4 +83,30 @@ public class PollingCorrelationManagerTest {
         Assert.assertNull(correlationManager.find("foo"));
 
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindWithSignal() throws Exception {
+        ChannelSyncEndpointConfiguration pollableEndpointConfiguration = new ChannelSyncEndpointConfiguration();
+        pollableEndpointConfiguration.setPollingInterval(5000L);
+        pollableEndpointConfiguration.setTimeout(10000L);
+
+        final PollingCorrelationManager<String> correlationManager = new PollingCorrelationManager<>(pollableEndpointConfiguration, "Try again");
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(200L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            correlationManager.store("foo", "bar");
+        });
+
+        long start = System.currentTimeMillis();
+        producer.start();
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+
+        producer.join();
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.messaging;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class MessagePurgerTest {
+
+    @Test
+    public void testPurge() {
+        QueueDestination destination = new QueueDestination(25);
+
+        MessagePurger messagePurger = new MessagePurger();
+        Assert.assertEquals(messagePurger.purge(destination), 25);
+        Assert.assertTrue(destination.messages.isEmpty());
+        Assert.assertEquals(destination.consumers.get(), 1);
+    }
+
+    @Test
+    public void testPurgeConcurrentConsumers() {
+        QueueDestination destination = new QueueDestination(2000);
+
+        MessagePurger messagePurger = new MessagePurger();
+        messagePurger.setConcurrentConsumers(4);
+        messagePurger.setBatchSize(100);
+        Assert.assertEquals(messagePurger.purge(destination), 2000);
+        Assert.assertTrue(destination.messages.isEmpty());
+        Assert.assertEquals(destination.consumers.get(), 4);
+    }
+
+    @Test
+    public void testSleepBetweenBatches() {
+        QueueDestination destination = new QueueDestination(10);
+
+        MessagePurger messagePurger = new MessagePurger();
+        messagePurger.setBatchSize(5);
+        messagePurger.setSleepTime(100L);
+
+        long start = System.currentTimeMillis();
+        Assert.assertEquals(messagePurger.purge(destination), 10);
+        long duration = System.currentTimeMillis() - start;
+        Assert.assertTrue(duration >= 200L, "Expected sleep after each batch");
+        Assert.assertTrue(duration < 1000L, "Expected no sleep after each message");
+    }
+
+    @Test
+    public void testNativePurge() {
+        QueueDestination destination = new QueueDestination(10) {
+            @Override
+            public int purgeNative() {
+                int size = messages.size();
+                messages.clear();
+                return size;
+            }
+        };
+
+        Assert.assertEquals(new MessagePurger().purge(destination), 10);
+        Assert.assertTrue(destination.messages.isEmpty());
+        Assert.assertEquals(destination.consumers.get(), 0);
+    }
+
+    @Test
+    public void testSkipEmptyDestination() {
+        QueueDestination destination = new QueueDestination(0) {
+            @Override
+            public int getMessageCount() {
+                return messages.size();
+            }
+        };
+
+        Assert.assertEquals(new MessagePurger().purge(destination), 0);
+        Assert.assertEquals(destination.consumers.get(), 0);
+    }
+
+    @Test
+    public void testMessageCountConfirmsDrained() {
+        AtomicInteger lateMessages = new AtomicInteger(5);
+        QueueDestination destination = new QueueDestination(5) {
+            @Override
+            public int getMessageCount() {
+                while (lateMessages.getAndDecrement() > 0) {
+                    messages.add(new Object());
+                }
+                return messages.size();
+            }
+        };
+
+        Assert.assertEquals(new MessagePurger().purge(destination), 10);
+        Assert.assertTrue(destination.messages.isEmpty());
+    }
+
+    @Test
+    public void testMaxEmptyReceives() {
+        AtomicInteger emptyReceives = new AtomicInteger();
+        MessagePurger.PurgeDestination destination = new MessagePurger.PurgeDestination() {
+            @Override
+            public String getName() {
+                return "emptyQueue";
+            }
+
+            @Override
+            public MessagePurger.PurgeConsumer createConsumer() {
+                return timeout -> {
+                    emptyReceives.incrementAndGet();
+                    return false;
+                };
+            }
+        };
+
+        MessagePurger messagePurger = new MessagePurger();
+        messagePurger.setMaxEmptyReceives(3);
+        Assert.assertEquals(messagePurger.purge(destination), 0);
+        Assert.assertEquals(emptyReceives.get(), 3);
+    }
+
+    @Test
+    public void testPurgeTimeout() {
+        QueueDestination destination = new QueueDestination(0) {
+            @Override
+            public MessagePurger.PurgeConsumer createConsumer() {
+                consumers.incrementAndGet();
+                return timeout -> true;
+            }
+        };
+
+        MessagePurger messagePurger = new MessagePurger();
+        messagePurger.setConcurrentConsumers(2);
+        messagePurger.setTimeout(200L);
+
+        try {
+            messagePurger.purge(destination);
+            Assert.fail("Missing exception due to endless message stream");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Failed to purge destination testQueue - destination not drained after 200 ms"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testPurgeTimeoutChangingMessageCount() {
+        AtomicInteger messageCount = new AtomicInteger();
+        MessagePurger.PurgeDestination destination = new MessagePurger.PurgeDestination() {
+            @Override
+            public String getName() {
+                return "busyQueue";
+            }
+
+            @Override
+            public MessagePurger.PurgeConsumer createConsumer() {
+                return timeout -> false;
+            }
+
+            @Override
+            public int getMessageCount() {
+                return messageCount.incrementAndGet();
+            }
+        };
+
+        MessagePurger messagePurger = new MessagePurger();
+        messagePurger.setReceiveTimeout(10L);
+        messagePurger.setTimeout(200L);
+
+        try {
+            messagePurger.purge(destination);
+            Assert.fail("Missing exception due to changing message count");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Failed to purge destination busyQueue"), e.getMessage());
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testConsumerError() {
+        MessagePurger messagePurger = new MessagePurger();
+        messagePurger.setConcurrentConsumers(2);
+        messagePurger.purge(new MessagePurger.PurgeDestination() {
+            @Override
+            public String getName() {
+                return "failingQueue";
+            }
+
+            @Override
+            public MessagePurger.PurgeConsumer createConsumer() {
+                return timeout -> {
+                    throw new IllegalStateException("Failed to receive");
+                };
+            }
+        });
+    }
+
+    /**
+     * Destination backed by blocking queue.
+     */
+    private static class QueueDestination implements MessagePurger.PurgeDestination {
+        final BlockingQueue<Object> messages = new LinkedBlockingQueue<>();
+        final AtomicInteger consumers = new AtomicInteger();
+
+        QueueDestination(int messageCount) {
+            for (int i = 0; i < messageCount; i++) {
+                messages.add(new Object());
+            }
+        }
+
+        @Override
+        public String getName() {
+            return "testQueue";
+        }
+
+        @Override
+        public MessagePurger.PurgeConsumer createConsumer() {
+            consumers.incrementAndGet();
+            return timeout -> messages.poll(timeout, TimeUnit.MILLISECONDS) != null;
+        }
+    }
+}
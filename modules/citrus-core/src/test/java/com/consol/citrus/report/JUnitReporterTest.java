@@ -16,13 +16,18 @@
 
 package com.consol.citrus.report;
 
+import com.consol.citrus.TestMetrics;
 import com.consol.citrus.TestResult;
 import com.consol.citrus.util.FileUtils;
+import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.io.File;
+import java.time.Duration;
+
+import static org.mockito.Mockito.when;
 
 /**
  * @author Christoph Deppisch
@@ -129,4 +134,22 @@ public class JUnitReporterTest {
         Assert.assertTrue(testSuiteFile.contains("tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"1\""));
         Assert.assertTrue(testSuiteFile.contains("<failure type=\"java.lang.NullPointerException\" message=\"Something &quot;went wrong!\">"));
     }
+
+    @Test
+    public void testGenerateTestResultsWithDuration() throws Exception {
+        TestMetrics metrics = Mockito.mock(TestMetrics.class);
+        when(metrics.getDuration()).thenReturn(Duration.ofMillis(1250L));
+
+        reporter.getTestResults().addResult(TestResult.success("fooTest", JUnitReporterTest.class.getName()).withMetrics(metrics));
+        reporter.getTestResults().addResult(TestResult.success("barTest", JUnitReporterTest.class.getName()).withMetrics(metrics));
+        reporter.generateTestResults();
+
+        String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getOutputDirectory() + File.separator + String.format(reporter.getReportFileNamePattern(), JUnitReporterTest.class.getName())));
+
+        Assert.assertEquals(reportFile, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<testsuite name=\"com.consol.citrus.report.JUnitReporterTest\" time=\"2.5\" tests=\"2\" errors=\"0\" skipped=\"0\" failures=\"0\">\n" +
+                "    <testcase name=\"fooTest\" classname=\"com.consol.citrus.report.JUnitReporterTest\" time=\"1.25\"/>\n" +
+                "    <testcase name=\"barTest\" classname=\"com.consol.citrus.report.JUnitReporterTest\" time=\"1.25\"/>\n" +
+                "</testsuite>");
+    }
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.TestMetrics;
+import com.consol.citrus.TestResult;
+import com.consol.citrus.util.FileUtils;
+import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.ReadContext;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class MetricsReporterTest {
+
+    private MetricsReporter reporter = new MetricsReporter();
+
+    @BeforeMethod
+    public void clearResults() {
+        reporter.clearTestResults();
+    }
+
+    @Test
+    public void testGenerateTestResults() throws Exception {
+        TestMetrics metrics = new TestMetrics();
+        metrics.start();
+        metrics.recordAction("echo", 1500000L);
+        metrics.recordSend(2000000L);
+        metrics.recordReceive(3000000L);
+        metrics.recordReceive(1000000L);
+        metrics.recordConnectionPool("httpClient", 5, 2, 0, 20);
+        metrics.recordConnectionPool("httpClient", 1, 0, 4, 20);
+        metrics.stop();
+
+        reporter.getTestResults().addResult(TestResult.success("fooTest", MetricsReporterTest.class.getName()).withMetrics(metrics));
+        reporter.getTestResults().addResult(TestResult.skipped("barTest", MetricsReporterTest.class.getName()));
+        reporter.generateTestResults();
+
+        ReadContext report = JsonPath.parse(FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getReportFileName())));
+
+        Assert.assertEquals(report.read("$.tests", Integer.class), Integer.valueOf(2));
+        Assert.assertEquals(report.read("$.skipped", Integer.class), Integer.valueOf(1));
+        Assert.assertEquals(report.read("$.results[0].name"), "fooTest");
+        Assert.assertEquals(report.read("$.results[0].result"), "SUCCESS");
+        Assert.assertEquals(report.read("$.results[0].sendCount", Integer.class), Integer.valueOf(1));
+        Assert.assertEquals(report.read("$.results[0].sendDuration", Double.class), 2.0D);
+        Assert.assertEquals(report.read("$.results[0].receiveCount", Integer.class), Integer.valueOf(2));
+        Assert.assertEquals(report.read("$.results[0].receiveDuration", Double.class), 4.0D);
+        Assert.assertEquals(report.read("$.results[0].actions[0].name"), "echo");
+        Assert.assertEquals(report.read("$.results[0].actions[0].duration", Double.class), 1.5D);
+        Assert.assertEquals(report.read("$.results[0].connectionPools[0].name"), "httpClient");
+        Assert.assertEquals(report.read("$.results[0].connectionPools[0].samples", Integer.class), Integer.valueOf(2));
+        Assert.assertEquals(report.read("$.results[0].connectionPools[0].maxLeased", Integer.class), Integer.valueOf(5));
+        Assert.assertEquals(report.read("$.results[0].connectionPools[0].maxPending", Integer.class), Integer.valueOf(2));
+        Assert.assertEquals(report.read("$.results[0].connectionPools[0].available", Integer.class), Integer.valueOf(4));
+        Assert.assertEquals(report.read("$.results[0].connectionPools[0].max", Integer.class), Integer.valueOf(20));
+        Assert.assertEquals(report.read("$.results[1].name"), "barTest");
+        Assert.assertEquals(report.read("$.results[1].duration", Double.class), 0.0D);
+    }
+}
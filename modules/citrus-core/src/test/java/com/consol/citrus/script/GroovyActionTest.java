@@ -41,6 +41,40 @@ public class GroovyActionTest extends AbstractTestNGUnitTest {
         bean.execute(context);
     }
     
+    @Test
+    public void testScriptWithDynamicContent() {
+        GroovyAction bean = new GroovyAction();
+        bean.setScript("context.setVariable('result', '${greeting} Citrus')\n" +
+                "context.setVariable('quoted', \"${greeting} 'Citrus'\")");
+
+        context.setVariable("greeting", "Hello");
+        bean.execute(context);
+        Assert.assertEquals(context.getVariable("result"), "Hello Citrus");
+        Assert.assertEquals(context.getVariable("quoted"), "Hello 'Citrus'");
+
+        int cachedScripts = GroovyScriptCache.size();
+
+        context.setVariable("greeting", "Hi");
+        bean.execute(context);
+        Assert.assertEquals(context.getVariable("result"), "Hi Citrus");
+        Assert.assertEquals(context.getVariable("quoted"), "Hi 'Citrus'");
+        Assert.assertEquals(GroovyScriptCache.size(), cachedScripts);
+    }
+
+    @Test
+    public void testScriptWithDynamicContentInCode() {
+        GroovyAction bean = new GroovyAction();
+        bean.setScript("context.setVariable('sum', String.valueOf(${count} + 1))");
+
+        context.setVariable("count", "1");
+        bean.execute(context);
+        Assert.assertEquals(context.getVariable("sum"), "2");
+
+        context.setVariable("count", "2");
+        bean.execute(context);
+        Assert.assertEquals(context.getVariable("sum"), "3");
+    }
+
     @Test(expectedExceptions = {CitrusRuntimeException.class})
     public void testScriptFailure() {
         GroovyAction bean = new GroovyAction();
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import groovy.lang.GroovyObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class GroovyScriptCacheTest {
+
+    @Test
+    public void testCompileOnce() {
+        String code = "return 'Hello from cached script'";
+
+        Class<?> scriptClass = GroovyScriptCache.getScriptClass(code);
+        Assert.assertSame(GroovyScriptCache.getScriptClass(code), scriptClass);
+        Assert.assertNotSame(GroovyScriptCache.getScriptClass("return 'Other script'"), scriptClass);
+
+        GroovyObject first = GroovyScriptCache.newInstance(code, GroovyScriptCache.class.getClassLoader());
+        GroovyObject second = GroovyScriptCache.newInstance(code, GroovyScriptCache.class.getClassLoader());
+        Assert.assertNotSame(first, second);
+        Assert.assertSame(first.getClass(), scriptClass);
+        Assert.assertEquals(first.invokeMethod("run", new Object[] {}), "Hello from cached script");
+    }
+
+    @Test
+    public void testScriptWithClasses() {
+        String code = "class Greeter { String greet() { new Helper().text() } }\n" +
+                "class Helper { String text() { 'Hello' } }";
+
+        GroovyObject greeter = GroovyScriptCache.newInstance(code, GroovyScriptCache.class.getClassLoader());
+        Assert.assertEquals(greeter.invokeMethod("greet", new Object[] {}), "Hello");
+    }
+
+    @Test
+    public void testScriptWithFieldState() {
+        String code = "import groovy.transform.Field\n" +
+                "@Field List calls = []\n" +
+                "@Field static final String GREETING = 'Hello'\n" +
+                "calls << GREETING\n" +
+                "return calls.size()";
+
+        Class<?> scriptClass = GroovyScriptCache.getScriptClass(code);
+        Assert.assertSame(GroovyScriptCache.getScriptClass(code), scriptClass);
+
+        GroovyObject first = GroovyScriptCache.newInstance(code, GroovyScriptCache.class.getClassLoader());
+        GroovyObject second = GroovyScriptCache.newInstance(code, GroovyScriptCache.class.getClassLoader());
+        Assert.assertEquals(first.invokeMethod("run", new Object[] {}), 1);
+        Assert.assertEquals(second.invokeMethod("run", new Object[] {}), 1);
+    }
+
+    @Test
+    public void testScriptWithStaticStateNotCached() {
+        String code = "class Counter { static int count = 0\n int next() { ++count } }";
+        String helperCode = "class Greeter { String greet() { new Helper().text() } }\n" +
+                "class Helper { static List texts = ['Hello']\n String text() { texts[0] } }";
+
+        Class<?> scriptClass = GroovyScriptCache.getScriptClass(code);
+        Assert.assertNotSame(GroovyScriptCache.getScriptClass(code), scriptClass);
+        Assert.assertNotSame(GroovyScriptCache.getScriptClass(helperCode), GroovyScriptCache.getScriptClass(helperCode));
+
+        GroovyObject first = GroovyScriptCache.newInstance(code, GroovyScriptCache.class.getClassLoader());
+        GroovyObject second = GroovyScriptCache.newInstance(code, GroovyScriptCache.class.getClassLoader());
+        Assert.assertEquals(first.invokeMethod("next", new Object[] {}), 1);
+        Assert.assertEquals(second.invokeMethod("next", new Object[] {}), 1);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testCompilationError() {
+        GroovyScriptCache.newInstance("class Broken {", GroovyScriptCache.class.getClassLoader());
+    }
+}
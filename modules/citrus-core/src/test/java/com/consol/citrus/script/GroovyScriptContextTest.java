@@ -0,0 +1,68 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.script;
+
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class GroovyScriptContextTest extends AbstractTestNGUnitTest {
+
+    private static final String RESOLVE = GroovyScriptContext.class.getName() + ".resolve";
+
+    @Test
+    public void testBindDynamicContent() {
+        Assert.assertEquals(GroovyScriptContext.bindDynamicContent("println 'Hello Citrus'"), "println 'Hello Citrus'");
+        Assert.assertEquals(GroovyScriptContext.bindDynamicContent("println 'Current date is ${date}!'"),
+                "println " + RESOLVE + "('Current date is ${date}!')");
+        Assert.assertEquals(GroovyScriptContext.bindDynamicContent("assert context.getVariable(\"text\").equals(\"${text}\")"),
+                "assert context.getVariable(\"text\").equals(" + RESOLVE + "(\"\\${text}\"))");
+        Assert.assertEquals(GroovyScriptContext.bindDynamicContent("println '''Number: citrus:randomNumber(5)'''"),
+                "println " + RESOLVE + "('''Number: citrus:randomNumber(5)''')");
+        Assert.assertEquals(GroovyScriptContext.bindDynamicContent("// uses ${date}\nprintln 'Hello'"), "// uses ${date}\nprintln 'Hello'");
+    }
+
+    @Test
+    public void testUnboundDynamicContent() {
+        Assert.assertNull(GroovyScriptContext.bindDynamicContent("assert ${count} == 5"));
+        Assert.assertNull(GroovyScriptContext.bindDynamicContent("println \"$name says ${greeting}\""));
+        Assert.assertNull(GroovyScriptContext.bindDynamicContent("println 'Hello"));
+    }
+
+    @Test
+    public void testResolve() {
+        context.setVariable("greeting", "Hello");
+
+        TestContext previous = GroovyScriptContext.bind(context);
+        try {
+            Assert.assertEquals(GroovyScriptContext.resolve("${greeting} Citrus"), "Hello Citrus");
+        } finally {
+            GroovyScriptContext.restore(previous);
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testResolveWithoutContext() {
+        GroovyScriptContext.resolve("${greeting} Citrus");
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class DaemonThreadFactoryTest {
+
+    @Test
+    public void testNewThread() {
+        DaemonThreadFactory threadFactory = new DaemonThreadFactory("citrus-test-");
+
+        Thread first = threadFactory.newThread(() -> {});
+        Thread second = threadFactory.newThread(() -> {});
+
+        Assert.assertTrue(first.isDaemon());
+        Assert.assertTrue(second.isDaemon());
+        Assert.assertEquals(first.getName(), "citrus-test-1");
+        Assert.assertEquals(second.getName(), "citrus-test-2");
+    }
+}
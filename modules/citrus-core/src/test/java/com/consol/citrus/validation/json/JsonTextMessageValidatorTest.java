@@ -33,6 +33,7 @@ import org.testng.annotations.Test;
 import java.util.Collections;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -431,7 +432,7 @@ public class JsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
         validationContext.setSchemaValidation(true);
 
         JsonSchemaValidation jsonSchemaValidation = mock(JsonSchemaValidation.class);
-        when(jsonSchemaValidation.validate(any(), anyList(), any(), any())).thenReturn(new GraciousProcessingReport((true)));
+        when(jsonSchemaValidation.validate(any(), anyList(), any(), any(), anyBoolean())).thenReturn(new GraciousProcessingReport((true)));
         validator.setJsonSchemaValidation(jsonSchemaValidation);
 
         JsonSchemaRepository jsonSchemaRepository = mock(JsonSchemaRepository.class);
@@ -444,6 +445,6 @@ public class JsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
 
         //THEN
-        verify(jsonSchemaValidation).validate(eq(receivedMessage), anyList(), eq(validationContext), eq(applicationContext));
+        verify(jsonSchemaValidation).validate(eq(receivedMessage), anyList(), eq(validationContext), eq(applicationContext), eq(true));
     }
 }
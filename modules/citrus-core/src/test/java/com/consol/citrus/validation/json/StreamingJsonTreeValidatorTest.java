@@ -0,0 +1,220 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import com.jayway.jsonpath.PathNotFoundException;
+import net.minidev.json.parser.JSONParser;
+import net.minidev.json.parser.ParseException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StreamingJsonTreeValidatorTest extends AbstractTestNGUnitTest {
+
+    private static final String RECEIVED = "{\"id\":\"x123\", \"index\":5, \"price\":9.99, \"active\":true, \"comment\":null," +
+                "\"object\":{\"id\":\"o1\", \"name\":\"foo\"}," +
+                "\"items\":[{\"id\":1, \"name\":\"a\"}, {\"id\":2, \"name\":\"b\"}, {\"id\":3, \"name\":\"c\"}]," +
+                "\"tags\":[\"x\", \"y\", [1, 2]]}";
+
+    @Test
+    public void testValidate() {
+        validate(true, RECEIVED, RECEIVED);
+        validate(true, RECEIVED, "{\"tags\":[\"x\", \"y\", [1, 2]], \"items\":[{\"name\":\"a\", \"id\":1}, {\"name\":\"b\", \"id\":2}, {\"name\":\"c\", \"id\":3}]," +
+                "\"object\":{\"name\":\"foo\", \"id\":\"o1\"}, \"comment\":null, \"active\":true, \"price\":9.99, \"index\":5, \"id\":\"x123\"}");
+        validate(true, "[{\"id\":1}, {\"id\":2},]", "[{\"id\":1}, {\"id\":2}]");
+    }
+
+    @Test
+    public void testIgnorePlaceholderAndValidationMatcher() {
+        validate(true, RECEIVED, RECEIVED.replace("\"x123\"", "\"@ignore@\"")
+                .replace("\"index\":5", "\"index\":\"@greaterThan(4)@\"")
+                .replace("\"object\":{\"id\":\"o1\", \"name\":\"foo\"}", "\"object\":\"@ignore@\"")
+                .replace("\"comment\":null", "\"comment\":\"@ignore@\"")
+                .replace("\"tags\":[\"x\", \"y\", [1, 2]]", "\"tags\":\"@contains('y')@\""));
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testValidationMatcherFailure() {
+        validate(true, RECEIVED, RECEIVED.replace("\"index\":5", "\"index\":\"@greaterThan(5)@\""));
+    }
+
+    @Test
+    public void testNonStrictMode() {
+        validate(false, RECEIVED, "{\"id\":\"x123\", \"object\":{\"name\":\"foo\"}, \"items\":[{\"id\":1}, {\"name\":\"b\"}]}");
+
+        assertValidationError(false, RECEIVED, "{\"items\":[{\"id\":1}, {\"id\":2}, {\"id\":3}, {\"id\":4}]}",
+                "JSONArray size mismatch for JSON entry 'items', expected '4' but was '3'");
+        assertValidationError(false, RECEIVED, "{\"unknown\":\"x123\"}",
+                "Missing JSON entry: + 'unknown'");
+    }
+
+    @Test
+    public void testIgnoreExpressions() {
+        String control = RECEIVED.replace("\"index\":5", "\"index\":0")
+                .replace("\"name\":\"b\"", "\"name\":\"?\"")
+                .replace("\"id\":\"o1\"", "\"id\":\"?\"")
+                .replace("\"tags\":[\"x\", \"y\", [1, 2]]", "\"tags\":[]");
+
+        validate(true, RECEIVED, control, "$.index", "$.items[1].name", "$.object.id", "$.tags");
+        validate(true, RECEIVED, control, "$..index", "$.items[*].name", "$['object']['id']", "$.tags[*]", "$.tags");
+        validate(true, RECEIVED, RECEIVED.replace("\"name\":\"b\"", "\"name\":\"?\"").replace("\"name\":\"foo\"", "\"name\":\"?\""), "$..name");
+        validate(true, RECEIVED, RECEIVED.replace("{\"id\":2, \"name\":\"b\"}", "{}"), "$.items[1]");
+        validate(true, RECEIVED, RECEIVED.replace("\"object\":{\"id\":\"o1\", \"name\":\"foo\"}", "\"object\":\"@ignore@\""), "$.object.name");
+    }
+
+    @Test
+    public void testSubtreeIgnoreExpressions() {
+        validate(true, RECEIVED, RECEIVED.replace("\"name\":\"b\"", "\"name\":\"?\""), "$.items[?(@.id == 2)].name");
+        validate(true, RECEIVED, RECEIVED.replace("{\"id\":2, \"name\":\"b\"}", "{}").replace("{\"id\":3, \"name\":\"c\"}", "{}"), "$.items[1:3]");
+        validate(true, RECEIVED, RECEIVED.replace("\"name\":\"b\"", "\"name\":\"?\"").replace("\"name\":\"c\"", "\"name\":\"?\""),
+                "$.items[?(@.id > 1)].name", "$.object.id");
+        validate(true, RECEIVED, RECEIVED, "$.items[?(@.id == 99)].name");
+
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"name\":\"b\"", "\"name\":\"?\""),
+                "Values not equal for entry: 'name', expected '?' but was 'b'", "$.items[?(@.id == 3)].name");
+    }
+
+    @Test(expectedExceptions = PathNotFoundException.class, expectedExceptionsMessageRegExp = "No results for path: \\$\\.object\\.unknown")
+    public void testIgnoreExpressionNoResult() {
+        validate(true, RECEIVED, RECEIVED, "$.object.unknown", "$..unknown");
+    }
+
+    @Test
+    public void testSupportsIgnoreExpressions() {
+        Assert.assertTrue(StreamingJsonTreeValidator.supportsIgnoreExpressions(null));
+        Assert.assertTrue(StreamingJsonTreeValidator.supportsIgnoreExpressions(new HashSet<>(Arrays.asList("$", "$.id", "$..name", "$.items[*].id", "$.items[0]", "$['object'].*", "$[\"tags\"]"))));
+        Assert.assertTrue(StreamingJsonTreeValidator.supportsIgnoreExpressions(Collections.singleton("$.items[?(@.id == 1)]")));
+        Assert.assertTrue(StreamingJsonTreeValidator.supportsIgnoreExpressions(Collections.singleton("$.items.length()")));
+        Assert.assertTrue(StreamingJsonTreeValidator.supportsIgnoreExpressions(Collections.singleton("$.items[0:2]")));
+        Assert.assertTrue(StreamingJsonTreeValidator.supportsIgnoreExpressions(Collections.singleton("$.items[0,1]")));
+        Assert.assertFalse(StreamingJsonTreeValidator.supportsIgnoreExpressions(Collections.singleton("$[?(@.id == 1)]")));
+        Assert.assertFalse(StreamingJsonTreeValidator.supportsIgnoreExpressions(Collections.singleton("items.id")));
+    }
+
+    @Test
+    public void testValidationErrors() {
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"index\":5", "\"index\":6"),
+                "Values not equal for entry: 'index', expected '6' but was '5'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"price\":9.99", "\"price\":9.98"),
+                "Values not equal for entry: 'price', expected '9.98' but was '9.99'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"index\":5", "\"index\":\"5\""),
+                "Values not equal for entry: 'index', expected '5' but was '5'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"comment\":null", "\"comment\":\"text\""),
+                "Values not equal for entry 'comment', expected 'text' but was 'null'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"id\":\"x123\"", "\"id\":null"),
+                "Values not equal for entry: 'id', expected 'null' but was 'x123'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"name\":\"foo\"}", "\"name\":\"foo\", \"other\":1}"),
+                "Number of JSON entries not equal for element: 'object', expected '3' but was '2'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("{\"id\":3, \"name\":\"c\"}", "{\"id\":3, \"name\":\"c\"}, {\"id\":4}"),
+                "JSONArray size mismatch for JSON entry 'items', expected '4' but was '3'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"tags\":[\"x\", \"y\", [1, 2]]", "\"tags\":[\"x\", \"y\", [1, 3]]"),
+                "Values not equal for entry: '[1,3]', expected '[1,3]' but was '[1,2]'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"object\":{\"id\":\"o1\", \"name\":\"foo\"}", "\"object\":[]"),
+                "Type mismatch for JSON entry 'object', expected 'JSONArray' but was 'JSONObject'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"tags\":[\"x\", \"y\", [1, 2]]", "\"tags\":{}"),
+                "Type mismatch for JSON entry 'tags', expected 'JSONObject' but was 'JSONArray'");
+        assertValidationError(true, RECEIVED, RECEIVED.replace("\"tags\":[\"x\", \"y\", [1, 2]]", "\"tags\":[{}, \"y\", [1, 2]]"),
+                "Value types not equal for entry: '{}', expected 'net.minidev.json.JSONObject' but was 'java.lang.String'");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Failed to parse JSON text")
+    public void testInvalidReceivedJson() {
+        validate(true, "{\"id\":\"x123\", \"index\":invalid}", "{\"id\":\"x123\", \"index\":5}");
+    }
+
+    @Test
+    public void testStreamingJsonTextMessageValidator() {
+        StringBuilder received = new StringBuilder("{\"items\":[");
+        StringBuilder control = new StringBuilder("{\"items\":[");
+        for (int i = 1; i <= 1000; i++) {
+            if (i > 1) {
+                received.append(",");
+                control.append(",");
+            }
+
+            received.append("{\"id\":").append(i).append(", \"name\":\"item").append(i).append("\", \"timestamp\":\"").append(System.nanoTime()).append("\"}");
+            control.append("{\"id\":").append(i).append(", \"name\":\"item").append(i).append("\", \"timestamp\":\"?\"}");
+        }
+        received.append("]}");
+        control.append("]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.items[*].timestamp");
+
+        StreamingJsonTextMessageValidator validator = new StreamingJsonTextMessageValidator();
+        validator.validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString()), context, validationContext);
+
+        try {
+            validator.validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString().replace("\"item500\"", "\"item0\"")), context, validationContext);
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getCause().getMessage(), "Values not equal for entry: 'name', expected 'item0' but was 'item500'");
+        }
+    }
+
+    @Test
+    public void testStreamingThreshold() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+        Assert.assertEquals(validator.getStreamingThreshold(), JsonTextMessageValidator.DEFAULT_STREAMING_THRESHOLD);
+        Assert.assertFalse(validator.isStreamingPayload(new DefaultMessage(RECEIVED)));
+
+        validator.setStreamingThreshold(10);
+        Assert.assertTrue(validator.isStreamingPayload(new DefaultMessage(RECEIVED)));
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.items[?(@.id == 2)].name");
+        validator.validateMessage(new DefaultMessage(RECEIVED), new DefaultMessage(RECEIVED), context, validationContext);
+
+        try {
+            validator.validateMessage(new DefaultMessage(RECEIVED), new DefaultMessage(RECEIVED.replace("\"index\":5", "\"index\":6")), context, new JsonMessageValidationContext());
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().startsWith(String.format("Failed to validate JSON text:%nreceived message payload of %s characters", RECEIVED.length())));
+            Assert.assertFalse(e.getMessage().contains(RECEIVED));
+        }
+
+        validator.setStreamingThreshold(-1);
+        Assert.assertFalse(validator.isStreamingPayload(new DefaultMessage(RECEIVED)));
+    }
+
+    private void assertValidationError(boolean strict, String received, String control, String message, String ... ignoreExpressions) {
+        try {
+            validate(strict, received, control, ignoreExpressions);
+            Assert.fail("Missing validation error: " + message);
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+
+    private void validate(boolean strict, String received, String control, String ... ignoreExpressions) {
+        try {
+            new StreamingJsonTreeValidator(strict, new HashSet<>(Arrays.asList(ignoreExpressions)), context)
+                    .validate(received, new JSONParser(JSONParser.MODE_JSON_SIMPLE).parse(control));
+        } catch (ParseException e) {
+            throw new CitrusRuntimeException("Failed to parse control JSON text", e);
+        }
+    }
+}
@@ -21,18 +21,25 @@ import com.consol.citrus.json.schema.SimpleJsonSchema;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.validation.json.JsonMessageValidationContext;
+import com.consol.citrus.validation.json.report.GraciousProcessingReport;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchema;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -255,4 +262,131 @@ public class JsonSchemaValidationTest {
         verify(jsonSchemaFilterMock).filter(repositoryList, jsonMessageValidationContext, applicationContext);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSchemaRoutingByDiscriminator() throws Exception {
+
+        //GIVEN
+        JsonSchema bookSchemaMock = mock(JsonSchema.class);
+        JsonSchema productSchemaMock = mock(JsonSchema.class);
+
+        SimpleJsonSchema bookSchema = new SimpleJsonSchema();
+        bookSchema.setId("book");
+        bookSchema.setSchema(bookSchemaMock);
+
+        SimpleJsonSchema productSchema = new SimpleJsonSchema();
+        productSchema.setId("product");
+        productSchema.setSchema(productSchemaMock);
+
+        JsonSchemaRepository jsonSchemaRepository = new JsonSchemaRepository();
+        jsonSchemaRepository.setDiscriminator("$.type");
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(jsonSchemaRepository);
+
+        when(jsonSchemaFilterMock.filter(schemaRepositories,  validationContextMock, applicationContextMock))
+                .thenReturn(Arrays.asList(bookSchema, productSchema));
+        when(productSchemaMock.validate(any(JsonNode.class))).thenReturn(new GraciousProcessingReport(true));
+
+        Message receivedMessage = new DefaultMessage("{ \"type\": \"product\", \"id\": 1 }");
+
+        //WHEN
+        ProcessingReport report = validator.validate(receivedMessage, schemaRepositories, validationContextMock, applicationContextMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+        verify(productSchemaMock).validate(any(JsonNode.class));
+        verify(bookSchemaMock, never()).validate(any(JsonNode.class));
+    }
+
+    @Test
+    public void testSchemaRoutingBySchemaId() throws Exception {
+
+        //GIVEN
+        JsonSchema bookSchemaMock = mock(JsonSchema.class);
+        JsonSchema productSchemaMock = mock(JsonSchema.class);
+
+        SimpleJsonSchema bookSchema = new SimpleJsonSchema();
+        bookSchema.setId("http://citrusframework.org/schemas/book.json#");
+        bookSchema.setSchema(bookSchemaMock);
+
+        SimpleJsonSchema productSchema = new SimpleJsonSchema();
+        productSchema.setId("http://citrusframework.org/schemas/product.json");
+        productSchema.setSchema(productSchemaMock);
+
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(new JsonSchemaRepository());
+
+        when(jsonSchemaFilterMock.filter(schemaRepositories,  validationContextMock, applicationContextMock))
+                .thenReturn(Arrays.asList(bookSchema, productSchema));
+        when(bookSchemaMock.validate(any(JsonNode.class))).thenReturn(new GraciousProcessingReport(true));
+
+        Message receivedMessage = new DefaultMessage("{ \"$schema\": \"http://citrusframework.org/schemas/book.json\", \"title\": \"Citrus\" }");
+
+        //WHEN
+        ProcessingReport report = validator.validate(receivedMessage, schemaRepositories, validationContextMock, applicationContextMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+        verify(bookSchemaMock).validate(any(JsonNode.class));
+        verify(productSchemaMock, never()).validate(any(JsonNode.class));
+    }
+
+    @Test
+    public void testNoMatchingSchemaValidatesAll() throws Exception {
+
+        //GIVEN
+        JsonSchema bookSchemaMock = mock(JsonSchema.class);
+        JsonSchema productSchemaMock = mock(JsonSchema.class);
+
+        SimpleJsonSchema bookSchema = new SimpleJsonSchema();
+        bookSchema.setId("book");
+        bookSchema.setSchema(bookSchemaMock);
+
+        SimpleJsonSchema productSchema = new SimpleJsonSchema();
+        productSchema.setId("product");
+        productSchema.setSchema(productSchemaMock);
+
+        JsonSchemaRepository jsonSchemaRepository = new JsonSchemaRepository();
+        jsonSchemaRepository.setDiscriminator("$.type");
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(jsonSchemaRepository);
+
+        when(jsonSchemaFilterMock.filter(schemaRepositories,  validationContextMock, applicationContextMock))
+                .thenReturn(Arrays.asList(bookSchema, productSchema));
+        when(bookSchemaMock.validate(any(JsonNode.class))).thenReturn(new GraciousProcessingReport(false));
+        when(productSchemaMock.validate(any(JsonNode.class))).thenReturn(new GraciousProcessingReport(true));
+
+        Message receivedMessage = new DefaultMessage("{ \"type\": \"unknown\" }");
+
+        //WHEN
+        ProcessingReport report = validator.validate(receivedMessage, schemaRepositories, validationContextMock, applicationContextMock);
+
+        //THEN
+        Assert.assertTrue(report.isSuccess());
+        verify(bookSchemaMock).validate(any(JsonNode.class));
+        verify(productSchemaMock).validate(any(JsonNode.class));
+    }
+
+    @Test
+    public void testValidationResultIsCached() throws Exception {
+
+        //GIVEN
+        JsonSchema schemaMock = mock(JsonSchema.class);
+
+        SimpleJsonSchema schema = new SimpleJsonSchema();
+        schema.setSchema(schemaMock);
+
+        List<JsonSchemaRepository> schemaRepositories = Collections.singletonList(new JsonSchemaRepository());
+
+        when(jsonSchemaFilterMock.filter(schemaRepositories,  validationContextMock, applicationContextMock))
+                .thenReturn(Collections.singletonList(schema));
+        when(schemaMock.validate(any(JsonNode.class))).thenReturn(new GraciousProcessingReport(true));
+
+        //WHEN
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(validator.validate(new DefaultMessage("{ \"id\": 1 }"),
+                    schemaRepositories, validationContextMock, applicationContextMock).isSuccess());
+        }
+        Assert.assertTrue(validator.validate(new DefaultMessage("{ \"id\": 2 }"),
+                schemaRepositories, validationContextMock, applicationContextMock).isSuccess());
+
+        //THEN
+        verify(schemaMock, times(2)).validate(any(JsonNode.class));
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.xml.namespace.SimpleNamespaceContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StaxXmlTreeValidatorTest extends AbstractTestNGUnitTest {
+
+    private static final String RECEIVED = "<ns:root xmlns:ns=\"http://citrusframework.org/test\" id=\"1\">" +
+                "<ns:header><ns:timestamp>2018-06-01T12:00:00</ns:timestamp><ns:type>ns:order</ns:type></ns:header>" +
+                "<ns:item position=\"1\"><ns:name>foo</ns:name><ns:amount>10</ns:amount></ns:item>" +
+                "<ns:item position=\"2\"><ns:name>bar</ns:name><ns:amount>20</ns:amount></ns:item>" +
+            "</ns:root>";
+
+    @Test
+    public void testValidate() {
+        validate(RECEIVED, RECEIVED);
+        validate(RECEIVED, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" +
+                "<x:root xmlns:x=\"http://citrusframework.org/test\" id=\"1\">\n" +
+                "  <x:header>\n" +
+                "    <x:timestamp>\n  2018-06-01T12:00:00\n</x:timestamp>\n" +
+                "    <x:type><!-- comment -->ns:order</x:type>\n" +
+                "  </x:header>\n" +
+                "  <x:item position=\"1\"><x:name>foo</x:name><x:amount>10</x:amount></x:item>\n" +
+                "  <x:item position=\"2\"><x:name><![CDATA[bar]]></x:name><x:amount>20</x:amount></x:item>\n" +
+                "</x:root>");
+    }
+
+    @Test
+    public void testIgnorePlaceholderAndValidationMatcher() {
+        validate(RECEIVED, RECEIVED.replace("<ns:timestamp>2018-06-01T12:00:00</ns:timestamp>", "<ns:timestamp>@ignore@</ns:timestamp>")
+                .replace("id=\"1\"", "id=\"@ignore@\"")
+                .replace("<ns:amount>20</ns:amount>", "<ns:amount>@greaterThan(10)@</ns:amount>")
+                .replace("position=\"2\"", "position=\"@isNumber()@\""));
+
+        validate(RECEIVED, RECEIVED.replace("<ns:item position=\"2\"><ns:name>bar</ns:name><ns:amount>20</ns:amount></ns:item>",
+                "<ns:item position=\"2\">@ignore@</ns:item>"));
+    }
+
+    @Test(expectedExceptions = ValidationException.class)
+    public void testValidationMatcherFailure() {
+        validate(RECEIVED, RECEIVED.replace("<ns:amount>20</ns:amount>", "<ns:amount>@greaterThan(20)@</ns:amount>"));
+    }
+
+    @Test
+    public void testIgnoreExpressions() {
+        String control = RECEIVED.replace("2018-06-01T12:00:00", "2000-01-01T00:00:00")
+                .replace("<ns:name>bar</ns:name>", "<ns:name>other</ns:name>")
+                .replace("id=\"1\"", "id=\"2\"");
+
+        validate(RECEIVED, control, "root.header.timestamp", "//ns:item[2]/ns:name", "/ns:root/@id");
+        validate(RECEIVED, control, "timestamp", "//ns:item[2]", "//@id");
+        validate(RECEIVED, control, "/ns:root/ns:header", "/ns:root/*[3]/ns:name", "root.id");
+
+        validate(RECEIVED, RECEIVED.replace("<ns:name>foo</ns:name>", "<ns:name>other</ns:name>"), "name");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Node value not equal for element 'name', expected 'other' but was 'bar'")
+    public void testShortNodePathIgnoresFirstElementOnly() {
+        validate(RECEIVED, RECEIVED.replace("<ns:name>bar</ns:name>", "<ns:name>other</ns:name>"), "name");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "No result for XPath expression: '//ns:unknown'")
+    public void testIgnoreExpressionNoResult() {
+        validate(RECEIVED, RECEIVED, "//ns:unknown");
+    }
+
+    @Test
+    public void testSupportsIgnoreExpressions() {
+        Assert.assertTrue(StaxXmlTreeValidator.supportsIgnoreExpressions(null));
+        Assert.assertTrue(StaxXmlTreeValidator.supportsIgnoreExpressions(new HashSet<>(Arrays.asList("root.header", "//ns:item[1]/@position", "/ns:root/*", "ns:root/ns:header"))));
+        Assert.assertFalse(StaxXmlTreeValidator.supportsIgnoreExpressions(Collections.singleton("//ns:item[ns:name='foo']")));
+        Assert.assertFalse(StaxXmlTreeValidator.supportsIgnoreExpressions(Collections.singleton("count(//ns:item)")));
+        Assert.assertFalse(StaxXmlTreeValidator.supportsIgnoreExpressions(Collections.singleton("//ns:item/text()")));
+        Assert.assertFalse(StaxXmlTreeValidator.supportsIgnoreExpressions(Collections.singleton("//ns:item/../ns:header")));
+    }
+
+    @Test
+    public void testValidationErrors() {
+        assertValidationError(RECEIVED.replace("<ns:amount>10</ns:amount>", "<ns:amount>11</ns:amount>"),
+                "Node value not equal for element 'amount', expected '11' but was '10'");
+        assertValidationError(RECEIVED.replace("</ns:header>", "<ns:extra/></ns:header>"),
+                "Number of child elements not equal for element 'header', expected '3' but was '2'");
+        assertValidationError(RECEIVED.replace("<ns:type>ns:order</ns:type>", ""),
+                "Number of child elements not equal for element 'header', expected '1' but was '2'");
+        assertValidationError(RECEIVED.replace("position=\"1\"", "position=\"3\""),
+                "Values not equal for attribute 'position', expected '3' but was '1'");
+        assertValidationError(RECEIVED.replace("position=\"1\"", "position=\"1\" status=\"new\""),
+                "Number of attributes not equal for element 'item', expected '2' but was '1'");
+        assertValidationError(RECEIVED.replace("<ns:header>", "<ns:header2>").replace("</ns:header>", "</ns:header2>"),
+                "Element names not equal, expected 'header2' but was 'header'");
+        assertValidationError(RECEIVED.replace("xmlns:ns=\"http://citrusframework.org/test\"", "xmlns:ns=\"http://citrusframework.org/other\""),
+                "Element namespace not equal for element 'root', expected 'http://citrusframework.org/other' but was 'http://citrusframework.org/test'");
+        assertValidationError(RECEIVED.replace("xmlns:ns=\"http://citrusframework.org/test\"", "xmlns:ns=\"http://citrusframework.org/test\" xmlns:other=\"http://citrusframework.org/other\"")
+                        .replace("<ns:type>ns:order</ns:type>", "<ns:type>other:order</ns:type>"),
+                "Node value not equal for element 'type', expected 'other:order' but was 'ns:order'");
+    }
+
+    @Test
+    public void testNamespaceQualifiedAttributeValue() {
+        String received = "<ns:root xmlns:ns=\"http://citrusframework.org/test\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" xsi:type=\"ns:Order\"/>";
+
+        validate(received, "<x:root xmlns:x=\"http://citrusframework.org/test\" xmlns:i=\"http://www.w3.org/2001/XMLSchema-instance\" i:type=\"x:Order\"/>");
+
+        try {
+            validate(received, "<x:root xmlns:x=\"http://citrusframework.org/test\" xmlns:y=\"http://citrusframework.org/other\" xmlns:i=\"http://www.w3.org/2001/XMLSchema-instance\" i:type=\"y:Order\"/>");
+            Assert.fail("Missing validation exception due to wrong attribute value namespace");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Values not equal for attribute value namespace 'ns:Order', expected 'http://citrusframework.org/other' but was 'http://citrusframework.org/test'");
+        }
+    }
+
+    @Test
+    public void testDocumentTypeDefinition() {
+        String received = "<!DOCTYPE root PUBLIC \"-//Citrus//DTD Test//EN\" \"http://citrusframework.org/test.dtd\"><root>Hello</root>";
+
+        validate(received, received);
+        validate(received, "<!DOCTYPE root PUBLIC \"@ignore@\" \"@ignore@\"><root>Hello</root>");
+
+        try {
+            validate(received, "<root>Hello</root>");
+            Assert.fail("Missing validation exception due to missing document type definition");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "Missing document type definition in expected xml fragment");
+        }
+    }
+
+    @Test
+    public void testRootElementDocument() {
+        Assert.assertEquals(StaxXmlTreeValidator.getRootElement("  " + RECEIVED).getNamespaceURI(), "http://citrusframework.org/test");
+        Assert.assertEquals(StaxXmlTreeValidator.createRootElementDocument(RECEIVED).getFirstChild().getLocalName(), "root");
+        Assert.assertEquals(StaxXmlTreeValidator.createRootElementDocument(RECEIVED).getFirstChild().getChildNodes().getLength(), 0);
+        Assert.assertEquals(StaxXmlTreeValidator.lookupNamespaces(RECEIVED), Collections.singletonMap("ns", "http://citrusframework.org/test"));
+    }
+
+    @Test
+    public void testStreamingMessageValidation() {
+        StringBuilder payload = new StringBuilder("<ns:root xmlns:ns=\"http://citrusframework.org/test\">");
+        for (int i = 0; i < 1000; i++) {
+            payload.append("<ns:item position=\"").append(i).append("\"><ns:name>item").append(i).append("</ns:name></ns:item>");
+        }
+        payload.append("</ns:root>");
+
+        XmlMessageValidationContext validationContext = new XmlMessageValidationContext();
+        validationContext.setIgnoreExpressions(Collections.singleton("//ns:item[500]/ns:name"));
+
+        StaxXmlMessageValidator validator = new StaxXmlMessageValidator();
+        validator.validateMessage(new DefaultMessage(payload.toString()),
+                new DefaultMessage(payload.toString().replace("item499<", "other<")), context, validationContext);
+
+        try {
+            validator.validateMessage(new DefaultMessage(payload.toString()),
+                    new DefaultMessage(payload.toString().replace("item500<", "other<")), context, validationContext);
+            Assert.fail("Missing validation exception due to wrong element value");
+        } catch (ValidationException e) {
+            Assert.assertEquals(e.getCause().getMessage(), "Node value not equal for element 'name', expected 'other' but was 'item500'");
+        }
+
+        DomXmlMessageValidator domValidator = new DomXmlMessageValidator();
+        domValidator.setStreamingThreshold(payload.length() - 1);
+        Assert.assertTrue(domValidator.isStreamingPayload(new DefaultMessage(payload.toString())));
+        Assert.assertFalse(domValidator.isStreamingPayload(new DefaultMessage("<root/>")));
+
+        domValidator.setStreamingThreshold(-1);
+        Assert.assertFalse(domValidator.isStreamingPayload(new DefaultMessage(payload.toString())));
+    }
+
+    private void assertValidationError(String control, String message) {
+        try {
+            validate(RECEIVED, control);
+            Assert.fail("Missing validation exception for control message: " + control);
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+
+    private void validate(String received, String control, String ... ignoreExpressions) {
+        SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
+        namespaceContext.bindNamespaceUri("ns", "http://citrusframework.org/test");
+
+        new StaxXmlTreeValidator(new HashSet<>(Arrays.asList(ignoreExpressions)), () -> namespaceContext, context)
+                .validate(received, control);
+    }
+}
@@ -26,6 +26,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -74,6 +75,52 @@ public class XpathMappingDataDictionaryTest extends AbstractTestNGUnitTest {
                 "</TestMessage>");
     }
     
+    @Test
+    public void testTranslateNodeByNode() throws Exception {
+        Message message = new DefaultMessage(payload);
+
+        Map<String, Map<String,String>> mappings = new HashMap<>();
+        Map<String, String> value1 = new HashMap<>();
+        Map<String, String> value2 = new HashMap<>();
+        value1.put("value", "Hello!");
+        mappings.put("//TestMessage/Text", value1);
+        value2.put("value", "bar");
+        mappings.put("//@name", value2);
+
+        XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary();
+        dictionary.setSinglePass(false);
+        dictionary.setMappings(mappings);
+
+        Message intercepted = dictionary.interceptMessage(message, Citrus.DEFAULT_MESSAGE_TYPE, context);
+        Assert.assertEquals(intercepted.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                "   <Text>Hello!</Text>" + System.getProperty("line.separator") +
+                "   <OtherText name=\"bar\">No changes</OtherText>" + System.getProperty("line.separator") +
+                "</TestMessage>");
+    }
+
+    @Test
+    public void testTranslateFirstMappingWins() throws Exception {
+        Map<String, Map<String,String>> mappings = new LinkedHashMap<>();
+        Map<String, String> value1 = new HashMap<>();
+        Map<String, String> value2 = new HashMap<>();
+        value1.put("value", "Hello!");
+        mappings.put("//TestMessage/Text", value1);
+        value2.put("value", "Bye!");
+        mappings.put("//TestMessage/*", value2);
+
+        for (boolean singlePass : new boolean[] { true, false }) {
+            XpathMappingDataDictionary dictionary = new XpathMappingDataDictionary();
+            dictionary.setSinglePass(singlePass);
+            dictionary.setMappings(mappings);
+
+            Message intercepted = dictionary.interceptMessage(new DefaultMessage(payload), Citrus.DEFAULT_MESSAGE_TYPE, context);
+            Assert.assertEquals(intercepted.getPayload(String.class).trim(), "<?xml version=\"1.0\" encoding=\"UTF-8\"?><TestMessage>" + System.getProperty("line.separator") +
+                    "   <Text>Hello!</Text>" + System.getProperty("line.separator") +
+                    "   <OtherText name=\"foo\">Bye!</OtherText>" + System.getProperty("line.separator") +
+                    "</TestMessage>");
+        }
+    }
+
     @Test
     public void testTranslateMultipleNodes() throws Exception {
         Message message = new DefaultMessage(payload);
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml.schema;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.transform.stream.StreamSource;
+import java.io.StringReader;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class CompiledSchemaValidatorTest {
+
+    @Test
+    public void testValidate() throws Exception {
+        CompiledSchemaValidator validator = CompiledSchemaValidator.fromResources(new Resource[] {
+                new ClassPathResource("com/consol/citrus/validation/test.xsd") }, WsdlXsdSchema.W3C_XML_SCHEMA_NS_URI);
+
+        Assert.assertEquals(validator.validate(new StreamSource(new StringReader("<message xmlns=\"http://citrusframework.org/test\">" +
+                    "<correlationId>Kx1R123456789</correlationId>" +
+                    "<bookingId>Bx1G987654321</bookingId>" +
+                    "<test>Hello</test>" +
+                "</message>"))).length, 0L);
+
+        Assert.assertEquals(validator.validate(new StreamSource(new StringReader("<message xmlns=\"http://citrusframework.org/test\">" +
+                    "<correlationId>Kx1R123456789</correlationId>" +
+                    "<unknown>Hello</unknown>" +
+                "</message>"))).length, 1L);
+
+        Assert.assertEquals(validator.validate(new StreamSource(new StringReader("<message xmlns=\"http://citrusframework.org/test\">" +
+                    "<correlationId>Kx1R123456789</correlationId>" +
+                    "<bookingId>Bx1G987654321</bookingId>" +
+                    "<test>Hello</test>" +
+                "</message>"))).length, 0L);
+    }
+}
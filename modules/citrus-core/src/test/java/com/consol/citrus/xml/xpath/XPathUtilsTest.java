@@ -24,9 +24,11 @@ import org.w3c.dom.Document;
 
 import javax.xml.namespace.NamespaceContext;
 import javax.xml.namespace.QName;
-import javax.xml.xpath.XPathFactory;
+import javax.xml.xpath.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * @author Christoph Deppisch
@@ -98,9 +100,88 @@ public class XPathUtilsTest {
         Assert.assertEquals(XPathUtils.evaluateAsString(personNode, "/person/@status", namespaceContext), "single");
     }
 
+    @Test
+    public void testEvaluateWithCachedExpressions() {
+        Document document = XMLUtils.parseMessagePayload("<root xmlns:foo=\"http://citrusframework.org/foo\" xmlns:bar=\"http://citrusframework.org/bar\">" +
+                    "<foo:value>foo</foo:value>" +
+                    "<bar:value>bar</bar:value>" +
+                "</root>");
+
+        SimpleNamespaceContext fooContext = new SimpleNamespaceContext();
+        fooContext.bindNamespaceUri("ns", "http://citrusframework.org/foo");
+
+        SimpleNamespaceContext barContext = new SimpleNamespaceContext();
+        barContext.bindNamespaceUri("ns", "http://citrusframework.org/bar");
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(XPathUtils.evaluateAsString(document, "/root/ns:value", fooContext), "foo");
+            Assert.assertEquals(XPathUtils.evaluateAsString(document, "/root/ns:value", barContext), "bar");
+        }
+    }
+
     @Test(priority = 1)
-    public void testCustomXPathFactory() {
-        System.setProperty(XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI, "");
-        testEvaluate();
+    public void testCustomXPathFactory() throws Exception {
+        String property = XPathFactory.DEFAULT_PROPERTY_NAME + ":" + XPathFactory.DEFAULT_OBJECT_MODEL_URI;
+        System.setProperty(property, CustomXPathFactory.class.getName());
+        try {
+            CustomXPathFactory.INSTANCES.set(0);
+
+            // factory is created once per thread, so use a new thread that reads the system property
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                executor.submit(this::testEvaluate).get(5000L, TimeUnit.MILLISECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            Assert.assertEquals(CustomXPathFactory.INSTANCES.get(), 1);
+        } finally {
+            System.clearProperty(property);
+        }
+    }
+
+    /**
+     * XPath factory delegating to the default factory, counts instances created via system property.
+     */
+    public static class CustomXPathFactory extends XPathFactory {
+        static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        private final XPathFactory delegate;
+
+        public CustomXPathFactory() throws XPathFactoryConfigurationException {
+            delegate = XPathFactory.newInstance(XPathFactory.DEFAULT_OBJECT_MODEL_URI,
+                    "com.sun.org.apache.xpath.internal.jaxp.XPathFactoryImpl", null);
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public boolean isObjectModelSupported(String objectModel) {
+            return delegate.isObjectModelSupported(objectModel);
+        }
+
+        @Override
+        public void setFeature(String name, boolean value) throws XPathFactoryConfigurationException {
+            delegate.setFeature(name, value);
+        }
+
+        @Override
+        public boolean getFeature(String name) throws XPathFactoryConfigurationException {
+            return delegate.getFeature(name);
+        }
+
+        @Override
+        public void setXPathVariableResolver(XPathVariableResolver resolver) {
+            delegate.setXPathVariableResolver(resolver);
+        }
+
+        @Override
+        public void setXPathFunctionResolver(XPathFunctionResolver resolver) {
+            delegate.setXPathFunctionResolver(resolver);
+        }
+
+        @Override
+        public XPath newXPath() {
+            return delegate.newXPath();
+        }
     }
 }
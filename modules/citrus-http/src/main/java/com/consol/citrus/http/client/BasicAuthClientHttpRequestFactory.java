@@ -28,6 +28,7 @@ import org.apache.http.client.HttpClient;
 import org.apache.http.client.protocol.ClientContext;
 import org.apache.http.impl.auth.BasicScheme;
 import org.apache.http.impl.client.*;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
 import org.apache.http.protocol.BasicHttpContext;
 import org.apache.http.protocol.HttpContext;
 import org.slf4j.Logger;
@@ -56,6 +57,10 @@ public class BasicAuthClientHttpRequestFactory implements FactoryBean<HttpCompon
     /** User credentials for basic authentication */
     private Credentials credentials;
     
+    /** Maximum number of pooled connections per route and in total for default http client */
+    private int maxConnectionsPerRoute = 20;
+    private int maxConnectionsTotal = 100;
+
     /** Authentiacation scope */
     private AuthScope authScope = new AuthScope("localhost", 8080, AuthScope.ANY_REALM, AuthScope.ANY_SCHEME);
     
@@ -115,7 +120,11 @@ public class BasicAuthClientHttpRequestFactory implements FactoryBean<HttpCompon
      */
     public void afterPropertiesSet() throws Exception {
         if (httpClient == null) {
-            httpClient = new DefaultHttpClient();
+            PoolingClientConnectionManager connectionManager = new PoolingClientConnectionManager();
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+            connectionManager.setMaxTotal(maxConnectionsTotal);
+
+            httpClient = new DefaultHttpClient(connectionManager);
         }
         
         if (params != null) {
@@ -150,6 +159,22 @@ public class BasicAuthClientHttpRequestFactory implements FactoryBean<HttpCompon
         this.httpClient = httpClient;
     }
 
+    /**
+     * Sets the maximum number of pooled connections per route for the default http client.
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections in total for the default http client.
+     * @param maxConnectionsTotal
+     */
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+    }
+
     /**
      * Sets the params.
      * @param params the params to set
@@ -25,14 +25,18 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
+import com.consol.citrus.util.DaemonThreadFactory;
+import org.apache.http.pool.PoolStats;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.http.*;
 import org.springframework.util.CollectionUtils;
 
 import java.net.URI;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.*;
 
 /**
  * Http client sends messages via Http protocol to some Http server instance, defined by a request endpoint url. Synchronous response
@@ -41,13 +45,16 @@ import java.util.Optional;
  * @author Christoph Deppisch
  * @since 1.4
  */
-public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class HttpClient extends AbstractEndpoint implements AsyncProducer, ReplyConsumer, DisposableBean {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(HttpClient.class);
 
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Executor running asynchronous sends */
+    private ExecutorService asyncExecutor;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -72,6 +79,39 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
     @Override
     public void send(Message message, TestContext context) {
+        prepareExchange(message, context).accept(context);
+        recordConnectionPoolStats(context);
+    }
+
+    /**
+     * Sends the message on a worker thread. The number of worker threads is limited to the maximum number of connections per
+     * route. The request is prepared on the calling thread. The response is converted and stored as reply message on the worker
+     * thread without the test context, because the test context must not be accessed outside of the test thread.
+     * Connection pool statistics are recorded when the send result is applied to the test context.
+     * @param message the message object to send.
+     * @param context
+     * @return
+     */
+    @Override
+    public CompletableFuture<SendResult> sendAsync(Message message, TestContext context) {
+        java.util.function.Consumer<TestContext> exchange = prepareExchange(message, context);
+
+        SendResult sendResult = this::recordConnectionPoolStats;
+        return CompletableFuture.supplyAsync(() -> {
+            exchange.accept(null);
+            return sendResult;
+        }, getAsyncExecutor());
+    }
+
+    /**
+     * Prepares the Http request for given message and saves the correlation key. Returns the exchange that sends the request
+     * and stores the response as reply message. The exchange receives the test context used to convert the response, which is null
+     * when the exchange runs outside of the test thread.
+     * @param message
+     * @param context
+     * @return
+     */
+    private java.util.function.Consumer<TestContext> prepareExchange(Message message, TestContext context) {
         if (CollectionUtils.isEmpty(getEndpointConfiguration().getClientInterceptors())) {
             LoggingClientInterceptor loggingClientInterceptor = new LoggingClientInterceptor();
             loggingClientInterceptor.setMessageListener(context.getMessageListeners());
@@ -109,36 +149,97 @@ public class HttpClient extends AbstractEndpoint implements Producer, ReplyConsu
 
         HttpEntity<?> requestEntity = getEndpointConfiguration().getMessageConverter().convertOutbound(httpMessage, getEndpointConfiguration(), context);
 
-        try {
-            ResponseEntity<?> response;
-            MediaType accept = Optional.ofNullable(httpMessage.getAccept())
-                                .map(mediaType -> mediaType.split(","))
-                                .map(mediaType -> {
-                                    try {
-                                        return MediaType.valueOf(mediaType[0]);
-                                    } catch (InvalidMediaTypeException e) {
-                                        log.warn(String.format("Failed to parse accept media type '%s' - using default media type '%s'",
-                                                mediaType[0], MediaType.ALL_VALUE), e);
-                                        return MediaType.ALL;
-                                    }
-                                })
-                                .orElse(MediaType.ALL);
-
-            if (getEndpointConfiguration().getBinaryMediaTypes().stream().anyMatch(mediaType -> mediaType.includes(accept))) {
-                response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, byte[].class);
-            } else {
-                response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), method, requestEntity, String.class);
+        MediaType accept = Optional.ofNullable(httpMessage.getAccept())
+                            .map(mediaType -> mediaType.split(","))
+                            .map(mediaType -> {
+                                try {
+                                    return MediaType.valueOf(mediaType[0]);
+                                } catch (InvalidMediaTypeException e) {
+                                    log.warn(String.format("Failed to parse accept media type '%s' - using default media type '%s'",
+                                            mediaType[0], MediaType.ALL_VALUE), e);
+                                    return MediaType.ALL;
+                                }
+                            })
+                            .orElse(MediaType.ALL);
+
+        Class<?> responseType;
+        if (getEndpointConfiguration().getBinaryMediaTypes().stream().anyMatch(mediaType -> mediaType.includes(accept))) {
+            responseType = byte[].class;
+        } else {
+            responseType = String.class;
+        }
+
+        HttpMethod requestMethod = method;
+        return exchangeContext -> {
+            try {
+                ResponseEntity<?> response = getEndpointConfiguration().getRestTemplate().exchange(URI.create(endpointUri), requestMethod, requestEntity, responseType);
+
+                log.info("HTTP message was sent to endpoint: '" + endpointUri + "'");
+                correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), exchangeContext));
+            } catch (HttpErrorPropagatingException e) {
+                log.info("Caught HTTP rest client exception: " + e.getMessage());
+                log.info("Propagating HTTP rest client exception according to error handling strategy");
+                Message responseMessage = getEndpointConfiguration().getMessageConverter().convertInbound(
+                        new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode()), getEndpointConfiguration(), exchangeContext);
+                correlationManager.store(correlationKey, responseMessage);
             }
+        };
+    }
+
+    /**
+     * Gets the executor running asynchronous sends. Creates a fixed thread pool limited to the maximum number of connections
+     * per route on first use.
+     * @return
+     */
+    private synchronized ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            asyncExecutor = Executors.newFixedThreadPool(getEndpointConfiguration().getMaxConnectionsPerRoute(),
+                    new DaemonThreadFactory("citrus-http-client-"));
+        }
 
-            log.info("HTTP message was sent to endpoint: '" + endpointUri + "'");
-            correlationManager.store(correlationKey, getEndpointConfiguration().getMessageConverter().convertInbound(response, getEndpointConfiguration(), context));
-        } catch (HttpErrorPropagatingException e) {
-            log.info("Caught HTTP rest client exception: " + e.getMessage());
-            log.info("Propagating HTTP rest client exception according to error handling strategy");
-            Message responseMessage = getEndpointConfiguration().getMessageConverter().convertInbound(
-                    new ResponseEntity<>(e.getResponseBodyAsString(), e.getResponseHeaders(), e.getStatusCode()), getEndpointConfiguration(), context);
-            correlationManager.store(correlationKey, responseMessage);
+        return asyncExecutor;
+    }
+
+    /**
+     * Records connection pool statistics of default request factory to the test metrics. Warns about requests waiting for
+     * a pooled connection as this is a sign of a too small connection pool.
+     * @param context
+     */
+    private void recordConnectionPoolStats(TestContext context) {
+        PoolStats poolStats = getConnectionPoolStats();
+        if (poolStats == null) {
+            return;
         }
+
+        context.getMetrics().recordConnectionPool(getName(), poolStats.getLeased(), poolStats.getPending(), poolStats.getAvailable(), poolStats.getMax());
+
+        if (poolStats.getPending() > 0) {
+            log.warn(String.format("HTTP connection pool exhausted - %s request(s) waiting for a connection (leased: %s, max per route: %s, max total: %s)",
+                    poolStats.getPending(), poolStats.getLeased(), getEndpointConfiguration().getMaxConnectionsPerRoute(), poolStats.getMax()));
+        } else if (log.isDebugEnabled()) {
+            log.debug("HTTP connection pool " + poolStats);
+        }
+    }
+
+    /**
+     * Gets the connection pool statistics holding the number of leased, available and pending connections. Returns null in case
+     * client uses a custom request factory.
+     * @return
+     */
+    public PoolStats getConnectionPoolStats() {
+        return getEndpointConfiguration().getConnectionPoolStats();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        synchronized (this) {
+            if (asyncExecutor != null) {
+                asyncExecutor.shutdownNow();
+                asyncExecutor = null;
+            }
+        }
+
+        getEndpointConfiguration().destroy();
     }
 
     @Override
@@ -239,4 +239,54 @@ public class HttpClientBuilder extends AbstractEndpointBuilder<HttpClient> {
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsPerRoute(maxConnectionsPerRoute);
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of pooled connections in total.
+     * @param maxConnectionsTotal
+     * @return
+     */
+    public HttpClientBuilder maxConnectionsTotal(int maxConnectionsTotal) {
+        endpoint.getEndpointConfiguration().setMaxConnectionsTotal(maxConnectionsTotal);
+        return this;
+    }
+
+    /**
+     * Sets the connection keep alive time in milliseconds.
+     * @param keepAlive
+     * @return
+     */
+    public HttpClientBuilder keepAlive(long keepAlive) {
+        endpoint.getEndpointConfiguration().setKeepAlive(keepAlive);
+        return this;
+    }
+
+    /**
+     * Sets the time in milliseconds after that idle connections get evicted from the pool.
+     * @param idleConnectionTimeout
+     * @return
+     */
+    public HttpClientBuilder idleConnectionTimeout(long idleConnectionTimeout) {
+        endpoint.getEndpointConfiguration().setIdleConnectionTimeout(idleConnectionTimeout);
+        return this;
+    }
+
+    /**
+     * Sets the maximum connection time to live in milliseconds.
+     * @param connectionTimeToLive
+     * @return
+     */
+    public HttpClientBuilder connectionTimeToLive(long connectionTimeToLive) {
+        endpoint.getEndpointConfiguration().setConnectionTimeToLive(connectionTimeToLive);
+        return this;
+    }
 }
@@ -21,6 +21,15 @@ import com.consol.citrus.endpoint.resolver.DynamicEndpointUriResolver;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.http.message.HttpMessageConverter;
 import com.consol.citrus.message.*;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.pool.PoolStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.*;
 import org.springframework.http.client.*;
 import org.springframework.http.converter.StringHttpMessageConverter;
@@ -29,15 +38,23 @@ import org.springframework.integration.mapping.HeaderMapper;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
+ * Http client endpoint configuration. Unless a custom request factory or rest template is given the client uses
+ * a pooled Http connection manager configured with the connection pool settings of this configuration.
+ *
  * @author Christoph Deppisch
  * @since 1.4
  */
 public class HttpEndpointConfiguration extends AbstractPollableEndpointConfiguration {
 
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(HttpEndpointConfiguration.class);
+
     /** Http url as service destination */
     private String requestUrl;
 
@@ -97,6 +114,27 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
                                                                 MediaType.IMAGE_PNG,
                                                                 MediaType.valueOf("application/zip"));
 
+    /** Maximum number of pooled connections per route */
+    private int maxConnectionsPerRoute = 20;
+
+    /** Maximum number of pooled connections in total */
+    private int maxConnectionsTotal = 100;
+
+    /** Keep alive time in milliseconds for connections when server does not send keep alive header, negative value keeps connections alive forever */
+    private long keepAlive = -1L;
+
+    /** Time in milliseconds after that idle connections get evicted from the pool, negative value disables eviction */
+    private long idleConnectionTimeout = -1L;
+
+    /** Maximum time to live in milliseconds for pooled connections, negative value means infinite time to live */
+    private long connectionTimeToLive = -1L;
+
+    /** Connection manager of default request factory */
+    private PoolingHttpClientConnectionManager connectionManager;
+
+    /** Pooled Http client of default request factory */
+    private CloseableHttpClient pooledHttpClient;
+
     /**
      * Get the complete request URL.
      * @return the urlPath
@@ -209,6 +247,10 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
         if (restTemplate == null) {
             restTemplate = new RestTemplate();
             restTemplate.setRequestFactory(getRequestFactory());
+
+            if (clientInterceptors != null) {
+                restTemplate.setInterceptors(clientInterceptors);
+            }
         }
 
         restTemplate.setErrorHandler(getErrorHandler());
@@ -254,7 +296,10 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public void setClientInterceptors(List<ClientHttpRequestInterceptor> clientInterceptors) {
         this.clientInterceptors = clientInterceptors;
-        getRestTemplate().setInterceptors(clientInterceptors);
+
+        if (restTemplate != null) {
+            restTemplate.setInterceptors(clientInterceptors);
+        }
     }
 
     /**
@@ -279,17 +324,100 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
      */
     public ClientHttpRequestFactory getRequestFactory() {
         if (requestFactory == null) {
-            requestFactory = new HttpComponentsClientHttpRequestFactory();
+            pooledHttpClient = createPooledHttpClient();
+            requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
         }
 
         return requestFactory;
     }
 
+    /**
+     * Rebuilds the default pooled Http client in case it has already been created. Used when connection pool settings change
+     * that can not be applied to an existing connection manager.
+     */
+    private void rebuildPooledHttpClient() {
+        if (pooledHttpClient == null) {
+            return;
+        }
+
+        closePooledHttpClient();
+
+        pooledHttpClient = createPooledHttpClient();
+        requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+
+        if (restTemplate != null) {
+            restTemplate.setRequestFactory(requestFactory);
+        }
+    }
+
+    /**
+     * Closes the default pooled Http client and its connection manager.
+     */
+    private void closePooledHttpClient() {
+        if (pooledHttpClient != null) {
+            try {
+                pooledHttpClient.close();
+            } catch (IOException e) {
+                log.warn("Failed to close pooled Http client", e);
+            }
+
+            pooledHttpClient = null;
+            connectionManager = null;
+        }
+    }
+
+    /**
+     * Releases the default pooled Http client with all its connections and the idle connection evictor.
+     */
+    public void destroy() {
+        closePooledHttpClient();
+    }
+
+    /**
+     * Creates default Http client with pooled connection management according to the connection pool settings.
+     * @return
+     */
+    private CloseableHttpClient createPooledHttpClient() {
+        connectionManager = new PoolingHttpClientConnectionManager(connectionTimeToLive, TimeUnit.MILLISECONDS);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        connectionManager.setMaxTotal(maxConnectionsTotal);
+
+        ConnectionKeepAliveStrategy serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE;
+        HttpClientBuilder httpClientBuilder = HttpClients.custom()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy((response, context) -> {
+                    long duration = serverKeepAlive.getKeepAliveDuration(response, context);
+                    return duration < 0 ? keepAlive : duration;
+                });
+
+        if (idleConnectionTimeout > 0) {
+            httpClientBuilder.evictExpiredConnections()
+                    .evictIdleConnections(idleConnectionTimeout, TimeUnit.MILLISECONDS);
+        }
+
+        return httpClientBuilder.build();
+    }
+
+    /**
+     * Gets the statistics of the default request factory connection pool. Statistics hold the number of leased, available
+     * and pending connections. Returns null in case a custom request factory or rest template is used.
+     * @return
+     */
+    public PoolStats getConnectionPoolStats() {
+        if (connectionManager == null) {
+            return null;
+        }
+
+        return connectionManager.getTotalStats();
+    }
+
     /**
      * Sets the client request factory.
      * @param requestFactory
      */
     public void setRequestFactory(ClientHttpRequestFactory requestFactory) {
+        closePooledHttpClient();
         this.requestFactory = requestFactory;
     }
 
@@ -420,4 +548,104 @@ public class HttpEndpointConfiguration extends AbstractPollableEndpointConfigura
     public void setBinaryMediaTypes(List<MediaType> binaryMediaTypes) {
         this.binaryMediaTypes = binaryMediaTypes;
     }
+
+    /**
+     * Gets the maxConnectionsPerRoute.
+     *
+     * @return
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * Sets the maxConnectionsPerRoute.
+     *
+     * @param maxConnectionsPerRoute
+     */
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+
+        if (connectionManager != null) {
+            connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+        }
+    }
+
+    /**
+     * Gets the maxConnectionsTotal.
+     *
+     * @return
+     */
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    /**
+     * Sets the maxConnectionsTotal.
+     *
+     * @param maxConnectionsTotal
+     */
+    public void setMaxConnectionsTotal(int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+
+        if (connectionManager != null) {
+            connectionManager.setMaxTotal(maxConnectionsTotal);
+        }
+    }
+
+    /**
+     * Gets the keepAlive.
+     *
+     * @return
+     */
+    public long getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * Sets the keepAlive.
+     *
+     * @param keepAlive
+     */
+    public void setKeepAlive(long keepAlive) {
+        this.keepAlive = keepAlive;
+    }
+
+    /**
+     * Gets the idleConnectionTimeout.
+     *
+     * @return
+     */
+    public long getIdleConnectionTimeout() {
+        return idleConnectionTimeout;
+    }
+
+    /**
+     * Sets the idleConnectionTimeout.
+     *
+     * @param idleConnectionTimeout
+     */
+    public void setIdleConnectionTimeout(long idleConnectionTimeout) {
+        this.idleConnectionTimeout = idleConnectionTimeout;
+        rebuildPooledHttpClient();
+    }
+
+    /**
+     * Gets the connectionTimeToLive.
+     *
+     * @return
+     */
+    public long getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    /**
+     * Sets the connectionTimeToLive.
+     *
+     * @param connectionTimeToLive
+     */
+    public void setConnectionTimeToLive(long connectionTimeToLive) {
+        this.connectionTimeToLive = connectionTimeToLive;
+        rebuildPooledHttpClient();
+    }
 }
@@ -127,6 +127,36 @@ public @interface HttpClientConfig {
      */
     String[] binaryMediaTypes() default {};
 
+    /**
+     * Max connections per route.
+     * @return
+     */
+    int maxConnectionsPerRoute() default 20;
+
+    /**
+     * Max connections in total.
+     * @return
+     */
+    int maxConnectionsTotal() default 100;
+
+    /**
+     * Connection keep alive time.
+     * @return
+     */
+    long keepAlive() default -1L;
+
+    /**
+     * Idle connection eviction timeout.
+     * @return
+     */
+    long idleConnectionTimeout() default -1L;
+
+    /**
+     * Connection time to live.
+     * @return
+     */
+    long connectionTimeToLive() default -1L;
+
     /**
      * Timeout.
      * @return
@@ -107,6 +107,12 @@ public class HttpClientConfigParser extends AbstractAnnotationConfigParser<HttpC
             builder.binaryMediaTypes(binaryMediaTypes);
         }
         
+        builder.maxConnectionsPerRoute(annotation.maxConnectionsPerRoute());
+        builder.maxConnectionsTotal(annotation.maxConnectionsTotal());
+        builder.keepAlive(annotation.keepAlive());
+        builder.idleConnectionTimeout(annotation.idleConnectionTimeout());
+        builder.connectionTimeToLive(annotation.connectionTimeToLive());
+
         builder.interceptors(getReferenceResolver().resolve(annotation.interceptors(), ClientHttpRequestInterceptor.class));
 
         // Set outbound header mapper
@@ -84,6 +84,12 @@ public class HttpClientParser extends AbstractEndpointParser {
                     ErrorHandlingStrategy.fromName(element.getAttribute("error-strategy")));
         }
 
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections-per-route"), "maxConnectionsPerRoute");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("max-connections-total"), "maxConnectionsTotal");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("keep-alive"), "keepAlive");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("idle-connection-timeout"), "idleConnectionTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("connection-time-to-live"), "connectionTimeToLive");
+
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("interceptors"), "clientInterceptors");
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("binary-media-types"), "binaryMediaTypes");
 
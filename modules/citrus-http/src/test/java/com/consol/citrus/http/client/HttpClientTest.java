@@ -16,15 +16,19 @@
 
 package com.consol.citrus.http.client;
 
+import com.consol.citrus.TestMetrics;
 import com.consol.citrus.endpoint.resolver.EndpointUriResolver;
 import com.consol.citrus.http.message.HttpMessage;
 import com.consol.citrus.http.message.HttpMessageHeaders;
 import com.consol.citrus.message.*;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.http.entity.ContentType;
+import org.apache.http.pool.PoolStats;
 import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.web.client.HttpClientErrorException;
@@ -36,6 +40,7 @@ import java.net.URI;
 import java.nio.charset.Charset;
 import java.util.Collections;
 import java.util.Random;
+import java.util.concurrent.TimeUnit;
 
 import static org.mockito.Mockito.*;
 
@@ -85,6 +90,38 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
         verify(restTemplate).setInterceptors(anyList());
     }
 
+    @Test
+    public void testHttpPostRequestAsync() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestMethod(HttpMethod.POST);
+        endpointConfiguration.setRequestUrl(requestUrl);
+
+        Message requestMessage = new DefaultMessage(requestBody);
+
+        endpointConfiguration.setRestTemplate(restTemplate);
+
+        reset(restTemplate);
+
+        Thread testThread = Thread.currentThread();
+        doAnswer((Answer<ResponseEntity<String>>) invocation -> {
+            Assert.assertNotEquals(Thread.currentThread(), testThread);
+            return new ResponseEntity<>(responseBody, HttpStatus.OK);
+        }).when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        try {
+            httpClient.sendAsync(requestMessage, context).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS).apply(context);
+
+            HttpMessage responseMessage = (HttpMessage) httpClient.receive(context, endpointConfiguration.getTimeout());
+            Assert.assertEquals(responseMessage.getPayload(), responseBody);
+            Assert.assertEquals(responseMessage.getStatusCode(), HttpStatus.OK);
+        } finally {
+            httpClient.destroy();
+        }
+    }
+
     @Test
     public void testCustomHeaders() {
         HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
@@ -562,4 +599,82 @@ public class HttpClientTest extends AbstractTestNGUnitTest {
 
         verify(restTemplate).setInterceptors(anyList());
     }
+
+    @Test
+    public void testConnectionPoolSettings() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+
+        Assert.assertNull(httpClient.getConnectionPoolStats());
+
+        endpointConfiguration.setMaxConnectionsTotal(50);
+        endpointConfiguration.setConnectionTimeToLive(60000L);
+        endpointConfiguration.setIdleConnectionTimeout(30000L);
+        Assert.assertEquals(endpointConfiguration.getRequestFactory().getClass(), HttpComponentsClientHttpRequestFactory.class);
+
+        PoolStats poolStats = httpClient.getConnectionPoolStats();
+        Assert.assertEquals(poolStats.getMax(), 50);
+        Assert.assertEquals(poolStats.getLeased(), 0);
+        Assert.assertEquals(poolStats.getAvailable(), 0);
+        Assert.assertEquals(poolStats.getPending(), 0);
+
+        endpointConfiguration.setMaxConnectionsTotal(80);
+        Assert.assertEquals(httpClient.getConnectionPoolStats().getMax(), 80);
+
+        endpointConfiguration.setRequestFactory(Mockito.mock(ClientHttpRequestFactory.class));
+        Assert.assertNull(httpClient.getConnectionPoolStats());
+    }
+
+    @Test
+    public void testConnectionPoolSettingsAfterInterceptors() throws Exception {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+
+        endpointConfiguration.setClientInterceptors(Collections.emptyList());
+        Assert.assertNull(httpClient.getConnectionPoolStats());
+
+        RestTemplate defaultRestTemplate = endpointConfiguration.getRestTemplate();
+        ClientHttpRequestFactory requestFactory = endpointConfiguration.getRequestFactory();
+        Assert.assertNotNull(httpClient.getConnectionPoolStats());
+
+        endpointConfiguration.setConnectionTimeToLive(60000L);
+        endpointConfiguration.setIdleConnectionTimeout(30000L);
+        Assert.assertNotSame(endpointConfiguration.getRequestFactory(), requestFactory);
+        Assert.assertSame(endpointConfiguration.getRestTemplate(), defaultRestTemplate);
+        Assert.assertSame(defaultRestTemplate.getRequestFactory(), endpointConfiguration.getRequestFactory());
+        Assert.assertNotNull(httpClient.getConnectionPoolStats());
+
+        httpClient.destroy();
+        Assert.assertNull(httpClient.getConnectionPoolStats());
+    }
+
+    @Test
+    public void testConnectionPoolMetrics() {
+        HttpEndpointConfiguration endpointConfiguration = new HttpEndpointConfiguration();
+        HttpClient httpClient = new HttpClient(endpointConfiguration);
+        httpClient.setName("httpClient");
+        String requestUrl = "http://localhost:8088/test";
+
+        endpointConfiguration.setRequestUrl(requestUrl);
+        endpointConfiguration.setMaxConnectionsTotal(50);
+        endpointConfiguration.setRestTemplate(restTemplate);
+        endpointConfiguration.getRequestFactory();
+
+        reset(restTemplate);
+
+        doReturn(new ResponseEntity<>(responseBody, HttpStatus.OK))
+                .when(restTemplate).exchange(eq(URI.create(requestUrl)), eq(HttpMethod.POST), any(HttpEntity.class), eq(String.class));
+
+        context.getMetrics().start();
+        httpClient.send(new DefaultMessage(requestBody), context);
+        httpClient.send(new DefaultMessage(requestBody), context);
+
+        Assert.assertEquals(context.getMetrics().getConnectionPoolMetrics().size(), 1L);
+        TestMetrics.ConnectionPoolMetric poolMetric = context.getMetrics().getConnectionPoolMetrics().get(0);
+        Assert.assertEquals(poolMetric.getName(), "httpClient");
+        Assert.assertEquals(poolMetric.getSamples(), 2);
+        Assert.assertEquals(poolMetric.getMaxLeased(), 0);
+        Assert.assertEquals(poolMetric.getMaxPending(), 0);
+        Assert.assertEquals(poolMetric.getMax(), 50);
+    }
 }
@@ -75,6 +75,11 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
     @HttpClientConfig(requestUrl = "http://localhost:8080/test",
             interceptors={ "clientInterceptor" },
             pollingInterval=250,
+            maxConnectionsPerRoute=50,
+            maxConnectionsTotal=200,
+            keepAlive=30000L,
+            idleConnectionTimeout=60000L,
+            connectionTimeToLive=120000L,
             actor="testActor")
     private HttpClient httpClient4;
 
@@ -135,6 +140,11 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getErrorHandler().getClass(), HttpResponseErrorHandler.class);
         Assert.assertEquals(httpClient1.getEndpointConfiguration().getBinaryMediaTypes().size(), 6L);
 
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getMaxConnectionsPerRoute(), 20);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getMaxConnectionsTotal(), 100);
+        Assert.assertEquals(httpClient1.getEndpointConfiguration().getKeepAlive(), -1L);
+        Assert.assertNotNull(httpClient1.getConnectionPoolStats());
+
         // 2nd message sender
         Assert.assertNotNull(httpClient2.getEndpointConfiguration().getRestTemplate());
         Assert.assertEquals(httpClient2.getEndpointConfiguration().getRequestUrl(), "http://localhost:8080/test");
@@ -167,5 +177,11 @@ public class HttpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getClientInterceptors().size(), 1L);
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getClientInterceptors().get(0), clientInterceptor);
         Assert.assertEquals(httpClient4.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getMaxConnectionsPerRoute(), 50);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getMaxConnectionsTotal(), 200);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getKeepAlive(), 30000L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getIdleConnectionTimeout(), 60000L);
+        Assert.assertEquals(httpClient4.getEndpointConfiguration().getConnectionTimeToLive(), 120000L);
+        Assert.assertEquals(httpClient4.getConnectionPoolStats().getMax(), 200);
     }
 }
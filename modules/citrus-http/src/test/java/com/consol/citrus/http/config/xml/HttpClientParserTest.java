@@ -58,6 +58,11 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(httpClient.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(httpClient.getEndpointConfiguration().isHandleCookies(), false);
 
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 20);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsTotal(), 100);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getKeepAlive(), -1L);
+        Assert.assertNotNull(httpClient.getConnectionPoolStats());
+
         // 2nd message sender
         httpClient = clients.get("httpClient2");
         Assert.assertNotNull(httpClient.getEndpointConfiguration().getRestTemplate());
@@ -93,6 +98,12 @@ public class HttpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertNotNull(httpClient.getEndpointConfiguration().getClientInterceptors());
         Assert.assertEquals(httpClient.getEndpointConfiguration().getClientInterceptors().get(0), beanDefinitionContext.getBean("clientInterceptor"));
         Assert.assertEquals(httpClient.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsPerRoute(), 50);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getMaxConnectionsTotal(), 200);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getKeepAlive(), 30000L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getIdleConnectionTimeout(), 60000L);
+        Assert.assertEquals(httpClient.getEndpointConfiguration().getConnectionTimeToLive(), 120000L);
+        Assert.assertEquals(httpClient.getConnectionPoolStats().getMax(), 200);
     }
 
     @Test
@@ -233,6 +233,24 @@ public class ExecuteSQLQueryBuilder extends AbstractTestActionBuilder<ExecuteSQL
 		return this;
 	}
 	
+	/**
+     * Enables/disables streaming mode. Result rows are then validated one by one while reading the result set.
+     * @param streaming
+     */
+	public ExecuteSQLQueryBuilder streaming(boolean streaming) {
+		action.setStreaming(streaming);
+		return this;
+	}
+
+	/**
+     * Sets the JDBC fetch size used in streaming mode.
+     * @param fetchSize
+     */
+	public ExecuteSQLQueryBuilder fetchSize(int fetchSize) {
+		action.setFetchSize(fetchSize);
+		return this;
+	}
+
 	/**
      * Sets an explicit validator implementation for this action.
      * @param validator the validator to set
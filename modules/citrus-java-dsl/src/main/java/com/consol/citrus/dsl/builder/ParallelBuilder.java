@@ -20,6 +20,8 @@ import com.consol.citrus.container.*;
 import com.consol.citrus.dsl.design.TestDesigner;
 import com.consol.citrus.dsl.runner.TestRunner;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * @author Christoph Deppisch
  * @since 2.3
@@ -60,4 +62,44 @@ public class ParallelBuilder extends AbstractTestContainerBuilder<Parallel> {
         this(runner, new Parallel());
     }
 
+    /**
+     * Sets the executor service that runs the nested actions. Executor service is shared
+     * and not shut down by the container.
+     * @param executorService
+     * @return
+     */
+    public ParallelBuilder executor(ExecutorService executorService) {
+        container.setExecutorService(executorService);
+        return this;
+    }
+
+    /**
+     * Limits the number of nested actions running at the same time.
+     * @param maxConcurrency
+     * @return
+     */
+    public ParallelBuilder maxConcurrency(int maxConcurrency) {
+        container.setMaxConcurrency(maxConcurrency);
+        return this;
+    }
+
+    /**
+     * Enables or disables cancellation of sibling actions as soon as one nested action fails.
+     * @param failFast
+     * @return
+     */
+    public ParallelBuilder failFast(boolean failFast) {
+        container.setFailFast(failFast);
+        return this;
+    }
+
+    /**
+     * Enables or disables virtual threads for nested actions on runtimes that support them.
+     * @param virtualThreads
+     * @return
+     */
+    public ParallelBuilder virtualThreads(boolean virtualThreads) {
+        container.setVirtualThreads(virtualThreads);
+        return this;
+    }
 }
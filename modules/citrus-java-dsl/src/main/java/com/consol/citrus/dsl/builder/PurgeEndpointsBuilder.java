@@ -139,6 +139,46 @@ public class PurgeEndpointsBuilder extends AbstractTestActionBuilder<PurgeEndpoi
 		return this;
 	}
 
+	/**
+	 * Sets number of messages consumed before sleeping.
+	 * @param batchSize
+	 * @return
+	 */
+	public PurgeEndpointsBuilder batchSize(int batchSize) {
+		action.setBatchSize(batchSize);
+		return this;
+	}
+
+	/**
+	 * Sets number of consumers per endpoint receiving messages concurrently.
+	 * @param concurrentConsumers
+	 * @return
+	 */
+	public PurgeEndpointsBuilder concurrentConsumers(int concurrentConsumers) {
+		action.setConcurrentConsumers(concurrentConsumers);
+		return this;
+	}
+
+	/**
+	 * Sets number of subsequent receive timeouts before endpoint is considered to be drained.
+	 * @param maxEmptyReceives
+	 * @return
+	 */
+	public PurgeEndpointsBuilder maxEmptyReceives(int maxEmptyReceives) {
+		action.setMaxEmptyReceives(maxEmptyReceives);
+		return this;
+	}
+
+	/**
+	 * Sets maximum time to drain an endpoint in ms, negative value disables the limit.
+	 * @param purgeTimeout
+	 * @return
+	 */
+	public PurgeEndpointsBuilder purgeTimeout(long purgeTimeout) {
+		action.setPurgeTimeout(purgeTimeout);
+		return this;
+	}
+
 	/**
 	 * Sets the Spring bean factory for using endpoint names.
 	 * @param applicationContext
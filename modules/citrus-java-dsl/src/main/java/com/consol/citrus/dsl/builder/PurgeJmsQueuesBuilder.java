@@ -17,6 +17,7 @@
 package com.consol.citrus.dsl.builder;
 
 import com.consol.citrus.jms.actions.PurgeJmsQueuesAction;
+import com.consol.citrus.jms.actions.QueuePurgeHook;
 import org.springframework.context.ApplicationContext;
 
 import javax.jms.ConnectionFactory;
@@ -136,6 +137,66 @@ public class PurgeJmsQueuesBuilder extends AbstractTestActionBuilder<PurgeJmsQue
         return this;
     }
 
+    /**
+     * Sets number of messages consumed before sleeping.
+     * @param batchSize
+     * @return
+     */
+    public PurgeJmsQueuesBuilder batchSize(int batchSize) {
+        action.setBatchSize(batchSize);
+        return this;
+    }
+
+    /**
+     * Sets number of consumers per queue receiving messages concurrently.
+     * @param concurrentConsumers
+     * @return
+     */
+    public PurgeJmsQueuesBuilder concurrentConsumers(int concurrentConsumers) {
+        action.setConcurrentConsumers(concurrentConsumers);
+        return this;
+    }
+
+    /**
+     * Sets number of subsequent receive timeouts before queue is considered to be drained.
+     * @param maxEmptyReceives
+     * @return
+     */
+    public PurgeJmsQueuesBuilder maxEmptyReceives(int maxEmptyReceives) {
+        action.setMaxEmptyReceives(maxEmptyReceives);
+        return this;
+    }
+
+    /**
+     * Sets maximum time to drain a queue in ms, negative value disables the limit.
+     * @param purgeTimeout
+     * @return
+     */
+    public PurgeJmsQueuesBuilder purgeTimeout(long purgeTimeout) {
+        action.setPurgeTimeout(purgeTimeout);
+        return this;
+    }
+
+    /**
+     * Enables queue browsing in order to confirm that queue has been drained.
+     * @param browseQueue
+     * @return
+     */
+    public PurgeJmsQueuesBuilder browseQueue(boolean browseQueue) {
+        action.setBrowseQueue(browseQueue);
+        return this;
+    }
+
+    /**
+     * Sets broker specific purge operation used instead of consuming messages.
+     * @param purgeHook
+     * @return
+     */
+    public PurgeJmsQueuesBuilder purgeHook(QueuePurgeHook purgeHook) {
+        action.setPurgeHook(purgeHook);
+        return this;
+    }
+
     /**
      * Checks if connection factory is set properly.
      * @return
@@ -43,6 +43,7 @@ import org.springframework.xml.transform.StringResult;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -125,6 +126,27 @@ public class SendMessageBuilder<A extends SendMessageAction, T extends SendMessa
         getAction().setForkMode(forkMode);
         return self;
     }
+
+    /**
+     * Sets the pipelined mode for this send action builder. Message is dispatched with
+     * non-blocking producer and test continues while message is in flight.
+     * @param pipelined
+     * @return
+     */
+    public T pipelined(boolean pipelined) {
+        getAction().setPipelined(pipelined);
+        return self;
+    }
+
+    /**
+     * Sets the maximum number of pipelined messages in flight before dispatch blocks.
+     * @param maxInFlight
+     * @return
+     */
+    public T maxInFlight(int maxInFlight) {
+        getAction().setMaxInFlight(maxInFlight);
+        return self;
+    }
     
     /**
      * Sets the message instance to send.
@@ -526,7 +548,9 @@ public class SendMessageBuilder<A extends SendMessageAction, T extends SendMessa
             }
         }
 
-        jsonPathMessageConstructionInterceptor.getJsonPathExpressions().put(expression, value);
+        Map<String, String> valueInfo = new HashMap<>();
+        valueInfo.put("value", value);
+        jsonPathMessageConstructionInterceptor.getJsonPathExpressions().put(expression, valueInfo);
         return self;
     }
 
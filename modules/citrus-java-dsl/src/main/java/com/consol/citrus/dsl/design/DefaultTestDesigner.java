@@ -608,6 +608,18 @@ public class DefaultTestDesigner implements TestDesigner {
         return action;
     }
 
+    @Override
+    public AwaitSendsAction awaitSends() {
+        AwaitSendsAction action = new AwaitSendsAction();
+        action(action);
+        return action;
+    }
+
+    @Override
+    public AwaitSendsAction awaitSends(long timeout) {
+        return awaitSends().setTimeout(timeout);
+    }
+
     @Override
     public DockerActionBuilder docker() {
         DockerActionBuilder builder = new DockerActionBuilder();
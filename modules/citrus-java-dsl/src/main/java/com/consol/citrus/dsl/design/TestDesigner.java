@@ -504,6 +504,19 @@ public interface TestDesigner extends ApplicationContextAware {
      */
     StopTimerAction stopTimers();
 
+    /**
+     * Waits for all pipelined messages to be sent.
+     * @return
+     */
+    AwaitSendsAction awaitSends();
+
+    /**
+     * Waits for all pipelined messages to be sent within given timeout.
+     * @param timeout
+     * @return
+     */
+    AwaitSendsAction awaitSends(long timeout);
+
     /**
      * Creates a new docker execute action.
      * @return
@@ -422,6 +422,16 @@ public class JUnit4CitrusTestDesigner extends JUnit4CitrusTest implements TestDe
         return testDesigner.stopTimers();
     }
 
+    @Override
+    public AwaitSendsAction awaitSends() {
+        return testDesigner.awaitSends();
+    }
+
+    @Override
+    public AwaitSendsAction awaitSends(long timeout) {
+        return testDesigner.awaitSends(timeout);
+    }
+
     @Override
     public TimerBuilder timer() {
         return testDesigner.timer();
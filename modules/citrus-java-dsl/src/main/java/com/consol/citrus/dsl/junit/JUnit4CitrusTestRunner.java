@@ -356,6 +356,16 @@ public class JUnit4CitrusTestRunner extends JUnit4CitrusTest implements TestRunn
         return testRunner.stopTimers();
     }
 
+    @Override
+    public AwaitSendsAction awaitSends() {
+        return testRunner.awaitSends();
+    }
+
+    @Override
+    public AwaitSendsAction awaitSends(long timeout) {
+        return testRunner.awaitSends(timeout);
+    }
+
     @Override
     public TestAction docker(BuilderSupport<DockerActionBuilder> configurer) {
         return testRunner.docker(configurer);
@@ -511,6 +511,16 @@ public class DefaultTestRunner implements TestRunner {
         return run(action);
     }
 
+    @Override
+    public AwaitSendsAction awaitSends() {
+        return run(new AwaitSendsAction());
+    }
+
+    @Override
+    public AwaitSendsAction awaitSends(long timeout) {
+        return run(new AwaitSendsAction().setTimeout(timeout));
+    }
+
     @Override
     public TestAction docker(BuilderSupport<DockerActionBuilder> configurer) {
         DockerActionBuilder builder = new DockerActionBuilder();
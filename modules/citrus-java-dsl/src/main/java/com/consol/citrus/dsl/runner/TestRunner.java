@@ -455,6 +455,19 @@ public interface TestRunner extends ApplicationContextAware {
      */
     StopTimerAction stopTimers();
 
+    /**
+     * Waits for all pipelined messages to be sent.
+     * @return
+     */
+    AwaitSendsAction awaitSends();
+
+    /**
+     * Waits for all pipelined messages to be sent within given timeout.
+     * @param timeout
+     * @return
+     */
+    AwaitSendsAction awaitSends(long timeout);
+
     /**
      * Run docker command action.
      * @return
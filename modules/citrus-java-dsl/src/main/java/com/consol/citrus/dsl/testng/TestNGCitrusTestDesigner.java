@@ -418,6 +418,16 @@ public class TestNGCitrusTestDesigner extends TestNGCitrusTest implements TestDe
         return testDesigner.stopTimers();
     }
 
+    @Override
+    public AwaitSendsAction awaitSends() {
+        return testDesigner.awaitSends();
+    }
+
+    @Override
+    public AwaitSendsAction awaitSends(long timeout) {
+        return testDesigner.awaitSends(timeout);
+    }
+
     @Override
     public DockerActionBuilder docker() {
         return testDesigner.docker();
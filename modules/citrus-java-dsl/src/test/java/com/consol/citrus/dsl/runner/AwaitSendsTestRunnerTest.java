@@ -0,0 +1,90 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.dsl.runner;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.AwaitSendsAction;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.endpoint.EndpointConfiguration;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.AsyncProducer;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class AwaitSendsTestRunnerTest extends AbstractTestNGUnitTest {
+
+    private Endpoint messageEndpoint = Mockito.mock(Endpoint.class);
+    private EndpointConfiguration endpointConfiguration = Mockito.mock(EndpointConfiguration.class);
+    private AsyncProducer messageProducer = Mockito.mock(AsyncProducer.class);
+
+    @Test
+    public void testPipelinedSendAndAwait() {
+        reset(messageEndpoint, endpointConfiguration, messageProducer);
+        when(messageEndpoint.createProducer()).thenReturn(messageProducer);
+        when(messageEndpoint.getEndpointConfiguration()).thenReturn(endpointConfiguration);
+        when(endpointConfiguration.getTimeout()).thenReturn(5000L);
+        when(messageProducer.sendAsync(any(Message.class), any(TestContext.class))).thenReturn(CompletableFuture.completedFuture(AsyncProducer.SendResult.NONE));
+
+        MockTestRunner builder = new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
+            @Override
+            public void execute() {
+                send(builder -> builder.endpoint(messageEndpoint)
+                        .pipelined(true)
+                        .maxInFlight(10)
+                        .payload("Foo"));
+                send(builder -> builder.endpoint(messageEndpoint)
+                        .pipelined(true)
+                        .payload("Bar"));
+                awaitSends();
+                awaitSends(10000L);
+            }
+        };
+
+        TestCase test = builder.getTestCase();
+        Assert.assertEquals(test.getActionCount(), 4);
+
+        SendMessageAction sendAction = (SendMessageAction) test.getActions().get(0);
+        Assert.assertTrue(sendAction.isPipelined());
+        Assert.assertEquals(sendAction.getMaxInFlight(), 10);
+
+        sendAction = (SendMessageAction) test.getActions().get(1);
+        Assert.assertTrue(sendAction.isPipelined());
+        Assert.assertEquals(sendAction.getMaxInFlight(), SendMessageAction.DEFAULT_MAX_IN_FLIGHT);
+
+        AwaitSendsAction awaitAction = (AwaitSendsAction) test.getActions().get(2);
+        Assert.assertEquals(awaitAction.getName(), "await-sends");
+        Assert.assertEquals(awaitAction.getTimeout(), 5000L);
+
+        awaitAction = (AwaitSendsAction) test.getActions().get(3);
+        Assert.assertEquals(awaitAction.getTimeout(), 10000L);
+
+        verify(messageProducer, times(2)).sendAsync(any(Message.class), any(TestContext.class));
+        verify(messageProducer, never()).send(any(Message.class), any(TestContext.class));
+        Assert.assertEquals(context.getSendPipeline().getInFlight(), 0);
+    }
+}
@@ -81,4 +81,31 @@ public class ParallelTestRunnerTest extends AbstractTestNGUnitTest {
         assertEquals(container.getActionCount(), 4);
         assertEquals(container.getTestAction(0).getClass(), EchoAction.class);
     }
+
+    @Test
+    public void testParallelBuilderExecutionSettings() {
+        MockTestRunner builder = new MockTestRunner(getClass().getSimpleName(), applicationContext, context) {
+            @Override
+            public void execute() {
+                parallel()
+                    .maxConcurrency(2)
+                    .failFast(true)
+                    .actions(
+                            echo("1st"),
+                            echo("2nd"),
+                            echo("3rd")
+                    );
+            }
+        };
+
+        TestCase test = builder.getTestCase();
+        assertEquals(test.getActionCount(), 1);
+        assertEquals(test.getActions().get(0).getClass(), Parallel.class);
+
+        Parallel container = (Parallel)test.getActions().get(0);
+        assertEquals(container.getActionCount(), 3);
+        assertEquals(container.getMaxConcurrency(), 2);
+        assertEquals(container.isFailFast(), true);
+        assertEquals(container.isVirtualThreads(), false);
+    }
 }
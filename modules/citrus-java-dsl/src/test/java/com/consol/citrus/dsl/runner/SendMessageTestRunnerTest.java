@@ -878,13 +878,13 @@ public class SendMessageTestRunnerTest extends AbstractTestNGUnitTest {
         Assert.assertTrue(action.getMessageBuilder() instanceof AbstractMessageContentBuilder);
         Assert.assertEquals(((AbstractMessageContentBuilder) action.getMessageBuilder()).getMessageInterceptors().size(), 1);
         Assert.assertTrue(((AbstractMessageContentBuilder) action.getMessageBuilder()).getMessageInterceptors().get(0) instanceof JsonPathMessageConstructionInterceptor);
-        Assert.assertEquals(((JsonPathMessageConstructionInterceptor)((AbstractMessageContentBuilder) action.getMessageBuilder()).getMessageInterceptors().get(0)).getJsonPathExpressions().get("$.TestRequest.Message"), "Hello World!");
+        Assert.assertEquals(((JsonPathMessageConstructionInterceptor)((AbstractMessageContentBuilder) action.getMessageBuilder()).getMessageInterceptors().get(0)).getJsonPathExpressions().get("$.TestRequest.Message").get("value"), "Hello World!");
     }
 
     @Test
     public void testSendBuilderWithDictionary() {
         final JsonMappingDataDictionary dictionary = new JsonMappingDataDictionary();
-        dictionary.getMappings().put("TestRequest.Message", "Hello World!");
+        dictionary.getMappings().put("TestRequest.Message", Collections.singletonMap("value", "Hello World!"));
 
         reset(messageEndpoint, messageProducer);
         when(messageEndpoint.createProducer()).thenReturn(messageProducer);
@@ -920,7 +920,7 @@ public class SendMessageTestRunnerTest extends AbstractTestNGUnitTest {
     @Test
     public void testSendBuilderWithDictionaryName() {
         final JsonMappingDataDictionary dictionary = new JsonMappingDataDictionary();
-        dictionary.getMappings().put("TestRequest.Message", "Hello World!");
+        dictionary.getMappings().put("TestRequest.Message", Collections.singletonMap("value", "Hello World!"));
 
         reset(applicationContextMock, messageEndpoint, messageProducer);
         when(messageEndpoint.createProducer()).thenReturn(messageProducer);
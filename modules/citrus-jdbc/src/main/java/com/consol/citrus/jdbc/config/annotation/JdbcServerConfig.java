@@ -126,4 +126,10 @@ public @interface JdbcServerConfig {
      * @return Whether autoTransactionHandling is enabled
      */
     boolean autoTransactionHandling() default true;
+
+    /**
+     * Cache query results
+     * @return Whether to cache query result data sets
+     */
+    boolean cacheQueryResults() default false;
 }
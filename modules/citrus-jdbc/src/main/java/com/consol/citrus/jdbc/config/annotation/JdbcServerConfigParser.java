@@ -64,6 +64,7 @@ public class JdbcServerConfigParser extends AbstractAnnotationConfigParser<JdbcS
         builder.autoConnect(annotation.autoConnect());
         builder.autoCreateStatement(annotation.autoCreateStatement());
         builder.autoTransactionHandling(annotation.autoTransactionHandling());
+        builder.cacheQueryResults(annotation.cacheQueryResults());
 
         builder.autoHandleQueries(annotation.autoHandleQueries());
 
@@ -41,8 +41,9 @@ public class DataSetCreator {
      */
     public DataSet createDataSet(final Message response, final MessageType messageType) {
         try {
-            if (response.getPayload() instanceof DataSet) {
-                return response.getPayload(DataSet.class);
+            DataSet dataSet = getTypedDataSet(response);
+            if (dataSet != null) {
+                return dataSet;
             } else if (isReadyToMarshal(response, messageType)) {
                 return marshalResponse(response, messageType);
             } else {
@@ -53,6 +54,22 @@ public class DataSetCreator {
         }
     }
 
+    /**
+     * Gets typed data set from response message if any. Avoids marshalling of Jdbc messages to string payloads
+     * when checking for typed data sets.
+     * @param response The response to get the data set from
+     * @return The typed data set or null
+     */
+    private DataSet getTypedDataSet(final Message response) {
+        if (response instanceof JdbcMessage) {
+            return response.getPayload(DataSet.class);
+        } else if (response.getPayload() instanceof DataSet) {
+            return response.getPayload(DataSet.class);
+        }
+
+        return null;
+    }
+
     /**
      * Marshals the given message to the requested MessageType
      * @param response The response to marshal
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.jdbc.message;
 
+import com.consol.citrus.db.driver.dataset.DataSet;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.jdbc.generator.JdbcOperationGenerator;
 import com.consol.citrus.jdbc.model.*;
@@ -39,6 +40,9 @@ public class JdbcMessage extends DefaultMessage {
     private OperationResult operationResult;
     private Operation operation;
 
+    /** Typed result data set passed to the Jdbc server without string serialization */
+    private DataSet dataSet;
+
     private JdbcMarshaller marshaller = new JdbcMarshaller();
 
     private static JdbcOperationGenerator operationGenerator = new JdbcOperationGenerator();
@@ -160,6 +164,21 @@ public class JdbcMessage extends DefaultMessage {
         return this;
     }
 
+    /**
+     * Sets typed result data set. Data set is passed to the Jdbc server as is, so no XML or Json data set
+     * marshalling is involved.
+     * @param dataSet The result data set
+     * @return The message
+     */
+    public JdbcMessage dataSet(DataSet dataSet) {
+        if (operationResult == null) {
+            throw new CitrusRuntimeException("Invalid access to operation result exception for JDBC message");
+        }
+
+        this.dataSet = dataSet;
+        return this;
+    }
+
     public JdbcMessage dataSet(Resource dataSet) {
         try {
             dataSet(FileUtils.readToString(dataSet));
@@ -191,6 +210,8 @@ public class JdbcMessage extends DefaultMessage {
             return (T) getOperation();
         } else if (OperationResult.class.equals(type)) {
             return (T) getOperationResult();
+        } else if (DataSet.class.equals(type)) {
+            return (T) dataSet;
         } else if (String.class.equals(type)) {
             return (T) getPayload();
         } else {
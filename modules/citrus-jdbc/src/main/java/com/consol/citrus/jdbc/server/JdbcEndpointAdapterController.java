@@ -16,6 +16,7 @@
 
 package com.consol.citrus.jdbc.server;
 
+import com.consol.citrus.db.driver.data.Row;
 import com.consol.citrus.db.driver.dataset.DataSet;
 import com.consol.citrus.db.server.JdbcServerException;
 import com.consol.citrus.db.server.controller.JdbcController;
@@ -31,6 +32,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.xml.transform.StringResult;
 import org.springframework.xml.transform.StringSource;
 
+import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.regex.Pattern;
@@ -58,6 +60,17 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
 
     private Pattern autoHandleQueryPattern;
 
+    /** Maximum number of cached query results */
+    private static final int QUERY_RESULTS_CACHE_SIZE = 1000;
+
+    /** Cached query result data sets by query, cleared at the start of each test */
+    private final Map<String, DataSet> queryResults = Collections.synchronizedMap(new LinkedHashMap<String, DataSet>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DataSet> eldest) {
+            return size() > QUERY_RESULTS_CACHE_SIZE;
+        }
+    });
+
     /**
      * Default constructor using fields.
      * @param endpointConfiguration The endpoint config for the server
@@ -185,7 +198,8 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     }
 
     /**
-     * Executes a given query and returns the mapped result
+     * Executes a given query and returns the mapped result. In case query result caching is enabled identical queries
+     * are answered with a copy of the cached data set without dispatching the query to the endpoint adapter.
      * @param query The query to execute
      * @return The DataSet containing the query result
      * @throws JdbcServerException In case that the query was not successful
@@ -193,8 +207,23 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
     @Override
     public DataSet executeQuery(String query) throws JdbcServerException {
         log.info("Received execute query request: " + query);
+
+        if (endpointConfiguration.isCacheQueryResults()) {
+            DataSet cached = queryResults.get(query);
+            if (cached != null) {
+                log.debug(String.format("Using cached result for query '%s'", query));
+                return copyDataSet(cached);
+            }
+        }
+
         Message response = handleMessageAndCheckResponse(JdbcMessage.execute(query));
-        return dataSetCreator.createDataSet(response, getMessageType(response));
+        DataSet dataSet = dataSetCreator.createDataSet(response, getMessageType(response));
+
+        if (endpointConfiguration.isCacheQueryResults()) {
+            queryResults.put(query, copyDataSet(dataSet));
+        }
+
+        return dataSet;
     }
 
     /**
@@ -302,6 +331,51 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
         }
     }
 
+    /**
+     * Removes all cached query results so following queries are dispatched to the endpoint adapter again.
+     */
+    public void clearQueryResults() {
+        queryResults.clear();
+    }
+
+    /**
+     * Creates new data set holding copies of the rows of given data set. Copy has its own cursor and closed state
+     * and mutable row values such as binary data and dates are not shared with the given data set.
+     * @param dataSet The data set to copy
+     * @return The data set copy
+     */
+    private DataSet copyDataSet(DataSet dataSet) {
+        try {
+            DataSet copy = new DataSet();
+            for (Row row : dataSet.getRows()) {
+                Map<String, Object> values = new LinkedHashMap<>();
+                row.getValues().forEach((column, value) -> values.put(column, copyValue(value)));
+
+                Row rowCopy = new Row();
+                rowCopy.setValues(values);
+                copy.getRows().add(rowCopy);
+            }
+            return copy;
+        } catch (SQLException e) {
+            throw new JdbcServerException("Failed to copy query result data set", e);
+        }
+    }
+
+    /**
+     * Copies mutable row values. Immutable values such as strings and numbers are returned as is.
+     * @param value The row value to copy
+     * @return The value copy
+     */
+    private Object copyValue(Object value) {
+        if (value instanceof byte[]) {
+            return ((byte[]) value).clone();
+        } else if (value instanceof Date) {
+            return ((Date) value).clone();
+        }
+
+        return value;
+    }
+
     /**
      * Determines the MessageType of the given response
      * @param response The response to get the message type from
@@ -361,7 +435,7 @@ public class JdbcEndpointAdapterController implements JdbcController, EndpointAd
         OperationResult operationResult = null;
         if (response instanceof JdbcMessage || response.getPayload() instanceof OperationResult) {
             operationResult = response.getPayload(OperationResult.class);
-        } else if (response.getPayload() != null && StringUtils.hasText(response.getPayload(String.class))) {
+        } else if (response.getPayload() != null && !(response.getPayload() instanceof DataSet) && StringUtils.hasText(response.getPayload(String.class))) {
             operationResult = (OperationResult) endpointConfiguration.getMarshaller().unmarshal(new StringSource(response.getPayload(String.class)));
         }
 
@@ -50,6 +50,9 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
             "SELECT.*FROM SYSIBM.SYSDUMMY1" // DB2
     };
 
+    /** Cache data sets of identical queries and respond without dispatching the query to the endpoint adapter */
+    private boolean cacheQueryResults = false;
+
     /** Marshaller converts from XML to Jdbc model objects */
     private JdbcMarshaller marshaller = new JdbcMarshaller();
 
@@ -183,4 +186,22 @@ public class JdbcEndpointConfiguration extends AbstractPollableEndpointConfigura
     public void setAutoTransactionHandling(boolean autoTransactionHandling) {
         this.autoTransactionHandling = autoTransactionHandling;
     }
+
+    /**
+     * Gets the cacheQueryResults.
+     *
+     * @return Whether to cache query result data sets
+     */
+    public boolean isCacheQueryResults() {
+        return cacheQueryResults;
+    }
+
+    /**
+     * Sets the cacheQueryResults.
+     *
+     * @param cacheQueryResults Determines whether to cache query result data sets
+     */
+    public void setCacheQueryResults(boolean cacheQueryResults) {
+        this.cacheQueryResults = cacheQueryResults;
+    }
 }
@@ -16,6 +16,8 @@
 
 package com.consol.citrus.jdbc.server;
 
+import com.consol.citrus.TestCase;
+import com.consol.citrus.report.TestListener;
 import com.consol.citrus.server.AbstractServer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -24,7 +26,7 @@ import org.slf4j.LoggerFactory;
  * @author Christoph Deppisch
  * @since 2.7.3
  */
-public class JdbcServer extends AbstractServer {
+public class JdbcServer extends AbstractServer implements TestListener {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JdbcServer.class);
@@ -70,4 +72,34 @@ public class JdbcServer extends AbstractServer {
     protected void shutdown() {
         jdbcServer.stop();
     }
+
+    /**
+     * Clears cached query results so each test gets the query results it defines.
+     */
+    public void reset() {
+        if (controller != null) {
+            controller.clearQueryResults();
+        }
+    }
+
+    @Override
+    public void onTestStart(TestCase test) {
+        reset();
+    }
+
+    @Override
+    public void onTestFinish(TestCase test) {
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+    }
 }
@@ -174,4 +174,14 @@ public class JdbcServerBuilder extends AbstractEndpointBuilder<JdbcServer> {
         return this;
     }
 
+    /**
+     * Sets the cacheQueryResults property.
+     * @param cacheQueryResults Determines whether to cache query result data sets
+     * @return The builder
+     */
+    public JdbcServerBuilder cacheQueryResults(final boolean cacheQueryResults) {
+        endpoint.getEndpointConfiguration().setCacheQueryResults(cacheQueryResults);
+        return this;
+    }
+
 }
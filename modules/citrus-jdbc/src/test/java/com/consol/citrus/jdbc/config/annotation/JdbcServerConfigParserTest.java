@@ -53,7 +53,8 @@ public class JdbcServerConfigParserTest extends AbstractTestNGUnitTest {
             maxConnections = 50,
             pollingInterval = 0,
             timeout = 10L,
-            autoTransactionHandling = false
+            autoTransactionHandling = false,
+            cacheQueryResults = true
     )
     private JdbcServer testServer;
 
@@ -139,5 +140,8 @@ public class JdbcServerConfigParserTest extends AbstractTestNGUnitTest {
         assertEquals(
                 testServer.getEndpointConfiguration().isAutoTransactionHandling(),
                 false);
+        assertEquals(
+                testServer.getEndpointConfiguration().isCacheQueryResults(),
+                true);
     }
 }
\ No newline at end of file
@@ -89,6 +89,9 @@ public class JdbcEndpointConfigurationParserTest extends AbstractBeanDefinitionP
         assertEquals(
                 testServer.getEndpointConfiguration().isAutoTransactionHandling(),
                 false);
+        assertEquals(
+                testServer.getEndpointConfiguration().isCacheQueryResults(),
+                true);
         assertEquals(
                 testServer.getEndpointConfiguration().getAutoHandleQueries().length,
                 2);
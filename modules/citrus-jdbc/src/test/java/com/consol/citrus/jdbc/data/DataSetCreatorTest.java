@@ -65,6 +65,20 @@ public class DataSetCreatorTest {
         assertEquals(dataSet, expectedDataSet);
     }
 
+    @Test
+    public void testCreateDataSetWithTypedJdbcMessage(){
+
+        //GIVEN
+        DataSet expectedDataSet = new DataSet();
+        JdbcMessage message = JdbcMessage.success().dataSet(expectedDataSet);
+
+        //WHEN
+        DataSet dataSet = dataSetCreator.createDataSet(message, MessageType.JSON);
+
+        //THEN
+        Assert.assertSame(dataSet, expectedDataSet);
+    }
+
     @Test
     public void testCreateDataSetWithUnknownType(){
         //GIVEN
@@ -16,6 +16,7 @@
 
 package com.consol.citrus.jdbc.server;
 
+import com.consol.citrus.db.driver.data.Row;
 import com.consol.citrus.db.driver.dataset.DataSet;
 import com.consol.citrus.db.server.JdbcServerConfiguration;
 import com.consol.citrus.db.server.JdbcServerException;
@@ -36,6 +37,8 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 import static org.testng.Assert.assertTrue;
 
 public class JdbcEndpointAdapterControllerTest {
@@ -369,6 +372,76 @@ public class JdbcEndpointAdapterControllerTest {
         assertEquals(dataSet, expectedDataSet);
     }
 
+    @Test
+    public void testExecuteQueryWithCachedResults() throws Exception {
+
+        //GIVEN
+        final Row row = new Row();
+        row.getValues().put("id", 1);
+        final DataSet expectedDataSet = new DataSet();
+        expectedDataSet.getRows().add(row);
+
+        final EndpointAdapter endpointAdapter = mock(EndpointAdapter.class);
+        when(endpointAdapter.handleMessage(any())).thenReturn(new DefaultMessage(expectedDataSet));
+
+        final JdbcEndpointConfiguration jdbcEndpointConfiguration = new JdbcEndpointConfiguration();
+        jdbcEndpointConfiguration.setCacheQueryResults(true);
+        final JdbcEndpointAdapterController jdbcEndpointAdapterController =
+                new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter);
+
+        final String query = "SELECT id FROM cached";
+
+        //WHEN
+        final DataSet first = jdbcEndpointAdapterController.executeQuery(query);
+        first.close();
+        final DataSet second = jdbcEndpointAdapterController.executeQuery(query);
+
+        //THEN
+        verify(endpointAdapter, times(1)).handleMessage(any());
+        assertSame(first, expectedDataSet);
+        assertNotSame(second, first);
+        assertEquals(second.getRows().size(), 1);
+        assertEquals(second.getNextRow().getValue("id"), 1);
+    }
+
+    @Test
+    public void testCachedResultsAreIsolated() throws Exception {
+
+        //GIVEN
+        final Row row = new Row();
+        row.getValues().put("id", 1);
+        row.getValues().put("data", new byte[] { 1, 2, 3 });
+        final DataSet expectedDataSet = new DataSet();
+        expectedDataSet.getRows().add(row);
+
+        final EndpointAdapter endpointAdapter = mock(EndpointAdapter.class);
+        when(endpointAdapter.handleMessage(any())).thenReturn(new DefaultMessage(expectedDataSet));
+
+        final JdbcEndpointConfiguration jdbcEndpointConfiguration = new JdbcEndpointConfiguration();
+        jdbcEndpointConfiguration.setCacheQueryResults(true);
+        final JdbcEndpointAdapterController jdbcEndpointAdapterController =
+                new JdbcEndpointAdapterController(jdbcEndpointConfiguration, endpointAdapter);
+
+        final String query = "SELECT id, data FROM cached";
+
+        //WHEN
+        jdbcEndpointAdapterController.executeQuery(query);
+        row.getValues().put("id", 2);
+        ((byte[]) row.getValue("data"))[0] = 9;
+
+        final DataSet cached = jdbcEndpointAdapterController.executeQuery(query);
+        cached.getRows().get(0).getValues().put("id", 3);
+        final DataSet cachedAgain = jdbcEndpointAdapterController.executeQuery(query);
+
+        jdbcEndpointAdapterController.clearQueryResults();
+        jdbcEndpointAdapterController.executeQuery(query);
+
+        //THEN
+        verify(endpointAdapter, times(2)).handleMessage(any());
+        assertEquals(((byte[]) cached.getRows().get(0).getValue("data"))[0], 1);
+        assertEquals(cachedAgain.getRows().get(0).getValue("id"), 1);
+    }
+
     @Test(expectedExceptions = JdbcServerException.class)
     public void testExecuteQueryForwardsException(){
 
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.actions;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.Set;
+
+/**
+ * Purges queues with the purge operation of the broker queue management bean. By default uses the platform MBean server
+ * and ActiveMQ queue management beans, so this hook works with embedded ActiveMQ brokers out of the box. Other brokers
+ * are supported by setting object name pattern, purge operation and message count attribute accordingly.
+ *
+ * Object name pattern must contain the placeholder <code>%s</code> for the queue name and may be a pattern
+ * (e.g. with wildcard broker name). Queues without matching management bean are not handled by this hook.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JmxQueuePurgeHook implements QueuePurgeHook {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JmxQueuePurgeHook.class);
+
+    /** Default object name pattern matching ActiveMQ queue management beans */
+    public static final String ACTIVEMQ_OBJECT_NAME = "org.apache.activemq:type=Broker,brokerName=*,destinationType=Queue,destinationName=%s";
+
+    /** MBean server holding the queue management beans */
+    private MBeanServerConnection server = ManagementFactory.getPlatformMBeanServer();
+
+    /** Queue management bean object name pattern */
+    private String objectName = ACTIVEMQ_OBJECT_NAME;
+
+    /** Name of purge operation on queue management bean */
+    private String operation = "purge";
+
+    /** Optional message count attribute on queue management bean read before purging */
+    private String messageCountAttribute = "QueueSize";
+
+    @Override
+    public int purge(String queueName) throws Exception {
+        Set<ObjectName> queueBeans = server.queryNames(new ObjectName(String.format(objectName, ObjectName.quote(queueName))), null);
+
+        if (queueBeans.isEmpty() && !queueName.matches(".*[,=:\"*?].*")) {
+            queueBeans = server.queryNames(new ObjectName(String.format(objectName, queueName)), null);
+        }
+
+        if (queueBeans.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("No queue management bean found for queue " + queueName);
+            }
+            return NOT_SUPPORTED;
+        }
+
+        int messagesPurged = 0;
+        for (ObjectName queueBean : queueBeans) {
+            int messageCount = getMessageCount(queueBean);
+            Object result = server.invoke(queueBean, operation, new Object[] {}, new String[] {});
+
+            if (result instanceof Number) {
+                messagesPurged += ((Number) result).intValue();
+            } else {
+                messagesPurged += messageCount;
+            }
+        }
+
+        return messagesPurged;
+    }
+
+    /**
+     * Reads message count attribute on queue management bean if any.
+     * @param queueBean
+     * @return
+     */
+    private int getMessageCount(ObjectName queueBean) {
+        if (messageCountAttribute == null) {
+            return 0;
+        }
+
+        try {
+            Object messageCount = server.getAttribute(queueBean, messageCountAttribute);
+            return messageCount instanceof Number ? ((Number) messageCount).intValue() : 0;
+        } catch (Exception e) {
+            log.warn("Failed to read message count attribute '" + messageCountAttribute + "' on " + queueBean, e);
+            return 0;
+        }
+    }
+
+    /**
+     * Gets the server.
+     * @return
+     */
+    public MBeanServerConnection getServer() {
+        return server;
+    }
+
+    /**
+     * Sets the server.
+     * @param server
+     */
+    public void setServer(MBeanServerConnection server) {
+        this.server = server;
+    }
+
+    /**
+     * Gets the objectName.
+     * @return
+     */
+    public String getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Sets the objectName.
+     * @param objectName
+     */
+    public void setObjectName(String objectName) {
+        this.objectName = objectName;
+    }
+
+    /**
+     * Gets the operation.
+     * @return
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * Sets the operation.
+     * @param operation
+     */
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    /**
+     * Gets the messageCountAttribute.
+     * @return
+     */
+    public String getMessageCountAttribute() {
+        return messageCountAttribute;
+    }
+
+    /**
+     * Sets the messageCountAttribute.
+     * @param messageCountAttribute
+     */
+    public void setMessageCountAttribute(String messageCountAttribute) {
+        this.messageCountAttribute = messageCountAttribute;
+    }
+}
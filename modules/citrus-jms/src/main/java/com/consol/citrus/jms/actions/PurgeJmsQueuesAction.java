@@ -19,6 +19,7 @@ package com.consol.citrus.jms.actions;
 import com.consol.citrus.actions.AbstractTestAction;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.messaging.MessagePurger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jms.support.JmsUtils;
@@ -26,6 +27,7 @@ import org.springframework.jms.support.destination.DynamicDestinationResolver;
 
 import javax.jms.*;
 import java.util.ArrayList;
+import java.util.Enumeration;
 import java.util.List;
 
 /**
@@ -35,7 +37,9 @@ import java.util.List;
  * JMS broker vendor implementations.
  *
  * Consumer will continue to receive messages until message receive timeout is reached,
- * so no messages are left.
+ * so no messages are left. For high throughput purging several concurrent consumers may receive messages in batches
+ * without sleeping between messages. Optional queue browsing confirms that the queue has been drained and
+ * a broker purge hook may purge the queue with broker specific means instead of consuming messages.
  *  
  * @author Christoph Deppisch
  * @since 2007
@@ -57,6 +61,24 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
     /** Wait some time between message consumption in ms */
     private long sleepTime = 350;
 
+    /** Number of messages consumed before sleeping */
+    private int batchSize = 1;
+
+    /** Number of consumers per queue receiving messages concurrently */
+    private int concurrentConsumers = 1;
+
+    /** Number of subsequent receive timeouts before queue is considered to be drained */
+    private int maxEmptyReceives = 1;
+
+    /** Maximum time to drain a queue in ms, negative value disables the limit */
+    private long purgeTimeout = -1L;
+
+    /** Browse queue in order to confirm that queue has been drained */
+    private boolean browseQueue = false;
+
+    /** Optional broker specific purge operation */
+    private QueuePurgeHook purgeHook;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(PurgeJmsQueuesAction.class);
 
@@ -81,10 +103,10 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
             connection.start();
             
             for (Queue queue : queues) {
-                purgeQueue(queue, session);
+                purgeQueue(queue, connection, session);
             }
             for (String queueName : queueNames) {
-                purgeQueue(context.replaceDynamicContentInString(queueName), session);
+                purgeQueue(context.replaceDynamicContentInString(queueName), connection, session);
             }
 
         } catch (JMSException e) {
@@ -101,62 +123,142 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
     /**
      * Purges a queue destination identified by its name.
      * @param queueName
+     * @param connection
      * @param session
      * @throws JMSException
      */
-    private void purgeQueue(String queueName, Session session) throws JMSException {
-        purgeDestination(getDestination(session, queueName), session, queueName);
+    private void purgeQueue(String queueName, Connection connection, Session session) throws JMSException {
+        purgeDestination(getDestination(session, queueName), connection, session, queueName);
     }
 
     /**
      * Purges a queue destination. 
      * @param queue
+     * @param connection
      * @param session
      * @throws JMSException
      */
-    private void purgeQueue(Queue queue, Session session) throws JMSException {
-        purgeDestination(queue, session, queue.getQueueName());
+    private void purgeQueue(Queue queue, Connection connection, Session session) throws JMSException {
+        purgeDestination(queue, connection, session, queue.getQueueName());
     }
 
     /**
-     * Purge destination by receiving all available messages.
+     * Purge destination by receiving all available messages. Uses broker purge hook first if set.
      * @param destination
+     * @param connection
      * @param session
      * @param destinationName
      * @throws JMSException
      */
-    private void purgeDestination(Destination destination, Session session, String destinationName) throws JMSException {
+    private void purgeDestination(Destination destination, Connection connection, Session session, String destinationName) throws JMSException {
         if (log.isDebugEnabled()) {
             log.debug("Try to purge destination " + destinationName);
         }
 
-        int messagesPurged = 0;
-        MessageConsumer messageConsumer = session.createConsumer(destination);
-        try {
-            javax.jms.Message message;
-            do {
-                message = (receiveTimeout >= 0) ? messageConsumer.receive(receiveTimeout) : messageConsumer.receive();
-    
-                if (message != null) {
-                    log.debug("Removed message from destination " + destinationName);
-                    messagesPurged++;
-
-                    try {
-                        Thread.sleep(sleepTime);
-                    } catch (InterruptedException e) {
-                        log.warn("Interrupted during wait", e);
+        int messagesPurged = createMessagePurger().purge(new JmsPurgeDestination(destination, connection, session, destinationName));
+
+        if (log.isDebugEnabled()) {
+            log.debug("Purged " + (messagesPurged >= 0 ? messagesPurged + " messages" : "all messages") + " from destination " + destinationName);
+        }
+    }
+
+    /**
+     * Creates message purger with purge settings of this action.
+     * @return
+     */
+    private MessagePurger createMessagePurger() {
+        MessagePurger messagePurger = new MessagePurger();
+        messagePurger.setReceiveTimeout(receiveTimeout);
+        messagePurger.setSleepTime(sleepTime);
+        messagePurger.setBatchSize(batchSize);
+        messagePurger.setConcurrentConsumers(concurrentConsumers);
+        messagePurger.setMaxEmptyReceives(maxEmptyReceives);
+        messagePurger.setTimeout(purgeTimeout);
+        return messagePurger;
+    }
+
+    /**
+     * Purge destination consuming messages with JMS message consumers. Concurrent consumers use separate sessions
+     * on the shared connection.
+     */
+    private class JmsPurgeDestination implements MessagePurger.PurgeDestination {
+        private final Destination destination;
+        private final Connection connection;
+        private final Session session;
+        private final String destinationName;
+
+        JmsPurgeDestination(Destination destination, Connection connection, Session session, String destinationName) {
+            this.destination = destination;
+            this.connection = connection;
+            this.session = session;
+            this.destinationName = destinationName;
+        }
+
+        @Override
+        public String getName() {
+            return destinationName;
+        }
+
+        @Override
+        public MessagePurger.PurgeConsumer createConsumer() throws JMSException {
+            Session consumerSession = concurrentConsumers > 1 ? createSession(connection) : session;
+            MessageConsumer messageConsumer = consumerSession.createConsumer(destination);
+
+            return new MessagePurger.PurgeConsumer() {
+                @Override
+                public boolean receive(long timeout) throws JMSException {
+                    javax.jms.Message message = (timeout >= 0) ? messageConsumer.receive(timeout) : messageConsumer.receive();
+                    if (message != null) {
+                        log.debug("Removed message from destination " + destinationName);
+                    }
+                    return message != null;
+                }
+
+                @Override
+                public void close() {
+                    JmsUtils.closeMessageConsumer(messageConsumer);
+                    if (consumerSession != session) {
+                        JmsUtils.closeSession(consumerSession);
                     }
                 }
-            } while (message != null);
+            };
+        }
 
-            if (log.isDebugEnabled()) {
-                log.debug("Purged " + messagesPurged + " messages from destination");
+        @Override
+        public int purgeNative() throws Exception {
+            if (purgeHook == null) {
+                return NOT_SUPPORTED;
+            }
+
+            return purgeHook.purge(destinationName);
+        }
+
+        @Override
+        public int getMessageCount() throws JMSException {
+            if (!browseQueue || !(destination instanceof Queue)) {
+                return NOT_SUPPORTED;
+            }
+
+            Session browserSession = concurrentConsumers > 1 ? createSession(connection) : session;
+            QueueBrowser browser = null;
+            try {
+                browser = browserSession.createBrowser((Queue) destination);
+                int messageCount = 0;
+                Enumeration<?> messages = browser.getEnumeration();
+                while (messages.hasMoreElements()) {
+                    messages.nextElement();
+                    messageCount++;
+                }
+                return messageCount;
+            } finally {
+                JmsUtils.closeQueueBrowser(browser);
+                if (browserSession != session) {
+                    JmsUtils.closeSession(browserSession);
+                }
             }
-        } finally {
-            JmsUtils.closeMessageConsumer(messageConsumer);
         }
     }
-    
+
     /**
      * Resolves destination by given name.
      * @param session
@@ -272,4 +374,99 @@ public class PurgeJmsQueuesAction extends AbstractTestAction {
         return sleepTime;
     }
 
+    /**
+     * Gets the batchSize.
+     * @return
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Sets number of messages consumed before sleeping.
+     * @param batchSize
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Gets the concurrentConsumers.
+     * @return
+     */
+    public int getConcurrentConsumers() {
+        return concurrentConsumers;
+    }
+
+    /**
+     * Sets number of consumers per queue receiving messages concurrently.
+     * @param concurrentConsumers
+     */
+    public void setConcurrentConsumers(int concurrentConsumers) {
+        this.concurrentConsumers = concurrentConsumers;
+    }
+
+    /**
+     * Gets the maxEmptyReceives.
+     * @return
+     */
+    public int getMaxEmptyReceives() {
+        return maxEmptyReceives;
+    }
+
+    /**
+     * Sets number of subsequent receive timeouts before queue is considered to be drained.
+     * @param maxEmptyReceives
+     */
+    public void setMaxEmptyReceives(int maxEmptyReceives) {
+        this.maxEmptyReceives = maxEmptyReceives;
+    }
+
+    /**
+     * Gets the purgeTimeout.
+     * @return
+     */
+    public long getPurgeTimeout() {
+        return purgeTimeout;
+    }
+
+    /**
+     * Sets maximum time to drain a queue in ms, negative value disables the limit.
+     * @param purgeTimeout
+     */
+    public void setPurgeTimeout(long purgeTimeout) {
+        this.purgeTimeout = purgeTimeout;
+    }
+
+    /**
+     * Gets the browseQueue.
+     * @return
+     */
+    public boolean isBrowseQueue() {
+        return browseQueue;
+    }
+
+    /**
+     * Enables queue browsing in order to skip empty queues and to confirm that the queue has been drained.
+     * @param browseQueue
+     */
+    public void setBrowseQueue(boolean browseQueue) {
+        this.browseQueue = browseQueue;
+    }
+
+    /**
+     * Gets the purgeHook.
+     * @return
+     */
+    public QueuePurgeHook getPurgeHook() {
+        return purgeHook;
+    }
+
+    /**
+     * Sets broker specific purge operation used instead of consuming messages.
+     * @param purgeHook
+     */
+    public void setPurgeHook(QueuePurgeHook purgeHook) {
+        this.purgeHook = purgeHook;
+    }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.actions;
+
+/**
+ * Broker specific purge operation removing all messages from a queue without consuming them. Usually available when
+ * working with an embedded broker or broker management interface.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@FunctionalInterface
+public interface QueuePurgeHook {
+
+    /** Marks queue as not purged by this hook so messages get consumed instead */
+    int NOT_SUPPORTED = -1;
+
+    /**
+     * Purges all messages from given queue.
+     * @param queueName the name of the queue to purge
+     * @return number of purged messages or {@link #NOT_SUPPORTED} when queue is unknown to this hook
+     * @throws Exception
+     */
+    int purge(String queueName) throws Exception;
+}
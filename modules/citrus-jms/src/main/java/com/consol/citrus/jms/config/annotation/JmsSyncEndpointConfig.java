@@ -101,6 +101,12 @@ public @interface JmsSyncEndpointConfig {
      */
     int pollingInterval() default 500;
 
+    /**
+     * Pooled request reply handling.
+     * @return
+     */
+    boolean pooling() default false;
+
     /**
      * Message correlator.
      * @return
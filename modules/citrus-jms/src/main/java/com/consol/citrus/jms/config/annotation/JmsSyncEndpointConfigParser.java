@@ -119,6 +119,7 @@ public class JmsSyncEndpointConfigParser extends AbstractAnnotationConfigParser<
         }
 
         builder.pollingInterval(annotation.pollingInterval());
+        builder.pooling(annotation.pooling());
 
         return builder.initialize().build();
     }
@@ -60,6 +60,13 @@ public class PurgeJmsQueuesActionParser implements BeanDefinitionParser {
         beanDefinition.addPropertyReference("connectionFactory", connectionFactory);
         
         BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("receive-timeout"), "receiveTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("sleep-time"), "sleepTime");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("batch-size"), "batchSize");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("concurrent-consumers"), "concurrentConsumers");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("max-empty-receives"), "maxEmptyReceives");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("purge-timeout"), "purgeTimeout");
+        BeanDefinitionParserUtils.setPropertyValue(beanDefinition, element.getAttribute("browse-queue"), "browseQueue");
+        BeanDefinitionParserUtils.setPropertyReference(beanDefinition, element.getAttribute("purge-hook"), "purgeHook");
         
         List<String> queueNames = new ArrayList<String>();
         ManagedList<BeanDefinition> queueRefs = new ManagedList<BeanDefinition>();
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jms.support.JmsUtils;
+
+import javax.jms.*;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.*;
+
+/**
+ * Single long-lived reply consumer shared by all requests of a synchronous JMS producer. Reply messages are
+ * dispatched to waiting senders by their JMS correlation id which must match the JMS message id of the request.
+ * Replies arriving before the sender starts waiting are held until the sender picks them up. Unclaimed replies expire
+ * after the reply timeout and the number of unclaimed replies is bounded. Replies of senders that are waiting are never discarded.
+ *
+ * Dispatcher consumes all messages on its reply destination so the destination must not be shared with other consumers.
+ * Usually this is a temporary destination created by the producer.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JmsReplyDispatcher implements MessageListener {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(JmsReplyDispatcher.class);
+
+    /** Maximum number of unclaimed replies held by this dispatcher */
+    private static final int MAX_UNCLAIMED_REPLIES = 1000;
+
+    /** Session dedicated to the reply consumer */
+    private final Session session;
+
+    /** Reply destination all requests refer to */
+    private final Destination replyDestination;
+
+    /** Long-lived reply consumer */
+    private final MessageConsumer messageConsumer;
+
+    /** Time in ms after which unclaimed replies are discarded */
+    private final long expiry;
+
+    /** Pending replies by correlation id in insertion order */
+    private final Map<String, PendingReply> replies = new LinkedHashMap<>();
+
+    /**
+     * Default constructor using dedicated session and reply destination.
+     * @param session
+     * @param replyDestination
+     * @param expiry time in ms after which unclaimed replies are discarded.
+     * @throws JMSException
+     */
+    public JmsReplyDispatcher(Session session, Destination replyDestination, long expiry) throws JMSException {
+        this.session = session;
+        this.replyDestination = replyDestination;
+        this.expiry = expiry;
+        this.messageConsumer = session.createConsumer(replyDestination);
+        this.messageConsumer.setMessageListener(this);
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        try {
+            String correlationId = message.getJMSCorrelationID();
+            if (correlationId == null) {
+                log.warn("Discard reply message without JMS correlation id on destination: '{}'", replyDestination);
+                return;
+            }
+
+            CompletableFuture<Message> reply;
+            synchronized (replies) {
+                removeExpiredReplies();
+                PendingReply pendingReply = replies.computeIfAbsent(correlationId, key -> new PendingReply());
+                if (!pendingReply.waiting) {
+                    removeExcessUnclaimedReplies();
+                }
+                reply = pendingReply.reply;
+            }
+
+            reply.complete(message);
+        } catch (JMSException e) {
+            log.error("Failed to dispatch reply message on destination '" + replyDestination + "'", e);
+        }
+    }
+
+    /**
+     * Waits for reply message with given correlation id.
+     * @param correlationId
+     * @param timeout time to wait in milliseconds, negative value waits forever.
+     * @return the reply message or null if no reply message arrived within timeout.
+     */
+    public Message receive(String correlationId, long timeout) {
+        CompletableFuture<Message> reply;
+        synchronized (replies) {
+            removeExpiredReplies();
+            PendingReply pendingReply = replies.computeIfAbsent(correlationId, key -> new PendingReply());
+            pendingReply.waiting = true;
+            reply = pendingReply.reply;
+        }
+
+        try {
+            return (timeout >= 0) ? reply.get(timeout, TimeUnit.MILLISECONDS) : reply.get();
+        } catch (TimeoutException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException e) {
+            throw new CitrusRuntimeException("Failed to receive reply message", e.getCause());
+        } finally {
+            synchronized (replies) {
+                replies.remove(correlationId);
+            }
+        }
+    }
+
+    /**
+     * Removes expired replies that have arrived but were never picked up by a sender. Placeholders of senders still
+     * waiting for their reply are kept as the sender removes them itself.
+     */
+    private void removeExpiredReplies() {
+        if (expiry < 0) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        Iterator<Map.Entry<String, PendingReply>> iterator = replies.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, PendingReply> entry = iterator.next();
+            if (!entry.getValue().waiting && now - entry.getValue().created > expiry) {
+                log.debug("Discard expired reply with correlation id '{}' on destination: '{}'", entry.getKey(), replyDestination);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Discards the eldest unclaimed replies when there are too many replies nobody waits for. Placeholders of senders still
+     * waiting for their reply are never discarded.
+     */
+    private void removeExcessUnclaimedReplies() {
+        long unclaimed = replies.values().stream().filter(pendingReply -> !pendingReply.waiting).count();
+
+        Iterator<Map.Entry<String, PendingReply>> iterator = replies.entrySet().iterator();
+        while (unclaimed > MAX_UNCLAIMED_REPLIES && iterator.hasNext()) {
+            Map.Entry<String, PendingReply> entry = iterator.next();
+            if (!entry.getValue().waiting) {
+                log.warn("Discard unclaimed reply with correlation id '{}' - too many unclaimed replies on destination: '{}'", entry.getKey(), replyDestination);
+                iterator.remove();
+                unclaimed--;
+            }
+        }
+    }
+
+    /**
+     * Gets the number of pending replies.
+     * @return
+     */
+    public int getPendingReplies() {
+        synchronized (replies) {
+            return replies.size();
+        }
+    }
+
+    /**
+     * Reply placeholder with creation time. Marked as waiting as soon as a sender waits for the reply.
+     */
+    private static class PendingReply {
+        private final CompletableFuture<Message> reply = new CompletableFuture<>();
+        private final long created = System.currentTimeMillis();
+        private boolean waiting = false;
+    }
+
+    /**
+     * Closes reply consumer and session. Temporary reply destination is deleted.
+     */
+    public void close() {
+        JmsUtils.closeMessageConsumer(messageConsumer);
+
+        try {
+            if (replyDestination instanceof TemporaryQueue) {
+                ((TemporaryQueue) replyDestination).delete();
+            } else if (replyDestination instanceof TemporaryTopic) {
+                ((TemporaryTopic) replyDestination).delete();
+            }
+        } catch (JMSException e) {
+            log.error("Error while deleting temporary destination '" + replyDestination + "'", e);
+        }
+
+        JmsUtils.closeSession(session);
+    }
+
+    /**
+     * Gets the reply destination.
+     * @return
+     */
+    public Destination getReplyDestination() {
+        return replyDestination;
+    }
+}
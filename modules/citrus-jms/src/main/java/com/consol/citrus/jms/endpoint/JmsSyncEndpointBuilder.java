@@ -160,6 +160,16 @@ public class JmsSyncEndpointBuilder extends AbstractEndpointBuilder<JmsSyncEndpo
         return this;
     }
 
+    /**
+     * Sets the pooling property.
+     * @param pooling
+     * @return
+     */
+    public JmsSyncEndpointBuilder pooling(boolean pooling) {
+        endpoint.getEndpointConfiguration().setPooling(pooling);
+        return this;
+    }
+
     /**
      * Sets the message correlator.
      * @param correlator
@@ -43,6 +43,9 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
     /** Polling interval when waiting for synchronous reply message to arrive */
     private long pollingInterval = 500L;
 
+    /** Use cached message producers and a single long-lived reply consumer for all requests */
+    private boolean pooling = false;
+
     /**
      * Set the reply message correlator.
      * @param correlator the correlator to set
@@ -107,4 +110,24 @@ public class JmsSyncEndpointConfiguration extends JmsEndpointConfiguration imple
         this.pollingInterval = pollingInterval;
     }
 
+    /**
+     * Gets the pooling.
+     * @return
+     */
+    public boolean isPooling() {
+        return pooling;
+    }
+
+    /**
+     * Enables pooled request reply handling. Message producers are cached per destination and a single long-lived
+     * reply consumer dispatches reply messages by JMS correlation id. Reply messages must carry the request JMS message id
+     * as JMS correlation id. All pooled requests share one temporary reply destination that is created with the first request.
+     * Requests with a static reply destination (endpoint setting or message header) are sent without pooling and receive
+     * their reply with a JMS correlation id selector.
+     * @param pooling
+     */
+    public void setPooling(boolean pooling) {
+        this.pooling = pooling;
+    }
+
 }
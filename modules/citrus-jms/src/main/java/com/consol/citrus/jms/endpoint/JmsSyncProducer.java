@@ -32,6 +32,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import javax.jms.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christoph Deppisch
@@ -48,6 +50,15 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Long-lived reply consumer shared by all requests when pooling is enabled */
+    private JmsReplyDispatcher replyDispatcher;
+
+    /** Cached message producers by destination when pooling is enabled */
+    private final Map<Destination, MessageProducer> messageProducers = new ConcurrentHashMap<>();
+
+    /** Cached destinations by name when pooling is enabled */
+    private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+
     /** Endpoint configuration */
     private final JmsSyncEndpointConfiguration endpointConfiguration;
 
@@ -76,6 +87,12 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
 
         context.onOutboundMessage(message);
 
+        if (endpointConfiguration.isPooling() && message.getHeader(org.springframework.messaging.MessageHeaders.REPLY_CHANNEL) == null
+                && !hasStaticReplyDestination()) {
+            sendPooled(message, correlationKey, context);
+            return;
+        }
+
         MessageProducer messageProducer = null;
         MessageConsumer messageConsumer = null;
         Destination replyToDestination = null;
@@ -87,31 +104,7 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
             endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
 
-            Destination destination;
-            if (endpointConfiguration.getDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
-                if (endpointConfiguration.getDestinationNameResolver() != null) {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
-                } else {
-                    destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
-                }
-            } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
-                }
-
-                destination = endpointConfiguration.getJmsTemplate().getDefaultDestination();
-            } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
-                destination = resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
-            } else {
-                throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
-            }
-
+            Destination destination = getDestination(message, context);
             messageProducer = session.createProducer(destination);
 
             replyToDestination = getReplyDestination(session, message);
@@ -152,6 +145,86 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Sends request message with cached session and message producer. Reply message is received with the long-lived reply consumer
+     * that dispatches replies by JMS correlation id on a temporary reply destination.
+     * @param message
+     * @param correlationKey
+     * @param context
+     */
+    private void sendPooled(Message message, String correlationKey, TestContext context) {
+        try {
+            Destination destination;
+            String requestMessageId;
+            JmsReplyDispatcher dispatcher;
+            synchronized (this) {
+                createConnection();
+                createSession(connection);
+                dispatcher = getReplyDispatcher();
+
+                javax.jms.Message jmsRequest = endpointConfiguration.getMessageConverter().createJmsMessage(message, session, endpointConfiguration, context);
+                endpointConfiguration.getMessageConverter().convertOutbound(jmsRequest, message, endpointConfiguration, context);
+
+                destination = getDestination(message, context);
+                MessageProducer messageProducer = messageProducers.get(destination);
+                if (messageProducer == null) {
+                    messageProducer = session.createProducer(destination);
+                    messageProducers.put(destination, messageProducer);
+                }
+
+                jmsRequest.setJMSReplyTo(dispatcher.getReplyDestination());
+                messageProducer.send(jmsRequest);
+                requestMessageId = jmsRequest.getJMSMessageID();
+            }
+
+            log.info("Message was sent to JMS destination: '{}'", endpointConfiguration.getDestinationName(destination));
+            log.debug("Receiving reply message on destination: '{}'", dispatcher.getReplyDestination());
+
+            javax.jms.Message jmsReplyMessage = dispatcher.receive(requestMessageId, endpointConfiguration.getTimeout());
+
+            if (jmsReplyMessage == null) {
+                throw new ActionTimeoutException("Reply timed out after " +
+                        endpointConfiguration.getTimeout() + "ms. Did not receive reply message on reply destination");
+            }
+
+            Message responseMessage = endpointConfiguration.getMessageConverter().convertInbound(jmsReplyMessage, endpointConfiguration, context);
+
+            log.info("Received reply message on JMS destination: '{}'", dispatcher.getReplyDestination());
+
+            context.onInboundMessage(responseMessage);
+
+            correlationManager.store(correlationKey, responseMessage);
+        } catch (JMSException e) {
+            throw new CitrusRuntimeException(e);
+        }
+    }
+
+    /**
+     * Gets or creates the long-lived reply consumer with its own session on the shared connection. The consumer receives all messages on
+     * its reply destination so always uses a temporary destination that is not shared with other producers. Caller must hold the lock
+     * on this producer.
+     * @return
+     * @throws JMSException
+     */
+    private JmsReplyDispatcher getReplyDispatcher() throws JMSException {
+        if (replyDispatcher == null) {
+            Session replySession = connection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            Destination replyDestination = endpointConfiguration.isPubSubDomain() ? replySession.createTemporaryTopic() : replySession.createTemporaryQueue();
+            replyDispatcher = new JmsReplyDispatcher(replySession, replyDestination, endpointConfiguration.getTimeout());
+        }
+
+        return replyDispatcher;
+    }
+
+    /**
+     * Checks if endpoint configuration defines a static reply destination. Reply messages on static destinations may be
+     * shared with others so these are received with a JMS correlation id selector for each request.
+     * @return
+     */
+    private boolean hasStaticReplyDestination() {
+        return endpointConfiguration.getReplyDestination() != null || StringUtils.hasText(endpointConfiguration.getReplyDestinationName());
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -294,6 +367,39 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
         }
     }
 
+    /**
+     * Resolves the destination to send the request message to.
+     * @param message
+     * @param context
+     * @return
+     * @throws JMSException
+     */
+    private Destination getDestination(Message message, TestContext context) throws JMSException {
+        if (endpointConfiguration.getDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getDestination()) + "'");
+            }
+
+            return endpointConfiguration.getDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getDestinationName())) {
+            if (endpointConfiguration.getDestinationNameResolver() != null) {
+                return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationNameResolver().resolveEndpointUri(message, endpointConfiguration.getDestinationName())));
+            } else {
+                return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getDestinationName()));
+            }
+        } else if (endpointConfiguration.getJmsTemplate().getDefaultDestination() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Sending JMS message to destination: '" + endpointConfiguration.getDestinationName(endpointConfiguration.getJmsTemplate().getDefaultDestination()) + "'");
+            }
+
+            return endpointConfiguration.getJmsTemplate().getDefaultDestination();
+        } else if (StringUtils.hasText(endpointConfiguration.getJmsTemplate().getDefaultDestinationName())) {
+            return resolveDestination(context.replaceDynamicContentInString(endpointConfiguration.getJmsTemplate().getDefaultDestinationName()));
+        } else {
+            throw new CitrusRuntimeException("Unable to send message - JMS destination not set");
+        }
+    }
+
     /**
      * Resolve destination from given name.
      * @param destinationName
@@ -305,6 +411,15 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
             log.debug("Sending JMS message to destination: '" + destinationName + "'");
         }
 
+        if (endpointConfiguration.isPooling()) {
+            Destination destination = destinations.get(destinationName);
+            if (destination == null) {
+                destination = resolveDestinationName(destinationName, session);
+                destinations.put(destinationName, destination);
+            }
+            return destination;
+        }
+
         return resolveDestinationName(destinationName, session);
     }
 
@@ -325,7 +440,16 @@ public class JmsSyncProducer extends JmsProducer implements ReplyConsumer {
     /**
      * Destroy method closing JMS session and connection
      */
-    public void destroy() {
+    public synchronized void destroy() {
+        messageProducers.values().forEach(JmsUtils::closeMessageProducer);
+        messageProducers.clear();
+        destinations.clear();
+
+        if (replyDispatcher != null) {
+            replyDispatcher.close();
+            replyDispatcher = null;
+        }
+
         JmsUtils.closeSession(session);
 
         if (connection != null) {
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.actions;
+
+import org.testng.Assert;
+import org.testng.annotations.*;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JmxQueuePurgeHookTest {
+
+    private MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+    private ObjectName objectName;
+
+    private TestQueue testQueue = new TestQueue();
+
+    @BeforeClass
+    public void registerQueueBean() throws Exception {
+        objectName = new ObjectName("org.apache.activemq:type=Broker,brokerName=testBroker,destinationType=Queue,destinationName=JMS.Queue.Test");
+        mbeanServer.registerMBean(new StandardMBean(testQueue, TestQueueMBean.class), objectName);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void unregisterQueueBean() throws Exception {
+        mbeanServer.unregisterMBean(objectName);
+    }
+
+    @Test
+    public void testPurge() throws Exception {
+        testQueue.queueSize = 5L;
+
+        JmxQueuePurgeHook purgeHook = new JmxQueuePurgeHook();
+        Assert.assertEquals(purgeHook.purge("JMS.Queue.Test"), 5);
+        Assert.assertEquals(testQueue.queueSize, 0L);
+    }
+
+    @Test
+    public void testUnknownQueue() throws Exception {
+        JmxQueuePurgeHook purgeHook = new JmxQueuePurgeHook();
+        Assert.assertEquals(purgeHook.purge("JMS.Queue.Unknown"), QueuePurgeHook.NOT_SUPPORTED);
+    }
+
+    @Test
+    public void testCustomOperation() throws Exception {
+        testQueue.queueSize = 3L;
+
+        JmxQueuePurgeHook purgeHook = new JmxQueuePurgeHook();
+        purgeHook.setOperation("removeAllMessages");
+        purgeHook.setMessageCountAttribute(null);
+        Assert.assertEquals(purgeHook.purge("JMS.Queue.Test"), 3);
+        Assert.assertEquals(testQueue.queueSize, 0L);
+    }
+
+    public interface TestQueueMBean {
+        long getQueueSize();
+        void purge();
+        int removeAllMessages();
+    }
+
+    private static class TestQueue implements TestQueueMBean {
+        private long queueSize;
+
+        @Override
+        public long getQueueSize() {
+            return queueSize;
+        }
+
+        @Override
+        public void purge() {
+            queueSize = 0L;
+        }
+
+        @Override
+        public int removeAllMessages() {
+            int removed = (int) queueSize;
+            queueSize = 0L;
+            return removed;
+        }
+    }
+}
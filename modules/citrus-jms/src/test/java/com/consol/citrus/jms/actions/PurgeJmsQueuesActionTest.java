@@ -226,4 +226,90 @@ public class PurgeJmsQueuesActionTest extends AbstractTestNGUnitTest {
         purgeQueuesAction.execute(context);
         verify(connection).start();
     }
+
+    @Test
+    public void testPurgeConcurrentConsumers() throws JMSException {
+        PurgeJmsQueuesAction purgeQueuesAction = new PurgeJmsQueuesAction();
+        purgeQueuesAction.setConnectionFactory(connectionFactory);
+        purgeQueuesAction.setConcurrentConsumers(2);
+        purgeQueuesAction.setBatchSize(100);
+
+        purgeQueuesAction.setQueueNames(Collections.singletonList("myQueue"));
+
+        TextMessage jmsRequest = new TextMessageImpl("<TestRequest>Hello World!</TestRequest>", new HashMap<>());
+
+        reset(connectionFactory, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createQueue("myQueue")).thenReturn(queue);
+
+        when(session.createConsumer(queue)).thenReturn(messageConsumer);
+        when(messageConsumer.receive(100L)).thenReturn(jmsRequest, jmsRequest, jmsRequest).thenReturn(null);
+
+        purgeQueuesAction.execute(context);
+        verify(connection).start();
+        verify(connection, times(3)).createSession(anyBoolean(), anyInt());
+        verify(messageConsumer, times(2)).close();
+        verify(messageConsumer, atLeast(5)).receive(100L);
+    }
+
+    @Test
+    public void testPurgeBrowseEmptyQueue() throws JMSException {
+        PurgeJmsQueuesAction purgeQueuesAction = new PurgeJmsQueuesAction();
+        purgeQueuesAction.setConnectionFactory(connectionFactory);
+        purgeQueuesAction.setBrowseQueue(true);
+
+        purgeQueuesAction.setQueueNames(Collections.singletonList("myQueue"));
+
+        QueueBrowser queueBrowser = Mockito.mock(QueueBrowser.class);
+
+        reset(connectionFactory, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        when(session.createQueue("myQueue")).thenReturn(queue);
+        when(session.createBrowser(queue)).thenReturn(queueBrowser);
+        when(queueBrowser.getEnumeration()).thenReturn(Collections.emptyEnumeration());
+
+        purgeQueuesAction.execute(context);
+        verify(connection).start();
+        verify(queueBrowser).close();
+        verify(session, never()).createConsumer(queue);
+    }
+
+    @Test
+    public void testPurgeHook() throws Exception {
+        PurgeJmsQueuesAction purgeQueuesAction = new PurgeJmsQueuesAction();
+        purgeQueuesAction.setConnectionFactory(connectionFactory);
+
+        QueuePurgeHook purgeHook = Mockito.mock(QueuePurgeHook.class);
+        purgeQueuesAction.setPurgeHook(purgeHook);
+
+        purgeQueuesAction.setQueueNames(Arrays.asList("myQueue", "unknownQueue"));
+
+        reset(connectionFactory, connection, session, messageConsumer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+
+        Queue unknownQueue = Mockito.mock(Queue.class);
+        when(session.createQueue("myQueue")).thenReturn(queue);
+        when(session.createQueue("unknownQueue")).thenReturn(unknownQueue);
+        when(purgeHook.purge("myQueue")).thenReturn(5);
+        when(purgeHook.purge("unknownQueue")).thenReturn(QueuePurgeHook.NOT_SUPPORTED);
+
+        when(session.createConsumer(unknownQueue)).thenReturn(messageConsumer);
+        when(messageConsumer.receive(100L)).thenReturn(null);
+
+        purgeQueuesAction.execute(context);
+        verify(connection).start();
+        verify(session, never()).createConsumer(queue);
+        verify(session).createConsumer(unknownQueue);
+    }
 }
@@ -92,6 +92,7 @@ public class JmsSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
     @JmsSyncEndpointConfig(destinationName="JMS.Queue.Test",
             replyDestinationName="JMS.Reply.Queue",
             pollingInterval=250,
+            pooling=true,
             actor="testActor")
     private JmsSyncEndpoint jmsSyncEndpoint8;
 
@@ -177,6 +178,7 @@ public class JmsSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertNull(jmsSyncEndpoint5.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsSyncEndpoint5.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertEquals(jmsSyncEndpoint5.getEndpointConfiguration().getPollingInterval(), 500L);
+        Assert.assertFalse(jmsSyncEndpoint5.getEndpointConfiguration().isPooling());
         Assert.assertEquals(jmsSyncEndpoint5.getEndpointConfiguration().getReplyDestinationName(), "JMS.Reply.Queue");
         Assert.assertNull(jmsSyncEndpoint5.getEndpointConfiguration().getReplyDestination());
         Assert.assertEquals(jmsSyncEndpoint5.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
@@ -203,6 +205,7 @@ public class JmsSyncEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 8th message sender
         Assert.assertNotNull(jmsSyncEndpoint8.getEndpointConfiguration().getPollingInterval());
         Assert.assertEquals(jmsSyncEndpoint8.getEndpointConfiguration().getPollingInterval(), 250L);
+        Assert.assertTrue(jmsSyncEndpoint8.getEndpointConfiguration().isPooling());
         Assert.assertNotNull(jmsSyncEndpoint8.getActor());
         Assert.assertEquals(jmsSyncEndpoint8.getActor(), testActor);
     }
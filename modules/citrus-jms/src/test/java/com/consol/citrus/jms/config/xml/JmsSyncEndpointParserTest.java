@@ -64,9 +64,11 @@ public class JmsSyncEndpointParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertNull(jmsSyncEndpoint.getEndpointConfiguration().getDestination());
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().getCorrelator(), beanDefinitionContext.getBean("replyMessageCorrelator", MessageCorrelator.class));
         Assert.assertEquals(jmsSyncEndpoint.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertFalse(jmsSyncEndpoint.getEndpointConfiguration().isPooling());
 
         // 4th message receiver
         jmsSyncEndpoint = endpoints.get("jmsSyncEndpoint4");
+        Assert.assertTrue(jmsSyncEndpoint.getEndpointConfiguration().isPooling());
         Assert.assertNotNull(jmsSyncEndpoint.getActor());
         Assert.assertEquals(jmsSyncEndpoint.getActor(), beanDefinitionContext.getBean("testActor", TestActor.class));
     }
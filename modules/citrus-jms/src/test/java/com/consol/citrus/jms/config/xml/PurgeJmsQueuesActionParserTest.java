@@ -41,6 +41,13 @@ public class PurgeJmsQueuesActionParserTest extends AbstractActionParserTest<Pur
         Assert.assertEquals(action.getQueueNames().get(0), "JMS.Queue.1");
         Assert.assertEquals(action.getQueueNames().get(1), "JMS.Queue.2");
         Assert.assertEquals(action.getQueueNames().get(2), "JMS.Queue.3");
+        Assert.assertEquals(action.getSleepTime(), 350L);
+        Assert.assertEquals(action.getBatchSize(), 1);
+        Assert.assertEquals(action.getConcurrentConsumers(), 1);
+        Assert.assertEquals(action.getMaxEmptyReceives(), 1);
+        Assert.assertEquals(action.getPurgeTimeout(), -1L);
+        Assert.assertFalse(action.isBrowseQueue());
+        Assert.assertNull(action.getPurgeHook());
         
         action = getNextTestActionFromTest();
         Assert.assertNotNull(action.getReceiveTimeout());
@@ -56,6 +63,13 @@ public class PurgeJmsQueuesActionParserTest extends AbstractActionParserTest<Pur
         Assert.assertEquals(action.getQueues().size(), 1);
         Assert.assertEquals(action.getQueueNames().size(), 1);
         Assert.assertEquals(action.getQueueNames().get(0), "JMS.Queue.1");
+        Assert.assertEquals(action.getSleepTime(), 0L);
+        Assert.assertEquals(action.getBatchSize(), 100);
+        Assert.assertEquals(action.getConcurrentConsumers(), 4);
+        Assert.assertEquals(action.getMaxEmptyReceives(), 2);
+        Assert.assertEquals(action.getPurgeTimeout(), 30000L);
+        Assert.assertTrue(action.isBrowseQueue());
+        Assert.assertNotNull(action.getPurgeHook());
     }
     
     @Test
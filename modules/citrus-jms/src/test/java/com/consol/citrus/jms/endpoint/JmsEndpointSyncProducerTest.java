@@ -22,13 +22,17 @@ import com.consol.citrus.message.*;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.ObjectStore;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.apache.activemq.ActiveMQConnectionFactory;
 import org.mockito.Mockito;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import javax.jms.*;
-import java.util.HashMap;
-import java.util.Map;
+import javax.jms.Queue;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.mockito.Mockito.*;
 
@@ -398,4 +402,171 @@ public class JmsEndpointSyncProducerTest extends AbstractTestNGUnitTest {
             Assert.assertEquals(retryCount, 1);
         }
     }
+
+    @Test
+    public void testSendMessagePooled() throws Exception {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setPooling(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        TextMessage jmsResponse = new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<>()) {
+            @Override
+            public String getJMSCorrelationID() {
+                return "123456789";
+            }
+        };
+
+        MessageListener[] replyListener = new MessageListener[1];
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        doAnswer(invocation -> {
+            replyListener[0] = invocation.getArgument(0);
+            return null;
+        }).when(messageConsumer).setMessageListener(any(MessageListener.class));
+
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenAnswer(invocation ->
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<>()));
+        doAnswer(invocation -> {
+            Assert.assertEquals(((TextMessage) invocation.getArgument(0)).getJMSReplyTo(), tempReplyQueue);
+            replyListener[0].onMessage(jmsResponse);
+            return null;
+        }).when(messageProducer).send(any(TextMessage.class));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        for (int i = 0; i < 3; i++) {
+            producer.send(message, context);
+            Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+        }
+
+        verify(messageProducer, times(3)).send(any(TextMessage.class));
+        verify(session).createProducer(destination);
+        verify(session).createTemporaryQueue();
+        verify(session).createConsumer(tempReplyQueue);
+        verify(tempReplyQueue, never()).delete();
+        verify(connection).start();
+
+        endpoint.destroy();
+        verify(messageProducer).close();
+        verify(messageConsumer).close();
+        verify(tempReplyQueue).delete();
+    }
+
+    @Test
+    public void testSendMessagePooledTimeout() throws Exception {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setPooling(true);
+        endpoint.getEndpointConfiguration().setTimeout(100L);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer, tempReplyQueue);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createTemporaryQueue()).thenReturn(tempReplyQueue);
+        when(session.createConsumer(tempReplyQueue)).thenReturn(messageConsumer);
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<>()));
+
+        try {
+            endpoint.createProducer().send(message, context);
+            Assert.fail("Missing " + ActionTimeoutException.class + " because of reply timeout");
+        } catch (ActionTimeoutException e) {
+            Assert.assertEquals(e.getLocalizedMessage(), "Reply timed out after 100ms. Did not receive reply message on reply destination");
+        }
+
+        verify(messageProducer).send(any(TextMessage.class));
+        verify(session).createConsumer(tempReplyQueue);
+    }
+
+    @Test
+    public void testSendMessagePooledWithStaticReplyDestination() throws Exception {
+        JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+        endpoint.getEndpointConfiguration().setConnectionFactory(connectionFactory);
+        endpoint.getEndpointConfiguration().setDestination(destination);
+        endpoint.getEndpointConfiguration().setReplyDestination(replyDestinationQueue);
+        endpoint.getEndpointConfiguration().setPooling(true);
+
+        final Message message = new DefaultMessage("<TestRequest><Message>Hello World!</Message></TestRequest>");
+
+        reset(connectionFactory, destination, connection, session, messageConsumer, messageProducer);
+
+        when(connectionFactory.createConnection()).thenReturn(connection);
+        when(connection.createSession(anyBoolean(), anyInt())).thenReturn(session);
+        when(session.createConsumer(replyDestinationQueue, "JMSCorrelationID = '123456789'")).thenReturn(messageConsumer);
+        when(messageConsumer.receive(anyLong())).thenReturn(new TextMessageImpl("<TestResponse>Hello World!</TestResponse>", new HashMap<>()));
+        when(session.createProducer(destination)).thenReturn(messageProducer);
+        when(session.createTextMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")).thenReturn(
+                new TextMessageImpl("<TestRequest><Message>Hello World!</Message></TestRequest>", new HashMap<>()));
+
+        JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+        producer.send(message, context);
+        Assert.assertEquals(producer.receive(context).getPayload(String.class), "<TestResponse>Hello World!</TestResponse>");
+
+        verify(session).createConsumer(replyDestinationQueue, "JMSCorrelationID = '123456789'");
+        verify(session, never()).createConsumer(replyDestinationQueue);
+        verify(messageConsumer, never()).setMessageListener(any(MessageListener.class));
+        verify(messageConsumer).close();
+    }
+
+    @Test
+    public void testPooledRequestReplyWithBroker() throws Exception {
+        ActiveMQConnectionFactory brokerConnectionFactory = new ActiveMQConnectionFactory("vm://pooledBroker?broker.persistent=false&broker.useJmx=false");
+
+        Connection serverConnection = brokerConnectionFactory.createConnection();
+        try {
+            Session serverSession = serverConnection.createSession(false, Session.AUTO_ACKNOWLEDGE);
+            MessageProducer replyProducer = serverSession.createProducer(null);
+            serverSession.createConsumer(serverSession.createQueue("pooled.request")).setMessageListener(request -> {
+                try {
+                    TextMessage reply = serverSession.createTextMessage("Reply to " + ((TextMessage) request).getText());
+                    reply.setJMSCorrelationID(request.getJMSMessageID());
+                    replyProducer.send(request.getJMSReplyTo(), reply);
+                } catch (JMSException e) {
+                    throw new CitrusRuntimeException(e);
+                }
+            });
+            serverConnection.start();
+
+            JmsSyncEndpoint endpoint = new JmsSyncEndpoint();
+            endpoint.getEndpointConfiguration().setConnectionFactory(brokerConnectionFactory);
+            endpoint.getEndpointConfiguration().setDestinationName("pooled.request");
+            endpoint.getEndpointConfiguration().setPooling(true);
+
+            JmsSyncProducer producer = (JmsSyncProducer) endpoint.createProducer();
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            try {
+                List<Future<String>> replies = new ArrayList<>();
+                for (int i = 0; i < 20; i++) {
+                    final String payload = "Request " + i;
+                    replies.add(executor.submit(() -> {
+                        Message request = new DefaultMessage(payload);
+                        producer.send(request, context);
+                        return producer.receive(endpoint.getEndpointConfiguration().getCorrelator().getCorrelationKey(request), context).getPayload(String.class);
+                    }));
+                }
+
+                for (int i = 0; i < 20; i++) {
+                    Assert.assertEquals(replies.get(i).get(), "Reply to Request " + i);
+                }
+            } finally {
+                executor.shutdownNow();
+                endpoint.destroy();
+            }
+        } finally {
+            serverConnection.close();
+        }
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.jms.endpoint;
+
+import org.apache.activemq.command.ActiveMQTextMessage;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import javax.jms.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ */
+public class JmsReplyDispatcherTest {
+
+    private Session session = Mockito.mock(Session.class);
+    private TemporaryQueue replyQueue = Mockito.mock(TemporaryQueue.class);
+    private MessageConsumer messageConsumer = Mockito.mock(MessageConsumer.class);
+
+    @BeforeMethod
+    public void setupMocks() throws JMSException {
+        reset(session, replyQueue, messageConsumer);
+        when(session.createConsumer(replyQueue)).thenReturn(messageConsumer);
+    }
+
+    @Test
+    public void testReceiveEarlyReply() throws JMSException {
+        JmsReplyDispatcher dispatcher = new JmsReplyDispatcher(session, replyQueue, 5000L);
+        dispatcher.onMessage(reply("1", "Hello"));
+
+        Assert.assertEquals(dispatcher.getPendingReplies(), 1);
+        Assert.assertEquals(((TextMessage) dispatcher.receive("1", 1000L)).getText(), "Hello");
+        Assert.assertEquals(dispatcher.getPendingReplies(), 0);
+    }
+
+    @Test
+    public void testReceiveTimeout() throws JMSException {
+        JmsReplyDispatcher dispatcher = new JmsReplyDispatcher(session, replyQueue, 5000L);
+
+        Assert.assertNull(dispatcher.receive("1", 100L));
+        Assert.assertEquals(dispatcher.getPendingReplies(), 0);
+    }
+
+    @Test
+    public void testExpireUnclaimedReplies() throws Exception {
+        JmsReplyDispatcher dispatcher = new JmsReplyDispatcher(session, replyQueue, 100L);
+        dispatcher.onMessage(reply("late", "Late reply"));
+        Assert.assertEquals(dispatcher.getPendingReplies(), 1);
+
+        Thread.sleep(200L);
+
+        dispatcher.onMessage(reply("2", "Hello"));
+        Assert.assertEquals(dispatcher.getPendingReplies(), 1);
+        Assert.assertEquals(((TextMessage) dispatcher.receive("2", 1000L)).getText(), "Hello");
+        Assert.assertEquals(dispatcher.getPendingReplies(), 0);
+    }
+
+    @Test
+    public void testBoundedUnclaimedReplies() throws Exception {
+        JmsReplyDispatcher dispatcher = new JmsReplyDispatcher(session, replyQueue, -1L);
+        for (int i = 0; i < 1500; i++) {
+            dispatcher.onMessage(reply(String.valueOf(i), "Reply " + i));
+        }
+
+        Assert.assertEquals(dispatcher.getPendingReplies(), 1000);
+        Assert.assertEquals(((TextMessage) dispatcher.receive("1499", 1000L)).getText(), "Reply 1499");
+        Assert.assertNull(dispatcher.receive("0", 0L));
+    }
+
+    @Test
+    public void testKeepWaitingSendersOnExcessReplies() throws Exception {
+        JmsReplyDispatcher dispatcher = new JmsReplyDispatcher(session, replyQueue, -1L);
+
+        CompletableFuture<Message> waiting = CompletableFuture.supplyAsync(() -> dispatcher.receive("waiting", 5000L));
+        while (dispatcher.getPendingReplies() == 0) {
+            Thread.sleep(10L);
+        }
+
+        for (int i = 0; i < 1500; i++) {
+            dispatcher.onMessage(reply(String.valueOf(i), "Reply " + i));
+        }
+
+        Assert.assertEquals(dispatcher.getPendingReplies(), 1001);
+
+        dispatcher.onMessage(reply("waiting", "Hello"));
+        Assert.assertEquals(((TextMessage) waiting.get(5000L, TimeUnit.MILLISECONDS)).getText(), "Hello");
+        Assert.assertEquals(dispatcher.getPendingReplies(), 1000);
+    }
+
+    private Message reply(String correlationId, String text) throws JMSException {
+        ActiveMQTextMessage reply = new ActiveMQTextMessage();
+        reply.setJMSCorrelationID(correlationId);
+        reply.setText(text);
+        return reply;
+    }
+}
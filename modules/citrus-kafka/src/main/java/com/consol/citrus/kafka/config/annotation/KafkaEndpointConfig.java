@@ -61,6 +61,24 @@ public @interface KafkaEndpointConfig {
      */
     int autoCommitInterval() default 1000;
 
+    /**
+     * Asynchronous commit mode.
+     * @return
+     */
+    boolean asyncCommit() default false;
+
+    /**
+     * Maximum number of records fetched with a single poll.
+     * @return
+     */
+    int maxPollRecords() default 1;
+
+    /**
+     * Maximum number of polled records buffered while waiting for a selective receive.
+     * @return
+     */
+    int maxBufferedRecords() default 1000;
+
     /**
      * Topic partition.
      * @return
@@ -58,6 +58,9 @@ public class KafkaEndpointConfigParser extends AbstractAnnotationConfigParser<Ka
 
         builder.autoCommit(annotation.autoCommit());
         builder.autoCommitInterval(annotation.autoCommitInterval());
+        builder.asyncCommit(annotation.asyncCommit());
+        builder.maxPollRecords(annotation.maxPollRecords());
+        builder.maxBufferedRecords(annotation.maxBufferedRecords());
         builder.offsetReset(annotation.offsetReset());
 
         if (StringUtils.hasText(annotation.clientId())) {
@@ -16,16 +16,19 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.consumer.ConsumerRecords;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import org.apache.kafka.clients.consumer.*;
+import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.integration.core.MessageSelector;
+import org.springframework.integration.support.MessageBuilder;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
@@ -33,10 +36,18 @@ import java.time.Duration;
 import java.util.*;
 
 /**
+ * Kafka consumer polls records in batches of max poll records. Polled records are kept in a local buffer and subsequent
+ * receive operations are served from that buffer before polling the topic again. Selective receive operations evaluate the
+ * message selector on buffered records and leave records that do not match in the buffer. The buffer is limited to max buffered
+ * records, receive operations fail instead of polling more records once the limit is reached.
+ *
+ * Offsets are committed for records handed out to the test only. Records still waiting in the buffer are not committed, so
+ * they are delivered again to the next consumer of the consumer group.
+ *
  * @author Christoph Deppisch
  * @since 2.8
  */
-public class KafkaConsumer extends AbstractMessageConsumer {
+public class KafkaConsumer extends AbstractSelectiveMessageConsumer {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(KafkaConsumer.class);
@@ -47,6 +58,9 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     /** Kafka consumer */
     private org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer;
 
+    /** Records polled but not handed out yet */
+    private final List<BufferedRecord> buffer = new LinkedList<>();
+
     /**
      * Default constructor using endpoint.
      * @param name
@@ -59,34 +73,114 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public synchronized Message receive(String selector, TestContext context, long timeout) {
         String topic = context.replaceDynamicContentInString(Optional.ofNullable(endpointConfiguration.getTopic())
                                                                      .orElseThrow(() -> new CitrusRuntimeException("Missing Kafka topic to receive messages from - add topic to endpoint configuration")));
 
         if (log.isDebugEnabled()) {
-            log.debug("Receiving Kafka message on topic: '" + topic);
+            log.debug("Receiving Kafka message on topic: '" + topic + (StringUtils.hasText(selector) ? "(" + selector + ")" : ""));
         }
 
         if (CollectionUtils.isEmpty(consumer.subscription())) {
             consumer.subscribe(Arrays.asList(StringUtils.commaDelimitedListToStringArray(topic)));
         }
 
-        ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(timeout));
+        MessageSelector messageSelector = StringUtils.hasText(selector) ?
+                new DispatchingMessageSelector(selector, context.getApplicationContext(), context) : null;
 
-        if (records.isEmpty()) {
-            throw new ActionTimeoutException(String.format("Failed to receive message from Kafka topic '%s' - timeout after %s milliseconds", topic, timeout));
+        long deadline = System.currentTimeMillis() + timeout;
+        long pollTimeout = timeout;
+        BufferedRecord received = take(messageSelector, context);
+        while (received == null && pollTimeout > 0) {
+            if (buffer.size() >= endpointConfiguration.getMaxBufferedRecords()) {
+                throw new CitrusRuntimeException(String.format("Failed to receive message from Kafka topic '%s' - " +
+                        "%s buffered records do not match the message selector, reached max buffered records limit", topic, buffer.size()));
+            }
+
+            ConsumerRecords<Object, Object> records = consumer.poll(Duration.ofMillis(pollTimeout));
+
+            if (records == null || records.isEmpty()) {
+                break;
+            }
+
+            records.forEach(record -> {
+                log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset());
+                buffer.add(new BufferedRecord(record));
+            });
+
+            received = take(messageSelector, context);
+            pollTimeout = deadline - System.currentTimeMillis();
+
+            if (received == null && buffer.size() > endpointConfiguration.getMaxBufferedRecords() / 2) {
+                log.warn(String.format("Kafka consumer buffer holds %s records not matching the message selector - limit is %s records",
+                        buffer.size(), endpointConfiguration.getMaxBufferedRecords()));
+            }
         }
 
-        records.forEach(record -> log.debug("Received message: (" + record.key() + ", " + record.value() + ") at offset " + record.offset()));
+        if (received == null) {
+            throw new ActionTimeoutException(String.format("Failed to receive message from Kafka topic '%s' - timeout after %s milliseconds", topic, timeout));
+        }
 
-        Message received = endpointConfiguration.getMessageConverter()
-                                                .convertInbound(records.iterator().next(), endpointConfiguration, context);
-        context.onInboundMessage(received);
+        context.onInboundMessage(received.message);
 
-        consumer.commitSync(Duration.ofMillis(endpointConfiguration.getTimeout()));
+        commit(received.record);
 
         log.info("Received Kafka message on topic: '" + topic);
-        return received;
+        return received.message;
+    }
+
+    /**
+     * Takes first buffered record that matches the given message selector. Converts buffered records to messages only once.
+     * @param messageSelector optional message selector, null to take the first buffered record.
+     * @param context
+     * @return the buffered record or null if no record matches.
+     */
+    private BufferedRecord take(MessageSelector messageSelector, TestContext context) {
+        for (Iterator<BufferedRecord> iterator = buffer.iterator(); iterator.hasNext();) {
+            BufferedRecord buffered = iterator.next();
+
+            if (buffered.message == null) {
+                buffered.message = endpointConfiguration.getMessageConverter().convertInbound(buffered.record, endpointConfiguration, context);
+            }
+
+            if (messageSelector == null || messageSelector.accept(MessageBuilder.withPayload(buffered.message.getPayload())
+                                                                                .copyHeaders(buffered.message.getHeaders())
+                                                                                .build())) {
+                iterator.remove();
+                return buffered;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Commits the offset of the given record. In case records of the same topic partition with lower offsets
+     * are still buffered the offset is committed up to the first buffered record only.
+     * @param record
+     */
+    private void commit(ConsumerRecord<Object, Object> record) {
+        TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+
+        long offset = record.offset() + 1;
+        for (BufferedRecord buffered : buffer) {
+            if (buffered.record.partition() == record.partition() &&
+                    buffered.record.topic().equals(record.topic()) &&
+                    buffered.record.offset() < offset) {
+                offset = buffered.record.offset();
+            }
+        }
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = Collections.singletonMap(partition, new OffsetAndMetadata(offset));
+        if (endpointConfiguration.isAsyncCommit()) {
+            consumer.commitAsync(offsets, (committed, exception) -> {
+                if (exception != null) {
+                    log.warn("Failed to commit Kafka offsets " + committed, exception);
+                }
+            });
+        } else {
+            consumer.commitSync(offsets, Duration.ofMillis(endpointConfiguration.getTimeout()));
+        }
     }
 
     /**
@@ -111,7 +205,7 @@ public class KafkaConsumer extends AbstractMessageConsumer {
         consumerProps.put(ConsumerConfig.CLIENT_ID_CONFIG, Optional.ofNullable(endpointConfiguration.getClientId()).orElse(KafkaMessageHeaders.KAFKA_PREFIX + "consumer_" + UUID.randomUUID().toString()));
         consumerProps.put(ConsumerConfig.GROUP_ID_CONFIG, endpointConfiguration.getConsumerGroup());
         consumerProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, Optional.ofNullable(endpointConfiguration.getServer()).orElse("localhost:9092"));
-        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1);
+        consumerProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, endpointConfiguration.getMaxPollRecords());
         consumerProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, endpointConfiguration.isAutoCommit());
         consumerProps.put(ConsumerConfig.AUTO_COMMIT_INTERVAL_MS_CONFIG, endpointConfiguration.getAutoCommitInterval());
         consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, endpointConfiguration.getOffsetReset());
@@ -131,4 +225,19 @@ public class KafkaConsumer extends AbstractMessageConsumer {
     public void setConsumer(org.apache.kafka.clients.consumer.KafkaConsumer<Object, Object> consumer) {
         this.consumer = consumer;
     }
+
+    /**
+     * Polled record and its message representation.
+     */
+    private static class BufferedRecord {
+        /** Polled consumer record */
+        private final ConsumerRecord<Object, Object> record;
+
+        /** Converted message, created on first access */
+        private Message message;
+
+        BufferedRecord(ConsumerRecord<Object, Object> record) {
+            this.record = record;
+        }
+    }
 }
@@ -88,6 +88,36 @@ public class KafkaEndpointBuilder extends AbstractEndpointBuilder<KafkaEndpoint>
         return this;
     }
 
+    /**
+     * Sets the asyncCommit property.
+     * @param asyncCommit
+     * @return
+     */
+    public KafkaEndpointBuilder asyncCommit(boolean asyncCommit) {
+        endpoint.getEndpointConfiguration().setAsyncCommit(asyncCommit);
+        return this;
+    }
+
+    /**
+     * Sets the maxPollRecords property.
+     * @param maxPollRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxPollRecords(int maxPollRecords) {
+        endpoint.getEndpointConfiguration().setMaxPollRecords(maxPollRecords);
+        return this;
+    }
+
+    /**
+     * Sets the maxBufferedRecords property.
+     * @param maxBufferedRecords
+     * @return
+     */
+    public KafkaEndpointBuilder maxBufferedRecords(int maxBufferedRecords) {
+        endpoint.getEndpointConfiguration().setMaxBufferedRecords(maxBufferedRecords);
+        return this;
+    }
+
     /**
      * Sets the offsetReset property.
      * @param offsetReset
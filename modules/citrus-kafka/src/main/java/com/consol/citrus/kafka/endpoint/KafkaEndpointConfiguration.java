@@ -63,6 +63,15 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     private boolean autoCommit = true;
     private int autoCommitInterval = 1000;
 
+    /** Commit offsets of consumed records asynchronously */
+    private boolean asyncCommit = false;
+
+    /** Maximum number of records fetched with a single poll operation, default hands out and commits records one by one */
+    private int maxPollRecords = 1;
+
+    /** Maximum number of polled records kept in the consumer buffer while waiting for a selective receive */
+    private int maxBufferedRecords = 1000;
+
     /** Offset reset setting for consumer  */
     private String offsetReset = "earliest";
 
@@ -352,4 +361,58 @@ public class KafkaEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setPartition(int partition) {
         this.partition = partition;
     }
+
+    /**
+     * Gets the asyncCommit.
+     *
+     * @return
+     */
+    public boolean isAsyncCommit() {
+        return asyncCommit;
+    }
+
+    /**
+     * Sets the asyncCommit.
+     *
+     * @param asyncCommit
+     */
+    public void setAsyncCommit(boolean asyncCommit) {
+        this.asyncCommit = asyncCommit;
+    }
+
+    /**
+     * Gets the maxPollRecords.
+     *
+     * @return
+     */
+    public int getMaxPollRecords() {
+        return maxPollRecords;
+    }
+
+    /**
+     * Sets the maxPollRecords.
+     *
+     * @param maxPollRecords
+     */
+    public void setMaxPollRecords(int maxPollRecords) {
+        this.maxPollRecords = maxPollRecords;
+    }
+
+    /**
+     * Gets the maxBufferedRecords.
+     *
+     * @return
+     */
+    public int getMaxBufferedRecords() {
+        return maxBufferedRecords;
+    }
+
+    /**
+     * Sets the maxBufferedRecords.
+     *
+     * @param maxBufferedRecords
+     */
+    public void setMaxBufferedRecords(int maxBufferedRecords) {
+        this.maxBufferedRecords = maxBufferedRecords;
+    }
 }
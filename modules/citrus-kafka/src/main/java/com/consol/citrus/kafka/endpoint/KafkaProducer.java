@@ -21,7 +21,7 @@ import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessageHeaders;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.Producer;
+import com.consol.citrus.messaging.AsyncProducer;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
 import org.slf4j.Logger;
@@ -36,7 +36,7 @@ import java.util.concurrent.*;
  * @author Christoph Deppisch
  * @since 2.8
  */
-public class KafkaProducer implements Producer {
+public class KafkaProducer implements AsyncProducer {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(KafkaProducer.class);
@@ -65,6 +65,48 @@ public class KafkaProducer implements Producer {
     public void send(final Message message, final TestContext context) {
         Assert.notNull(message, "Message is empty - unable to send empty message");
 
+        String topic = resolveTopic(message, context);
+
+        try {
+            ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
+            producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
+            log.info("Message was sent to Kafka stream topic: '" + topic + "'");
+        } catch (InterruptedException | ExecutionException e) {
+            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
+        } catch (TimeoutException e) {
+            throw new ActionTimeoutException(String.format("Failed to send message to Kafka topic '%s' - timeout after %s milliseconds", topic, endpointConfiguration.getTimeout()), e);
+        }
+
+        context.onOutboundMessage(message);
+    }
+
+    @Override
+    public CompletableFuture<SendResult> sendAsync(final Message message, final TestContext context) {
+        Assert.notNull(message, "Message is empty - unable to send empty message");
+
+        String topic = resolveTopic(message, context);
+
+        CompletableFuture<SendResult> result = new CompletableFuture<>();
+        ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
+        producer.send(producerRecord, (metadata, error) -> {
+            if (error != null) {
+                result.completeExceptionally(new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), error));
+            } else {
+                log.info("Message was sent to Kafka stream topic: '" + topic + "'");
+                result.complete(testContext -> testContext.onOutboundMessage(message));
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Resolves topic from message header or endpoint configuration.
+     * @param message
+     * @param context
+     * @return
+     */
+    private String resolveTopic(Message message, TestContext context) {
         String topic = Optional.ofNullable(message.getHeader(KafkaMessageHeaders.TOPIC))
                 .map(Object::toString)
                 .map(context::replaceDynamicContentInString)
@@ -78,17 +120,7 @@ public class KafkaProducer implements Producer {
             log.debug("Sending Kafka stream message to topic: '" + topic + "'");
         }
 
-        try {
-            ProducerRecord<Object, Object> producerRecord = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
-            producer.send(producerRecord).get(endpointConfiguration.getTimeout(), TimeUnit.MILLISECONDS);
-            log.info("Message was sent to Kafka stream topic: '" + topic + "'");
-        } catch (InterruptedException | ExecutionException e) {
-            throw new CitrusRuntimeException(String.format("Failed to send message to Kafka topic '%s'", topic), e);
-        } catch (TimeoutException e) {
-            throw new ActionTimeoutException(String.format("Failed to send message to Kafka topic '%s' - timeout after %s milliseconds", topic, endpointConfiguration.getTimeout()), e);
-        }
-
-        context.onOutboundMessage(message);
+        return topic;
     }
 
     /**
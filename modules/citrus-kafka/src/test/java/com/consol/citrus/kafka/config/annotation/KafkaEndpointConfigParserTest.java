@@ -50,6 +50,9 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
             timeout=10000L,
             autoCommit = false,
             autoCommitInterval = 500,
+            asyncCommit = true,
+            maxPollRecords = 100,
+            maxBufferedRecords = 500,
             offsetReset = "latest",
             messageConverter="messageConverter",
             headerMapper = "headerMapper",
@@ -103,6 +106,9 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getMessageConverter().getClass(), KafkaMessageConverter.class);
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().isAutoCommit(), true);
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getAutoCommitInterval(), 1000L);
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().isAsyncCommit(), false);
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getMaxPollRecords(), 1);
+        Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getMaxBufferedRecords(), 1000);
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getOffsetReset(), "earliest");
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint1.getEndpointConfiguration().getPartition(), 0);
@@ -121,6 +127,9 @@ public class KafkaEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getMessageConverter(), messageConverter);
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().isAutoCommit(), false);
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getAutoCommitInterval(), 500L);
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().isAsyncCommit(), true);
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getMaxPollRecords(), 100);
+        Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getMaxBufferedRecords(), 500);
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getOffsetReset(), "latest");
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getTopic(), "test");
         Assert.assertEquals(kafkaEndpoint2.getEndpointConfiguration().getPartition(), 1);
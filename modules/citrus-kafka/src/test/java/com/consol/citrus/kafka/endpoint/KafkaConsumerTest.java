@@ -17,6 +17,7 @@
 package com.consol.citrus.kafka.endpoint;
 
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
@@ -31,7 +32,9 @@ import org.testng.annotations.Test;
 import java.time.Duration;
 import java.util.*;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -153,4 +156,101 @@ public class KafkaConsumerTest extends AbstractTestNGUnitTest {
         Assert.assertNotNull(receivedMessage.getHeader("Operation"));
         Assert.assertTrue(receivedMessage.getHeader("Operation").equals("sayHello"));
     }
+
+    @Test
+    public void testReceiveFromBuffer() {
+        String topic = "batch";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(3);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = Arrays.asList(new ConsumerRecord<>(topic, 0, 0, 1, "Hello 1"),
+                                                                   new ConsumerRecord<>(topic, 0, 1, 2, "Hello 2"),
+                                                                   new ConsumerRecord<>(topic, 0, 2, 3, "Hello 3"));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, batch)))
+                                                          .thenReturn(ConsumerRecords.EMPTY);
+
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello 1");
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello 2");
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello 3");
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(1L)), Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(2L)), Duration.ofMillis(5000L));
+        verify(kafkaConsumer).commitSync(Collections.singletonMap(partition, new OffsetAndMetadata(3L)), Duration.ofMillis(5000L));
+    }
+
+    @Test
+    public void testSelectiveReceive() {
+        String topic = "selective";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(2);
+        endpoint.getEndpointConfiguration().setAsyncCommit(true);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = Arrays.asList(new ConsumerRecord<>(topic, 0, 0, "key1", "Hello 1"),
+                                                                   new ConsumerRecord<>(topic, 0, 1, "key2", "Hello 2"));
+        when(kafkaConsumer.poll(Duration.ofMillis(5000L))).thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, batch)));
+
+        Message receivedMessage = endpoint.createConsumer().receive("citrus_kafka_messageKey = 'key2'", context, 5000L);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello 2");
+
+        verify(kafkaConsumer).commitAsync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(0L))), any(OffsetCommitCallback.class));
+
+        receivedMessage = endpoint.createConsumer().receive(context);
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello 1");
+
+        verify(kafkaConsumer).commitAsync(eq(Collections.singletonMap(partition, new OffsetAndMetadata(1L))), any(OffsetCommitCallback.class));
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+    }
+
+    @Test
+    public void testSelectiveReceiveBufferLimit() {
+        String topic = "limited";
+
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createConsumer().setConsumer(kafkaConsumer);
+
+        endpoint.getEndpointConfiguration().setTopic(topic);
+        endpoint.getEndpointConfiguration().setMaxPollRecords(2);
+        endpoint.getEndpointConfiguration().setMaxBufferedRecords(2);
+
+        TopicPartition partition = new TopicPartition(topic, 0);
+
+        reset(kafkaConsumer);
+        when(kafkaConsumer.subscription()).thenReturn(Collections.singleton(topic));
+
+        List<ConsumerRecord<Object, Object>> batch = Arrays.asList(new ConsumerRecord<>(topic, 0, 0, "key1", "Hello 1"),
+                                                                   new ConsumerRecord<>(topic, 0, 1, "key2", "Hello 2"));
+        when(kafkaConsumer.poll(any(Duration.class))).thenReturn(new ConsumerRecords<>(Collections.singletonMap(partition, batch)));
+
+        try {
+            endpoint.createConsumer().receive("citrus_kafka_messageKey = 'key3'", context, 5000L);
+            Assert.fail("Missing exception due to buffer limit");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("reached max buffered records limit"));
+        }
+
+        verify(kafkaConsumer, times(1)).poll(any(Duration.class));
+        verify(kafkaConsumer, never()).commitSync(anyMap(), any(Duration.class));
+
+        // buffered records are still available
+        Assert.assertEquals(endpoint.createConsumer().receive(context).getPayload(), "Hello 1");
+    }
 }
@@ -16,9 +16,11 @@
 
 package com.consol.citrus.kafka.endpoint;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.kafka.message.KafkaMessage;
 import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.AsyncProducer;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.*;
@@ -32,6 +34,8 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Future;
 
 import static org.mockito.Mockito.*;
@@ -106,6 +110,71 @@ public class KafkaProducerTest extends AbstractTestNGUnitTest {
         verify(kafkaProducer).send(any(ProducerRecord.class));
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsync() throws Exception {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+
+        final Message message = new KafkaMessage("<TestRequest><Message>Hello World!</Message></TestRequest>")
+                                        .messageKey(1);
+
+        reset(kafkaProducer);
+
+        final Callback[] callback = new Callback[1];
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer((Answer<Future<RecordMetadata>>) invocation -> {
+            ProducerRecord producerRecord = invocation.getArgument(0);
+            Assert.assertEquals(producerRecord.topic(), "default");
+            Assert.assertEquals(producerRecord.value(), message.getPayload());
+
+            callback[0] = invocation.getArgument(1);
+            return null;
+        });
+
+        CompletableFuture<AsyncProducer.SendResult> result = endpoint.createProducer().sendAsync(message, context);
+        Assert.assertFalse(result.isDone());
+
+        callback[0].onCompletion(new RecordMetadata(new TopicPartition("default", 0), 0L, 0L, System.currentTimeMillis(), 0L, 1, 1), null);
+        Assert.assertTrue(result.isDone());
+
+        TestContext testContext = Mockito.mock(TestContext.class);
+        result.get().apply(testContext);
+        verify(testContext).onOutboundMessage(message);
+
+        verify(kafkaProducer).send(any(ProducerRecord.class), any(Callback.class));
+        verify(kafkaProducer, never()).send(any(ProducerRecord.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testSendMessageAsyncFailure() {
+        KafkaEndpoint endpoint = new KafkaEndpoint();
+        endpoint.createProducer().setProducer(kafkaProducer);
+
+        endpoint.getEndpointConfiguration().setTopic("default");
+
+        reset(kafkaProducer);
+
+        when(kafkaProducer.send(any(ProducerRecord.class), any(Callback.class))).thenAnswer((Answer<Future<RecordMetadata>>) invocation -> {
+            ((Callback) invocation.getArgument(1)).onCompletion(null, new IllegalStateException("Broker unavailable"));
+            return null;
+        });
+
+        CompletableFuture<AsyncProducer.SendResult> result = endpoint.createProducer().sendAsync(new KafkaMessage("Hello"), context);
+        Assert.assertTrue(result.isCompletedExceptionally());
+
+        try {
+            result.join();
+            Assert.fail("Missing exception due to failed send");
+        } catch (CompletionException e) {
+            Assert.assertEquals(e.getCause().getClass(), CitrusRuntimeException.class);
+            Assert.assertEquals(e.getCause().getMessage(), "Failed to send message to Kafka topic 'default'");
+            Assert.assertEquals(e.getCause().getCause().getMessage(), "Broker unavailable");
+        }
+    }
+
     @Test
     public void testSendMessageTimeout() {
         KafkaEndpoint endpoint = new KafkaEndpoint();
@@ -53,6 +53,18 @@ public @interface VertxSyncEndpointConfig {
      */
     boolean pubSubDomain() default false;
 
+    /**
+     * Persistent subscription.
+     * @return
+     */
+    boolean persistentSubscription() default false;
+
+    /**
+     * Subscription queue capacity.
+     * @return
+     */
+    int queueCapacity() default 1000;
+
     /**
      * Vertx factory.
      * @return
@@ -47,6 +47,8 @@ public class VertxEndpointParser extends AbstractEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("address"), "address");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("pub-sub-domain"), "pubSubDomain");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("persistent-subscription"), "persistentSubscription");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("queue-capacity"), "queueCapacity");
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("polling-interval"), "pollingInterval");
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("message-converter"), "messageConverter");
@@ -16,21 +16,40 @@
 
 package com.consol.citrus.vertx.endpoint;
 
+import com.consol.citrus.channel.MessageSelectingQueueChannel;
+import com.consol.citrus.channel.selector.DispatchingMessageSelector;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ActionTimeoutException;
 import com.consol.citrus.message.Message;
-import com.consol.citrus.messaging.AbstractMessageConsumer;
+import com.consol.citrus.messaging.AbstractSelectiveMessageConsumer;
+import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
 import io.vertx.core.eventbus.MessageConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import io.vertx.core.Handler;
-import io.vertx.core.Vertx;
+import org.springframework.integration.support.MessageBuilder;
+import org.springframework.util.StringUtils;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Predicate;
 
 /**
+ * Consumer subscribes to the Vert.x event bus address and queues incoming messages in a bounded message queue. Receive operations
+ * take messages from that queue with blocking timeout and optional message selector.
+ *
+ * By default the subscription is registered for each receive operation and unregistered afterwards. With persistent subscription
+ * enabled the consumer holds a single long lived subscription, so messages arriving between two receive operations are queued
+ * instead of being lost.
+ *
  * @author Christoph Deppisch
  * @since 1.4.1
  */
-public class VertxConsumer extends AbstractMessageConsumer {
+public class VertxConsumer extends AbstractSelectiveMessageConsumer {
+
+    /** Header holding the original Vert.x message in queued messages */
+    private static final String VERTX_MESSAGE = CitrusVertxMessageHeaders.VERTX_PREFIX + "message";
 
     /** Vert.x instance */
     private final Vertx vertx;
@@ -38,12 +57,13 @@ public class VertxConsumer extends AbstractMessageConsumer {
     /** Endpoint configuration */
     private final VertxEndpointConfiguration endpointConfiguration;
 
+    /** Long lived subscription and its message queue in persistent subscription mode */
+    private MessageConsumer<Object> subscription;
+    private MessageSelectingQueueChannel subscriptionQueue;
+
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(VertxConsumer.class);
 
-    /** Retry logger */
-    private static final Logger RETRY_LOG = LoggerFactory.getLogger("com.consol.citrus.RetryLogger");
-
     /**
      * Default constructor using endpoint.
      * @param name
@@ -54,77 +74,118 @@ public class VertxConsumer extends AbstractMessageConsumer {
         super(name, endpointConfiguration);
         this.vertx = vertx;
         this.endpointConfiguration = endpointConfiguration;
+
+        start();
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
+    public Message receive(String selector, TestContext context, long timeout) {
         if (log.isDebugEnabled()) {
-            log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+            log.debug("Receiving message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'" +
+                    (StringUtils.hasText(selector) ? "(" + selector + ")" : ""));
+        }
+
+        org.springframework.messaging.Message<?> queued;
+        if (endpointConfiguration.isPersistentSubscription()) {
+            queued = receive(getSubscriptionQueue(), selector, context, timeout);
+        } else {
+            BlockingQueue<org.springframework.messaging.Message<?>> buffer = new LinkedBlockingQueue<>(endpointConfiguration.getQueueCapacity());
+            MessageConsumer<Object> vertxConsumer = subscribe(buffer::offer);
+
+            try {
+                queued = receive(new MessageSelectingQueueChannel(buffer), selector, context, timeout);
+            } finally {
+                vertxConsumer.unregister();
+            }
         }
 
-        VertxSingleMessageHandler vertxMessageHandler = new VertxSingleMessageHandler();
-        MessageConsumer<Object> vertxConsumer = vertx.eventBus().consumer(endpointConfiguration.getAddress(), vertxMessageHandler);
+        if (queued == null) {
+            throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
+        }
 
-        try {
-            long timeLeft = timeout;
-            Message message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
+        Message message = endpointConfiguration.getMessageConverter().convertInbound((io.vertx.core.eventbus.Message) queued.getHeaders().get(VERTX_MESSAGE), endpointConfiguration, context);
 
-            while (message == null && timeLeft > 0) {
-                timeLeft -= endpointConfiguration.getPollingInterval();
+        log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
 
-                if (RETRY_LOG.isDebugEnabled()) {
-                    RETRY_LOG.debug(String.format("Waiting for message on Vert.x event bus address '%s' - retrying in %s ms",
-                            endpointConfiguration.getAddress(),
-                            (timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft)));
-                }
+        context.onInboundMessage(message);
 
-                try {
-                    Thread.sleep(timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft);
-                } catch (InterruptedException e) {
-                    RETRY_LOG.warn("Thread interrupted while waiting for message on Vert.x event bus", e);
-                }
+        return message;
+    }
 
-                message = endpointConfiguration.getMessageConverter().convertInbound(vertxMessageHandler.getMessage(), endpointConfiguration, context);
-            }
+    /**
+     * Takes next message from given queue waiting for the given timeout. Uses optional message selector.
+     * @param queue
+     * @param selector
+     * @param context
+     * @param timeout
+     * @return the queued message or null in case of timeout.
+     */
+    private org.springframework.messaging.Message<?> receive(MessageSelectingQueueChannel queue, String selector, TestContext context, long timeout) {
+        if (StringUtils.hasText(selector)) {
+            return queue.receive(new DispatchingMessageSelector(selector, context.getApplicationContext(), context), timeout);
+        } else {
+            return queue.receive(timeout);
+        }
+    }
 
-            if (message == null) {
-                throw new ActionTimeoutException("Action timed out while receiving message on Vert.x event bus address '" + endpointConfiguration.getAddress() + "'");
+    /**
+     * Registers new event bus consumer that adds all incoming messages to the given queue. Messages get dropped with warning
+     * as long as the queue is at full capacity. Per receive subscriptions queue into a plain blocking queue so the subscription
+     * is registered before any message channel setup takes place.
+     * @param queue
+     * @return
+     */
+    private MessageConsumer<Object> subscribe(Predicate<org.springframework.messaging.Message<?>> queue) {
+        Handler<io.vertx.core.eventbus.Message<Object>> handler = event -> {
+            boolean queuedMessage = queue.test(MessageBuilder.withPayload(event.body() != null ? event.body() : "")
+                    .setHeader(CitrusVertxMessageHeaders.VERTX_ADDRESS, event.address())
+                    .setHeader(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS, event.replyAddress())
+                    .setHeader(VERTX_MESSAGE, event)
+                    .build());
+
+            if (!queuedMessage) {
+                log.warn("Vert.x message queue is full - ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
+                log.debug("Vert.x message ignored is " + event);
             }
+        };
 
-            log.info("Received message on Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
+        return vertx.eventBus().consumer(endpointConfiguration.getAddress(), handler);
+    }
 
-            context.onInboundMessage(message);
+    /**
+     * Gets the message queue of the persistent subscription. Registers the subscription on first access.
+     * @return
+     */
+    private synchronized MessageSelectingQueueChannel getSubscriptionQueue() {
+        if (subscription == null) {
+            MessageSelectingQueueChannel queue = new MessageSelectingQueueChannel(endpointConfiguration.getQueueCapacity());
+            subscriptionQueue = queue;
+            subscription = subscribe(message -> queue.send(message, 0L));
 
-            return message;
-        } finally {
-            vertxConsumer.unregister();
+            log.info("Subscribed to Vert.x event bus address: '" + endpointConfiguration.getAddress() + "'");
         }
+
+        return subscriptionQueue;
     }
 
     /**
-     * Simple Vert.x message handler stores first message received on event bus and ignores all further messages
-     * until subscription is unregistered automatically.
+     * Subscribes to the event bus address in persistent subscription mode. Messages are queued from now on
+     * until the consumer is stopped.
      */
-    private class VertxSingleMessageHandler implements Handler<io.vertx.core.eventbus.Message<Object>> {
-        private io.vertx.core.eventbus.Message message;
-
-        @Override
-        public void handle(io.vertx.core.eventbus.Message event) {
-            if (message == null) {
-                this.message = event;
-            } else {
-                log.warn("Vert.x message handler ignored message on event bus address '" + endpointConfiguration.getAddress() + "'");
-                log.debug("Vert.x message ignored is " + event);
-            }
+    public void start() {
+        if (endpointConfiguration.isPersistentSubscription()) {
+            getSubscriptionQueue();
         }
+    }
 
-        /**
-         * Gets the vert.x message received on event bus.
-         * @return
-         */
-        public io.vertx.core.eventbus.Message getMessage() {
-            return message;
+    /**
+     * Unregisters persistent subscription.
+     */
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.unregister();
+            subscription = null;
+            subscriptionQueue = null;
         }
     }
-
 }
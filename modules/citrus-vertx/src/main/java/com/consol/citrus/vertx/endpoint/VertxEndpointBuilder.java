@@ -94,6 +94,26 @@ public class VertxEndpointBuilder extends AbstractEndpointBuilder<VertxEndpoint>
         return this;
     }
 
+    /**
+     * Sets the persistentSubscription property.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the subscription queue capacity.
+     * @param queueCapacity
+     * @return
+     */
+    public VertxEndpointBuilder queueCapacity(int queueCapacity) {
+        endpoint.getEndpointConfiguration().setQueueCapacity(queueCapacity);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
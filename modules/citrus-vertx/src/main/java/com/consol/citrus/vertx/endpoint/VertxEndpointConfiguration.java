@@ -37,6 +37,12 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     /** Should use publish subscribe */
     private boolean pubSubDomain = false;
 
+    /** Should keep a single subscription for all receive operations */
+    private boolean persistentSubscription = false;
+
+    /** Maximum number of queued messages on the subscription */
+    private int queueCapacity = 1000;
+
     /** Message converter */
     private VertxMessageConverter messageConverter = new VertxMessageConverter();
 
@@ -119,4 +125,36 @@ public class VertxEndpointConfiguration extends AbstractPollableEndpointConfigur
     public void setMessageConverter(VertxMessageConverter messageConverter) {
         this.messageConverter = messageConverter;
     }
+
+    /**
+     * Does consumer keep a single subscription for all receive operations.
+     * @return
+     */
+    public boolean isPersistentSubscription() {
+        return persistentSubscription;
+    }
+
+    /**
+     * Sets if consumer keeps a single subscription for all receive operations.
+     * @param persistentSubscription
+     */
+    public void setPersistentSubscription(boolean persistentSubscription) {
+        this.persistentSubscription = persistentSubscription;
+    }
+
+    /**
+     * Gets the maximum number of queued messages on the subscription.
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the maximum number of queued messages on the subscription.
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
 }
@@ -60,8 +60,8 @@ public class VertxSyncConsumer extends VertxConsumer implements ReplyProducer {
     }
 
     @Override
-    public Message receive(TestContext context, long timeout) {
-        Message receivedMessage = super.receive(context, timeout);
+    public Message receive(String selector, TestContext context, long timeout) {
+        Message receivedMessage = super.receive(selector, context, timeout);
         saveReplyDestination(receivedMessage, context);
 
         return receivedMessage;
@@ -78,4 +78,18 @@ public class VertxSyncEndpoint extends VertxEndpoint {
 
         return vertxSyncMessageProducer;
     }
+
+    @Override
+    public void afterPropertiesSet() {
+        // synchronous endpoint acts as producer or consumer depending on first usage, so persistent subscription is registered lazily
+    }
+
+    @Override
+    public void destroy() {
+        super.destroy();
+
+        if (vertxSyncMessageConsumer != null) {
+            vertxSyncMessageConsumer.stop();
+        }
+    }
 }
@@ -95,6 +95,26 @@ public class VertxSyncEndpointBuilder extends AbstractEndpointBuilder<VertxSyncE
         return this;
     }
 
+    /**
+     * Sets the persistentSubscription property.
+     * @param persistentSubscription
+     * @return
+     */
+    public VertxSyncEndpointBuilder persistentSubscription(boolean persistentSubscription) {
+        endpoint.getEndpointConfiguration().setPersistentSubscription(persistentSubscription);
+        return this;
+    }
+
+    /**
+     * Sets the subscription queue capacity.
+     * @param queueCapacity
+     * @return
+     */
+    public VertxSyncEndpointBuilder queueCapacity(int queueCapacity) {
+        endpoint.getEndpointConfiguration().setQueueCapacity(queueCapacity);
+        return this;
+    }
+
     /**
      * Sets the polling interval.
      * @param pollingInterval
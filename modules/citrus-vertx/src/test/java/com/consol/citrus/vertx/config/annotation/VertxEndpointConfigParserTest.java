@@ -53,7 +53,9 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
 
     @CitrusEndpoint
     @VertxEndpointConfig(address="news-feed3",
-            pubSubDomain=true)
+            pubSubDomain=true,
+            persistentSubscription=true,
+            queueCapacity=50)
     private VertxEndpoint vertxEndpoint3;
 
     @CitrusEndpoint
@@ -64,8 +66,8 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
     @Autowired
     private SpringBeanReferenceResolver referenceResolver;
 
-    @Mock
-    private VertxInstanceFactory vertxInstanceFactory = Mockito.mock(VertxInstanceFactory.class);
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private VertxInstanceFactory vertxInstanceFactory = Mockito.mock(VertxInstanceFactory.class, Answers.RETURNS_DEEP_STUBS);
     @Mock
     private VertxInstanceFactory specialVertxInstanceFactory = Mockito.mock(VertxInstanceFactory.class);
     @Mock
@@ -96,6 +98,8 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(vertxEndpoint1.getVertxInstanceFactory(), vertxInstanceFactory);
         Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getAddress(), "news-feed1");
         Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertFalse(vertxEndpoint1.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint1.getEndpointConfiguration().getQueueCapacity(), 1000);
 
         // 2nd message receiver
         Assert.assertNotNull(vertxEndpoint2.getVertxInstanceFactory());
@@ -109,6 +113,8 @@ public class VertxEndpointConfigParserTest extends AbstractTestNGUnitTest {
         // 3rd message receiver
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getAddress(), "news-feed3");
         Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().isPubSubDomain(), true);
+        Assert.assertTrue(vertxEndpoint3.getEndpointConfiguration().isPersistentSubscription());
+        Assert.assertEquals(vertxEndpoint3.getEndpointConfiguration().getQueueCapacity(), 50);
 
         // 4th message receiver
         Assert.assertNotNull(vertxEndpoint4.getActor());
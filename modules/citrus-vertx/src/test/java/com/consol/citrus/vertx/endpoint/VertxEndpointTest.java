@@ -22,6 +22,7 @@ import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.consol.citrus.vertx.factory.SingleVertxInstanceFactory;
 import com.consol.citrus.vertx.message.CitrusVertxMessageHeaders;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
@@ -129,6 +130,123 @@ public class VertxEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxEndpointConsumerPersistentSubscription() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        io.vertx.core.eventbus.Message firstMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+        io.vertx.core.eventbus.Message secondMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer);
+
+        when(firstMessage.body()).thenReturn("Hello from Vertx!");
+        when(firstMessage.address()).thenReturn(eventBusAddress);
+        when(secondMessage.body()).thenReturn("Hello again from Vertx!");
+        when(secondMessage.address()).thenReturn(eventBusAddress);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                Handler handler = (Handler) invocation.getArguments()[1];
+                handler.handle(firstMessage);
+                handler.handle(secondMessage);
+
+                return messageConsumer;
+            }
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        Message receivedMessage = vertxEndpoint.createConsumer().receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+
+        receivedMessage = vertxEndpoint.createConsumer().receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello again from Vertx!");
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+        verify(messageConsumer, never()).unregister();
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointPersistentSubscriptionOnInit() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+        endpointConfiguration.setPersistentSubscription(true);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(messageMock.body()).thenReturn("Hello from Vertx!");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        when(eventBus.consumer(eq(eventBusAddress), any(Handler.class))).thenReturn(messageConsumer);
+
+        vertxEndpoint.afterPropertiesSet();
+
+        ArgumentCaptor<Handler> handler = ArgumentCaptor.forClass(Handler.class);
+        verify(eventBus).consumer(eq(eventBusAddress), handler.capture());
+        handler.getValue().handle(messageMock);
+
+        Message receivedMessage = vertxEndpoint.createConsumer().receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+
+        verify(eventBus, times(1)).consumer(eq(eventBusAddress), any(Handler.class));
+
+        vertxEndpoint.destroy();
+        verify(messageConsumer).unregister();
+    }
+
+    @Test
+    public void testVertxEndpointConsumerWithSelector() {
+        String eventBusAddress = "news-feed";
+        VertxEndpointConfiguration endpointConfiguration = new VertxEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+
+        VertxEndpoint vertxEndpoint = new VertxEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        io.vertx.core.eventbus.Message otherMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(otherMessage.body()).thenReturn("Other message");
+        when(otherMessage.address()).thenReturn(eventBusAddress);
+        when(otherMessage.replyAddress()).thenReturn("otherAddress");
+        when(messageMock.body()).thenReturn("Hello from Vertx!");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+        when(messageMock.replyAddress()).thenReturn("replyAddress");
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                Handler handler = (Handler) invocation.getArguments()[1];
+                handler.handle(otherMessage);
+                handler.handle(messageMock);
+
+                return messageConsumer;
+            }
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        Message receivedMessage = ((VertxConsumer) vertxEndpoint.createConsumer()).receive(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS + " = 'replyAddress'", context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        Assert.assertEquals(receivedMessage.getHeader(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS), "replyAddress");
+
+        verify(messageConsumer).unregister();
+    }
+
     @Test
     public void testVertxEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
@@ -132,6 +132,51 @@ public class VertxSyncEndpointTest extends AbstractTestNGUnitTest {
         verify(messageConsumer).unregister();
     }
 
+    @Test
+    public void testVertxSyncEndpointConsumerWithSelector() {
+        String eventBusAddress = "news-feed";
+        VertxSyncEndpointConfiguration endpointConfiguration = new VertxSyncEndpointConfiguration();
+        endpointConfiguration.setAddress(eventBusAddress);
+
+        VertxSyncEndpoint vertxEndpoint = new VertxSyncEndpoint(endpointConfiguration);
+        vertxEndpoint.setVertxInstanceFactory(instanceFactory);
+
+        Message replyMessage = new DefaultMessage("Hello from Citrus!");
+        io.vertx.core.eventbus.Message otherMessage = Mockito.mock(io.vertx.core.eventbus.Message.class);
+
+        reset(vertx, eventBus, messageConsumer, messageMock);
+
+        when(otherMessage.body()).thenReturn("Other message");
+        when(otherMessage.address()).thenReturn(eventBusAddress);
+        when(otherMessage.replyAddress()).thenReturn("otherAddress");
+        when(messageMock.body()).thenReturn("Hello from Vertx!");
+        when(messageMock.address()).thenReturn(eventBusAddress);
+        when(messageMock.replyAddress()).thenReturn("replyAddress");
+
+        when(vertx.eventBus()).thenReturn(eventBus);
+        doAnswer(new Answer<MessageConsumer>() {
+            @Override
+            public MessageConsumer answer(InvocationOnMock invocation) throws Throwable {
+                Handler handler = (Handler) invocation.getArguments()[1];
+                handler.handle(otherMessage);
+                handler.handle(messageMock);
+
+                return messageConsumer;
+            }
+        }).when(eventBus).consumer(eq(eventBusAddress), any(Handler.class));
+
+        when(eventBus.send("replyAddress", replyMessage.getPayload())).thenReturn(eventBus);
+
+        Message receivedMessage = ((VertxSyncConsumer) vertxEndpoint.createConsumer()).receive(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS + " = 'replyAddress'", context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(receivedMessage.getPayload(), "Hello from Vertx!");
+        Assert.assertEquals(receivedMessage.getHeader(CitrusVertxMessageHeaders.VERTX_REPLY_ADDRESS), "replyAddress");
+
+        vertxEndpoint.createProducer().send(replyMessage, context);
+
+        verify(eventBus).send("replyAddress", replyMessage.getPayload());
+        verify(messageConsumer).unregister();
+    }
+
     @Test
     public void testVertxSyncEndpointWithOutboundMessageListeners() {
         String eventBusAddress = "news-feed";
@@ -25,7 +25,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.WebSocketMessage;
 
 /**
- * Consumer polls for incoming messages on web socket handler.
+ * Consumer waits for incoming messages on web socket handler.
  * @author Martin Maher
  * @since 2.3
  */
@@ -64,31 +64,24 @@ public class WebSocketConsumer extends AbstractSelectiveMessageConsumer {
     }
 
     /**
-     * Receive web socket message by polling on web socket handler for incoming message.
+     * Receive web socket message by waiting on web socket handler for incoming message.
      * @param config
      * @param timeout
      * @return
      */
     private WebSocketMessage<?> receive(WebSocketEndpointConfiguration config, long timeout) {
-        long timeLeft = timeout;
-
-        WebSocketMessage<?> message = config.getHandler().getMessage();
         String path = endpointConfiguration.getEndpointUri();
-        while (message == null && timeLeft > 0) {
-            timeLeft -= endpointConfiguration.getPollingInterval();
-            long sleep = timeLeft > 0 ? endpointConfiguration.getPollingInterval() : endpointConfiguration.getPollingInterval() + timeLeft;
-            if (LOG.isDebugEnabled()) {
-                String msg = "Waiting for message on '%s' - retrying in %s ms";
-                LOG.debug(String.format(msg, path, (sleep)));
-            }
 
-            try {
-                Thread.sleep(sleep);
-            } catch (InterruptedException e) {
-                LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", path), e);
-            }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format("Waiting for message on '%s'", path));
+        }
 
-            message = config.getHandler().getMessage();
+        WebSocketMessage<?> message = null;
+        try {
+            message = config.getHandler().getMessage(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn(String.format("Thread interrupted while waiting for message on '%s'", path), e);
         }
 
         if (message == null) {
@@ -59,7 +59,7 @@ public class WebSocketProducer implements Producer {
 
         WebSocketMessage wsMessage = endpointConfiguration.getMessageConverter().convertOutbound(message, endpointConfiguration, context);
         if (endpointConfiguration.getHandler().sendMessage(wsMessage)) {
-            LOG.info("WebSocket Message was successfully sent");
+            LOG.info("WebSocket Message was dispatched to open sessions");
         }
     }
 
@@ -16,20 +16,24 @@
 
 package com.consol.citrus.websocket.handler;
 
+import com.consol.citrus.util.DaemonThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.socket.*;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
-import java.io.IOException;
-import java.util.HashMap;
-import java.util.LinkedList;
-import java.util.Map;
-import java.util.Queue;
+import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * Web Socket Handler for handling incoming and sending outgoing Web Socket messages
  *
+ * Inbound messages are stored in a blocking queue so waiting consumers are woken up as soon as a message arrives. Outbound
+ * messages are handed over to a bounded executor and sent to all sessions in parallel without waiting for the send operations
+ * to complete. Messages of a single session are sent in order. A slow client does not stall message delivery to other clients.
+ * Sessions exceeding the send time limit or the send buffer size limit are closed, just like with
+ * {@link org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator}.
+ *
  * @author Martin Maher
  * @since 2.3
  */
@@ -37,16 +41,31 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(CitrusWebSocketHandler.class);
 
+    /** Number of threads of the shared executor */
+    private static final int DEFAULT_SEND_THREADS = 10;
+
+    /** Shared bounded executor for parallel message delivery to sessions */
+    private static final ExecutorService DEFAULT_EXECUTOR = createDefaultExecutor();
+
     /** Inbound message cache */
-    private final Queue<WebSocketMessage<?>> inboundMessages = new LinkedList<>();
+    private final BlockingQueue<WebSocketMessage<?>> inboundMessages = new LinkedBlockingQueue<>();
 
     /** Web socket sessions */
-    private final Map<String, WebSocketSession> sessions = new HashMap<>();
+    private final Map<String, SessionSender> sessions = new ConcurrentHashMap<>();
+
+    /** Maximum time in milliseconds a send operation on a single session may take */
+    private int sendTimeLimit = 10000;
+
+    /** Maximum number of bytes buffered per session while a send operation is in progress */
+    private int sendBufferSizeLimit = 512 * 1024;
+
+    /** Executor sending messages to sessions */
+    private ExecutorService executorService = DEFAULT_EXECUTOR;
 
     @Override
     public void afterConnectionEstablished(WebSocketSession session) throws Exception {
         LOG.debug(String.format("WebSocket connection established (%s)", session.getId()));
-        sessions.put(session.getId(), session);
+        sessions.put(session.getId(), new SessionSender(session));
     }
 
     @Override
@@ -87,26 +106,173 @@ public class CitrusWebSocketHandler extends AbstractWebSocketHandler {
     }
 
     /**
-     * Publish message to all sessions known to this handler.
+     * Polls message from internal cache waiting for the given timeout in milliseconds
+     * for a message to arrive.
+     * @param timeout
+     * @return the message or null in case of timeout.
+     * @throws InterruptedException
+     */
+    public WebSocketMessage<?> getMessage(long timeout) throws InterruptedException {
+        return inboundMessages.poll(timeout, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publish message to all sessions known to this handler. Message is sent to all sessions in parallel. Method does not wait for
+     * the send operations to complete, send failures are logged.
      * @param message
-     * @return
+     * @return true when message has been dispatched to at least one open session.
      */
     public boolean sendMessage(WebSocketMessage<?> message) {
-        boolean sentSuccessfully = false;
         if (sessions.isEmpty()) {
             LOG.warn("No Web Socket session exists - message cannot be sent");
+            return false;
+        }
+
+        boolean dispatched = false;
+        for (SessionSender sender : sessions.values()) {
+            if (sender.session.isOpen()) {
+                dispatched |= sender.dispatch(message);
+            }
         }
 
-        for (WebSocketSession session : sessions.values()) {
-            if (session != null && session.isOpen()) {
-                try {
-                    session.sendMessage(message);
-                    sentSuccessfully = true;
-                } catch (IOException e) {
-                    LOG.error(String.format("(%s) error sending message", session.getId()), e);
+        return dispatched;
+    }
+
+    /**
+     * Creates default executor with bounded number of daemon threads. Idle threads are terminated.
+     * @return
+     */
+    private static ExecutorService createDefaultExecutor() {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_SEND_THREADS, DEFAULT_SEND_THREADS, 60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory("citrus-websocket-"));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Gets number of currently registered sessions.
+     * @return
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Sets the maximum time in milliseconds a send operation on a single session may take before the session is closed.
+     * @param sendTimeLimit
+     */
+    public void setSendTimeLimit(int sendTimeLimit) {
+        this.sendTimeLimit = sendTimeLimit;
+    }
+
+    /**
+     * Gets the sendTimeLimit.
+     * @return
+     */
+    public int getSendTimeLimit() {
+        return sendTimeLimit;
+    }
+
+    /**
+     * Sets the maximum number of bytes buffered per session before the session is closed.
+     * @param sendBufferSizeLimit
+     */
+    public void setSendBufferSizeLimit(int sendBufferSizeLimit) {
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    /**
+     * Gets the sendBufferSizeLimit.
+     * @return
+     */
+    public int getSendBufferSizeLimit() {
+        return sendBufferSizeLimit;
+    }
+
+    /**
+     * Sets the executor service used to send messages to sessions in parallel.
+     * @param executorService
+     */
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * Sends messages to a single session in order. Pending messages are chained on the executor, so the caller does not block.
+     */
+    private final class SessionSender {
+        /** The session */
+        private final WebSocketSession session;
+
+        /** Last pending send operation */
+        private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+
+        /** Number of bytes of pending messages */
+        private long bufferSize = 0L;
+
+        /** Start time of the send operation in progress, zero when no send operation is in progress */
+        private volatile long sendStartTime = 0L;
+
+        SessionSender(WebSocketSession session) {
+            this.session = session;
+        }
+
+        /**
+         * Adds message to the pending send operations of this session. Closes the session when the send operation in progress
+         * exceeds the send time limit or the pending messages exceed the send buffer size limit.
+         * @param message
+         * @return false when session has been closed.
+         */
+        synchronized boolean dispatch(WebSocketMessage<?> message) {
+            long start = sendStartTime;
+            if (start > 0 && System.currentTimeMillis() - start > sendTimeLimit) {
+                return close(String.format("Send time %s (ms) exceeded the allowed limit %s", System.currentTimeMillis() - start, sendTimeLimit));
+            }
+
+            if (bufferSize + message.getPayloadLength() > sendBufferSizeLimit) {
+                return close(String.format("Buffer size %s bytes exceeded the allowed limit %s", bufferSize + message.getPayloadLength(), sendBufferSizeLimit));
+            }
+
+            bufferSize += message.getPayloadLength();
+            pending = pending.exceptionally(e -> null)
+                    .thenRunAsync(() -> send(message), executorService);
+            return true;
+        }
+
+        /**
+         * Sends message to the session.
+         * @param message
+         */
+        private void send(WebSocketMessage<?> message) {
+            sendStartTime = System.currentTimeMillis();
+            try {
+                session.sendMessage(message);
+            } catch (Exception e) {
+                LOG.error(String.format("(%s) error sending message", session.getId()), e);
+            } finally {
+                sendStartTime = 0L;
+                synchronized (this) {
+                    bufferSize -= message.getPayloadLength();
                 }
             }
         }
-        return sentSuccessfully;
+
+        /**
+         * Closes the session as it is not reliable anymore.
+         * @param reason
+         * @return always false
+         */
+        private boolean close(String reason) {
+            LOG.error(String.format("(%s) closing slow session - %s", session.getId(), reason));
+            sessions.remove(session.getId());
+
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (Exception e) {
+                LOG.warn(String.format("(%s) failed to close session", session.getId()), e);
+            }
+
+            return false;
+        }
     }
 }
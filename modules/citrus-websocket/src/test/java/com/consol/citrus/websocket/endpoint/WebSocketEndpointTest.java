@@ -79,6 +79,7 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
 
         webSocketEndpoint.createProducer().send(responseMessage, context);
 
+        verify(session, timeout(5000L)).sendMessage(new TextMessage(responseMessage.getPayload(String.class)));
     }
 
     @Test
@@ -141,6 +142,9 @@ public class WebSocketEndpointTest extends AbstractTestNGUnitTest {
 
         webSocketEndpoint.createProducer().send(responseMessage, context);
 
+        verify(session, timeout(5000L)).sendMessage(new TextMessage(responseMessage.getPayload(String.class)));
+        verify(session2, timeout(5000L)).sendMessage(new TextMessage(responseMessage.getPayload(String.class)));
+        verify(session3, never()).sendMessage(any(org.springframework.web.socket.WebSocketMessage.class));
     }
 
     @Test
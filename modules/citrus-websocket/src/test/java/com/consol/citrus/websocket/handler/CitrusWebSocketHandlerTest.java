@@ -0,0 +1,135 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.websocket.handler;
+
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.springframework.web.socket.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class CitrusWebSocketHandlerTest {
+
+    private WebSocketSession slowSession = Mockito.mock(WebSocketSession.class);
+    private WebSocketSession session = Mockito.mock(WebSocketSession.class);
+
+    @Test
+    public void testReceiveWaitsForMessage() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+
+        reset(session);
+        when(session.getId()).thenReturn("test-socket-1");
+
+        Executors.newSingleThreadScheduledExecutor().schedule(() -> {
+            handler.handleMessage(session, new TextMessage("Hello"));
+            return null;
+        }, 200L, TimeUnit.MILLISECONDS);
+
+        long start = System.currentTimeMillis();
+        WebSocketMessage<?> message = handler.getMessage(5000L);
+        Assert.assertNotNull(message);
+        Assert.assertEquals(message.getPayload(), "Hello");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+
+        Assert.assertNull(handler.getMessage(100L));
+    }
+
+    @Test
+    public void testSlowSessionDoesNotBlockOthers() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> slowPayloads = new CopyOnWriteArrayList<>();
+        List<Object> payloads = new CopyOnWriteArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(2);
+
+        reset(slowSession, session);
+        when(slowSession.getId()).thenReturn("slow-socket");
+        when(slowSession.isOpen()).thenReturn(true);
+        when(session.getId()).thenReturn("test-socket");
+        when(session.isOpen()).thenReturn(true);
+
+        doAnswer(invocation -> {
+            release.await(5000L, TimeUnit.MILLISECONDS);
+            slowPayloads.add(((WebSocketMessage<?>) invocation.getArguments()[0]).getPayload());
+            return null;
+        }).when(slowSession).sendMessage(any(WebSocketMessage.class));
+
+        doAnswer(invocation -> {
+            payloads.add(((WebSocketMessage<?>) invocation.getArguments()[0]).getPayload());
+            delivered.countDown();
+            return null;
+        }).when(session).sendMessage(any(WebSocketMessage.class));
+
+        handler.afterConnectionEstablished(slowSession);
+        handler.afterConnectionEstablished(session);
+        Assert.assertEquals(handler.getSessionCount(), 2L);
+
+        // sender does not wait for slow session
+        Assert.assertTrue(handler.sendMessage(new TextMessage("first")));
+        Assert.assertTrue(handler.sendMessage(new TextMessage("second")));
+
+        Assert.assertTrue(delivered.await(5000L, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(payloads, Arrays.asList("first", "second"));
+        Assert.assertTrue(slowPayloads.isEmpty());
+
+        release.countDown();
+        verify(slowSession, timeout(5000L).times(2)).sendMessage(any(WebSocketMessage.class));
+        Assert.assertEquals(slowPayloads, Arrays.asList("first", "second"));
+
+        handler.afterConnectionClosed(slowSession, CloseStatus.NORMAL);
+        Assert.assertEquals(handler.getSessionCount(), 1L);
+    }
+
+    @Test
+    public void testCloseSessionExceedingBufferSizeLimit() throws Exception {
+        CitrusWebSocketHandler handler = new CitrusWebSocketHandler();
+        handler.setSendBufferSizeLimit(10);
+
+        CountDownLatch release = new CountDownLatch(1);
+
+        reset(slowSession);
+        when(slowSession.getId()).thenReturn("slow-socket");
+        when(slowSession.isOpen()).thenReturn(true);
+
+        doAnswer(invocation -> {
+            release.await(5000L, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(slowSession).sendMessage(any(WebSocketMessage.class));
+
+        handler.afterConnectionEstablished(slowSession);
+
+        try {
+            Assert.assertTrue(handler.sendMessage(new TextMessage("first")));
+            Assert.assertFalse(handler.sendMessage(new TextMessage("second")));
+        } finally {
+            release.countDown();
+        }
+
+        verify(slowSession).close(CloseStatus.SESSION_NOT_RELIABLE);
+        Assert.assertEquals(handler.getSessionCount(), 0L);
+    }
+}